@@ -11,14 +11,34 @@ public class CacheConfig implements Option {
 
 	public static final String MESH_CACHE_PATH_SIZE_ENV = "MESH_CACHE_PATH_SIZE";
 
+	public static final String MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV = "MESH_CACHE_GRAPHQL_SCHEMA_SIZE";
+
+	public static final String MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV = "MESH_CACHE_GRAPHQL_DOCUMENT_SIZE";
+
 	private static final long DEFAULT_PATH_CACHE_SIZE = 20_000;
 
+	private static final long DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE = 100;
+
+	private static final long DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE = 1_000;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Set the maximum size of the path cache. A value of 0 will disable the cache. Default: "
 		+ DEFAULT_PATH_CACHE_SIZE)
 	@EnvironmentVariable(name = MESH_CACHE_PATH_SIZE_ENV, description = "Override the path cache size.")
 	private long pathCacheSize = DEFAULT_PATH_CACHE_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the GraphQL schema cache. A value of 0 will disable the cache. Default: "
+		+ DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_SCHEMA_SIZE_ENV, description = "Override the GraphQL schema cache size.")
+	private long graphQLSchemaCacheSize = DEFAULT_GRAPHQL_SCHEMA_CACHE_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Set the maximum size of the GraphQL document cache which holds parsed and validated queries and the automatic persisted queries. A value of 0 will disable the cache and the automatic persisted queries. Default: "
+		+ DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE)
+	@EnvironmentVariable(name = MESH_CACHE_GRAPHQL_DOCUMENT_SIZE_ENV, description = "Override the GraphQL document cache size.")
+	private long graphQLDocumentCacheSize = DEFAULT_GRAPHQL_DOCUMENT_CACHE_SIZE;
+
 	public CacheConfig() {
 
 	}
@@ -32,6 +52,24 @@ public class CacheConfig implements Option {
 		return this;
 	}
 
+	public long getGraphQLSchemaCacheSize() {
+		return graphQLSchemaCacheSize;
+	}
+
+	public CacheConfig setGraphQLSchemaCacheSize(long graphQLSchemaCacheSize) {
+		this.graphQLSchemaCacheSize = graphQLSchemaCacheSize;
+		return this;
+	}
+
+	public long getGraphQLDocumentCacheSize() {
+		return graphQLDocumentCacheSize;
+	}
+
+	public CacheConfig setGraphQLDocumentCacheSize(long graphQLDocumentCacheSize) {
+		this.graphQLDocumentCacheSize = graphQLDocumentCacheSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
 	}
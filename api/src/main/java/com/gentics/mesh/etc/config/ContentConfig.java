@@ -11,14 +11,33 @@ public class ContentConfig implements Option {
 
 	public static final String MESH_CONTENT_AUTO_PURGE_ENV = "MESH_CONTENT_AUTO_PURGE";
 
+	public static final String MESH_CONTENT_MIGRATION_WORKERS_ENV = "MESH_CONTENT_MIGRATION_WORKERS";
+
+	public static final String MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV = "MESH_CONTENT_MIGRATION_BATCH_SIZE";
+
 	private static final boolean DEFAULT_AUTO_PURGE = true;
 
+	private static final int DEFAULT_MIGRATION_WORKERS = 1;
+
+	private static final int DEFAULT_MIGRATION_BATCH_SIZE = 1;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Flag which controls the global setting for the auto purge mechanism. The setting can be overriden by the schema 'autoPurge' flag. Default: "
 		+ DEFAULT_AUTO_PURGE)
 	@EnvironmentVariable(name = MESH_CONTENT_AUTO_PURGE_ENV, description = "Override the content versioning flag")
 	private boolean autoPurge = DEFAULT_AUTO_PURGE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Number of workers which migrate the contents of a schema, microschema or branch migration concurrently. The contents will be split into one partition per worker. Schema and microschema migrations only use multiple workers when the storage.synchronizeWrites setting is disabled. Default: "
+		+ DEFAULT_MIGRATION_WORKERS)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_WORKERS_ENV, description = "Override the number of migration workers.")
+	private int migrationWorkers = DEFAULT_MIGRATION_WORKERS;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Number of contents which are migrated within a single transaction. Default: " + DEFAULT_MIGRATION_BATCH_SIZE)
+	@EnvironmentVariable(name = MESH_CONTENT_MIGRATION_BATCH_SIZE_ENV, description = "Override the migration batch size.")
+	private int migrationBatchSize = DEFAULT_MIGRATION_BATCH_SIZE;
+
 	public ContentConfig() {
 
 	}
@@ -32,7 +51,31 @@ public class ContentConfig implements Option {
 		return this;
 	}
 
+	public int getMigrationWorkers() {
+		return migrationWorkers;
+	}
+
+	public ContentConfig setMigrationWorkers(int migrationWorkers) {
+		this.migrationWorkers = migrationWorkers;
+		return this;
+	}
+
+	public int getMigrationBatchSize() {
+		return migrationBatchSize;
+	}
+
+	public ContentConfig setMigrationBatchSize(int migrationBatchSize) {
+		this.migrationBatchSize = migrationBatchSize;
+		return this;
+	}
+
 	@Override
 	public void validate(MeshOptions options) {
+		if (migrationWorkers < 1) {
+			throw new IllegalArgumentException("The content.migrationWorkers setting must be at least 1.");
+		}
+		if (migrationBatchSize < 1) {
+			throw new IllegalArgumentException("The content.migrationBatchSize setting must be at least 1.");
+		}
 	}
 }
@@ -25,6 +25,11 @@ public class GraphStorageOptions implements Option {
 	public static final int DEFAULT_TX_RETRY_DELAY = 10;
 	public static final int DEFAULT_TX_RETRY_LIMIT = 10;
 	public static final long DEFAULT_TX_COMMIT_TIMEOUT = 0;
+	public static final int DEFAULT_TX_READ_POOL_SIZE = 20;
+	public static final int DEFAULT_TX_READ_QUEUE_LIMIT = 10_000;
+	public static final int DEFAULT_TX_WRITE_POOL_SIZE = 20;
+	public static final int DEFAULT_TX_WRITE_QUEUE_LIMIT = 10_000;
+	public static final boolean DEFAULT_TX_CAPTURE_CALL_SITE = false;
 
 	public static final String MESH_GRAPH_DB_DIRECTORY_ENV = "MESH_GRAPH_DB_DIRECTORY";
 	public static final String MESH_GRAPH_BACKUP_DIRECTORY_ENV = "MESH_GRAPH_BACKUP_DIRECTORY";
@@ -35,6 +40,11 @@ public class GraphStorageOptions implements Option {
 	public static final String MESH_GRAPH_TX_RETRY_DELAY_ENV = "MESH_GRAPH_TX_RETRY_DELAY";
 	public static final String MESH_GRAPH_TX_RETRY_LIMIT_ENV = "MESH_GRAPH_TX_RETRY_LIMIT";
 	public static final String MESH_GRAPH_TX_COMMIT_TIMEOUT_ENV = "MESH_GRAPH_TX_COMMIT_TIMEOUT";
+	public static final String MESH_GRAPH_TX_READ_POOL_SIZE_ENV = "MESH_GRAPH_TX_READ_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_READ_QUEUE_LIMIT_ENV = "MESH_GRAPH_TX_READ_QUEUE_LIMIT";
+	public static final String MESH_GRAPH_TX_WRITE_POOL_SIZE_ENV = "MESH_GRAPH_TX_WRITE_POOL_SIZE";
+	public static final String MESH_GRAPH_TX_WRITE_QUEUE_LIMIT_ENV = "MESH_GRAPH_TX_WRITE_QUEUE_LIMIT";
+	public static final String MESH_GRAPH_TX_CAPTURE_CALL_SITE_ENV = "MESH_GRAPH_TX_CAPTURE_CALL_SITE";
 
 	@JsonProperty(required = true)
 	@JsonPropertyDescription("Path to the graph database data directory.")
@@ -84,6 +94,34 @@ public class GraphStorageOptions implements Option {
 		+ DEFAULT_TX_COMMIT_TIMEOUT)
 	private long txCommitTimeout = DEFAULT_TX_COMMIT_TIMEOUT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which are used to execute asynchronous read transactions. Default: " + DEFAULT_TX_READ_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_READ_POOL_SIZE_ENV, description = "Override the read transaction pool size.")
+	private int txReadPoolSize = DEFAULT_TX_READ_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of asynchronous read transactions which may wait for a free worker thread. Further requests will be rejected with 503 Service Unavailable. Default: "
+		+ DEFAULT_TX_READ_QUEUE_LIMIT)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_READ_QUEUE_LIMIT_ENV, description = "Override the read transaction queue limit.")
+	private int txReadQueueLimit = DEFAULT_TX_READ_QUEUE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of worker threads which are used to execute asynchronous write transactions. Default: " + DEFAULT_TX_WRITE_POOL_SIZE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WRITE_POOL_SIZE_ENV, description = "Override the write transaction pool size.")
+	private int txWritePoolSize = DEFAULT_TX_WRITE_POOL_SIZE;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Amount of asynchronous write transactions which may wait for a free worker thread. Further requests will be rejected with 503 Service Unavailable. Default: "
+		+ DEFAULT_TX_WRITE_QUEUE_LIMIT)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_WRITE_QUEUE_LIMIT_ENV, description = "Override the write transaction queue limit.")
+	private int txWriteQueueLimit = DEFAULT_TX_WRITE_QUEUE_LIMIT;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Flag which controls whether the call site of asynchronous transactions should be captured. The call site will be logged when the transaction times out. Capturing the call site is expensive and should only be enabled for debugging. Default: "
+		+ DEFAULT_TX_CAPTURE_CALL_SITE)
+	@EnvironmentVariable(name = MESH_GRAPH_TX_CAPTURE_CALL_SITE_ENV, description = "Override the transaction call site capture flag.")
+	private boolean txCaptureCallSite = DEFAULT_TX_CAPTURE_CALL_SITE;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Additional set of graph database parameters.")
 	private Map<String, String> parameters = new HashMap<>();
@@ -191,10 +229,67 @@ public class GraphStorageOptions implements Option {
 		return this;
 	}
 
+	public int getTxReadPoolSize() {
+		return txReadPoolSize;
+	}
+
+	public GraphStorageOptions setTxReadPoolSize(int txReadPoolSize) {
+		this.txReadPoolSize = txReadPoolSize;
+		return this;
+	}
+
+	public int getTxReadQueueLimit() {
+		return txReadQueueLimit;
+	}
+
+	public GraphStorageOptions setTxReadQueueLimit(int txReadQueueLimit) {
+		this.txReadQueueLimit = txReadQueueLimit;
+		return this;
+	}
+
+	public int getTxWritePoolSize() {
+		return txWritePoolSize;
+	}
+
+	public GraphStorageOptions setTxWritePoolSize(int txWritePoolSize) {
+		this.txWritePoolSize = txWritePoolSize;
+		return this;
+	}
+
+	public int getTxWriteQueueLimit() {
+		return txWriteQueueLimit;
+	}
+
+	public GraphStorageOptions setTxWriteQueueLimit(int txWriteQueueLimit) {
+		this.txWriteQueueLimit = txWriteQueueLimit;
+		return this;
+	}
+
+	public boolean isTxCaptureCallSite() {
+		return txCaptureCallSite;
+	}
+
+	public GraphStorageOptions setTxCaptureCallSite(boolean txCaptureCallSite) {
+		this.txCaptureCallSite = txCaptureCallSite;
+		return this;
+	}
+
 	public void validate(MeshOptions meshOptions) {
 		if (getStartServer() && getDirectory() == null) {
 			throw new NullPointerException(
 				"You have not specified a data directory and enabled the graph server. It is not possible to run Gentics Mesh in memory mode and start the graph server.");
 		}
+		if (getTxReadPoolSize() < 1) {
+			throw new IllegalArgumentException("The storage.txReadPoolSize setting must be at least 1.");
+		}
+		if (getTxWritePoolSize() < 1) {
+			throw new IllegalArgumentException("The storage.txWritePoolSize setting must be at least 1.");
+		}
+		if (getTxReadQueueLimit() < 0) {
+			throw new IllegalArgumentException("The storage.txReadQueueLimit setting must not be negative.");
+		}
+		if (getTxWriteQueueLimit() < 0) {
+			throw new IllegalArgumentException("The storage.txWriteQueueLimit setting must not be negative.");
+		}
 	}
 }
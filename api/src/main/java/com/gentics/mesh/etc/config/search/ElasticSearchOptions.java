@@ -26,14 +26,18 @@ public class ElasticSearchOptions implements Option {
 	public static final int DEFAULT_BULK_LENGTH_LIMIT = 5_000_000;
 
 	public static final int DEFAULT_EVENT_BUFFER_SIZE = 1000;
+	public static final long DEFAULT_EVENT_OVERFLOW_LIMIT = 1024L * 1024 * 1024;
 	public static final int DEFAULT_BULK_DEBOUNCE_TIME = 2000;
 	public static final int DEFAULT_IDLE_DEBOUNCE_TIME = 100;
 	public static final int DEFAULT_RETRY_INTERVAL = 5000;
 	public static final int DEFAULT_RETRY_LIMIT = 3;
+	public static final int DEFAULT_TRANSFORMATION_CONCURRENCY = 1;
+	public static final int DEFAULT_REQUEST_CONCURRENCY = 1;
 	public static final boolean DEFAULT_WAIT_FOR_IDLE = true;
 	public static final boolean DEFAULT_INCLUDE_BINARY_FIELDS = true;
 	public static final MappingMode DEFAULT_MAPPING_MODE = MappingMode.DYNAMIC;
 	public static final ComplianceMode DEFAULT_COMPLIANCE_MODE = ComplianceMode.ES_6;
+	public static final SearchType DEFAULT_SEARCH_TYPE = SearchType.DFS_QUERY_THEN_FETCH;
 
 	public static final String DEFAULT_PREFIX = "mesh-";
 
@@ -54,15 +58,20 @@ public class ElasticSearchOptions implements Option {
 	public static final String MESH_ELASTICSEARCH_BULK_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT_ENV = "MESH_ELASTICSEARCH_BULK_LENGTH_LIMIT";
 	public static final String MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV = "MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE";
+	public static final String MESH_ELASTICSEARCH_EVENT_OVERFLOW_PATH_ENV = "MESH_ELASTICSEARCH_EVENT_OVERFLOW_PATH";
+	public static final String MESH_ELASTICSEARCH_EVENT_OVERFLOW_LIMIT_ENV = "MESH_ELASTICSEARCH_EVENT_OVERFLOW_LIMIT";
 	public static final String MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_BULK_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME_ENV = "MESH_ELASTICSEARCH_IDLE_DEBOUNCE_TIME";
 	public static final String MESH_ELASTICSEARCH_RETRY_INTERVAL_ENV = "MESH_ELASTICSEARCH_RETRY_INTERVAL";
 	public static final String MESH_ELASTICSEARCH_RETRY_LIMIT_ENV = "MESH_ELASTICSEARCH_RETRY_LIMIT";
+	public static final String MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY";
+	public static final String MESH_ELASTICSEARCH_REQUEST_CONCURRENCY_ENV = "MESH_ELASTICSEARCH_REQUEST_CONCURRENCY";
 	public static final String MESH_ELASTICSEARCH_WAIT_FOR_IDLE_ENV = "MESH_ELASTICSEARCH_WAIT_FOR_IDLE";
 	public static final String MESH_ELASTICSEARCH_MAPPING_MODE_ENV = "MESH_ELASTICSEARCH_MAPPING_MODE";
 	public static final String MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV = "MESH_ELASTICSEARCH_COMPLIANCE_MODE";
 	public static final String MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION_ENV = "MESH_ELASTICSEARCH_HOSTNAME_VERIFICATION";
 	public static final String MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS_ENV = "MESH_ELASTICSEARCH_INCLUDE_BINARY_FIELDS";
+	public static final String MESH_ELASTICSEARCH_SEARCH_TYPE_ENV = "MESH_ELASTICSEARCH_SEARCH_TYPE";
 
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("Elasticsearch connection url to be used. Set this setting to null will disable the Elasticsearch support.")
@@ -136,6 +145,17 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_BUFFER_SIZE_ENV, description = "Override the configured event buffer size.")
 	private int eventBufferSize = DEFAULT_EVENT_BUFFER_SIZE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Path to the directory in which events are stored when the event buffer size has been reached. The stored events will be processed in order once the buffered events have been handled. When not set, all pending events will be dropped and an index sync will be invoked instead.")
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_OVERFLOW_PATH_ENV, description = "Override the configured event overflow path.")
+	private String eventOverflowPath;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Upper limit in bytes for the events which are stored in the event overflow path. If the limit is reached, all pending events will be dropped and an index sync will be invoked. Default: "
+		+ DEFAULT_EVENT_OVERFLOW_LIMIT)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_EVENT_OVERFLOW_LIMIT_ENV, description = "Override the configured event overflow limit.")
+	private long eventOverflowLimit = DEFAULT_EVENT_OVERFLOW_LIMIT;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("The maximum amount of time in milliseconds between two bulkable requests before they are sent. Default: "
 		+ DEFAULT_BULK_DEBOUNCE_TIME)
@@ -160,6 +180,18 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_RETRY_LIMIT_ENV, description = "Override the retry limit.")
 	private int retryLimit = DEFAULT_RETRY_LIMIT;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of events which are transformed to Elasticsearch requests in parallel. The order of the generated requests is retained. Default: "
+		+ DEFAULT_TRANSFORMATION_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_TRANSFORMATION_CONCURRENCY_ENV, description = "Override the transformation concurrency.")
+	private int transformationConcurrency = DEFAULT_TRANSFORMATION_CONCURRENCY;
+
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("The amount of requests which may be sent to Elasticsearch in parallel. Requests which affect the same documents are still sent in order. Default: "
+		+ DEFAULT_REQUEST_CONCURRENCY)
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_REQUEST_CONCURRENCY_ENV, description = "Override the request concurrency.")
+	private int requestConcurrency = DEFAULT_REQUEST_CONCURRENCY;
+
 	@JsonProperty(required = false)
 	@JsonPropertyDescription("If true, search endpoints wait for elasticsearch to be idle before sending a response. Default: "
 		+ DEFAULT_WAIT_FOR_IDLE)
@@ -182,6 +214,11 @@ public class ElasticSearchOptions implements Option {
 	@EnvironmentVariable(name = MESH_ELASTICSEARCH_COMPLIANCE_MODE_ENV, description = "Override the search compliance mode.")
 	private ComplianceMode complianceMode = DEFAULT_COMPLIANCE_MODE;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("This setting controls the search type which is used for search queries. DFS_QUERY_THEN_FETCH calculates the scores using the global term frequencies which requires an additional round trip to all shards. QUERY_THEN_FETCH uses the term frequencies of the shards and should be used for latency sensitive deployments. Default: DFS_QUERY_THEN_FETCH")
+	@EnvironmentVariable(name = MESH_ELASTICSEARCH_SEARCH_TYPE_ENV, description = "Override the search type.")
+	private SearchType searchType = DEFAULT_SEARCH_TYPE;
+
 	public ElasticSearchOptions() {
 
 	}
@@ -345,6 +382,24 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public String getEventOverflowPath() {
+		return eventOverflowPath;
+	}
+
+	public ElasticSearchOptions setEventOverflowPath(String eventOverflowPath) {
+		this.eventOverflowPath = eventOverflowPath;
+		return this;
+	}
+
+	public long getEventOverflowLimit() {
+		return eventOverflowLimit;
+	}
+
+	public ElasticSearchOptions setEventOverflowLimit(long eventOverflowLimit) {
+		this.eventOverflowLimit = eventOverflowLimit;
+		return this;
+	}
+
 	public int getBulkDebounceTime() {
 		return bulkDebounceTime;
 	}
@@ -408,6 +463,15 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
+	public SearchType getSearchType() {
+		return searchType;
+	}
+
+	public ElasticSearchOptions setSearchType(SearchType searchType) {
+		this.searchType = searchType;
+		return this;
+	}
+
 	public int getRetryLimit() {
 		return retryLimit;
 	}
@@ -417,8 +481,34 @@ public class ElasticSearchOptions implements Option {
 		return this;
 	}
 
-	public void validate(MeshOptions meshOptions) {
+	public int getTransformationConcurrency() {
+		return transformationConcurrency;
+	}
 
+	public ElasticSearchOptions setTransformationConcurrency(int transformationConcurrency) {
+		this.transformationConcurrency = transformationConcurrency;
+		return this;
+	}
+
+	public int getRequestConcurrency() {
+		return requestConcurrency;
+	}
+
+	public ElasticSearchOptions setRequestConcurrency(int requestConcurrency) {
+		this.requestConcurrency = requestConcurrency;
+		return this;
+	}
+
+	public void validate(MeshOptions meshOptions) {
+		if (getTransformationConcurrency() < 1) {
+			throw new IllegalArgumentException("The search.transformationConcurrency setting must be at least 1.");
+		}
+		if (getRequestConcurrency() < 1) {
+			throw new IllegalArgumentException("The search.requestConcurrency setting must be at least 1.");
+		}
+		if (getEventOverflowPath() != null && getEventOverflowLimit() <= 0) {
+			throw new IllegalArgumentException("The search.eventOverflowLimit setting must be greater than 0.");
+		}
 	}
 
 	@JsonIgnore
@@ -0,0 +1,26 @@
+package com.gentics.mesh.etc.config.search;
+
+/**
+ * The search type controls how the scores of search hits are calculated by Elasticsearch.
+ */
+public enum SearchType {
+
+	/**
+	 * Scores are calculated using the term frequencies of the shard. This avoids an additional round trip to all shards.
+	 */
+	QUERY_THEN_FETCH,
+
+	/**
+	 * Scores are calculated using the global term frequencies which are collected from all shards before the query is executed.
+	 */
+	DFS_QUERY_THEN_FETCH;
+
+	/**
+	 * Return the value which is used for the search_type parameter of Elasticsearch.
+	 * 
+	 * @return
+	 */
+	public String getValue() {
+		return name().toLowerCase();
+	}
+}
@@ -0,0 +1,128 @@
+package com.gentics.mesh.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares the JSON results of a JMH run with a previously recorded baseline. The check fails if the score of a benchmark got worse or if it allocates more
+ * memory per operation than the baseline allows. Benchmarks which are not contained in the baseline fail the check as well.
+ * 
+ * Usage: BaselineCheck [results.json] [baseline.json] [tolerance] [record]
+ * 
+ * If record is true, the results are stored as the new baseline instead.
+ */
+public final class BaselineCheck {
+
+	private static final String ALLOCATION_METRIC = "\u00b7gc.alloc.rate.norm";
+
+	private BaselineCheck() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 3 || args.length > 4) {
+			System.err.println("Usage: BaselineCheck [results.json] [baseline.json] [tolerance] [record]");
+			System.exit(2);
+		}
+		Path resultsPath = Paths.get(args[0]);
+		Path baselinePath = Paths.get(args[1]);
+		if (args.length == 4 && Boolean.parseBoolean(args[3])) {
+			Files.copy(resultsPath, baselinePath, StandardCopyOption.REPLACE_EXISTING);
+			System.out.println("Recorded the results as the new baseline at {" + baselinePath + "}");
+			return;
+		}
+		if (!Files.exists(baselinePath)) {
+			System.err.println("No baseline found at {" + baselinePath + "}. Run the benchmarks with -Dbenchmark.record=true in order to record a baseline.");
+			System.exit(1);
+		}
+		List<String> regressions = check(read(resultsPath), read(baselinePath), Double.parseDouble(args[2]));
+		if (!regressions.isEmpty()) {
+			regressions.forEach(System.err::println);
+			System.exit(1);
+		}
+		System.out.println("All benchmarks are within the tolerance of the baseline.");
+	}
+
+	/**
+	 * Compare the results with the baseline.
+	 * 
+	 * @param results
+	 *            JMH results
+	 * @param baseline
+	 *            JMH results of the baseline run
+	 * @param tolerance
+	 *            Allowed relative deviation (e.g. 0.1 for 10%)
+	 * @return Descriptions of the found regressions and of the benchmarks which are missing in the baseline
+	 */
+	public static List<String> check(JsonArray results, JsonArray baseline, double tolerance) {
+		Map<String, JsonObject> baselineByKey = new HashMap<>();
+		for (int i = 0; i < baseline.size(); i++) {
+			JsonObject entry = baseline.getJsonObject(i);
+			baselineByKey.put(key(entry), entry);
+		}
+
+		List<String> regressions = new ArrayList<>();
+		for (int i = 0; i < results.size(); i++) {
+			JsonObject result = results.getJsonObject(i);
+			String key = key(result);
+			JsonObject expected = baselineByKey.get(key);
+			if (expected == null) {
+				regressions.add("No baseline for benchmark {" + key + "}. Run the benchmarks with -Dbenchmark.record=true in order to record a baseline.");
+				continue;
+			}
+
+			double score = score(result);
+			double expectedScore = score(expected);
+			// The throughput modes are the only ones where higher scores are better
+			boolean higherIsBetter = "thrpt".equals(result.getString("mode"));
+			boolean slower = higherIsBetter ? score < expectedScore * (1 - tolerance) : score > expectedScore * (1 + tolerance);
+			if (slower) {
+				regressions.add(String.format("Benchmark {%s} scored {%.3f %s} while the baseline is {%.3f}", key, score, unit(result), expectedScore));
+			}
+
+			Double allocation = allocation(result);
+			Double expectedAllocation = allocation(expected);
+			if (allocation != null && expectedAllocation != null && allocation > expectedAllocation * (1 + tolerance)) {
+				regressions.add(String.format("Benchmark {%s} allocated {%.1f B/op} while the baseline is {%.1f B/op}", key, allocation, expectedAllocation));
+			}
+		}
+		return regressions;
+	}
+
+	private static JsonArray read(Path path) throws IOException {
+		return new JsonArray(new String(Files.readAllBytes(path), StandardCharsets.UTF_8));
+	}
+
+	private static String key(JsonObject entry) {
+		String key = entry.getString("benchmark") + ":" + entry.getString("mode");
+		JsonObject params = entry.getJsonObject("params");
+		return params == null ? key : key + params.encode();
+	}
+
+	private static double score(JsonObject entry) {
+		return entry.getJsonObject("primaryMetric").getDouble("score");
+	}
+
+	private static String unit(JsonObject entry) {
+		return entry.getJsonObject("primaryMetric").getString("scoreUnit");
+	}
+
+	private static Double allocation(JsonObject entry) {
+		JsonObject metrics = entry.getJsonObject("secondaryMetrics");
+		if (metrics == null || !metrics.containsKey(ALLOCATION_METRIC)) {
+			return null;
+		}
+		return metrics.getJsonObject(ALLOCATION_METRIC).getDouble("score");
+	}
+
+}
@@ -0,0 +1,29 @@
+package com.gentics.mesh.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.util.ETag;
+
+/**
+ * Benchmarks for the etag hashing which is done for almost every response.
+ */
+@State(Scope.Benchmark)
+public class ETagBenchmark {
+
+	private String key = "c5e4e4d0f5b14c4e9b3bc6e1d6c9e1b2-en-5a3c1c5b6e9d4e0f8a1b2c3d4e5f6a7b-2.0-true-lang=en,de";
+
+	private int intKey = key.hashCode();
+
+	@Benchmark
+	public String hashString() {
+		return ETag.hash(key);
+	}
+
+	@Benchmark
+	public String hashInt() {
+		return ETag.hash(intKey);
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.dagger.MeshComponent;
+
+/**
+ * Benchmarks for the cache implementation which is used by the permission, webroot and hierarchy caches.
+ */
+@State(Scope.Benchmark)
+public class EventAwareCacheBenchmark {
+
+	private static final int KEYS = 1000;
+
+	private EventAwareCache<String, String> cache;
+
+	private String[] keys = new String[KEYS];
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int index = 0;
+
+		int next() {
+			index = (index + 1) % KEYS;
+			return index;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setup(MeshBenchmarkState state) {
+		MeshComponent mesh = state.getMeshComponent();
+		cache = new EventAwareCacheFactory(mesh.vertx(), mesh.options(), mesh.metrics()).<String, String>builder()
+			.events(NODE_UPDATED)
+			.name("benchmark")
+			.maxSize(2 * KEYS)
+			.build();
+		for (int i = 0; i < KEYS; i++) {
+			keys[i] = "key-" + i;
+			cache.put(keys[i], "value-" + i);
+		}
+	}
+
+	@Benchmark
+	public String getHit(Cursor cursor) {
+		return cache.get(keys[cursor.next()]);
+	}
+
+	@Benchmark
+	public String getMiss(Cursor cursor) {
+		return cache.get("missing-" + cursor.next());
+	}
+
+	@Benchmark
+	public String getWithMappingFunction(Cursor cursor) {
+		return cache.get(keys[cursor.next()], key -> "value");
+	}
+
+}
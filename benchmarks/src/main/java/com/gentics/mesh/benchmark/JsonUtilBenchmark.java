@@ -0,0 +1,80 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.FieldUtil.createBooleanField;
+import static com.gentics.mesh.FieldUtil.createDateField;
+import static com.gentics.mesh.FieldUtil.createHtmlField;
+import static com.gentics.mesh.FieldUtil.createNodeField;
+import static com.gentics.mesh.FieldUtil.createNumberField;
+import static com.gentics.mesh.FieldUtil.createStringField;
+import static com.gentics.mesh.FieldUtil.createStringListField;
+
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.util.UUIDUtil;
+
+/**
+ * Benchmarks for the JSON (de)serialization of node responses. No database is needed for these benchmarks.
+ */
+@State(Scope.Benchmark)
+public class JsonUtilBenchmark {
+
+	private NodeResponse response;
+
+	private String json;
+
+	@Setup
+	public void setup() {
+		FieldMap fields = new FieldMapImpl();
+		fields.put("slug", createStringField("news-overview"));
+		fields.put("title", createStringField("News Overview"));
+		fields.put("teaser", createStringField("Everything you need to know about the latest news."));
+		fields.put("content", createHtmlField("<p>" + String.join(" ", Collections.nCopies(100, "Lorem ipsum dolor sit amet.")) + "</p>"));
+		fields.put("rating", createNumberField(4.5));
+		fields.put("published", createBooleanField(true));
+		fields.put("publishDate", createDateField("2020-01-01T10:00:00Z"));
+		fields.put("related", createNodeField(UUIDUtil.randomUUID()));
+		fields.put("tags", createStringListField("news", "overview", "2020", "mesh", "headless"));
+
+		response = new NodeResponse();
+		response.setUuid(UUIDUtil.randomUUID());
+		response.setLanguage("en");
+		response.setFields(fields);
+		json = JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public String serializeNode() {
+		return JsonUtil.toJson(response);
+	}
+
+	@Benchmark
+	public NodeResponse deserializeNode() {
+		return JsonUtil.readValue(json, NodeResponse.class);
+	}
+
+	/**
+	 * Deserialize the node and access the fields. The fields of the {@link FieldMapImpl} are only parsed once they are accessed.
+	 */
+	@Benchmark
+	public void deserializeNodeFields(Blackhole blackhole) {
+		FieldMap fields = JsonUtil.readValue(json, NodeResponse.class).getFields();
+		blackhole.consume(fields.getStringField("title"));
+		blackhole.consume(fields.getHtmlField("content"));
+		blackhole.consume(fields.getNumberField("rating"));
+		blackhole.consume(fields.getBooleanField("published"));
+		blackhole.consume(fields.getDateField("publishDate"));
+		blackhole.consume(fields.getNodeField("related"));
+		blackhole.consume(fields.getStringFieldList("tags"));
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.test.TestSize.FULL;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.mesh.dagger.MeshComponent;
+import com.gentics.mesh.test.TestDataProvider;
+import com.gentics.mesh.test.context.MeshTestContext;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+/**
+ * Benchmark state which sets up Gentics Mesh with an in-memory graph database and the full test data set. The HTTP server will not be started since the
+ * benchmarks invoke the internal API directly.
+ */
+@State(Scope.Benchmark)
+public class MeshBenchmarkState {
+
+	@MeshTestSetting(testSize = FULL, startServer = false, inMemoryDB = true, monitoring = false)
+	private static class Settings {
+	}
+
+	private final MeshTestSetting settings = Settings.class.getAnnotation(MeshTestSetting.class);
+
+	private MeshTestContext context;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		context = new MeshTestContext();
+		context.setupOnce(settings);
+		context.setup(settings);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		context.tearDown(settings);
+		context.tearDownOnce(settings);
+	}
+
+	public MeshComponent getMeshComponent() {
+		return context.getMeshComponent();
+	}
+
+	public TestDataProvider getData() {
+		return context.getData();
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.gentics.mesh.benchmark;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.link.WebRootLinkReplacer;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.mock.Mocks;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.test.TestDataProvider;
+
+/**
+ * Benchmarks for the graph operations which are executed for most node requests.
+ */
+public class NodeBenchmark {
+
+	/**
+	 * Per thread state which holds a transaction for the duration of an iteration.
+	 */
+	@State(Scope.Thread)
+	public static class TxState {
+
+		private Tx tx;
+
+		private InternalActionContext ac;
+
+		private Set<String> contextKeys;
+
+		private User user;
+
+		private Node content;
+
+		private Object contentId;
+
+		private String branchUuid;
+
+		private String projectName;
+
+		private String linkContent;
+
+		private WebRootLinkReplacer linkReplacer;
+
+		@Setup(Level.Iteration)
+		public void setup(MeshBenchmarkState state) {
+			TestDataProvider data = state.getData();
+			linkReplacer = state.getMeshComponent().webRootLinkReplacer();
+			tx = state.getMeshComponent().database().tx();
+			Project project = data.getProject();
+			user = data.getUserInfo().getUser();
+			content = data.getContent("news overview");
+			contentId = content.id();
+			branchUuid = project.getLatestBranch().getUuid();
+			projectName = project.getName();
+			ac = Mocks.getMockedInternalActionContext("lang=en", user, project);
+			contextKeys = new HashSet<>(ac.data().keySet());
+			linkContent = "<p>Read the <a href=\"{{mesh.link('" + content.getUuid() + "', 'en')}}\">news</a> or browse the <a href=\"{{mesh.link(\""
+				+ data.getFolder("2015").getUuid() + "\")}}\">archive</a>.</p>";
+		}
+
+		/**
+		 * Return the action context of the thread. Entries which were added by previous invocations (e.g. the resolved paths of nodes) will be removed, since
+		 * the context would not be shared between requests.
+		 *
+		 * @return Action context
+		 */
+		InternalActionContext ac() {
+			ac.data().keySet().retainAll(contextKeys);
+			return ac;
+		}
+
+		@TearDown(Level.Iteration)
+		public void tearDown() {
+			tx.close();
+		}
+	}
+
+	@Benchmark
+	public NodeResponse transformToRest(TxState state) {
+		return state.content.transformToRestSync(state.ac(), 0);
+	}
+
+	@Benchmark
+	public boolean hasPermission(TxState state) {
+		return state.user.hasPermissionForId(state.contentId, READ_PERM);
+	}
+
+	@Benchmark
+	public String replaceLinks(TxState state) {
+		return state.linkReplacer.replace(state.ac(), state.branchUuid, DRAFT, state.linkContent, LinkType.SHORT, state.projectName, null);
+	}
+
+}
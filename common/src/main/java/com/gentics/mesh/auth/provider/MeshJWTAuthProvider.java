@@ -14,6 +14,8 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.auth.AuthenticationResult;
+import com.gentics.mesh.cache.CachedPrincipal;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshAuthUser;
@@ -61,12 +63,16 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 
 	private final MeshOptions meshOptions;
 
+	private final PrincipalCache principalCache;
+
 	@Inject
-	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot) {
+	public MeshJWTAuthProvider(Vertx vertx, MeshOptions meshOptions, BCryptPasswordEncoder passwordEncoder, Database database, BootstrapInitializer boot,
+		PrincipalCache principalCache) {
 		this.meshOptions = meshOptions;
 		this.passwordEncoder = passwordEncoder;
 		this.db = database;
 		this.boot = boot;
+		this.principalCache = principalCache;
 
 		// Use the mesh JWT options in order to setup the JWTAuth provider
 		AuthenticationOptions options = meshOptions.getAuthenticationOptions();
@@ -252,7 +258,8 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	}
 
 	/**
-	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User.
+	 * Gets the corresponding {@link MeshAuthUser} by the Vert.x User. The user is loaded from the {@link PrincipalCache} so that no transaction is needed
+	 * for users which were already authenticated.
 	 *
 	 * @param jwt
 	 *            Decoded JWT
@@ -260,38 +267,51 @@ public class MeshJWTAuthProvider implements AuthProvider, JWTAuth {
 	 * @throws Exception
 	 */
 	private User loadUserByJWT(JsonObject jwt) throws Exception {
+		String userUuid = jwt.getString(USERID_FIELD_NAME);
+		CachedPrincipal principal = userUuid == null ? null : principalCache.get(userUuid, this::loadPrincipal);
+		if (principal == null) {
+			if (log.isDebugEnabled()) {
+				log.debug("Could not load user with UUID {" + userUuid + "}.");
+			}
+			// TODO use NoStackTraceThrowable?
+			throw new Exception("Invalid credentials!");
+		}
+
+		// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
+		//	if (!user.isEnabled()) {
+		//		throw new Exception("User is disabled");
+		//	}
+
+		// Check whether the token might be an API key token
+		if (!jwt.containsKey("exp")) {
+			String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
+			// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
+			if (apiKeyToken != null) {
+				// Verify that the API token is invalid.
+				if (!principal.isValidAPIKey(apiKeyToken)) {
+					throw new Exception("API key token is invalid.");
+				}
+			}
+		}
+
+		return principal.getUser();
+	}
+
+	/**
+	 * Load the user with the given uuid and its current API key token code.
+	 *
+	 * @param userUuid
+	 * @return Loaded principal or null if the user could not be found
+	 */
+	private CachedPrincipal loadPrincipal(String userUuid) {
 		try (Tx tx = db.tx()) {
-			String userUuid = jwt.getString(USERID_FIELD_NAME);
 			MeshAuthUser user = boot.userRoot().findMeshAuthUserByUuid(userUuid);
 			if (user == null) {
-				if (log.isDebugEnabled()) {
-					log.debug("Could not load user with UUID {" + userUuid + "}.");
-				}
-				// TODO use NoStackTraceThrowable?
-				throw new Exception("Invalid credentials!");
+				return null;
 			}
 			// Set the uuid to cache it in the element. We know it is valid.
 			user.setCachedUuid(userUuid);
-
-			// TODO Re-enable isEnabled cache and check if User#delete behaviour changes
-			//	if (!user.isEnabled()) {
-			//		throw new Exception("User is disabled");
-			//	}
-
-			// Check whether the token might be an API key token
-			if (!jwt.containsKey("exp")) {
-				String apiKeyToken = jwt.getString(API_KEY_TOKEN_CODE_FIELD_NAME);
-				// TODO: All tokens without exp must have a token code - See https://github.com/gentics/mesh/issues/412
-				if (apiKeyToken != null) {
-					String storedApiKey = user.getAPIKeyTokenCode();
-					// Verify that the API token is invalid.
-					if (apiKeyToken != null && !apiKeyToken.equals(storedApiKey)) {
-						throw new Exception("API key token is invalid.");
-					}
-				}
-			}
-
-			return user;
+			return new CachedPrincipal(user, user.getAPIKeyTokenCode());
 		}
 	}
 
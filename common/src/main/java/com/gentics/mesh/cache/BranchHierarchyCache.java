@@ -0,0 +1,61 @@
+package com.gentics.mesh.cache;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the node hierarchy of branches. The cache contains the parent and the children of nodes per branch, so that breadcrumbs, webroot paths and
+ * navigations can be built without index lookups for each hop.
+ *
+ * Entries are invalidated via the node events which may change the hierarchy (create, move and delete). Node updates and publishing do not affect the cache.
+ * The cache is only filled by read-only transactions, since write transactions may read uncommitted changes which could be rolled back.
+ */
+public interface BranchHierarchyCache {
+
+	/**
+	 * Return the parent of the node in the branch. Within write transactions the loaded parent is not stored and the cache is bypassed once the transaction
+	 * modified the hierarchy.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 * @param parentLoader
+	 *            Loader which is used if the parent is not cached. The loader may return null if the node has no parent.
+	 * @return Reference to the parent or null if the node has no parent in the branch
+	 */
+	CachedNodeReference getParent(String branchUuid, String nodeUuid, Supplier<CachedNodeReference> parentLoader);
+
+	/**
+	 * Return the children of the node in the branch. Within write transactions the loaded children are not stored and the cache is bypassed once the
+	 * transaction modified the hierarchy.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 * @param childrenLoader
+	 *            Loader which is used if the children are not cached
+	 * @return References to the children
+	 */
+	List<CachedNodeReference> getChildren(String branchUuid, String nodeUuid, Supplier<List<CachedNodeReference>> childrenLoader);
+
+	/**
+	 * Invalidate the parent of the node and all cached children on this instance once the active transaction has been committed. The remaining
+	 * transaction will bypass the cache, so that the modified hierarchy is visible. Other instances are notified via the node events.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 */
+	void invalidate(String branchUuid, String nodeUuid);
+
+	/**
+	 * Immediately remove the parent of the node and all cached children on this instance. This is used when a cached reference turned out to be outdated.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 */
+	void evict(String branchUuid, String nodeUuid);
+
+	/**
+	 * Clear the cache.
+	 */
+	void clear();
+
+}
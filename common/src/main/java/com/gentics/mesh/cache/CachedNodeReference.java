@@ -0,0 +1,31 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Immutable reference to a node vertex which is stored in the {@link BranchHierarchyCache}. The uuid is kept next to the vertex id so that references to
+ * vertices which have been deleted or replaced in the meantime can be detected.
+ */
+public final class CachedNodeReference {
+
+	private final Object id;
+
+	private final String uuid;
+
+	public CachedNodeReference(Object id, String uuid) {
+		this.id = id;
+		this.uuid = uuid;
+	}
+
+	/**
+	 * Return the id of the node vertex.
+	 *
+	 * @return
+	 */
+	public Object getId() {
+		return id;
+	}
+
+	public String getUuid() {
+		return uuid;
+	}
+
+}
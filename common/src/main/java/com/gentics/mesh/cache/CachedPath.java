@@ -0,0 +1,66 @@
+package com.gentics.mesh.cache;
+
+import java.util.Set;
+
+import com.gentics.mesh.path.Path;
+
+/**
+ * Immutable entry of the {@link WebrootPathCache}. Contains the resolved path and the information which is needed to decide whether the entry is still
+ * valid after nodes have been changed.
+ */
+public final class CachedPath {
+
+	private final Path path;
+
+	private final Set<String> nodeUuids;
+
+	private final boolean dependsOnAllNodes;
+
+	private final long generation;
+
+	/**
+	 * Create a new entry.
+	 *
+	 * @param path
+	 *            Resolved path
+	 * @param nodeUuids
+	 *            Uuids of the nodes which were traversed while resolving the path
+	 * @param dependsOnAllNodes
+	 *            Whether a change of any node may change the result (e.g. for paths which could not be resolved)
+	 * @param generation
+	 *            Invalidation generation of the cache at the time the entry was created
+	 */
+	public CachedPath(Path path, Set<String> nodeUuids, boolean dependsOnAllNodes, long generation) {
+		this.path = path;
+		this.nodeUuids = nodeUuids;
+		this.dependsOnAllNodes = dependsOnAllNodes;
+		this.generation = generation;
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * Return the uuids of the nodes on which the path depends.
+	 *
+	 * @return
+	 */
+	public Set<String> getNodeUuids() {
+		return nodeUuids;
+	}
+
+	/**
+	 * Check whether the path may be affected by a change of any node.
+	 *
+	 * @return
+	 */
+	public boolean isDependsOnAllNodes() {
+		return dependsOnAllNodes;
+	}
+
+	public long getGeneration() {
+		return generation;
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.gentics.mesh.cache;
+
+import com.gentics.mesh.core.data.MeshAuthUser;
+
+/**
+ * Immutable entry of the {@link PrincipalCache}. Contains the resolved user and the API key token code which was stored for the user when the entry was
+ * loaded, so that API keys can be validated without reading the user.
+ */
+public final class CachedPrincipal {
+
+	private final MeshAuthUser user;
+
+	private final String apiKeyTokenCode;
+
+	public CachedPrincipal(MeshAuthUser user, String apiKeyTokenCode) {
+		this.user = user;
+		this.apiKeyTokenCode = apiKeyTokenCode;
+	}
+
+	public MeshAuthUser getUser() {
+		return user;
+	}
+
+	/**
+	 * Return the stored API key token code of the user.
+	 *
+	 * @return Token code or null if no API key was issued
+	 */
+	public String getAPIKeyTokenCode() {
+		return apiKeyTokenCode;
+	}
+
+	/**
+	 * Check whether the API key with the given token code is valid for the user.
+	 *
+	 * @param tokenCode
+	 * @return
+	 */
+	public boolean isValidAPIKey(String tokenCode) {
+		return tokenCode.equals(apiKeyTokenCode);
+	}
+}
@@ -1,19 +1,28 @@
 package com.gentics.mesh.cache;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 
-public interface PermissionCache extends MeshCache<String, Boolean> {
+/**
+ * Cache for granting permissions. The effective roles of each user are cached as a {@link RoleSet}. Granting permissions are stored per element and role
+ * set. This way permission changes only invalidate the entries of the affected elements and role membership changes only invalidate the role sets of the
+ * affected users.
+ */
+public interface PermissionCache extends MeshCache<String, Set<RoleSet>> {
 
 	/**
 	 * Clear the local cache and send an event to inform other instances to also clear their caches.
-	 * 
+	 *
 	 * @param notify
 	 */
 	void clear(boolean notify);
 
 	/**
 	 * Check whether the element with the given id has the permission.
-	 * 
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
@@ -23,8 +32,8 @@ public interface PermissionCache extends MeshCache<String, Boolean> {
 	boolean hasPermission(Object userId, GraphPermission permission, Object elementId);
 
 	/**
-	 * Store the granting permission in the perm store.
-	 * 
+	 * Store the granting permission in the perm store. The permission will only be stored if the role set of the user is cached.
+	 *
 	 * @param userId
 	 *            User id
 	 * @param permission
@@ -32,4 +41,43 @@ public interface PermissionCache extends MeshCache<String, Boolean> {
 	 */
 	void store(Object userId, GraphPermission permission, Object elementId);
 
+	/**
+	 * Return the cached role set of the user or load it using the given loader.
+	 *
+	 * @param userId
+	 *            User id
+	 * @param roleUuidLoader
+	 *            Loader for the uuids of the roles which are assigned to the user
+	 * @return
+	 */
+	RoleSet getRoleSet(Object userId, Supplier<Collection<String>> roleUuidLoader);
+
+	/**
+	 * Invalidate the cached role sets of the given users and inform other instances. This needs to be invoked whenever the roles which are assigned to a user
+	 * change.
+	 *
+	 * @param userIds
+	 */
+	void invalidateRoleSets(Collection<?> userIds);
+
+	/**
+	 * Invalidate the cached role sets of all users and inform other instances. This needs to be invoked when the role gets deleted. The stored granting
+	 * permissions are kept since they can only be reached via role sets which no longer exist.
+	 *
+	 * @param roleUuid
+	 */
+	void invalidateRole(String roleUuid);
+
+	/**
+	 * Invalidate the granting permissions of the element which may have been granted by the given role and inform other instances.
+	 *
+	 * @param roleUuid
+	 *            Uuid of the role from which the permissions were revoked
+	 * @param elementId
+	 *            Id of the element
+	 * @param permissions
+	 *            Revoked permissions
+	 */
+	void invalidatePermissions(String roleUuid, Object elementId, GraphPermission... permissions);
+
 }
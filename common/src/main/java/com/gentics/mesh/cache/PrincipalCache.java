@@ -0,0 +1,16 @@
+package com.gentics.mesh.cache;
+
+/**
+ * Cache for the users which were resolved while authenticating requests. The entries are keyed by the user uuid which is contained in the verified JWT.
+ * Entries are invalidated when the user is updated or deleted. Issuing or invalidating an API key also counts as an update of the user.
+ */
+public interface PrincipalCache extends MeshCache<String, CachedPrincipal> {
+
+	/**
+	 * Invalidate the cached principal of the user on this instance. Other instances are notified via the user update event.
+	 *
+	 * @param userUuid
+	 */
+	void invalidate(String userUuid);
+
+}
@@ -0,0 +1,99 @@
+package com.gentics.mesh.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Immutable set of the uuids of the roles which are effectively assigned to a user. Role sets are interned so that all users which share the same roles
+ * also share the same instance. This keeps the per-user representation compact and allows the {@link PermissionCache} to store granting permissions per
+ * role set instead of per user.
+ */
+public final class RoleSet {
+
+	private static final Interner<RoleSet> INTERNER = Interners.newWeakInterner();
+
+	public static final RoleSet EMPTY = INTERNER.intern(new RoleSet(new String[0]));
+
+	private final String[] roleUuids;
+
+	private final int hashCode;
+
+	private RoleSet(String[] roleUuids) {
+		this.roleUuids = roleUuids;
+		this.hashCode = Arrays.hashCode(roleUuids);
+	}
+
+	/**
+	 * Return the interned role set for the given role uuids.
+	 *
+	 * @param roleUuids
+	 * @return
+	 */
+	public static RoleSet of(Collection<String> roleUuids) {
+		String[] uuids = roleUuids.stream().distinct().sorted().toArray(String[]::new);
+		return INTERNER.intern(new RoleSet(uuids));
+	}
+
+	/**
+	 * Check whether the set contains the role with the given uuid.
+	 *
+	 * @param roleUuid
+	 * @return
+	 */
+	public boolean contains(String roleUuid) {
+		return roleUuid != null && Arrays.binarySearch(roleUuids, roleUuid) >= 0;
+	}
+
+	/**
+	 * Check whether the set contains at least one of the given roles.
+	 *
+	 * @param roleUuids
+	 *            Uuids of the roles or null
+	 * @return
+	 */
+	public boolean containsAny(Collection<String> roleUuids) {
+		if (roleUuids == null || isEmpty()) {
+			return false;
+		}
+		for (String roleUuid : roleUuids) {
+			if (contains(roleUuid)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean isEmpty() {
+		return roleUuids.length == 0;
+	}
+
+	public int size() {
+		return roleUuids.length;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof RoleSet)) {
+			return false;
+		}
+		RoleSet other = (RoleSet) obj;
+		return hashCode == other.hashCode && Arrays.equals(roleUuids, other.roleUuids);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(roleUuids);
+	}
+
+}
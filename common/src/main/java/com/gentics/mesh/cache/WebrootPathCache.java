@@ -5,7 +5,11 @@ import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.path.Path;
 
-public interface WebrootPathCache extends MeshCache<String, Path> {
+/**
+ * Cache for resolved webroot paths. Each entry tracks the nodes which were traversed while resolving the path, so that a node change only evicts the paths
+ * which actually pass through the node.
+ */
+public interface WebrootPathCache extends MeshCache<String, CachedPath> {
 
 	/**
 	 * Store a path in the cache.
@@ -19,9 +23,31 @@ public interface WebrootPathCache extends MeshCache<String, Path> {
 	 * @param path
 	 *            Webroot path
 	 * @param resolvedPath
-	 *            Resolved webroot path to be put in the cache
+	 *            Resolved webroot path to be put in the cache. The segments of the path are used to determine the nodes on which the entry depends.
+	 * @param dependsOnAllNodes
+	 *            Whether the entry may be affected by changes of nodes which are not part of the resolved path. This is the case for paths which could
+	 *            not be fully resolved or which could be shadowed by url fields of other nodes.
+	 * @param generation
+	 *            Generation which was returned by {@link #generation()} before the path was resolved
 	 */
-	void store(Project project, Branch branch, ContainerType type, String path, Path resolvedPath);
+	void store(Project project, Branch branch, ContainerType type, String path, Path resolvedPath, boolean dependsOnAllNodes, long generation);
+
+	/**
+	 * Return the current invalidation generation. The generation has to be read before a path is resolved, so that changes which happen while the path is
+	 * resolved invalidate the stored entry.
+	 *
+	 * @return
+	 */
+	long generation();
+
+	/**
+	 * Check whether any of the active schema versions of the branch defines url fields. The result is cached until the schema versions of a branch are
+	 * changed.
+	 *
+	 * @param branch
+	 * @return
+	 */
+	boolean hasUrlFields(Branch branch);
 
 	/**
 	 * Check whether the cache has the path already stored.
@@ -2,15 +2,24 @@ package com.gentics.mesh.cache.impl;
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.gentics.mesh.cache.EventAwareCache;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatch;
+import com.gentics.mesh.event.impl.EventBatchEntryMessage;
 import com.gentics.mesh.metric.CachingMetric;
 import com.gentics.mesh.metric.MetricsService;
 import com.github.benmanes.caffeine.cache.Cache;
@@ -72,17 +81,28 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 			log.trace("Registering to events");
 		}
 		EventBus eb = vertx.eventBus();
-		Observable<Message<JsonObject>> o = rxEventBus(eb, events);
-		if (filter != null) {
-			o = o.filter(filter);
-		}
-
-		o.subscribe(event -> {
-			// Use a default implementation which will invalidate the whole cache on every event
+		// Events which were dispatched as part of a batch are only published within the batch envelope
+		Observable<List<Message<JsonObject>>> o = rxEventBus(eb, events)
+			.map(Collections::singletonList);
+		o = o.mergeWith(rxBatchEventBus(eb, events));
+
+		o.subscribe(messages -> {
+			List<Message<JsonObject>> matching = new ArrayList<>(messages.size());
+			for (Message<JsonObject> message : messages) {
+				if (filter == null || filter.test(message)) {
+					matching.add(message);
+				}
+			}
+			if (matching.isEmpty()) {
+				return;
+			}
+			// Use a default implementation which will invalidate the whole cache once per event or batch of events
 			if (onNext == null) {
 				invalidate();
 			} else {
-				onNext.accept(event, this);
+				for (Message<JsonObject> message : matching) {
+					onNext.accept(message, this);
+				}
 			}
 		}, error -> {
 			log.error("Error while handling event in cache. Disabling cache.", error);
@@ -307,6 +327,27 @@ public class EventAwareCacheImpl<K, V> implements EventAwareCache<K, V> {
 		}
 	}
 
+	/**
+	 * Return an observable which emits the events of received {@link EventBatch} envelopes which match the given addresses. The events of each envelope are
+	 * emitted as a single list. The envelopes of all cluster instances are received.
+	 *
+	 * @param eventBus
+	 * @param addresses
+	 * @return
+	 */
+	public static Observable<List<Message<JsonObject>>> rxBatchEventBus(EventBus eventBus, MeshEvent... addresses) {
+		Set<MeshEvent> events = new HashSet<>(Arrays.asList(addresses));
+		return Observable.using(
+			() -> eventBus.<EventBatch>consumer(MeshEvent.EVENT_BATCH.address),
+			consumer -> Observable.<EventBatch>create(sub -> consumer.handler(message -> sub.onNext(message.body()))),
+			MessageConsumer::unregister)
+			.map(batch -> batch.getEntries().stream()
+				.filter(entry -> events.contains(entry.getEvent()))
+				.<Message<JsonObject>>map(EventBatchEntryMessage::new)
+				.collect(Collectors.toList()))
+			.filter(messages -> !messages.isEmpty());
+	}
+
 	public static Observable<Message<JsonObject>> rxEventBus(EventBus eventBus, MeshEvent... addresses) {
 		return Observable.fromArray(addresses)
 			.flatMap(meshEvent -> Observable.using(
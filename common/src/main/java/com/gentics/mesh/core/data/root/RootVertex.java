@@ -6,6 +6,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Stack;
 import java.util.function.Predicate;
@@ -180,6 +182,22 @@ public interface RootVertex<T extends MeshCoreVertex<? extends RestModel, T>> ex
 		return null;
 	}
 
+	/**
+	 * Find the elements with the given uuids.
+	 * 
+	 * @param uuids
+	 *            Uuids of the elements to be located
+	 * @return Found elements per uuid. Elements which could not be located or which are not part of this root vertex will be omitted.
+	 */
+	default Map<String, T> findByUuids(Collection<String> uuids) {
+		Map<String, T> elements = db().index().findByUuids(getPersistanceClass(), uuids);
+		FramedGraph graph = Tx.get().getGraph();
+		String indexName = "e." + getRootLabel().toLowerCase() + "_inout";
+		// Use the edge index to determine whether the elements are part of this root vertex
+		elements.values().removeIf(t -> !graph.getEdges(indexName, db().createComposedIndexKey(t.getId(), id())).iterator().hasNext());
+		return elements;
+	}
+
 	/**
 	 * Load the object by uuid and check the given permission.
 	 * 
@@ -4,14 +4,19 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import java.awt.image.BufferedImage;
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
 import javax.imageio.ImageIO;
 
+import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 
 import io.reactivex.Maybe;
 import io.reactivex.Single;
+import io.reactivex.functions.Function;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.reactivex.core.Vertx;
@@ -28,25 +33,58 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 
 	protected Vertx vertx;
 
+	protected ImageCacheIndex cacheIndex;
+
 	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
+		this(vertx, options, null);
+	}
+
+	public AbstractImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
 		this.vertx = vertx;
 		this.options = options;
+		this.cacheIndex = new ImageCacheIndex(options, metrics);
+		// Scanning the existing cache directory may take a while. Lookups will use the filesystem until the index is ready.
+		vertx.<Void>rxExecuteBlocking(bh -> {
+			cacheIndex.init();
+			bh.complete();
+		}, false).subscribe();
 	}
 
 	@Override
-	public Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters) {
-		FileSystem fs = vertx.fileSystem();
+	public <T> Single<T> handleResize(Binary binary, ImageManipulationParameters parameters, Function<String, Single<T>> handler) {
+		String basePath = Paths.get(getCacheFolder(binary.getSHA512Sum()), getCacheBaseName(parameters)).toString();
+		return handleResize(binary, parameters).flatMap(path -> handler.apply(path).onErrorResumeNext(error -> {
+			if (!isMissingFile(error)) {
+				return Single.error(error);
+			}
+			// The file may have been removed by another instance which shares the cache directory
+			if (log.isDebugEnabled()) {
+				log.debug("Cache file {" + path + "} no longer exists. Creating it again.");
+			}
+			cacheIndex.remove(basePath, path);
+			return handleResize(binary, parameters).flatMap(handler);
+		}));
+	}
 
-		String[] parts = sha512sum.split("(?<=\\G.{8})");
-		StringBuffer buffer = new StringBuffer();
-		buffer.append(File.separator);
-		for (String part : parts) {
-			buffer.append(part + File.separator);
+	@Override
+	public Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters) {
+		String baseFolder = getCacheFolder(sha512sum);
+		String baseName = getCacheBaseName(parameters);
+		String basePath = Paths.get(baseFolder, baseName).toString();
+
+		if (cacheIndex.isInitialized()) {
+			// Indexed files are used without checking the filesystem. Removed files are handled when they are accessed.
+			String path = cacheIndex.get(basePath);
+			if (path == null) {
+				if (log.isDebugEnabled()) {
+					log.debug("No cache file found for base path {" + basePath + "}");
+				}
+				return Single.just(new CacheFileInfo(basePath, false));
+			}
+			return Single.just(new CacheFileInfo(path, true));
 		}
 
-		String baseFolder = Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
-		String baseName = "image-" + parameters.getCacheKey();
-
+		FileSystem fs = vertx.fileSystem();
 		return fs.rxMkdirs(baseFolder)
 		// Vert.x uses Files.createDirectories internally, which will not fail when the folder already exists.
 		// See https://github.com/eclipse-vertx/vert.x/issues/3029
@@ -54,11 +92,10 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		.map(foundFiles -> {
 			int numFiles = foundFiles.size();
 			if (numFiles == 0) {
-				String retPath = Paths.get(baseFolder, baseName).toString();
 				if (log.isDebugEnabled()) {
-					log.debug("No cache file found for base path {" + retPath + "}");
+					log.debug("No cache file found for base path {" + basePath + "}");
 				}
-				return new CacheFileInfo(retPath, false);
+				return new CacheFileInfo(basePath, false);
 			}
 
 			if (numFiles > 1) {
@@ -82,6 +119,47 @@ public abstract class AbstractImageManipulator implements ImageManipulator {
 		});
 	}
 
+	/**
+	 * Return the folder which contains the cache files of the binary with the given hash.
+	 *
+	 * @param sha512sum
+	 * @return
+	 */
+	private String getCacheFolder(String sha512sum) {
+		String[] parts = sha512sum.split("(?<=\\G.{8})");
+		StringBuffer buffer = new StringBuffer();
+		buffer.append(File.separator);
+		for (String part : parts) {
+			buffer.append(part + File.separator);
+		}
+		return Paths.get(options.getImageCacheDirectory(), buffer.toString()).toString();
+	}
+
+	/**
+	 * Return the name of the cache file for the given parameters without the file extension.
+	 *
+	 * @param parameters
+	 * @return
+	 */
+	private String getCacheBaseName(ImageManipulationParameters parameters) {
+		return "image-" + parameters.getCacheKey();
+	}
+
+	/**
+	 * Check whether the error was caused by a file which does not exist.
+	 *
+	 * @param error
+	 * @return
+	 */
+	private boolean isMissingFile(Throwable error) {
+		for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+			if (cause instanceof NoSuchFileException || cause instanceof FileNotFoundException) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public Single<ImageInfo> readImageInfo(String path) {
 		Maybe<ImageInfo> result = vertx.rxExecuteBlocking(bh -> {
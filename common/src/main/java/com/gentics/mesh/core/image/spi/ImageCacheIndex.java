@@ -0,0 +1,252 @@
+package com.gentics.mesh.core.image.spi;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.stream.Stream;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+import com.gentics.mesh.metric.CachingMetric;
+import com.gentics.mesh.metric.MetricsService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * In-memory index of the files in the image cache directory. The index maps the base path of a cached image variant (the path without the file extension)
+ * to the path of the cache file. Once the index has been initialized, cache lookups can be answered without accessing the filesystem.
+ *
+ * The index also keeps track of the access order and the size of the cached images. Once the configured maximum size of the cache is exceeded the least
+ * recently used images will be deleted. The hit, miss and eviction metrics of the image cache are recorded as well.
+ *
+ * The cache directory may be shared with other instances (e.g. via NFS in a cluster). Files which were written by other instances are not indexed and will
+ * be regenerated when requested. Files which were removed by other instances are detected when the indexed file is accessed, see
+ * {@link #remove(String, String)}. The size limit of the cache only applies to the files which were indexed by this instance.
+ */
+public class ImageCacheIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(ImageCacheIndex.class);
+
+	public static final String METRIC_NAME = "image";
+
+	private static final long MEGABYTE = 1024 * 1024;
+
+	private final String cacheDirectory;
+
+	private final long maxSize;
+
+	/**
+	 * Cached files by their base path in access order.
+	 */
+	private LinkedHashMap<String, CachedFile> files = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long totalSize = 0;
+
+	private volatile boolean initialized = false;
+
+	private final Counter hitCounter;
+
+	private final Counter missCounter;
+
+	private final Counter evictionCounter;
+
+	public ImageCacheIndex(ImageManipulatorOptions options, MetricsService metrics) {
+		this.cacheDirectory = options.getImageCacheDirectory();
+		this.maxSize = options.getImageCacheMaxSize() * MEGABYTE;
+		MeterRegistry registry = metrics == null ? new SimpleMeterRegistry() : metrics.getMetricRegistry();
+		this.hitCounter = registry.counter(new CachingMetric(CachingMetric.Event.HIT, METRIC_NAME).key());
+		this.missCounter = registry.counter(new CachingMetric(CachingMetric.Event.MISS, METRIC_NAME).key());
+		this.evictionCounter = registry.counter(new CachingMetric(CachingMetric.Event.EVICTION, METRIC_NAME).key());
+	}
+
+	/**
+	 * Check whether the size of the cache is limited.
+	 *
+	 * @return
+	 */
+	public boolean isLimited() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * Check whether the cache directory has been scanned. Lookups via {@link #get(String)} are only possible once the index has been initialized.
+	 *
+	 * @return
+	 */
+	public boolean isInitialized() {
+		return initialized;
+	}
+
+	/**
+	 * Scan the cache directory and add the found files to the index. Files are ordered by their last modification date since the last access is not known.
+	 * Files which were already added to the index are considered to be more recent than the found files. This method may block for large cache directories
+	 * and should thus be invoked from a worker thread.
+	 */
+	public void init() {
+		LinkedHashMap<String, CachedFile> scanned = new LinkedHashMap<>(16, 0.75f, true);
+		Path root = Paths.get(cacheDirectory);
+		if (Files.exists(root)) {
+			try (Stream<Path> stream = Files.walk(root)) {
+				stream.map(Path::toFile)
+					.filter(File::isFile)
+					.sorted(Comparator.comparingLong(File::lastModified))
+					.forEach(file -> {
+						String path = file.getPath();
+						scanned.put(toBasePath(path), new CachedFile(path, file.length()));
+					});
+			} catch (IOException | RuntimeException e) {
+				log.error("Could not scan the image cache directory {" + root.toAbsolutePath() + "}. Cache lookups will use the filesystem.", e);
+				return;
+			}
+		}
+		synchronized (this) {
+			for (Entry<String, CachedFile> entry : files.entrySet()) {
+				scanned.remove(entry.getKey());
+				scanned.put(entry.getKey(), entry.getValue());
+			}
+			files = scanned;
+			totalSize = files.values().stream().mapToLong(file -> file.size).sum();
+			if (log.isDebugEnabled()) {
+				log.debug("Found {" + files.size() + "} files with {" + totalSize + "} bytes in the image cache");
+			}
+			evict(null);
+			initialized = true;
+		}
+	}
+
+	/**
+	 * Return the path of the cache file for the given base path and mark it as recently used.
+	 *
+	 * @param basePath
+	 *            Path of the cache file without the file extension
+	 * @return Path of the cache file or null if the variant is not cached
+	 */
+	public synchronized String get(String basePath) {
+		CachedFile file = files.get(basePath);
+		return file == null ? null : file.path;
+	}
+
+	/**
+	 * Remove the cache file from the index. This is used when an indexed file no longer exists because it was removed by another process.
+	 *
+	 * @param basePath
+	 *            Path of the cache file without the file extension
+	 * @param path
+	 *            Path of the cache file which was found to be missing
+	 */
+	public synchronized void remove(String basePath, String path) {
+		CachedFile file = files.get(basePath);
+		// The file may have been written again in the meantime
+		if (file != null && file.path.equals(path)) {
+			files.remove(basePath);
+			totalSize -= file.size;
+		}
+	}
+
+	/**
+	 * Record a cache hit.
+	 */
+	public void recordHit() {
+		hitCounter.increment();
+	}
+
+	/**
+	 * Record a cache miss.
+	 */
+	public void recordMiss() {
+		missCounter.increment();
+	}
+
+	/**
+	 * Add the written cache file to the index and evict the least recently used files if the cache size has been exceeded. This method accesses the
+	 * filesystem and should thus be invoked from a worker thread.
+	 *
+	 * @param basePath
+	 *            Path of the cache file without the file extension
+	 * @param path
+	 *            Path of the written cache file
+	 */
+	public void recordWrite(String basePath, String path) {
+		long size = new File(path).length();
+		synchronized (this) {
+			CachedFile previous = files.put(basePath, new CachedFile(path, size));
+			if (previous != null) {
+				totalSize -= previous.size;
+			}
+			totalSize += size;
+			evict(basePath);
+		}
+	}
+
+	/**
+	 * Return the current size of the cache in bytes. Only files which have been indexed are considered.
+	 *
+	 * @return
+	 */
+	public synchronized long getTotalSize() {
+		return totalSize;
+	}
+
+	/**
+	 * Delete the least recently used files until the size of the cache does no longer exceed the maximum.
+	 *
+	 * @param keep
+	 *            Base path of the file which must not be evicted
+	 */
+	private void evict(String keep) {
+		if (!isLimited()) {
+			return;
+		}
+		Iterator<Map.Entry<String, CachedFile>> it = files.entrySet().iterator();
+		while (totalSize > maxSize && it.hasNext()) {
+			Map.Entry<String, CachedFile> eldest = it.next();
+			if (eldest.getKey().equals(keep)) {
+				continue;
+			}
+			it.remove();
+			CachedFile file = eldest.getValue();
+			totalSize -= file.size;
+			try {
+				Files.deleteIfExists(Paths.get(file.path));
+				evictionCounter.increment();
+			} catch (IOException e) {
+				log.warn("Could not delete evicted image cache file {" + file.path + "}", e);
+			}
+		}
+	}
+
+	/**
+	 * Strip the file extension from the path of a cache file. Cache files are always written with an extension separator even if no extension is known.
+	 *
+	 * @param path
+	 * @return
+	 */
+	private String toBasePath(String path) {
+		int separator = path.lastIndexOf(File.separatorChar);
+		int dot = path.lastIndexOf('.');
+		return dot > separator ? path.substring(0, dot) : path;
+	}
+
+	private static class CachedFile {
+
+		private final String path;
+
+		private final long size;
+
+		CachedFile(String path, long size) {
+			this.path = path;
+			this.size = size;
+		}
+	}
+
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import io.reactivex.Single;
+import io.reactivex.functions.Function;
 
 /**
  * SPI provider interface for image manipulators.
@@ -21,6 +22,19 @@ public interface ImageManipulator {
 	 */
 	Single<String> handleResize(Binary binary, ImageManipulationParameters parameters);
 
+	/**
+	 * Resize the given binary data and pass the path to the resized file to the handler. Cached files are not checked before they are passed. The variant
+	 * is removed from the cache and created again if the handler fails because the file no longer exists, e.g. because it was removed by another instance
+	 * which shares the cache directory.
+	 *
+	 * @param binary
+	 * @param parameters
+	 * @param handler
+	 *            Handler which opens or serves the resized file
+	 * @return The result of the handler
+	 */
+	<T> Single<T> handleResize(Binary binary, ImageManipulationParameters parameters, Function<String, Single<T>> handler);
+
 	Single<CacheFileInfo> getCacheFilePath(String sha512sum, ImageManipulationParameters parameters);
 
 	/**
@@ -191,7 +191,7 @@ public class HandlerUtilities {
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElement(InternalActionContext ac, String uuid,
 		TxAction1<RootVertex<T>> handler, GraphPermission perm) {
 
-		syncTx(ac, tx -> {
+		syncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 			T element = root.loadObjectByUuid(ac, uuid, perm);
 
@@ -216,7 +216,7 @@ public class HandlerUtilities {
 	 */
 	public <T extends MeshCoreVertex<RM, T>, RM extends RestModel> void readElementList(InternalActionContext ac, TxAction1<RootVertex<T>> handler) {
 
-		rxSyncTx(ac, tx -> {
+		rxSyncReadTx(ac, tx -> {
 			RootVertex<T> root = handler.handle();
 
 			PagingParameters pagingInfo = ac.getPagingParameters();
@@ -253,6 +253,38 @@ public class HandlerUtilities {
 		}
 	}
 
+	/**
+	 * Invoke the handler in a read-only tx and pass the result to the action. Changes which were made by the handler will not be committed.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM> void syncReadTx(InternalActionContext ac, TxAction<RM> handler, Consumer<RM> action) {
+		try {
+			RM model = database.readTx(handler);
+			action.accept(model);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
+	/**
+	 * Invoke the handler in a read-only tx and subscribe to the returned single. Changes which were made by the handler will not be committed.
+	 * 
+	 * @param ac
+	 * @param handler
+	 * @param action
+	 */
+	public <RM extends RestModel> void rxSyncReadTx(InternalActionContext ac, TxAction<Single<RM>> handler, Consumer<RM> action) {
+		try {
+			Single<RM> model = database.readTx(handler);
+			model.subscribe(action::accept, ac::fail);
+		} catch (Throwable t) {
+			ac.fail(t);
+		}
+	}
+
 	/**
 	 * Invoke sync action in a tx.
 	 * 
@@ -0,0 +1,73 @@
+package com.gentics.mesh.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.impl.EventBatchCodec;
+import com.gentics.mesh.event.impl.EventBatchEntryMessage;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Envelope for the events of an {@link EventQueueBatch} which are dispatched together. The envelope is published to {@link MeshEvent#EVENT_BATCH} using
+ * the {@link EventBatchCodec} instead of the individual events. Consumers of the publishing instance receive the envelope by reference and thus don't need
+ * to deserialize the contained events. Consumers of other instances receive the encoded envelope.
+ *
+ * Consumers of individual events must also handle the envelope since batched events are not published to their own address. Use
+ * {@link #consumer(EventBus, Handler, MeshEvent...)} to register a handler which receives both.
+ *
+ * Note that the contained event models are shared between all local consumers and must not be modified.
+ */
+public class EventBatch {
+
+	private final List<MeshEventModel> entries;
+
+	public EventBatch(List<MeshEventModel> entries) {
+		this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+	}
+
+	/**
+	 * Return the events of the batch in the order in which they were added.
+	 *
+	 * @return
+	 */
+	public List<MeshEventModel> getEntries() {
+		return entries;
+	}
+
+	/**
+	 * Register the handler for the given events. The handler receives the individually published events and the matching events of the received
+	 * {@link EventBatch} envelopes. The events of an envelope are passed to the handler in order.
+	 *
+	 * @param eventBus
+	 * @param handler
+	 * @param events
+	 * @return Registered consumers which need to be unregistered in order to stop receiving the events
+	 */
+	public static List<MessageConsumer<?>> consumer(EventBus eventBus, Handler<Message<JsonObject>> handler, MeshEvent... events) {
+		Set<MeshEvent> handledEvents = new HashSet<>(Arrays.asList(events));
+		List<MessageConsumer<?>> consumers = new ArrayList<>(handledEvents.size() + 1);
+		for (MeshEvent event : handledEvents) {
+			consumers.add(eventBus.<JsonObject>consumer(event.address, handler));
+		}
+		consumers.add(eventBus.<EventBatch>consumer(MeshEvent.EVENT_BATCH.address, message -> {
+			for (MeshEventModel entry : message.body().getEntries()) {
+				if (handledEvents.contains(entry.getEvent())) {
+					handler.handle(new EventBatchEntryMessage(entry));
+				}
+			}
+		}));
+		return consumers;
+	}
+
+}
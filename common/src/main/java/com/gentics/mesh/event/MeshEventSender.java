@@ -52,7 +52,7 @@ public final class MeshEventSender {
 	}
 
 	/**
-	 * Completes when the event has been emitted.
+	 * Completes when the event has been emitted. Only events which are emitted individually can be awaited, see {@link EventBatch}.
 	 * @return
 	 */
 	public Completable waitForEvent(MeshEvent event) {
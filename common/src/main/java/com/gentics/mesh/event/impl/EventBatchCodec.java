@@ -0,0 +1,88 @@
+package com.gentics.mesh.event.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.EventBatch;
+import com.gentics.mesh.json.JsonUtil;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Eventbus codec for {@link EventBatch} envelopes. Local deliveries pass the envelope by reference. The wire format is used for the consumers of other
+ * cluster instances. It is a JSON array which contains the address and body of each event.
+ */
+public class EventBatchCodec implements MessageCodec<EventBatch, EventBatch> {
+
+	public static final String NAME = "mesh-event-batch";
+
+	private static final String ADDRESS_KEY = "address";
+
+	private static final String BODY_KEY = "body";
+
+	@Override
+	public void encodeToWire(Buffer buffer, EventBatch batch) {
+		JsonArray entries = new JsonArray();
+		for (MeshEventModel entry : batch.getEntries()) {
+			entries.add(new JsonObject()
+				.put(ADDRESS_KEY, entry.getEvent().getAddress())
+				.put(BODY_KEY, toJsonObject(entry)));
+		}
+		Buffer encoded = entries.toBuffer();
+		buffer.appendInt(encoded.length());
+		buffer.appendBuffer(encoded);
+	}
+
+	@Override
+	public EventBatch decodeFromWire(int pos, Buffer buffer) {
+		int length = buffer.getInt(pos);
+		pos += 4;
+		JsonArray entries = new JsonArray(buffer.getBuffer(pos, pos + length));
+		List<MeshEventModel> models = new ArrayList<>(entries.size());
+		for (int i = 0; i < entries.size(); i++) {
+			JsonObject entry = entries.getJsonObject(i);
+			String address = entry.getString(ADDRESS_KEY);
+			MeshEvent event = MeshEvent.fromAddress(address)
+				.orElseThrow(() -> new RuntimeException(String.format("No event found for address %s", address)));
+			// Convert the parsed body directly instead of encoding and parsing it again
+			MeshEventModel model = JsonUtil.getMapper().convertValue(entry.getJsonObject(BODY_KEY).getMap(), event.bodyModel);
+			model.setEvent(event);
+			models.add(model);
+		}
+		return new EventBatch(models);
+	}
+
+	@Override
+	public EventBatch transform(EventBatch batch) {
+		// The contained models are immutable by contract and can thus be shared
+		return batch;
+	}
+
+	@Override
+	public String name() {
+		return NAME;
+	}
+
+	@Override
+	public byte systemCodecID() {
+		return -1;
+	}
+
+	/**
+	 * Convert the event model into a JSON object without serializing it to a string first.
+	 *
+	 * @param model
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static JsonObject toJsonObject(MeshEventModel model) {
+		return new JsonObject(JsonUtil.getMapper().convertValue(model, Map.class));
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.gentics.mesh.event.impl;
+
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.EventBatch;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Adapter which exposes an event of an {@link EventBatch} as an eventbus message. This allows consumers which handle batches to reuse the handlers for
+ * individually published events. The JSON body is only created when it is accessed. Events are published and can thus not be replied to.
+ */
+public class EventBatchEntryMessage implements Message<JsonObject> {
+
+	private final MeshEventModel model;
+
+	private JsonObject body;
+
+	private MultiMap headers;
+
+	public EventBatchEntryMessage(MeshEventModel model) {
+		this.model = model;
+	}
+
+	/**
+	 * Return the event model of the message.
+	 *
+	 * @return
+	 */
+	public MeshEventModel getModel() {
+		return model;
+	}
+
+	@Override
+	public String address() {
+		return model.getEvent().getAddress();
+	}
+
+	@Override
+	public MultiMap headers() {
+		if (headers == null) {
+			headers = MultiMap.caseInsensitiveMultiMap();
+		}
+		return headers;
+	}
+
+	@Override
+	public JsonObject body() {
+		if (body == null) {
+			body = EventBatchCodec.toJsonObject(model);
+		}
+		return body;
+	}
+
+	@Override
+	public String replyAddress() {
+		return null;
+	}
+
+	@Override
+	public boolean isSend() {
+		return false;
+	}
+
+	@Override
+	public void reply(Object message, DeliveryOptions options) {
+		// Published events can't be replied to
+	}
+
+	public <R> void reply(Object message, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published events can't be replied to
+	}
+
+	public <R> void reply(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published events can't be replied to
+	}
+
+	public <R> void replyAndRequest(Object message, DeliveryOptions options, Handler<AsyncResult<Message<R>>> replyHandler) {
+		// Published events can't be replied to
+	}
+
+	public void fail(int failureCode, String message) {
+		// Published events can't be replied to
+	}
+
+}
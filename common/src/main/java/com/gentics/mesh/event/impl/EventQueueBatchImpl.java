@@ -11,8 +11,8 @@ import com.gentics.mesh.core.rest.event.EventCauseAction;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.event.EventQueueBatch;
-import com.gentics.mesh.json.JsonUtil;
 
 import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.EventBus;
@@ -68,20 +68,28 @@ public class EventQueueBatchImpl implements EventQueueBatch {
 	@Override
 	public void dispatch() {
 		EventBus eventbus = vertx.eventBus();
-		// TODO buffer event dispatching?
-		getEntries().forEach(entry -> {
-			entry.setCause(getCause());
-			MeshEvent event = entry.getEvent();
+		List<MeshEventModel> entries = getEntries();
+		entries.forEach(entry -> entry.setCause(getCause()));
+		if (entries.size() > 1) {
+			// The events are only published within the envelope. Consumers of individual events unwrap it, see EventBatch#consumer
 			if (log.isDebugEnabled()) {
-				log.debug("Created event sent {}", event);
+				log.debug("Dispatching batch of {" + entries.size() + "} events");
 			}
-			String json = JsonUtil.toJson(entry);
-			if (log.isTraceEnabled()) {
-				log.trace("Dispatching event '{}' with payload:\n{}", event, json);
-			}
-			eventbus.publish(event.getAddress(), new JsonObject(json));
-		});
-		getEntries().clear();
+			eventbus.publish(MeshEvent.EVENT_BATCH.address, new EventBatch(entries));
+		} else {
+			entries.forEach(entry -> {
+				MeshEvent event = entry.getEvent();
+				if (log.isDebugEnabled()) {
+					log.debug("Created event sent {}", event);
+				}
+				JsonObject json = EventBatchCodec.toJsonObject(entry);
+				if (log.isTraceEnabled()) {
+					log.trace("Dispatching event '{}' with payload:\n{}", event, json.encodePrettily());
+				}
+				eventbus.publish(event.getAddress(), json);
+			});
+		}
+		entries.clear();
 	}
 
 }
@@ -1,12 +1,19 @@
 package com.gentics.mesh.graphdb.spi;
 
+import static com.gentics.mesh.metric.SimpleMetric.TX_READ_QUEUE_WAIT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_READ_REJECTED;
+import static com.gentics.mesh.metric.SimpleMetric.TX_WRITE_QUEUE_WAIT;
+import static com.gentics.mesh.metric.SimpleMetric.TX_WRITE_REJECTED;
+
 import java.io.File;
 import java.io.IOException;
 
 import org.apache.commons.io.FileUtils;
 
 import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.ETag;
 
 import dagger.Lazy;
@@ -27,8 +34,15 @@ public abstract class AbstractDatabase implements Database {
 
 	private final Lazy<Vertx> vertx;
 
-	public AbstractDatabase(Lazy<Vertx> vertx) {
+	private final MetricsService metrics;
+
+	private volatile TxExecutor readTxExecutor;
+
+	private volatile TxExecutor writeTxExecutor;
+
+	public AbstractDatabase(Lazy<Vertx> vertx, MetricsService metrics) {
 		this.vertx = vertx;
+		this.metrics = metrics;
 	}
 
 	@Override
@@ -90,4 +104,62 @@ public abstract class AbstractDatabase implements Database {
 		return vertx.get();
 	}
 
+	@Override
+	public TxExecutor readTxExecutor() {
+		// The executors are accessed for each asynchronous transaction and are thus only synchronized when they need to be created
+		TxExecutor executor = readTxExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = readTxExecutor;
+				if (executor == null) {
+					GraphStorageOptions storageOptions = storageOptions();
+					executor = new TxExecutor(vertx(), "mesh-tx-read", storageOptions.getTxReadPoolSize(), storageOptions.getTxReadQueueLimit(),
+						storageOptions.isTxCaptureCallSite(), metrics == null ? null : metrics.timer(TX_READ_QUEUE_WAIT),
+						metrics == null ? null : metrics.counter(TX_READ_REJECTED));
+					readTxExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	@Override
+	public TxExecutor writeTxExecutor() {
+		TxExecutor executor = writeTxExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = writeTxExecutor;
+				if (executor == null) {
+					GraphStorageOptions storageOptions = storageOptions();
+					executor = new TxExecutor(vertx(), "mesh-tx-write", storageOptions.getTxWritePoolSize(), storageOptions.getTxWriteQueueLimit(),
+						storageOptions.isTxCaptureCallSite(), metrics == null ? null : metrics.timer(TX_WRITE_QUEUE_WAIT),
+						metrics == null ? null : metrics.counter(TX_WRITE_REJECTED));
+					writeTxExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
+	/**
+	 * Close the worker pools of the transaction executors. The executors will be re-created when they are used again.
+	 */
+	protected synchronized void closeTxExecutors() {
+		if (readTxExecutor != null) {
+			readTxExecutor.close();
+			readTxExecutor = null;
+		}
+		if (writeTxExecutor != null) {
+			writeTxExecutor.close();
+			writeTxExecutor = null;
+		}
+	}
+
+	private GraphStorageOptions storageOptions() {
+		if (options == null || options.getStorageOptions() == null) {
+			return new GraphStorageOptions();
+		}
+		return options.getStorageOptions();
+	}
+
 }
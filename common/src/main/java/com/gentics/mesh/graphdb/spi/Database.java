@@ -5,7 +5,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicReference;
 
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
@@ -34,7 +33,6 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.functions.BiFunction;
 import io.reactivex.functions.Function;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -75,6 +73,20 @@ public interface Database extends TxFactory {
 	 */
 	void clear();
 
+	/**
+	 * Return the executor which is used for asynchronous read transactions.
+	 * 
+	 * @return
+	 */
+	TxExecutor readTxExecutor();
+
+	/**
+	 * Return the executor which is used for asynchronous write transactions.
+	 * 
+	 * @return
+	 */
+	TxExecutor writeTxExecutor();
+
 	/**
 	 * Asynchronously execute the given handler within a transaction and return the completable.
 	 * 
@@ -82,33 +94,17 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default Completable asyncTx(TxAction0 txHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Completable.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try {
-					tx(txHandler);
-					bc.complete();
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, done -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onComplete();
+		return writeTxExecutor().execute(() -> {
+			try {
+				tx(txHandler);
+				return null;
+			} catch (Exception e) {
+				if (log.isTraceEnabled()) {
+					log.trace("Error while handling no-transaction.", e);
 				}
-			});
-		});
+				throw e;
+			}
+		}).ignoreElement();
 	}
 
 	/**
@@ -118,48 +114,18 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction1<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle();
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
-						}
-					}
-				} catch (Exception e) {
-					if (log.isTraceEnabled()) {
-						log.trace("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
-				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
-				}
-			});
-		});
+		return asyncTx(writeTxExecutor(), tx -> trxHandler.handle());
+	}
+
+	/**
+	 * Executes the given read action in a worker thread of the read pool and returns a single which can be subscribed to get the result. Read actions will
+	 * not be delayed by slow write transactions.
+	 * 
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncReadTx(TxAction1<Single<T>> trxHandler) {
+		return asyncTx(readTxExecutor(), this::readOnlyTx, tx -> trxHandler.handle());
 	}
 
 	/**
@@ -170,13 +136,18 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Maybe<T> maybeTx(Function<Tx, T> handler) {
-		return new io.vertx.reactivex.core.Vertx(vertx()).rxExecuteBlocking(promise -> {
-			try {
-				promise.complete(tx(handler::apply));
-			} catch (Throwable e) {
-				promise.fail(e);
-			}
-		}, false);
+		return writeTxExecutor().execute(() -> tx(handler::apply));
+	}
+
+	/**
+	 * Executes a read supplier in a transaction within the read worker thread pool.
+	 * If the supplier returns null, the maybe is completed, else the value is returned.
+	 * @param handler
+	 * @param <T>
+	 * @return
+	 */
+	default <T> Maybe<T> maybeReadTx(Function<Tx, T> handler) {
+		return readTxExecutor().execute(() -> readTx(handler::apply));
 	}
 
 	/**
@@ -201,6 +172,17 @@ public interface Database extends TxFactory {
 		return maybeTx(handler).toSingle();
 	}
 
+	/**
+	 * Executes a read supplier in a transaction within the read worker thread pool.
+	 * If the supplier returns null, a {@link java.util.NoSuchElementException} is emitted.
+	 * @param handler
+	 * @param <T>
+	 * @return
+	 */
+	default <T> Single<T> singleReadTx(Supplier<T> handler) {
+		return maybeReadTx(tx -> handler.get()).toSingle();
+	}
+
 	/**
 	 * Asynchronously execute the trxHandler within the scope of a non transaction.
 	 * 
@@ -208,48 +190,58 @@ public interface Database extends TxFactory {
 	 * @return
 	 */
 	default <T> Single<T> asyncTx(TxAction<Single<T>> trxHandler) {
-		// Create an exception which we can use to enhance error information in case of timeout or other transaction errors
-		final AtomicReference<Exception> reference = new AtomicReference<Exception>(null);
-		try {
-			throw new Exception("Transaction timeout exception");
-		} catch (Exception e1) {
-			reference.set(e1);
-		}
-
-		return Single.create(sub -> {
-			vertx().executeBlocking(bc -> {
-				try (Tx tx = tx()) {
-					Single<T> result = trxHandler.handle(tx);
-					if (result == null) {
-						bc.complete();
-					} else {
-						try {
-							T ele = result.timeout(40, TimeUnit.SECONDS).blockingGet();
-							bc.complete(ele);
-						} catch (Exception e2) {
-							if (e2 instanceof TimeoutException) {
-								log.error("Timeout while processing result of transaction handler.", e2);
-								log.error("Calling transaction stacktrace.", reference.get());
-								bc.fail(reference.get());
-							} else {
-								throw e2;
-							}
+		return asyncTx(writeTxExecutor(), trxHandler);
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within a transaction using the given executor.
+	 * 
+	 * @param executor
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(TxExecutor executor, TxAction<Single<T>> trxHandler) {
+		return asyncTx(executor, this::tx, trxHandler);
+	}
+
+	/**
+	 * Asynchronously execute the trxHandler within a transaction which is created by the given supplier using the given executor.
+	 * 
+	 * @param executor
+	 * @param txSupplier
+	 *            Supplier for the transaction (e.g. {@link #readOnlyTx()} for handlers which only read data)
+	 * @param trxHandler
+	 * @return
+	 */
+	default <T> Single<T> asyncTx(TxExecutor executor, Supplier<Tx> txSupplier, TxAction<Single<T>> trxHandler) {
+		// Capture the call site which we can use to enhance error information in case of timeout
+		final Exception callSite = executor.callSite();
+
+		return executor.<T>execute(() -> {
+			try (Tx tx = txSupplier.get()) {
+				Single<T> result = trxHandler.handle(tx);
+				if (result == null) {
+					return null;
+				}
+				try {
+					return result.timeout(40, TimeUnit.SECONDS).blockingGet();
+				} catch (RuntimeException e2) {
+					if (e2.getCause() instanceof TimeoutException) {
+						log.error("Timeout while processing result of transaction handler.", e2);
+						if (callSite != null) {
+							log.error("Calling transaction stacktrace.", callSite);
 						}
+						throw new TimeoutException("Transaction timeout exception");
 					}
-				} catch (Exception e) {
-					if (!(e instanceof GenericRestException)) {
-						log.error("Error while handling no-transaction.", e);
-					}
-					bc.fail(e);
+					throw e2;
 				}
-			}, false, (AsyncResult<T> done) -> {
-				if (done.failed()) {
-					sub.onError(done.cause());
-				} else {
-					sub.onSuccess(done.result());
+			} catch (Exception e) {
+				if (!(e instanceof GenericRestException)) {
+					log.error("Error while handling no-transaction.", e);
 				}
-			});
-		});
+				throw e;
+			}
+		}).toSingle();
 	}
 
 	/**
@@ -0,0 +1,180 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.gentics.madl.tx.Tx;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Maybe;
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+
+/**
+ * Executor which runs transactional actions in a dedicated and bounded worker pool. Actions will be rejected with a 503 error once the amount of running
+ * and queued actions exceeds the configured limit. This way a burst of slow actions can't starve the actions of other executors.
+ */
+public class TxExecutor {
+
+	/**
+	 * Executor which currently runs an action on the thread.
+	 */
+	private static final ThreadLocal<TxExecutor> WORKER = new ThreadLocal<>();
+
+	private final String name;
+
+	private final WorkerExecutor executor;
+
+	private final int limit;
+
+	private final boolean captureCallSite;
+
+	private final AtomicInteger pending = new AtomicInteger(0);
+
+	private final Timer queueWaitTimer;
+
+	private final Counter rejectedCounter;
+
+	/**
+	 * Create a new executor.
+	 * 
+	 * @param vertx
+	 * @param name
+	 *            Name of the executor which is also used for the worker pool
+	 * @param poolSize
+	 *            Amount of worker threads
+	 * @param queueLimit
+	 *            Amount of actions which may wait for a free worker thread
+	 * @param captureCallSite
+	 *            Whether the call site of the actions should be captured to enhance the error information of timeouts
+	 * @param queueWaitTimer
+	 *            Timer which tracks the time actions wait for a free worker thread. May be null.
+	 * @param rejectedCounter
+	 *            Counter for the rejected actions. May be null.
+	 */
+	public TxExecutor(Vertx vertx, String name, int poolSize, int queueLimit, boolean captureCallSite, Timer queueWaitTimer, Counter rejectedCounter) {
+		this.name = name;
+		this.executor = vertx.createSharedWorkerExecutor(name, poolSize);
+		this.limit = poolSize + queueLimit;
+		this.captureCallSite = captureCallSite;
+		this.queueWaitTimer = queueWaitTimer;
+		this.rejectedCounter = rejectedCounter;
+	}
+
+	/**
+	 * Execute the action in the worker pool of the executor. The maybe will be completed if the action returns null. The result will be emitted on the
+	 * context of the caller. Actions which are invoked from within a worker thread of the same executor will be executed directly since blocking the
+	 * worker thread on a nested action could exhaust the pool. The transaction of the outer action is suspended while the nested action runs, so that the
+	 * nested action uses its own transaction.
+	 * 
+	 * @param action
+	 * @return
+	 */
+	public <T> Maybe<T> execute(Callable<T> action) {
+		return Maybe.create(sub -> {
+			if (WORKER.get() == this) {
+				T result = callSuspended(action);
+				if (result == null) {
+					sub.onComplete();
+				} else {
+					sub.onSuccess(result);
+				}
+				return;
+			}
+			if (pending.incrementAndGet() > limit) {
+				pending.decrementAndGet();
+				if (rejectedCounter != null) {
+					rejectedCounter.increment();
+				}
+				sub.onError(error(SERVICE_UNAVAILABLE, "error_tx_executor_saturated", name));
+				return;
+			}
+			long queued = System.nanoTime();
+			executor.<T>executeBlocking(bc -> {
+				if (queueWaitTimer != null) {
+					queueWaitTimer.record(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+				}
+				WORKER.set(this);
+				try {
+					T result = action.call();
+					release();
+					bc.complete(result);
+				} catch (Throwable e) {
+					release();
+					bc.fail(e);
+				}
+			}, false, done -> {
+				if (done.failed()) {
+					sub.onError(done.cause());
+				} else if (done.result() == null) {
+					sub.onComplete();
+				} else {
+					sub.onSuccess(done.result());
+				}
+			});
+		});
+	}
+
+	private void release() {
+		WORKER.remove();
+		pending.decrementAndGet();
+	}
+
+	/**
+	 * Invoke the action while the transaction of the current thread is suspended. The transaction will be restored afterwards.
+	 * 
+	 * @param action
+	 * @return
+	 * @throws Exception
+	 */
+	private static <T> T callSuspended(Callable<T> action) throws Exception {
+		Tx outer = Tx.get();
+		Tx.setActive(null);
+		try {
+			return action.call();
+		} finally {
+			Tx.setActive(outer);
+		}
+	}
+
+	/**
+	 * Capture the current stacktrace if the capturing of call sites has been enabled. The stacktrace can be used to enhance the error information in case of
+	 * transaction timeouts.
+	 * 
+	 * @return Captured call site or null
+	 */
+	public Exception callSite() {
+		return captureCallSite ? new Exception("Transaction call site") : null;
+	}
+
+	/**
+	 * Return the amount of running and queued actions.
+	 * 
+	 * @return
+	 */
+	public int getPending() {
+		return pending.get();
+	}
+
+	/**
+	 * Return the name of the executor.
+	 * 
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Close the worker pool of the executor.
+	 */
+	public void close() {
+		executor.close();
+	}
+
+}
@@ -13,9 +13,21 @@ public enum SimpleMetric implements Metric {
 
 	TX_RETRY("tx_retry", "Amount of transaction retries which happen if a conflict has been encountered."),
 
+	TX_READ_QUEUE_WAIT("tx_read_queue_wait", "Timer which tracks the time asynchronous read transactions wait for a free worker thread."),
+
+	TX_WRITE_QUEUE_WAIT("tx_write_queue_wait", "Timer which tracks the time asynchronous write transactions wait for a free worker thread."),
+
+	TX_READ_REJECTED("tx_read_rejected", "Amount of asynchronous read transactions which have been rejected since the read pool was saturated."),
+
+	TX_WRITE_REJECTED("tx_write_rejected", "Amount of asynchronous write transactions which have been rejected since the write pool was saturated."),
+
 	GRAPH_ELEMENT_RELOAD("graph_element_reload", "Meter which tracks the reload operations on used vertices."),
 
-	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration.");
+	NODE_MIGRATION_PENDING("node_migration_pending", "Pending contents which need to be processed by the node migration."),
+
+	MIGRATION_PROCESSED("migration_processed", "Amount of elements which have been processed by migrations."),
+
+	MIGRATION_BATCH_TIME("migration_batch_time", "Timer which tracks the duration of migration batches.");
 
 	private String key;
 
@@ -3,6 +3,7 @@ package com.gentics.mesh.parameter;
 import com.gentics.mesh.handler.ActionContext;
 import com.gentics.mesh.parameter.impl.DeleteParametersImpl;
 import com.gentics.mesh.parameter.impl.GenericParametersImpl;
+import com.gentics.mesh.parameter.impl.GraphQLParametersImpl;
 import com.gentics.mesh.parameter.impl.ImageManipulationParametersImpl;
 import com.gentics.mesh.parameter.impl.NodeParametersImpl;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
@@ -66,4 +67,8 @@ public interface ParameterProviderContext extends ActionContext {
 	default SearchParameters getSearchParameters() {
 		return new SearchParametersImpl(this);
 	}
+
+	default GraphQLParameters getGraphQLParameters() {
+		return new GraphQLParametersImpl(this);
+	}
 }
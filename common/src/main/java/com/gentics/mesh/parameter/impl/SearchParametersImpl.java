@@ -6,7 +6,7 @@ import com.gentics.mesh.parameter.SearchParameters;
 import org.raml.model.ParamType;
 import org.raml.model.parameter.QueryParameter;
 
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 public class SearchParametersImpl extends AbstractParameters implements SearchParameters {
@@ -36,7 +36,38 @@ public class SearchParametersImpl extends AbstractParameters implements SearchPa
 		waitParameter.setRequired(false);
 		waitParameter.setType(ParamType.BOOLEAN);
 
-		return Collections.singletonMap(WAIT_PARAMETER_KEY, waitParameter);
+		QueryParameter sourceParameter = new QueryParameter();
+		sourceParameter.setDescription(
+			"Specify whether the node search results should be built from the documents of the search index instead of loading them from the graph. "
+				+ "Fields which are not stored unaltered in the index (e.g. html, binary and micronode fields) will still be loaded from the graph. "
+				+ "The responses only contain the information which is stored in the index. The version, permissions, availableLanguages, languagePaths, "
+				+ "path, breadcrumb, childrenInfo and container properties are omitted.");
+		sourceParameter.setExample("true");
+		sourceParameter.setRequired(false);
+		sourceParameter.setType(ParamType.BOOLEAN);
+
+		QueryParameter sourceFieldsParameter = new QueryParameter();
+		sourceFieldsParameter.setDescription(
+			"Comma separated list of fields which should be included in the node search results when the source parameter is enabled. All fields will be included by default.");
+		sourceFieldsParameter.setExample("title,teaser");
+		sourceFieldsParameter.setRequired(false);
+		sourceFieldsParameter.setType(ParamType.STRING);
+
+		QueryParameter cursorParameter = new QueryParameter();
+		cursorParameter.setDescription(
+			"Cursor which was returned in the paging information of the previous page. Use * to request the first page. "
+				+ "When set, the results will be paged using the sort values of the last hit instead of an offset which allows to page through large result sets. "
+				+ "The page parameter will be ignored.");
+		cursorParameter.setExample("*");
+		cursorParameter.setRequired(false);
+		cursorParameter.setType(ParamType.STRING);
+
+		Map<String, QueryParameter> parameters = new HashMap<>();
+		parameters.put(WAIT_PARAMETER_KEY, waitParameter);
+		parameters.put(SOURCE_PARAMETER_KEY, sourceParameter);
+		parameters.put(SOURCE_FIELDS_PARAMETER_KEY, sourceFieldsParameter);
+		parameters.put(CURSOR_PARAMETER_KEY, cursorParameter);
+		return parameters;
 	}
 
 }
@@ -14,6 +14,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
 import com.gentics.mesh.distributed.RequestDelegator;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.handler.VersionHandler;
 
@@ -97,7 +98,7 @@ public class RouterStorage {
 	public void registerEventbusHandlers() {
 		ProjectsRouter projectsRouter = rootRouter.apiRouter().projectsRouter();
 		EventBus eb = vertx.eventBus();
-		eb.consumer(PROJECT_CREATED.address, (Message<JsonObject> rh) -> {
+		EventBatch.consumer(eb, (Message<JsonObject> rh) -> {
 			JsonObject json = rh.body();
 
 			// Check whether this is a local message. We only need to react on foreign messages.
@@ -119,9 +120,9 @@ public class RouterStorage {
 				rh.fail(400, e.getMessage());
 				throw error(BAD_REQUEST, "Error while adding project to router storage", e);
 			}
-		});
+		}, PROJECT_CREATED);
 
-		eb.consumer(PROJECT_UPDATED.address, (Message<JsonObject> rh) -> {
+		EventBatch.consumer(eb, (Message<JsonObject> rh) -> {
 			Database database = db.get();
 
 			try (Tx tx = database.tx()) {
@@ -138,7 +139,7 @@ public class RouterStorage {
 				rh.fail(400, "Invalid project name found");
 			}
 
-		});
+		}, PROJECT_UPDATED);
 
 	}
 
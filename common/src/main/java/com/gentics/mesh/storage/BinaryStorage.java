@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.util.RxUtil;
 import com.gentics.mesh.util.UUIDUtil;
 
 import io.reactivex.Completable;
@@ -35,6 +36,17 @@ public interface BinaryStorage {
 	 */
 	Completable storeInTemp(Flowable<Buffer> stream, String temporaryId);
 
+	/**
+	 * Check whether the storage prefers to receive uploads as files via {@link #storeInTemp(String, String)}. This is the case for storages which can
+	 * move the uploaded file instead of copying the data. Other storages are fed via {@link #storeInTemp(Flowable, String)} while the upload is read for
+	 * hashing and processing.
+	 * 
+	 * @return
+	 */
+	default boolean prefersFileUploads() {
+		return false;
+	}
+
 	/**
 	 * Store the stream directly.
 	 * 
@@ -74,6 +86,21 @@ public interface BinaryStorage {
 	 */
 	Flowable<Buffer> read(String uuid);
 
+	/**
+	 * Read the given byte range of the binary data which is identified by the given binary uuid. The default implementation reads the data from the start
+	 * and skips the bytes before the range. Implementations should override this method if they can read a range directly.
+	 * 
+	 * @param uuid
+	 * @param start
+	 *            Position of the first byte
+	 * @param end
+	 *            Position of the last byte (inclusive)
+	 * @return
+	 */
+	default Flowable<Buffer> read(String uuid, long start, long end) {
+		return RxUtil.slice(read(uuid), start, end);
+	}
+
 	/**
 	 * Opens a blocking {@link InputStream} to the binary file. This should only be used for some other blocking APIs (i.e. ImageIO)
 	 *
@@ -0,0 +1,78 @@
+package com.gentics.mesh.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Blocking {@link InputStream} which reads the buffers of a flowable. The flowable is subscribed once the stream is created and buffers are requested
+ * as the stream is read. Closing the stream before the end has been reached will cancel the subscription.
+ *
+ * The stream must not be read on an event loop thread.
+ */
+public class FlowableInputStream extends InputStream {
+
+	private final Iterator<Buffer> iterator;
+
+	private Buffer current;
+
+	private int position;
+
+	public FlowableInputStream(Flowable<Buffer> stream) {
+		this.iterator = stream.blockingIterable().iterator();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!next()) {
+			return -1;
+		}
+		return current.getByte(position++) & 0xFF;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!next()) {
+			return -1;
+		}
+		int count = Math.min(len, current.length() - position);
+		current.getBytes(position, position + count, b, off);
+		position += count;
+		return count;
+	}
+
+	/**
+	 * Make sure that the current buffer has remaining data.
+	 *
+	 * @return false if the end of the stream has been reached
+	 * @throws IOException
+	 */
+	private boolean next() throws IOException {
+		while (current == null || position >= current.length()) {
+			try {
+				if (!iterator.hasNext()) {
+					return false;
+				}
+				current = iterator.next();
+			} catch (RuntimeException e) {
+				throw new IOException("Error while reading the stream", e);
+			}
+			position = 0;
+		}
+		return true;
+	}
+
+	@Override
+	public void close() {
+		if (iterator instanceof Disposable) {
+			((Disposable) iterator).dispose();
+		}
+	}
+}
@@ -2,6 +2,8 @@ package com.gentics.mesh.util;
 
 import java.util.function.Function;
 
+import com.gentics.mesh.util.rx.WriteStreamSubscriber;
+
 import io.reactivex.Completable;
 import io.reactivex.CompletableSource;
 import io.reactivex.Flowable;
@@ -15,6 +17,7 @@ import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.AsyncFile;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.streams.WriteStream;
 
 public final class RxUtil {
 
@@ -60,6 +63,51 @@ public final class RxUtil {
 			.doOnCancel(file::close);
 	}
 
+	/**
+	 * Return the given byte range of the stream. The source is cancelled once the end of the range has been reached.
+	 * 
+	 * @param source
+	 * @param start
+	 *            Position of the first byte
+	 * @param end
+	 *            Position of the last byte (inclusive)
+	 * @return
+	 */
+	public static Flowable<Buffer> slice(Flowable<Buffer> source, long start, long end) {
+		return Flowable.defer(() -> {
+			long[] position = { 0 };
+			return source
+				.takeWhile(buffer -> position[0] <= end)
+				.map(buffer -> {
+					long bufferStart = position[0];
+					position[0] += buffer.length();
+					int from = (int) Math.max(0, start - bufferStart);
+					int to = (int) Math.min(buffer.length(), end + 1 - bufferStart);
+					if (from == 0 && to == buffer.length()) {
+						return buffer;
+					}
+					return from < to ? buffer.slice(from, to) : Buffer.buffer();
+				})
+				.filter(buffer -> buffer.length() > 0);
+		});
+	}
+
+	/**
+	 * Write the buffers of the flowable to the write stream. Buffers are only requested while the write queue of the stream is not full. The stream is
+	 * not ended once all buffers have been written. Disposing the returned completable cancels the flowable.
+	 * 
+	 * @param source
+	 * @param stream
+	 * @return
+	 */
+	public static Completable pipe(Flowable<Buffer> source, WriteStream<Buffer> stream) {
+		return Completable.create(emitter -> {
+			WriteStreamSubscriber subscriber = new WriteStreamSubscriber(stream, emitter);
+			emitter.setCancellable(subscriber::cancel);
+			source.subscribe(subscriber);
+		});
+	}
+
 	/**
 	 * Flips a completable. Emits an error when the source has completed, and completes when the source emits an error.
 	 * 
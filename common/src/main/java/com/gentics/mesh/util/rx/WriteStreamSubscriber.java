@@ -0,0 +1,85 @@
+package com.gentics.mesh.util.rx;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.reactivex.CompletableEmitter;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+/**
+ * Subscriber which writes the received buffers to a {@link WriteStream}. Buffers are requested one by one and no further buffer is requested while the
+ * write queue of the stream is full. The stream is not ended once the upstream completes.
+ */
+public class WriteStreamSubscriber implements Subscriber<Buffer> {
+
+	private final WriteStream<Buffer> stream;
+
+	private final CompletableEmitter emitter;
+
+	private final AtomicBoolean requested = new AtomicBoolean(false);
+
+	private volatile Subscription upstream;
+
+	/**
+	 * Create a new subscriber.
+	 *
+	 * @param stream
+	 *            Stream to which the buffers will be written
+	 * @param emitter
+	 *            Emitter which will be notified once all buffers have been written or an error occurred
+	 */
+	public WriteStreamSubscriber(WriteStream<Buffer> stream, CompletableEmitter emitter) {
+		this.stream = stream;
+		this.emitter = emitter;
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		upstream = s;
+		requestNext();
+	}
+
+	@Override
+	public void onNext(Buffer buffer) {
+		requested.set(false);
+		stream.write(buffer);
+		if (!stream.writeQueueFull()) {
+			requestNext();
+			return;
+		}
+		stream.drainHandler(v -> requestNext());
+		// The queue may have been drained before the handler was set
+		if (!stream.writeQueueFull()) {
+			requestNext();
+		}
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		emitter.tryOnError(t);
+	}
+
+	@Override
+	public void onComplete() {
+		emitter.onComplete();
+	}
+
+	/**
+	 * Cancel the subscription. No further buffers will be written.
+	 */
+	public void cancel() {
+		Subscription s = upstream;
+		if (s != null) {
+			s.cancel();
+		}
+	}
+
+	private void requestNext() {
+		if (!emitter.isDisposed() && requested.compareAndSet(false, true)) {
+			upstream.request(1);
+		}
+	}
+}
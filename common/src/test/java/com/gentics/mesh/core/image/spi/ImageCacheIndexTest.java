@@ -0,0 +1,138 @@
+package com.gentics.mesh.core.image.spi;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.etc.config.ImageManipulatorOptions;
+
+public class ImageCacheIndexTest {
+
+	private static final int HALF_MEGABYTE = 512 * 1024;
+
+	private File cacheDir;
+
+	private ImageCacheIndex index;
+
+	@Before
+	public void setup() {
+		cacheDir = new File("target/imageCacheIndex_" + System.currentTimeMillis());
+		cacheDir.mkdirs();
+		index = createIndex(1);
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		FileUtils.deleteDirectory(cacheDir);
+	}
+
+	@Test
+	public void testLookup() throws IOException {
+		File existing = writeFile("existing");
+		index.init();
+		assertTrue(index.isInitialized());
+		assertEquals(existing.getPath(), index.get(basePath("existing")));
+		assertNull(index.get(basePath("missing")));
+
+		File written = writeFile("written");
+		index.recordWrite(basePath("written"), written.getPath());
+		assertEquals(written.getPath(), index.get(basePath("written")));
+	}
+
+	@Test
+	public void testEvictLeastRecentlyUsed() throws IOException {
+		index.init();
+		File first = writeFile("first");
+		File second = writeFile("second");
+		index.recordWrite(basePath("first"), first.getPath());
+		index.recordWrite(basePath("second"), second.getPath());
+		assertEquals(2 * HALF_MEGABYTE, index.getTotalSize());
+
+		// Access the first file so that the second one becomes the least recently used file
+		index.get(basePath("first"));
+		File third = writeFile("third");
+		index.recordWrite(basePath("third"), third.getPath());
+
+		assertTrue(first.exists());
+		assertFalse("The least recently used file should have been evicted.", second.exists());
+		assertNull("The evicted file should have been removed from the index.", index.get(basePath("second")));
+		assertTrue(third.exists());
+		assertEquals(2 * HALF_MEGABYTE, index.getTotalSize());
+	}
+
+	@Test
+	public void testInitEvictsExistingFiles() throws IOException {
+		File first = writeFile("first");
+		first.setLastModified(System.currentTimeMillis() - 10_000);
+		File second = writeFile("second");
+		File third = writeFile("third");
+		third.setLastModified(System.currentTimeMillis() + 10_000);
+
+		index.init();
+		assertFalse("The oldest file should have been evicted.", first.exists());
+		assertTrue(second.exists());
+		assertTrue(third.exists());
+		assertEquals(2 * HALF_MEGABYTE, index.getTotalSize());
+	}
+
+	@Test
+	public void testUnlimited() throws IOException {
+		index = createIndex(0);
+		assertFalse(index.isLimited());
+		index.init();
+
+		String[] names = { "first", "second", "third" };
+		for (String name : names) {
+			index.recordWrite(basePath(name), writeFile(name).getPath());
+		}
+		for (String name : names) {
+			assertTrue(new File(index.get(basePath(name))).exists());
+		}
+	}
+
+	@Test
+	public void testRemoveMissingFile() throws IOException {
+		index.init();
+		File file = writeFile("removed");
+		index.recordWrite(basePath("removed"), file.getPath());
+
+		// Another instance which shares the cache directory removed the file
+		assertTrue(file.delete());
+		index.remove(basePath("removed"), file.getPath());
+		assertNull(index.get(basePath("removed")));
+		assertEquals(0, index.getTotalSize());
+
+		// Entries which were written again must not be removed
+		File rewritten = writeFile("removed");
+		index.recordWrite(basePath("removed"), rewritten.getPath());
+		index.remove(basePath("removed"), new File(cacheDir, "image-removed.png").getPath());
+		assertEquals(rewritten.getPath(), index.get(basePath("removed")));
+	}
+
+	private ImageCacheIndex createIndex(long maxSize) {
+		ImageManipulatorOptions options = new ImageManipulatorOptions();
+		options.setImageCacheDirectory(cacheDir.getPath());
+		options.setImageCacheMaxSize(maxSize);
+		return new ImageCacheIndex(options, null);
+	}
+
+	private String basePath(String name) {
+		return new File(cacheDir, "image-" + name).getPath();
+	}
+
+	private File writeFile(String name) throws IOException {
+		File file = new File(cacheDir, "image-" + name + ".jpg");
+		FileUtils.writeByteArrayToFile(file, new byte[HALF_MEGABYTE]);
+		return file;
+	}
+
+}
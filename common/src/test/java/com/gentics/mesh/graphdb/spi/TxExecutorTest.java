@@ -0,0 +1,134 @@
+package com.gentics.mesh.graphdb.spi;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.rest.error.GenericRestException;
+
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Vertx;
+
+public class TxExecutorTest {
+
+	private Vertx vertx;
+
+	@Before
+	public void setup() {
+		vertx = Vertx.vertx();
+	}
+
+	@After
+	public void tearDown() {
+		vertx.close();
+	}
+
+	@Test
+	public void testLoadShedding() throws InterruptedException {
+		TxExecutor executor = new TxExecutor(vertx, "test-tx", 1, 1, false, null, null);
+		CountDownLatch release = new CountDownLatch(1);
+
+		TestObserver<String> running = executor.execute(() -> {
+			release.await();
+			return "running";
+		}).test();
+		TestObserver<String> queued = executor.execute(() -> "queued").test();
+
+		// The pool and the queue are full
+		TestObserver<String> rejected = executor.execute(() -> "rejected").test();
+		rejected.assertError(error -> error instanceof GenericRestException
+			&& ((GenericRestException) error).getStatus() == SERVICE_UNAVAILABLE);
+
+		release.countDown();
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		running.assertValue("running");
+		queued.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		queued.assertValue("queued");
+		assertEquals(0, executor.getPending());
+		executor.close();
+	}
+
+	@Test
+	public void testNestedActionIsExecutedDirectly() {
+		TxExecutor executor = new TxExecutor(vertx, "test-tx", 1, 0, false, null, null);
+
+		TestObserver<String> observer = executor.execute(() -> {
+			// Blocking on a nested action must not exhaust the pool
+			return executor.execute(() -> "nested").blockingGet();
+		}).test();
+		observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		observer.assertValue("nested");
+		executor.close();
+	}
+
+	@Test
+	public void testFailingNestedActionUsesOwnTx() {
+		TxExecutor executor = new TxExecutor(vertx, "test-tx", 1, 0, false, null, null);
+		Tx outerTx = mock(Tx.class);
+
+		TestObserver<String> observer = executor.execute(() -> {
+			Tx.setActive(outerTx);
+			try {
+				executor.execute(() -> {
+					assertNull("The nested action must not wrap the transaction of the outer action", Tx.get());
+					throw new RuntimeException("nested failure");
+				}).blockingGet();
+				fail("The nested action should have failed");
+			} catch (RuntimeException e) {
+				assertEquals("nested failure", e.getMessage());
+			}
+			assertSame("The transaction of the outer action should have been restored", outerTx, Tx.get());
+			Tx.setActive(null);
+			return "outer";
+		}).test();
+		observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		observer.assertValue("outer");
+		executor.close();
+	}
+
+	@Test
+	public void testNestedActionOfOtherExecutorIsLimited() throws InterruptedException {
+		TxExecutor executor = new TxExecutor(vertx, "test-tx", 1, 0, false, null, null);
+		TxExecutor other = new TxExecutor(vertx, "test-other-tx", 1, 0, false, null, null);
+		CountDownLatch release = new CountDownLatch(1);
+
+		TestObserver<String> running = other.execute(() -> {
+			release.await();
+			return "running";
+		}).test();
+		// Nested actions of another executor must not bypass its limit
+		TestObserver<String> observer = executor.execute(() -> other.execute(() -> "nested").blockingGet()).test();
+		observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		observer.assertError(error -> error instanceof GenericRestException
+			&& ((GenericRestException) error).getStatus() == SERVICE_UNAVAILABLE);
+
+		release.countDown();
+		running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		running.assertValue("running");
+		executor.close();
+		other.close();
+	}
+
+	@Test
+	public void testEmptyResult() {
+		TxExecutor executor = new TxExecutor(vertx, "test-tx", 1, 0, false, null, null);
+
+		TestObserver<Object> observer = executor.execute(() -> null).test();
+		observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+		observer.assertComplete();
+		observer.assertNoValues();
+		executor.close();
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.gentics.mesh.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.reactivex.Flowable;
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.WriteStream;
+
+public class RxUtilTest {
+
+	@Test
+	public void testSlice() {
+		Flowable<Buffer> source = Flowable.just("abc", "defg", "hij").map(Buffer::buffer);
+
+		assertThat(slice(source, 0, 9)).containsExactly("abc", "defg", "hij");
+		assertThat(slice(source, 2, 4)).containsExactly("c", "de");
+		assertThat(slice(source, 3, 6)).containsExactly("defg");
+		assertThat(slice(source, 8, 20)).containsExactly("ij");
+	}
+
+	@Test
+	public void testSliceCancelsSource() {
+		AtomicBoolean cancelled = new AtomicBoolean(false);
+		Flowable<Buffer> source = Flowable.just("abc", "def", "ghi").map(Buffer::buffer).doOnCancel(() -> cancelled.set(true));
+
+		assertThat(slice(source, 0, 4)).containsExactly("abc", "de");
+		assertThat(cancelled).isTrue();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testPipe() {
+		WriteStream<Buffer> stream = mock(WriteStream.class);
+		AtomicBoolean full = new AtomicBoolean(true);
+		AtomicReference<Handler<Void>> drainHandler = new AtomicReference<>();
+		when(stream.write(any())).thenReturn(stream);
+		when(stream.writeQueueFull()).thenAnswer(invocation -> full.get());
+		when(stream.drainHandler(any())).thenAnswer(invocation -> {
+			drainHandler.set((Handler<Void>) invocation.getArguments()[0]);
+			return stream;
+		});
+
+		Flowable<Buffer> source = Flowable.range(0, 3).map(i -> Buffer.buffer("data" + i));
+		TestObserver<Void> observer = RxUtil.pipe(source, stream).test();
+
+		// No more data must be written while the write queue is full
+		verify(stream, times(1)).write(any());
+		observer.assertNotComplete();
+
+		full.set(false);
+		drainHandler.get().handle(null);
+		verify(stream, times(3)).write(any());
+		observer.assertComplete();
+	}
+
+	private List<String> slice(Flowable<Buffer> source, long start, long end) {
+		return RxUtil.slice(source, start, end)
+			.map(Buffer::toString)
+			.toList()
+			.blockingGet();
+	}
+}
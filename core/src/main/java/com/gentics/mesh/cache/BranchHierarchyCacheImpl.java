@@ -0,0 +1,163 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.rest.MeshEvent;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for the node hierarchy of branches.
+ *
+ * The cache consists of two parts. The parents are stored per branch and node and are invalidated for the node which was affected by an event. The children
+ * are stored per branch and parent node. Since the events do not contain the previous parent of a node, the children are invalidated as a whole whenever
+ * the hierarchy changes.
+ *
+ * Only read-only transactions fill the cache. Write transactions use cached entries until they modify the hierarchy themselves. Their modifications
+ * invalidate the cache once they have been committed, so that a rollback can't leave uncommitted parents or children behind.
+ */
+@Singleton
+public class BranchHierarchyCacheImpl extends AbstractMeshCache<String, Optional<CachedNodeReference>> implements BranchHierarchyCache {
+
+	private static final Logger log = LoggerFactory.getLogger(BranchHierarchyCacheImpl.class);
+
+	private static final long CACHE_SIZE = 100_000;
+
+	/**
+	 * Graph attribute which marks transactions that modified the hierarchy.
+	 */
+	private static final String HIERARCHY_MODIFIED = "branchHierarchyModified";
+
+	private static final MeshEvent EVENTS[] = {
+		NODE_CREATED,
+		NODE_CONTENT_CREATED,
+		NODE_MOVED,
+		NODE_DELETED,
+		NODE_CONTENT_DELETED,
+		BRANCH_MIGRATION_FINISHED };
+
+	private final EventAwareCache<String, List<CachedNodeReference>> childrenCache;
+
+	@Inject
+	public BranchHierarchyCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
+		super(createCache(factory), registry, CACHE_SIZE);
+		this.childrenCache = createChildrenCache(factory);
+		registry.register(childrenCache);
+	}
+
+	private static EventAwareCache<String, Optional<CachedNodeReference>> createCache(EventAwareCacheFactory factory) {
+		return factory.<String, Optional<CachedNodeReference>>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				JsonObject body = event.body();
+				String nodeUuid = body == null ? null : body.getString("uuid");
+				String branchUuid = body == null ? null : body.getString("branchUuid");
+				if (nodeUuid != null && branchUuid != null) {
+					cache.invalidate(createCacheKey(branchUuid, nodeUuid));
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing branch hierarchy due to received event from {" + event.address() + "}");
+					}
+					cache.invalidate();
+				}
+			})
+			.maxSize(CACHE_SIZE)
+			.name("branch_parent")
+			.build();
+	}
+
+	private static EventAwareCache<String, List<CachedNodeReference>> createChildrenCache(EventAwareCacheFactory factory) {
+		return factory.<String, List<CachedNodeReference>>builder()
+			.events(EVENTS)
+			.maxSize(CACHE_SIZE)
+			.name("branch_children")
+			.build();
+	}
+
+	@Override
+	public CachedNodeReference getParent(String branchUuid, String nodeUuid, Supplier<CachedNodeReference> parentLoader) {
+		String key = createCacheKey(branchUuid, nodeUuid);
+		Tx tx = Tx.get();
+		if (tx == null || !tx.isReadOnly()) {
+			Optional<CachedNodeReference> cached = isModified(tx) ? null : get(key);
+			return cached != null ? cached.orElse(null) : parentLoader.get();
+		}
+		return get(key, k -> Optional.ofNullable(parentLoader.get())).orElse(null);
+	}
+
+	@Override
+	public List<CachedNodeReference> getChildren(String branchUuid, String nodeUuid, Supplier<List<CachedNodeReference>> childrenLoader) {
+		if (isDisabled()) {
+			return childrenLoader.get();
+		}
+		String key = createCacheKey(branchUuid, nodeUuid);
+		Tx tx = Tx.get();
+		if (tx == null || !tx.isReadOnly()) {
+			List<CachedNodeReference> cached = isModified(tx) ? null : childrenCache.get(key);
+			return cached != null ? cached : childrenLoader.get();
+		}
+		return childrenCache.get(key, k -> Collections.unmodifiableList(childrenLoader.get()));
+	}
+
+	@Override
+	public void invalidate(String branchUuid, String nodeUuid) {
+		Tx tx = Tx.get();
+		if (tx == null) {
+			evict(branchUuid, nodeUuid);
+			return;
+		}
+		tx.getGraph().setAttribute(HIERARCHY_MODIFIED, true);
+		tx.afterCommit(() -> evict(branchUuid, nodeUuid));
+	}
+
+	@Override
+	public void evict(String branchUuid, String nodeUuid) {
+		cache.invalidate(createCacheKey(branchUuid, nodeUuid));
+		childrenCache.invalidate();
+	}
+
+	/**
+	 * Check whether the transaction modified the hierarchy.
+	 *
+	 * @param tx
+	 * @return
+	 */
+	private static boolean isModified(Tx tx) {
+		return tx != null && Boolean.TRUE.equals(tx.getGraph().getAttribute(HIERARCHY_MODIFIED));
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		childrenCache.invalidate();
+	}
+
+	/**
+	 * Create the cache key.
+	 *
+	 * @param branchUuid
+	 * @param nodeUuid
+	 * @return
+	 */
+	private static String createCacheKey(String branchUuid, String nodeUuid) {
+		return branchUuid + "-" + nodeUuid;
+	}
+
+}
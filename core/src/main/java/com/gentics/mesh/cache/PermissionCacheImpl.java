@@ -3,30 +3,53 @@ package com.gentics.mesh.cache;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.etc.config.MeshOptions;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU permission cache which is used to quickly lookup cached permissions.
+ *
+ * The cache consists of two parts. The role sets of the users and the granting permissions of the elements. The granting permissions are stored per element
+ * and permission as the set of role sets for which the permission was granted. Users which share the same roles thus also share the cached permissions.
+ *
+ * Invalidations are distributed via the {@link com.gentics.mesh.core.rest.MeshEvent#CLEAR_PERMISSION_STORE} event. The body of the event describes which
+ * entries are affected. Events without a body will clear the whole cache.
  */
 @Singleton
-public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> implements PermissionCache {
+public class PermissionCacheImpl extends AbstractMeshCache<String, Set<RoleSet>> implements PermissionCache {
 
 	private static final Logger log = LoggerFactory.getLogger(PermissionCacheImpl.class);
 
+	private static final String ROLE_UUID_KEY = "roleUuid";
+
+	private static final String ELEMENT_ID_KEY = "elementId";
+
+	private static final String PERMISSIONS_KEY = "permissions";
+
+	private static final String USER_IDS_KEY = "userIds";
+
 	private final Vertx vertx;
 
 	private final MeshOptions options;
 
+	private final EventAwareCache<String, RoleSet> roleSetCache;
+
 	private static final long CACHE_SIZE = 100_000;
 
 	@Inject
@@ -34,16 +57,27 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		super(createCache(factory), registry, CACHE_SIZE);
 		this.vertx = vertx;
 		this.options = options;
+		this.roleSetCache = createRoleSetCache(factory);
+		registry.register(roleSetCache);
 	}
 
-	private static EventAwareCache<String, Boolean> createCache(EventAwareCacheFactory factory) {
-		return factory.<String, Boolean>builder()
+	private static EventAwareCache<String, Set<RoleSet>> createCache(EventAwareCacheFactory factory) {
+		return factory.<String, Set<RoleSet>>builder()
 			.events(CLEAR_PERMISSION_STORE)
 			.action((event, cache) -> {
 				if (log.isDebugEnabled()) {
-					log.debug("Clearing permission store due to received event from {" + event.address() + "}");
+					log.debug("Invalidating permission store due to received event from {" + event.address() + "}");
+				}
+				JsonObject body = event.body();
+				if (body == null) {
+					cache.invalidate();
+				} else if (body.containsKey(ELEMENT_ID_KEY)) {
+					JsonArray permissions = body.getJsonArray(PERMISSIONS_KEY);
+					for (int i = 0; i < permissions.size(); i++) {
+						GraphPermission permission = GraphPermission.valueOf(permissions.getString(i));
+						removeRoleSets(cache, body.getString(ROLE_UUID_KEY), body.getString(ELEMENT_ID_KEY), permission);
+					}
 				}
-				cache.invalidate();
 			})
 			.expireAfter(30, ChronoUnit.MINUTES)
 			.maxSize(CACHE_SIZE)
@@ -51,9 +85,31 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 			.build();
 	}
 
+	private static EventAwareCache<String, RoleSet> createRoleSetCache(EventAwareCacheFactory factory) {
+		return factory.<String, RoleSet>builder()
+			.events(CLEAR_PERMISSION_STORE)
+			.action((event, cache) -> {
+				JsonObject body = event.body();
+				if (body == null) {
+					cache.invalidate();
+				} else if (body.containsKey(USER_IDS_KEY)) {
+					for (Object userId : body.getJsonArray(USER_IDS_KEY)) {
+						cache.invalidate(String.valueOf(userId));
+					}
+				} else if (!body.containsKey(ELEMENT_ID_KEY)) {
+					// A role has been deleted
+					cache.invalidate();
+				}
+			})
+			.expireAfter(30, ChronoUnit.MINUTES)
+			.maxSize(CACHE_SIZE)
+			.name("permission_roleset")
+			.build();
+	}
+
 	/**
 	 * Check whether the granting user permission was stored in the cache.
-	 * 
+	 *
 	 * @param userId
 	 *            Vertex id of the user
 	 * @param permission
@@ -63,36 +119,58 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	 * @return true, if a granting permission was found or false if the permission could not be found in the cache
 	 */
 	public boolean hasPermission(Object userId, GraphPermission permission, Object elementId) {
-		String key = createCacheKey(userId, permission, elementId);
-		Boolean cachedPerm = cache.get(key);
-		return cachedPerm != null && cachedPerm;
+		RoleSet roles = roleSetCache.get(String.valueOf(userId));
+		if (roles == null) {
+			return false;
+		}
+		Set<RoleSet> granted = cache.get(createCacheKey(elementId, permission));
+		return granted != null && granted.contains(roles);
+	}
+
+	@Override
+	public RoleSet getRoleSet(Object userId, Supplier<Collection<String>> roleUuidLoader) {
+		return roleSetCache.get(String.valueOf(userId), key -> RoleSet.of(roleUuidLoader.get()));
 	}
 
 	/**
 	 * Create the cache key.
-	 * 
-	 * @param userId
-	 * @param permission
+	 *
 	 * @param elementId
+	 * @param permission
 	 * @return
 	 */
-	private String createCacheKey(Object userId, GraphPermission permission, Object elementId) {
-		return userId + "-" + permission.ordinal() + "-" + elementId;
+	private static String createCacheKey(Object elementId, GraphPermission permission) {
+		return elementId + "-" + permission.ordinal();
+	}
+
+	/**
+	 * Remove the role sets which contain the given role from the granting permissions of the element.
+	 *
+	 * @param cache
+	 * @param roleUuid
+	 * @param elementId
+	 * @param permission
+	 */
+	private static void removeRoleSets(EventAwareCache<String, Set<RoleSet>> cache, String roleUuid, Object elementId, GraphPermission permission) {
+		Set<RoleSet> granted = cache.get(createCacheKey(elementId, permission));
+		if (granted != null) {
+			granted.removeIf(roles -> roles.contains(roleUuid));
+		}
 	}
 
 	/**
 	 * Invalidate the LRU cache and optionally notify other instances in the cluster.
-	 * 
+	 *
 	 * @param notify
 	 */
 	@Override
 	public void clear(boolean notify) {
 		// Invalidate locally
 		cache.invalidate();
-		if (notify && options.getClusterOptions().isEnabled()) {
+		roleSetCache.invalidate();
+		if (notify) {
 			// Send the event to inform other to purge the stored permissions
-			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, null);
-			// log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
+			publish(null);
 		}
 	}
 
@@ -104,9 +182,80 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 		clear(true);
 	}
 
+	@Override
+	public void invalidateRoleSets(Collection<?> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		JsonArray ids = new JsonArray();
+		for (Object userId : userIds) {
+			ids.add(String.valueOf(userId));
+		}
+		invalidateNowAndAfterCommit(() -> {
+			for (Object userId : ids) {
+				roleSetCache.invalidate(String.valueOf(userId));
+			}
+		}, new JsonObject().put(USER_IDS_KEY, ids));
+	}
+
+	@Override
+	public void invalidateRole(String roleUuid) {
+		invalidateNowAndAfterCommit(roleSetCache::invalidate, new JsonObject().put(ROLE_UUID_KEY, roleUuid));
+	}
+
+	@Override
+	public void invalidatePermissions(String roleUuid, Object elementId, GraphPermission... permissions) {
+		JsonArray names = new JsonArray();
+		for (GraphPermission permission : permissions) {
+			names.add(permission.name());
+		}
+		invalidateNowAndAfterCommit(() -> {
+			for (GraphPermission permission : permissions) {
+				removeRoleSets(cache, roleUuid, elementId, permission);
+			}
+		}, new JsonObject()
+			.put(ROLE_UUID_KEY, roleUuid)
+			.put(ELEMENT_ID_KEY, String.valueOf(elementId))
+			.put(PERMISSIONS_KEY, names));
+	}
+
+	/**
+	 * Invalidate the entries immediately and again once the active transaction has been committed. Concurrent transactions may refill the entries with
+	 * the previously committed state until the commit. The event for the other instances is only published after the commit.
+	 *
+	 * @param invalidation
+	 * @param body
+	 *            Body of the event for the other instances
+	 */
+	private void invalidateNowAndAfterCommit(Runnable invalidation, JsonObject body) {
+		invalidation.run();
+		Tx tx = Tx.get();
+		if (tx == null) {
+			publish(body);
+		} else {
+			tx.afterCommit(() -> {
+				invalidation.run();
+				publish(body);
+			});
+		}
+	}
+
+	/**
+	 * Inform the other instances in the cluster about the invalidation.
+	 *
+	 * @param body
+	 *            Affected entries or null to clear the whole cache
+	 */
+	private void publish(JsonObject body) {
+		if (options.getClusterOptions().isEnabled()) {
+			vertx.eventBus().publish(CLEAR_PERMISSION_STORE.address, body);
+			// log.error("Can't distribute cache clear event. Maybe Vert.x is stopping / starting right now");
+		}
+	}
+
 	/**
 	 * Store a granting permission in the cache.
-	 * 
+	 *
 	 * @param userId
 	 *            User which currently has roles which grant him the permission on the element
 	 * @param permission
@@ -115,6 +264,10 @@ public class PermissionCacheImpl extends AbstractMeshCache<String, Boolean> impl
 	 *            Id of the element to which a permission is granted
 	 */
 	public void store(Object userId, GraphPermission permission, Object elementId) {
-		cache.put(createCacheKey(userId, permission, elementId), true);
+		RoleSet roles = roleSetCache.get(String.valueOf(userId));
+		if (roles == null || roles.isEmpty()) {
+			return;
+		}
+		cache.get(createCacheKey(elementId, permission), key -> ConcurrentHashMap.<RoleSet>newKeySet()).add(roles);
 	}
 }
@@ -0,0 +1,49 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.time.temporal.ChronoUnit;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+
+/**
+ * @see PrincipalCache
+ */
+@Singleton
+public class PrincipalCacheImpl extends AbstractMeshCache<String, CachedPrincipal> implements PrincipalCache {
+
+	public static final long CACHE_SIZE = 10_000;
+
+	@Inject
+	public PrincipalCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry) {
+		super(createCache(factory), registry, CACHE_SIZE);
+	}
+
+	private static EventAwareCache<String, CachedPrincipal> createCache(EventAwareCacheFactory factory) {
+		return factory.<String, CachedPrincipal>builder()
+			.events(USER_UPDATED, USER_DELETED)
+			.action((event, cache) -> {
+				String uuid = event.body().getString("uuid");
+				if (uuid != null) {
+					cache.invalidate(uuid);
+				} else {
+					cache.invalidate();
+				}
+			})
+			// Changes which are not announced via events only remain visible for a limited time
+			.expireAfter(10, ChronoUnit.MINUTES)
+			.name("principal")
+			.maxSize(CACHE_SIZE)
+			.build();
+	}
+
+	@Override
+	public void invalidate(String userUuid) {
+		cache.invalidate(userUuid);
+	}
+
+}
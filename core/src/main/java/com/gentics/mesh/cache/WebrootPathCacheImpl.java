@@ -1,5 +1,6 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PATH_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
@@ -8,32 +9,65 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_MOVED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UNPUBLISHED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
 import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
 
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.data.schema.SchemaContainerVersion;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.etc.config.CacheConfig;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.path.Path;
+import com.gentics.mesh.path.PathSegment;
 
-import io.vertx.core.Vertx;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
 /**
  * Central LRU webroot path cache which is used to quickly lookup cached paths.
+ *
+ * Node events do not clear the whole cache. Instead the cache remembers the invalidation generation at which each node was last changed. An entry is only
+ * valid if none of the nodes which were traversed while resolving the path has changed after the entry was stored. Since the entry of a path contains all
+ * ancestor nodes, moving or deleting a node implicitly evicts the whole subtree. Entries which depend on all nodes (e.g. paths which could not be resolved)
+ * are invalidated by every node event.
+ *
+ * Whether a branch uses url fields is also cached, since paths of such branches may be shadowed by url fields of any node. The information is discarded
+ * whenever the schema versions of a branch may have changed.
  */
 @Singleton
-public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implements WebrootPathCache {
+public class WebrootPathCacheImpl extends AbstractMeshCache<String, CachedPath> implements WebrootPathCache {
 
 	private static final Logger log = LoggerFactory.getLogger(WebrootPathCacheImpl.class);
 
+	/**
+	 * Minimum number of changed nodes which are tracked before all entries are invalidated.
+	 */
+	private static final int MIN_TRACKED_NODES = 1000;
+
+	private static final Set<MeshEvent> NODE_EVENTS = EnumSet.of(
+		NODE_UPDATED,
+		NODE_DELETED,
+		NODE_PUBLISHED,
+		NODE_UNPUBLISHED,
+		NODE_MOVED,
+		NODE_CONTENT_CREATED,
+		NODE_CONTENT_DELETED);
+
 	private static final MeshEvent EVENTS[] = {
 		CLEAR_PATH_STORE,
 		NODE_UPDATED,
@@ -43,21 +77,51 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		NODE_MOVED,
 		NODE_CONTENT_CREATED,
 		NODE_CONTENT_DELETED,
-		SCHEMA_MIGRATION_FINISHED };
+		SCHEMA_MIGRATION_FINISHED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		BRANCH_UPDATED };
+
+	private final NodeChanges changes;
+
+	/**
+	 * Whether the active schema versions of a branch define url fields, keyed by the id of the branch.
+	 */
+	private final Map<Object, Boolean> urlFieldBranches;
 
 	@Inject
 	public WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
-		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getPathCacheSize());
+		this(factory, registry, options.getCacheConfig(), new NodeChanges(Math.max(MIN_TRACKED_NODES, options.getCacheConfig().getPathCacheSize())),
+			new ConcurrentHashMap<>());
 	}
 
-	private static EventAwareCache<String, Path> createCache(EventAwareCacheFactory factory, CacheConfig config) {
-		return factory.<String, Path>builder()
+	private WebrootPathCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, CacheConfig config, NodeChanges changes,
+		Map<Object, Boolean> urlFieldBranches) {
+		super(createCache(factory, config, changes, urlFieldBranches), registry, config.getPathCacheSize());
+		this.changes = changes;
+		this.urlFieldBranches = urlFieldBranches;
+	}
+
+	private static EventAwareCache<String, CachedPath> createCache(EventAwareCacheFactory factory, CacheConfig config, NodeChanges changes,
+		Map<Object, Boolean> urlFieldBranches) {
+		return factory.<String, CachedPath>builder()
 			.events(EVENTS)
 			.action((event, cache) -> {
-				if (log.isDebugEnabled()) {
-					log.debug("Clearing path store due to received event from {" + event.address() + "}");
+				MeshEvent type = MeshEvent.fromAddress(event.address()).orElse(null);
+				String uuid = event.body().getString("uuid");
+				if (NODE_EVENTS.contains(type) && uuid != null) {
+					if (log.isTraceEnabled()) {
+						log.trace("Invalidating paths which depend on node {" + uuid + "} due to received event from {" + event.address() + "}");
+					}
+					changes.changed(uuid);
+				} else {
+					if (log.isDebugEnabled()) {
+						log.debug("Clearing path store due to received event from {" + event.address() + "}");
+					}
+					changes.invalidateAll();
+					urlFieldBranches.clear();
+					cache.invalidate();
 				}
-				cache.invalidate();
 			})
 			.name("webroot")
 			.maxSize(config.getPathCacheSize())
@@ -73,15 +137,56 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 			return null;
 		}
 		String key = createCacheKey(project, branch, type, path);
-		return cache.get(key);
+		CachedPath entry = cache.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (!changes.isValid(entry)) {
+			cache.invalidate(key);
+			return null;
+		}
+		return entry.getPath();
 	}
 
 	@Override
-	public void store(Project project, Branch branch, ContainerType type, String path, Path resolvedPath) {
+	public void store(Project project, Branch branch, ContainerType type, String path, Path resolvedPath, boolean dependsOnAllNodes, long generation) {
 		if (isDisabled()) {
 			return;
 		}
-		cache.put(createCacheKey(project, branch, type, path), resolvedPath);
+		Set<String> nodeUuids = new HashSet<>();
+		for (PathSegment segment : resolvedPath.getSegments()) {
+			nodeUuids.add(segment.getContainer().getParentNode().getUuid());
+		}
+		cache.put(createCacheKey(project, branch, type, path), new CachedPath(resolvedPath, nodeUuids, dependsOnAllNodes, generation));
+	}
+
+	@Override
+	public long generation() {
+		return changes.generation();
+	}
+
+	@Override
+	public boolean hasUrlFields(Branch branch) {
+		Object branchId = branch.id();
+		Boolean cached = urlFieldBranches.get(branchId);
+		if (cached != null) {
+			return cached;
+		}
+		long validSince = changes.validSince();
+		boolean hasUrlFields = false;
+		for (SchemaContainerVersion version : branch.findActiveSchemaVersions()) {
+			List<String> urlFields = version.getSchema().getUrlFields();
+			if (urlFields != null && !urlFields.isEmpty()) {
+				hasUrlFields = true;
+				break;
+			}
+		}
+		urlFieldBranches.put(branchId, hasUrlFields);
+		if (validSince != changes.validSince()) {
+			// The schema versions were changed while the information was loaded
+			urlFieldBranches.remove(branchId);
+		}
+		return hasUrlFields;
 	}
 
 	/**
@@ -95,4 +200,95 @@ public class WebrootPathCacheImpl extends AbstractMeshCache<String, Path> implem
 		return project.id() + "-" + branch.id() + "-" + type.getCode() + "-" + path;
 	}
 
+	/**
+	 * Tracks the generation at which each node was last changed. The generation is increased with every node event.
+	 */
+	static class NodeChanges {
+
+		private final AtomicLong generation = new AtomicLong();
+
+		private final Map<String, Long> changedNodes = new ConcurrentHashMap<>();
+
+		private final long maxTrackedNodes;
+
+		/**
+		 * Generation of the last node event. Used for entries which depend on all nodes.
+		 */
+		private volatile long lastChange = 0;
+
+		/**
+		 * Entries which were stored before this generation are invalid, since the changes which happened before were discarded.
+		 */
+		private volatile long validSince = 0;
+
+		NodeChanges(long maxTrackedNodes) {
+			this.maxTrackedNodes = maxTrackedNodes;
+		}
+
+		/**
+		 * Return the current generation.
+		 *
+		 * @return
+		 */
+		long generation() {
+			return generation.get();
+		}
+
+		/**
+		 * Return the generation before which all entries are invalid.
+		 *
+		 * @return
+		 */
+		long validSince() {
+			return validSince;
+		}
+
+		/**
+		 * Invalidate all entries, including the entries of paths which are currently being resolved.
+		 */
+		void invalidateAll() {
+			validSince = generation.incrementAndGet();
+			changedNodes.clear();
+		}
+
+		/**
+		 * Record the change of the node.
+		 *
+		 * @param nodeUuid
+		 */
+		void changed(String nodeUuid) {
+			if (changedNodes.size() >= maxTrackedNodes) {
+				// Too many changes are tracked. Invalidate all existing entries and start over.
+				validSince = generation.get() + 1;
+				changedNodes.clear();
+			}
+			long current = generation.incrementAndGet();
+			changedNodes.put(nodeUuid, current);
+			lastChange = current;
+		}
+
+		/**
+		 * Check whether none of the nodes on which the entry depends has been changed after the entry was stored.
+		 *
+		 * @param entry
+		 * @return
+		 */
+		boolean isValid(CachedPath entry) {
+			long stored = entry.getGeneration();
+			if (stored < validSince) {
+				return false;
+			}
+			if (entry.isDependsOnAllNodes() && lastChange > stored) {
+				return false;
+			}
+			for (String nodeUuid : entry.getNodeUuids()) {
+				Long changed = changedNodes.get(nodeUuid);
+				if (changed != null && changed > stored) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 }
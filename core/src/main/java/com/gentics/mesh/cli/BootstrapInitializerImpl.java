@@ -87,6 +87,8 @@ import com.gentics.mesh.etc.config.DebugInfoOptions;
 import com.gentics.mesh.etc.config.GraphStorageOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.MonitoringConfig;
+import com.gentics.mesh.event.EventBatch;
+import com.gentics.mesh.event.impl.EventBatchCodec;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.plugin.manager.MeshPluginManager;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -292,6 +294,7 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 				// Vert.x is currently needed for eventQueueBatch creation.
 				// This process fails if vert.x has not been made accessible during local data setup.
 				vertx = Vertx.vertx();
+				registerEventCodecs(vertx);
 				boolean setupData = initLocalData(options, false);
 				db.closeConnectionPool();
 				db.shutdown();
@@ -505,10 +508,20 @@ public class BootstrapInitializerImpl implements BootstrapInitializer {
 		} else {
 			log.warn("Current environment does not support native transports");
 		}
+		registerEventCodecs(vertx);
 
 		this.vertx = vertx;
 	}
 
+	/**
+	 * Register the codecs for the mesh specific eventbus messages.
+	 *
+	 * @param vertx
+	 */
+	private void registerEventCodecs(Vertx vertx) {
+		vertx.eventBus().registerDefaultCodec(EventBatch.class, new EventBatchCodec());
+	}
+
 	/**
 	 * Create a clustered vert.x instance and block until the instance has been created.
 	 *
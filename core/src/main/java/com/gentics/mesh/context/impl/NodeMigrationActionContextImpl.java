@@ -9,6 +9,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import com.gentics.madl.traversal.RawTraversalResult;
@@ -74,7 +75,7 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 
 	private Map<String, Object> data;
 
-	private Set<ConflictWarning> conflicts = new HashSet<>();
+	private Set<ConflictWarning> conflicts = ConcurrentHashMap.newKeySet();
 
 	private MultiMap parameters = MultiMap.caseInsensitiveMultiMap();
 
@@ -901,6 +902,29 @@ public class NodeMigrationActionContextImpl extends AbstractInternalActionContex
 		Objects.requireNonNull(toContainerVersion, "The target schema reference is missing in the context.");
 	}
 
+	/**
+	 * Create a context for a concurrent migration worker. The created context shares the migration information and the set of encountered conflicts with
+	 * this context but uses dedicated request parameters.
+	 *
+	 * @return
+	 */
+	public NodeMigrationActionContextImpl fork() {
+		NodeMigrationActionContextImpl context = new NodeMigrationActionContextImpl();
+		context.conflicts = conflicts;
+		context.body = body;
+		context.query = query;
+		context.project = project;
+		context.branch = branch;
+		context.cause = cause;
+		context.fromContainerVersion = fromContainerVersion;
+		context.toContainerVersion = toContainerVersion;
+		context.status = status;
+		if (isSkipWriteLock()) {
+			context.skipWriteLock();
+		}
+		return context;
+	}
+
 	@Override
 	public boolean isPurgeAllowed() {
 		// The purge operation is not allowed during schema migrations. Instead the purge will be executed after containers have been migrated.
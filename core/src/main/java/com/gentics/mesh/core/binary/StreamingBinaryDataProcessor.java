@@ -0,0 +1,30 @@
+package com.gentics.mesh.core.binary;
+
+import java.util.function.Consumer;
+
+import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.FileUpload;
+
+/**
+ * A binary data processor which is able to process the data while the upload is read. Streaming processors are fed with the same data which is used to
+ * hash and store the upload, so that the upload only needs to be read once. Processors which need random access to the data should only implement
+ * {@link BinaryDataProcessor} and will be invoked with the uploaded file instead.
+ */
+public interface StreamingBinaryDataProcessor extends BinaryDataProcessor {
+
+	/**
+	 * Process the binary data and return a consumer for the binary field. The data must be subscribed exactly once. The subscription may be cancelled
+	 * once the processor does not need any more data.
+	 *
+	 * @param upload
+	 * @param data
+	 *            Data of the upload
+	 * @return Modifier for the binary graph field.
+	 */
+	Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Flowable<Buffer> data);
+
+}
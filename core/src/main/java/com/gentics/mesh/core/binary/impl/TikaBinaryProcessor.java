@@ -19,19 +19,23 @@ import org.apache.tika.metadata.Metadata;
 
 import com.gentics.mesh.core.binary.AbstractBinaryProcessor;
 import com.gentics.mesh.core.binary.DocumentTikaParser;
+import com.gentics.mesh.core.binary.StreamingBinaryDataProcessor;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.core.rest.node.field.binary.Location;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.util.FlowableInputStream;
 
 import dagger.Lazy;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.reactivex.core.Vertx;
 
 @Singleton
-public class TikaBinaryProcessor extends AbstractBinaryProcessor {
+public class TikaBinaryProcessor extends AbstractBinaryProcessor implements StreamingBinaryDataProcessor {
 
 	private static final Logger log = LoggerFactory.getLogger(TikaBinaryProcessor.class);
 
@@ -113,27 +117,24 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 			if (log.isDebugEnabled()) {
 				log.debug("Parsing file {" + uploadFile + "}");
 			}
+			try (FileInputStream ins = new FileInputStream(uploadFile)) {
+				promise.complete(parse(upload, ins));
+			} catch (Exception e) {
+				log.warn("Tika processing of upload failed", e);
+				promise.fail(e);
+			}
+		}, true);
+	}
 
-			int len = getParserLimit(upload.contentType());
+	@Override
+	public Maybe<Consumer<BinaryGraphField>> process(FileUpload upload, Flowable<Buffer> data) {
+		return vertx.get().rxExecuteBlocking(promise -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Using parser limit of {" + len + "}");
+				log.debug("Parsing upload stream of {" + upload.uploadedFileName() + "}");
 			}
-
-			try (FileInputStream ins = new FileInputStream(uploadFile)) {
-				TikaResult pr = parseFile(ins, len);
-
-				Consumer<BinaryGraphField> consumer = field -> {
-					pr.getMetadata().forEach((e, k) -> {
-						field.setMetadata(e, k);
-					});
-					if (pr.getPlainText().isPresent()) {
-						field.setPlainText(pr.getPlainText().get());
-					}
-					if (pr.getLoc().isPresent()) {
-						field.setLocation(pr.getLoc());
-					}
-				};
-				promise.complete(consumer);
+			// The stream subscribes to the data and must thus always be created and closed
+			try (InputStream ins = new FlowableInputStream(data)) {
+				promise.complete(parse(upload, ins));
 			} catch (Exception e) {
 				log.warn("Tika processing of upload failed", e);
 				promise.fail(e);
@@ -141,6 +142,25 @@ public class TikaBinaryProcessor extends AbstractBinaryProcessor {
 		}, true);
 	}
 
+	private Consumer<BinaryGraphField> parse(FileUpload upload, InputStream ins) throws TikaException, IOException {
+		int len = getParserLimit(upload.contentType());
+		if (log.isDebugEnabled()) {
+			log.debug("Using parser limit of {" + len + "}");
+		}
+		TikaResult pr = parseFile(ins, len);
+		return field -> {
+			pr.getMetadata().forEach((e, k) -> {
+				field.setMetadata(e, k);
+			});
+			if (pr.getPlainText().isPresent()) {
+				field.setPlainText(pr.getPlainText().get());
+			}
+			if (pr.getLoc().isPresent()) {
+				field.setLocation(pr.getLoc());
+			}
+		};
+	}
+
 	public TikaResult parseFile(InputStream ins, int len) throws TikaException, IOException {
 
 		Location loc = new Location();
@@ -150,7 +150,7 @@ public class MicroschemaContainerVersionImpl extends
 
 	@Override
 	public Single<MicroschemaResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return mesh().database().asyncTx(() -> {
+		return mesh().database().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
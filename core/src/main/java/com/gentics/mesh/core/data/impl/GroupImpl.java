@@ -14,6 +14,9 @@ import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -88,6 +91,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		for (Role role : getRoles()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
 		}
+		mesh().permissionCache().invalidateRoleSets(Collections.singleton(user.id()));
 	}
 
 	@Override
@@ -96,7 +100,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 		// The user does no longer belong to the group so lets update the shortcut edges
 		user.updateShortcutEdges();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets(Collections.singleton(user.id()));
 	}
 
 	@Override
@@ -109,10 +113,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		setUniqueLinkInTo(role, HAS_ROLE);
 
 		// Add shortcut edges from role to users of this group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.setUniqueLinkOutTo(role, ASSIGNED_TO_ROLE);
+			userIds.add(user.id());
 		}
-
+		mesh().permissionCache().invalidateRoleSets(userIds);
 	}
 
 	@Override
@@ -120,10 +126,12 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 		unlinkIn(role, HAS_ROLE);
 
 		// Update the shortcut edges since the role does no longer belong to the group
+		List<Object> userIds = new ArrayList<>();
 		for (User user : getUsers()) {
 			user.updateShortcutEdges();
+			userIds.add(user.id());
 		}
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets(userIds);
 	}
 
 	@Override
@@ -194,7 +202,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 			bac.inc();
 		}
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets(affectedUsers.stream().map(User::id).collect(Collectors.toList()));
 	}
 
 	@Override
@@ -253,7 +261,7 @@ public class GroupImpl extends AbstractMeshCoreVertex<GroupResponse, Group> impl
 
 	@Override
 	public Single<GroupResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
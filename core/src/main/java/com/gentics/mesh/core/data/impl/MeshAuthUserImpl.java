@@ -2,15 +2,20 @@ package com.gentics.mesh.core.data.impl;
 
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROLE;
 import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_USER;
+import static com.gentics.mesh.core.rest.error.Errors.error;
+import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
 
 import org.apache.commons.lang.NotImplementedException;
 
+import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.data.Group;
 import com.gentics.mesh.core.data.MeshAuthUser;
 import com.gentics.mesh.core.data.Role;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
@@ -38,6 +43,33 @@ public class MeshAuthUserImpl extends UserImpl implements MeshAuthUser {
 		return uuid;
 	}
 
+	@Override
+	public void setCachedUuid(String uuid) {
+		super.setCachedUuid(uuid);
+		this.uuid = uuid;
+	}
+
+	/**
+	 * Return the vertex of the user. The user may have been deleted while its principal was still cached. In that case the principal is invalidated and the
+	 * request is rejected as unauthorized.
+	 */
+	@Override
+	public Vertex getElement() {
+		try {
+			return super.getElement();
+		} catch (RuntimeException e) {
+			FramedGraph graph = Tx.get() == null ? null : Tx.get().getGraph();
+			if (graph == null || graph.getVertex(id()) != null) {
+				throw e;
+			}
+			// Only the cached uuid can be used since the vertex no longer exists
+			if (uuid != null) {
+				mesh().principalCache().invalidate(uuid);
+			}
+			throw error(UNAUTHORIZED, "error_not_authorized");
+		}
+	}
+
 	/**
 	 * An active transaction is required in order to load the json data.
 	 */
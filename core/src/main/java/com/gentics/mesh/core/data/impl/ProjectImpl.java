@@ -317,7 +317,7 @@ public class ProjectImpl extends AbstractMeshCoreVertex<ProjectResponse, Project
 
 	@Override
 	public Single<ProjectResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -6,9 +6,11 @@ import static com.gentics.mesh.core.data.relationship.GraphRelationships.HAS_ROL
 import static com.gentics.mesh.core.rest.error.Errors.conflict;
 import static com.gentics.mesh.madl.index.VertexIndexDefinition.vertexIndex;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -144,26 +146,30 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public void revokePermissions(MeshVertex vertex, GraphPermission... permissions) {
-		boolean permissionRevoked = false;
+		List<GraphPermission> revoked = new ArrayList<>();
 		for (GraphPermission permission : permissions) {
 			Set<String> allowedRoles = vertex.property(permission.propertyKey());
 			if (allowedRoles != null) {
-				permissionRevoked = allowedRoles.remove(getUuid()) || permissionRevoked;
+				if (allowedRoles.remove(getUuid())) {
+					revoked.add(permission);
+				}
 				vertex.property(permission.propertyKey(), allowedRoles);
 			}
 		}
 
-		if (permissionRevoked) {
-			mesh().permissionCache().clear();
+		if (!revoked.isEmpty()) {
+			// Only the permissions of the element which may have been granted by this role are affected
+			mesh().permissionCache().invalidatePermissions(getUuid(), vertex.id(), revoked.toArray(new GraphPermission[revoked.size()]));
 		}
 	}
 
 	@Override
 	public void delete(BulkActionContext bac) {
+		String uuid = getUuid();
 		bac.add(onDeleted());
 		getVertex().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRole(uuid);
 	}
 
 	@Override
@@ -206,7 +212,7 @@ public class RoleImpl extends AbstractMeshCoreVertex<RoleResponse, Role> impleme
 
 	@Override
 	public Single<RoleResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
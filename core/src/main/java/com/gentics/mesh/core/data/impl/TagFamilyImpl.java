@@ -247,7 +247,7 @@ public class TagFamilyImpl extends AbstractMeshCoreVertex<TagFamilyResponse, Tag
 
 	@Override
 	public Single<TagFamilyResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
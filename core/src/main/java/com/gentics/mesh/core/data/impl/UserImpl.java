@@ -18,6 +18,9 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
@@ -30,8 +33,11 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.madl.index.IndexHandler;
+import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.PrincipalCache;
+import com.gentics.mesh.cache.RoleSet;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Group;
@@ -68,7 +74,6 @@ import com.gentics.mesh.parameter.NodeParameters;
 import com.gentics.mesh.parameter.PagingParameters;
 import com.gentics.mesh.parameter.value.FieldsSet;
 import com.gentics.mesh.util.ETag;
-import com.syncleus.ferma.FramedGraph;
 import com.syncleus.ferma.traversals.VertexTraversal;
 import com.tinkerpop.blueprints.Direction;
 import com.tinkerpop.blueprints.Edge;
@@ -331,25 +336,17 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		if (permissionCache.hasPermission(id(), permission, elementId)) {
 			return true;
 		} else {
-			FramedGraph graph = getGraph();
-			// Find all roles that are assigned to the user by checking the
-			// shortcut edge from the index
-			String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
-			Iterable<Edge> roleEdges = graph.getEdges(idxKey.toLowerCase(), this.id());
-			Vertex vertex = graph.getVertex(elementId);
-			for (Edge roleEdge : roleEdges) {
-				Vertex role = roleEdge.getVertex(Direction.IN);
-
-				Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
-				boolean hasPermission = allowedRoles != null && allowedRoles.contains(role.<String>getProperty("uuid"));
-				if (hasPermission) {
-					// We only store granting permissions in the store in order
-					// reduce the invalidation calls.
-					// This way we do not need to invalidate the cache if a role
-					// is removed from a group or a role is deleted.
-					permissionCache.store(id(), permission, elementId);
-					return true;
-				}
+			// The roles of the user are cached separately since they only change when groups or roles are modified
+			RoleSet roles = permissionCache.getRoleSet(id(), this::loadRoleUuids);
+			Vertex vertex = getGraph().getVertex(elementId);
+			Set<String> allowedRoles = vertex.getProperty(permission.propertyKey());
+			if (roles.containsAny(allowedRoles)) {
+				// We only store granting permissions in the store in order
+				// reduce the invalidation calls.
+				// This way we do not need to invalidate the cache if a permission
+				// is granted.
+				permissionCache.store(id(), permission, elementId);
+				return true;
 			}
 			// Fall back to read and check whether the user has read perm. Read permission also includes read published.
 			if (permission == READ_PUBLISHED_PERM) {
@@ -361,6 +358,20 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	}
 
+	/**
+	 * Load the uuids of the roles which are assigned to the user by checking the shortcut edges from the index.
+	 *
+	 * @return
+	 */
+	private List<String> loadRoleUuids() {
+		String idxKey = "e." + ASSIGNED_TO_ROLE + "_out";
+		List<String> roleUuids = new ArrayList<>();
+		for (Edge roleEdge : getGraph().getEdges(idxKey.toLowerCase(), this.id())) {
+			roleUuids.add(roleEdge.getVertex(Direction.IN).getProperty("uuid"));
+		}
+		return roleUuids;
+	}
+
 	@Override
 	public boolean hasPermission(MeshVertex vertex, GraphPermission permission) {
 		if (log.isTraceEnabled()) {
@@ -527,10 +538,15 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 		// user will be just disabled and removed from all groups.");
 		// }
 		// outE(HAS_USER).removeAll();
+		Object id = id();
+		String uuid = getUuid();
+		PrincipalCache principalCache = mesh().principalCache();
 		bac.add(onDeleted());
 		getElement().remove();
 		bac.process();
-		mesh().permissionCache().clear();
+		mesh().permissionCache().invalidateRoleSets(Collections.singleton(id));
+		// The deletion event invalidates the principal on the other instances. This instance must reject the user as soon as the deletion was committed.
+		Tx.get().afterCommit(() -> principalCache.invalidate(uuid));
 	}
 
 	/**
@@ -684,7 +700,7 @@ public class UserImpl extends AbstractMeshCoreVertex<UserResponse, User> impleme
 
 	@Override
 	public Single<UserResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
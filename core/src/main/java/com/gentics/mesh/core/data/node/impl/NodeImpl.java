@@ -57,6 +57,8 @@ import org.apache.commons.lang3.NotImplementedException;
 import com.gentics.madl.index.IndexHandler;
 import com.gentics.madl.tx.Tx;
 import com.gentics.madl.type.TypeHandler;
+import com.gentics.mesh.cache.BranchHierarchyCache;
+import com.gentics.mesh.cache.CachedNodeReference;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.Branch;
@@ -547,15 +549,83 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 	@Override
 	public Stream<Node> getChildrenStream(InternalActionContext ac) {
 		MeshAuthUser user = ac.getUser();
-		return toStream(getUnframedChildren(ac.getBranch().getUuid()))
+		return getCachedChildren(ac.getBranch().getUuid())
 			.filter(node -> {
-				Object id = node.getId();
+				Object id = node.id();
 				return user.hasPermissionForId(id, READ_PERM) || user.hasPermissionForId(id, READ_PUBLISHED_PERM);
-			}).map(node -> graph.frameElementExplicit(node, NodeImpl.class));
+			});
+	}
+
+	/**
+	 * Return the children of the node in the branch. The children are loaded via the {@link BranchHierarchyCache}. Thus this method must only be used for
+	 * reading operations.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	private Stream<Node> getCachedChildren(String branchUuid) {
+		BranchHierarchyCache hierarchy = mesh().branchHierarchyCache();
+		List<CachedNodeReference> references = hierarchy.getChildren(branchUuid, getUuid(), () -> {
+			List<CachedNodeReference> children = new ArrayList<>();
+			getUnframedChildren(branchUuid).forEachRemaining(vertex -> children.add(new CachedNodeReference(vertex.getId(), vertex.getProperty("uuid"))));
+			return children;
+		});
+		List<Node> children = new ArrayList<>(references.size());
+		for (CachedNodeReference reference : references) {
+			Node child = resolve(reference);
+			if (child == null) {
+				// The cached children are outdated
+				hierarchy.evict(branchUuid, getUuid());
+				return getChildren(branchUuid).stream().map(Node.class::cast);
+			}
+			children.add(child);
+		}
+		return children.stream();
 	}
 
 	@Override
 	public Node getParentNode(String branchUuid) {
+		BranchHierarchyCache hierarchy = mesh().branchHierarchyCache();
+		CachedNodeReference reference = hierarchy.getParent(branchUuid, getUuid(), () -> {
+			Node parent = findParentNode(branchUuid);
+			return parent == null ? null : new CachedNodeReference(parent.id(), parent.getUuid());
+		});
+		if (reference == null) {
+			return null;
+		}
+		Node parent = resolve(reference);
+		if (parent == null) {
+			// The cached parent is outdated
+			hierarchy.evict(branchUuid, getUuid());
+			return findParentNode(branchUuid);
+		}
+		return parent;
+	}
+
+	/**
+	 * Frame the referenced node.
+	 *
+	 * @param reference
+	 * @return Framed node or null if the vertex no longer exists or belongs to another node
+	 */
+	private static Node resolve(CachedNodeReference reference) {
+		FramedGraph graph = Tx.get().getGraph();
+		Vertex vertex = graph.getVertex(reference.getId());
+		if (vertex == null || !reference.getUuid().equals(vertex.getProperty("uuid"))) {
+			return null;
+		}
+		Node node = graph.frameElementExplicit(vertex, NodeImpl.class);
+		node.setCachedUuid(reference.getUuid());
+		return node;
+	}
+
+	/**
+	 * Load the parent of the node in the branch without using the {@link BranchHierarchyCache}.
+	 *
+	 * @param branchUuid
+	 * @return
+	 */
+	private Node findParentNode(String branchUuid) {
 		Set<String> parents = property(BRANCH_PARENTS_KEY_PROPERTY);
 		if (parents == null) {
 			return null;
@@ -575,6 +645,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		removeParent(branchUuid);
 		addToStringSetProperty(PARENTS_KEY_PROPERTY, parentUuid);
 		addToStringSetProperty(BRANCH_PARENTS_KEY_PROPERTY, branchParentEntry(branchUuid, parentUuid).encode());
+		mesh().branchHierarchyCache().invalidate(branchUuid, getUuid());
 	}
 
 	@Override
@@ -971,7 +1042,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 		if (parameters.getMaxDepth() < 0) {
 			throw error(BAD_REQUEST, "navigation_error_invalid_max_depth");
 		}
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			// TODO assure that the schema version is correct
 			if (!getSchemaContainer().getLatestVersion().getSchema().getContainer()) {
 				throw error(BAD_REQUEST, "navigation_error_no_container");
@@ -1548,6 +1619,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 					parents.remove(removedParent);
 					property(PARENTS_KEY_PROPERTY, parents);
 				}
+				mesh().branchHierarchyCache().invalidate(branchUuid, getUuid());
 			}
 		}
 	}
@@ -1560,7 +1632,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 			? item -> true
 			: item -> languageTags.stream().anyMatch(languageTag -> item.getGraphFieldContainer(languageTag, branchUuid, type) != null);
 
-		return getChildren(branchUuid).stream()
+		return getCachedChildren(branchUuid)
 			.filter(languageFilter.and(item -> requestUser.hasPermission(item, perm)));
 	}
 
@@ -2203,7 +2275,7 @@ public class NodeImpl extends AbstractGenericFieldContainerVertex<NodeResponse,
 
 	@Override
 	public Single<NodeResponse> transformToRest(InternalActionContext ac, int level, String... languageTags) {
-		return db().asyncTx(() -> {
+		return db().asyncReadTx(() -> {
 			return Single.just(transformToRestSync(ac, level, languageTags));
 		});
 	}
@@ -52,6 +52,8 @@ public class WebRootServiceImpl implements WebRootService {
 		if (cachedPath != null) {
 			return cachedPath;
 		}
+		// Changes which happen while the path is resolved must invalidate the stored entry
+		long generation = pathStore.generation();
 
 		// First try to locate the content via the url path index (niceurl)
 
@@ -61,7 +63,7 @@ public class WebRootServiceImpl implements WebRootService {
 			nodePath.setTargetPath(path);
 			nodePath.setInitialStack(new Stack<>());
 			nodePath.setPrefixMismatch(true);
-			pathStore.store(project, branch, type, path, nodePath);
+			pathStore.store(project, branch, type, path, nodePath, false, generation);
 			return nodePath;
 		}
 
@@ -69,7 +71,7 @@ public class WebRootServiceImpl implements WebRootService {
 		NodeGraphFieldContainer containerByWebUrlPath = findByUrlFieldPath(branch.getUuid(), strippedPath, type);
 		if (containerByWebUrlPath != null) {
 			Path resolvedPath = containerByWebUrlPath.getPath(ac);
-			pathStore.store(project, branch, type, path, resolvedPath);
+			pathStore.store(project, branch, type, path, resolvedPath, false, generation);
 			return resolvedPath;
 		}
 
@@ -87,7 +89,7 @@ public class WebRootServiceImpl implements WebRootService {
 			nodePath.addSegment(new PathSegment(container, null, null, "/"));
 			stack.push("/");
 			nodePath.setInitialStack(stack);
-			pathStore.store(project, branch, type, path, nodePath);
+			pathStore.store(project, branch, type, path, nodePath, pathStore.hasUrlFields(branch), generation);
 			return nodePath;
 		}
 
@@ -108,7 +110,8 @@ public class WebRootServiceImpl implements WebRootService {
 		// Traverse the graph and buildup the result path while doing so
 		Path resolvedPath = baseNode.resolvePath(ac.getBranch().getUuid(), ContainerType.forVersion(ac.getVersioningParameters().getVersion()),
 			nodePath, stack);
-		pathStore.store(project, branch, type, path, nodePath);
+		// Paths which were not found may be resolvable once a node is created or changed. Resolved segment paths may be shadowed by url fields.
+		pathStore.store(project, branch, type, path, nodePath, !nodePath.isFullyResolved() || pathStore.hasUrlFields(branch), generation);
 		return resolvedPath;
 	}
 
@@ -47,7 +47,7 @@ public class EntitiesProvider implements DebugInfoProvider {
 	}
 
 	private Flowable<DebugInfoEntry> branches(InternalActionContext ac) {
-		return db.singleTx(() -> boot.projectRoot().findAll().stream()
+		return db.singleReadTx(() -> boot.projectRoot().findAll().stream()
 			.map(project -> DebugInfoBufferEntry.fromString(
 				String.format("entities/branches/%s.json", project.getName()),
 				rootToString(ac, project.getBranchRoot())
@@ -56,7 +56,7 @@ public class EntitiesProvider implements DebugInfoProvider {
 	}
 
 	private <T extends MeshCoreVertex<? extends RestModel, T>> Flowable<DebugInfoEntry> rootElements(InternalActionContext ac, Supplier<RootVertex<T>> root, String filename) {
-		return db.singleTx(() -> rootToString(ac, root.get()))
+		return db.singleReadTx(() -> rootToString(ac, root.get()))
 			.map(elementList -> DebugInfoBufferEntry.fromString(filename, elementList))
 			.toFlowable();
 	}
@@ -52,7 +52,7 @@ public class MigrationStatusProvider implements DebugInfoProvider {
 	}
 
 	private Flowable<ProjectBranch> getAllBranches() {
-		return db.singleTx(() -> boot.projectRoot().findAll().stream()
+		return db.singleReadTx(() -> boot.projectRoot().findAll().stream()
 			.flatMap(project -> project.getBranchRoot().findAll().stream()
 			.map(branch -> new ProjectBranch(project.getName(), branch.getName(), branch)))
 			.collect(Collectors.toList()))
@@ -60,13 +60,13 @@ public class MigrationStatusProvider implements DebugInfoProvider {
 	}
 
 	private Flowable<String> getSchemastatus(Branch branch) {
-		return db.singleTx(() -> branchCrudHandler.getSchemaVersionsInfo(branch))
+		return db.singleReadTx(() -> branchCrudHandler.getSchemaVersionsInfo(branch))
 			.map(RestModel::toJson)
 			.toFlowable();
 	}
 
 	private Flowable<String> getMicroschemastatus(Branch branch) {
-		return db.singleTx(() -> branchCrudHandler.getMicroschemaVersions(branch))
+		return db.singleReadTx(() -> branchCrudHandler.getMicroschemaVersions(branch))
 			.map(RestModel::toJson)
 			.toFlowable();
 	}
@@ -41,7 +41,7 @@ public class StatusProvider implements DebugInfoProvider {
 	}
 
 	private Flowable<DebugInfoEntry> getClusterStatus() {
-		return db.singleTx(() -> db.clusterManager().getClusterStatus())
+		return db.singleReadTx(() -> db.clusterManager().getClusterStatus())
 			.map(status -> DebugInfoBufferEntry.fromString("clusterStatus.json", status.toJson()))
 			.toFlowable();
 	}
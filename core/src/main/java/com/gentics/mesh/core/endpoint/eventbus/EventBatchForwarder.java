@@ -0,0 +1,102 @@
+package com.gentics.mesh.core.endpoint.eventbus;
+
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_BATCH;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.event.EventBatch;
+import com.gentics.mesh.event.impl.EventBatchCodec;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.handler.sockjs.BridgeEvent;
+import io.vertx.ext.web.handler.sockjs.SockJSSocket;
+
+/**
+ * Forwards the events of {@link EventBatch} envelopes to the sockets of the eventbus bridge. Events which were dispatched within a batch are only published
+ * within the envelope and would thus not be relayed by the bridge. Each socket which registered for a public event address receives the matching events
+ * in the same format as the messages which are relayed by the bridge.
+ */
+public class EventBatchForwarder {
+
+	private static final Set<String> PUBLIC_ADDRESSES = MeshEvent.publicEvents().stream()
+		.map(MeshEvent::getAddress)
+		.collect(Collectors.toSet());
+
+	private final Vertx vertx;
+
+	private final Map<SockJSSocket, SocketRegistration> registrations = new ConcurrentHashMap<>();
+
+	public EventBatchForwarder(Vertx vertx) {
+		this.vertx = vertx;
+	}
+
+	/**
+	 * Update the registrations of the socket of the given bridge event. Only bridge events which were granted should be passed.
+	 *
+	 * @param event
+	 */
+	public void handle(BridgeEvent event) {
+		SockJSSocket socket = event.socket();
+		switch (event.type()) {
+		case REGISTER:
+			String address = event.getRawMessage().getString("address");
+			if (PUBLIC_ADDRESSES.contains(address)) {
+				registrations.computeIfAbsent(socket, SocketRegistration::new).addresses.add(address);
+			}
+			break;
+		case UNREGISTER:
+			SocketRegistration registration = registrations.get(socket);
+			if (registration != null) {
+				registration.addresses.remove(event.getRawMessage().getString("address"));
+			}
+			break;
+		case SOCKET_CLOSED:
+			SocketRegistration removed = registrations.remove(socket);
+			if (removed != null) {
+				removed.consumer.unregister();
+			}
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Registration of a single socket which consumes the envelopes for as long as the socket is open.
+	 */
+	private class SocketRegistration {
+
+		private final SockJSSocket socket;
+
+		private final Set<String> addresses = ConcurrentHashMap.newKeySet();
+
+		private final MessageConsumer<EventBatch> consumer;
+
+		SocketRegistration(SockJSSocket socket) {
+			this.socket = socket;
+			this.consumer = vertx.eventBus().consumer(EVENT_BATCH.address, this::forward);
+		}
+
+		private void forward(Message<EventBatch> message) {
+			for (MeshEventModel entry : message.body().getEntries()) {
+				String address = entry.getEvent().getAddress();
+				if (addresses.contains(address)) {
+					JsonObject frame = new JsonObject()
+						.put("type", "rec")
+						.put("address", address)
+						.put("body", EventBatchCodec.toJsonObject(entry));
+					socket.write(frame.toBuffer());
+				}
+			}
+		}
+	}
+
+}
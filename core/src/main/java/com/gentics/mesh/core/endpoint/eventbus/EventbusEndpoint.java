@@ -51,6 +51,7 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 		if (localRouter != null) {
 			SockJSHandlerOptions sockJSoptions = new SockJSHandlerOptions().setHeartbeatInterval(2000);
 			handler = SockJSHandler.create(vertx, sockJSoptions);
+			EventBatchForwarder forwarder = new EventBatchForwarder(vertx);
 			BridgeOptions bridgeOptions = new BridgeOptions();
 			for (MeshEvent event : MeshEvent.publicEvents()) {
 				bridgeOptions.addInboundPermitted(new PermittedOptions().setAddress(event.address));
@@ -73,6 +74,10 @@ public class EventbusEndpoint extends AbstractInternalEndpoint {
 				User user = event.socket().webUser();
 				boolean isAuthenticated = user != null;
 				log.debug("Eventbridge creation. User was authenticated: " + isAuthenticated);
+				if (isAuthenticated || event.type() == BridgeEventType.SOCKET_CLOSED) {
+					// Batched events are not published individually and need to be forwarded separately
+					forwarder.handle(event);
+				}
 				event.complete(isAuthenticated);
 			});
 		}
@@ -1,14 +1,23 @@
 package com.gentics.mesh.core.endpoint.migration;
 
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_BATCH_TIME;
+import static com.gentics.mesh.metric.SimpleMetric.MIGRATION_PROCESSED;
+
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
 import javax.annotation.ParametersAreNonnullByDefault;
 import javax.inject.Provider;
 
+import com.gentics.madl.tx.TxAction0;
 import com.gentics.mesh.context.impl.NodeMigrationActionContextImpl;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -23,11 +32,18 @@ import com.gentics.mesh.core.rest.common.FieldContainer;
 import com.gentics.mesh.core.rest.event.EventCauseInfo;
 import com.gentics.mesh.core.rest.node.FieldMap;
 import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.ContentConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.util.StreamUtil;
+import com.google.common.collect.Lists;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 
@@ -35,6 +51,16 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	private static final Logger log = LoggerFactory.getLogger(AbstractMigrationHandler.class);
 
+	/**
+	 * Number of events after which the events of a migration partition are dispatched.
+	 */
+	private static final int EVENT_BATCH_SIZE = 500;
+
+	/**
+	 * Name of the worker pool which is shared by the migration handlers.
+	 */
+	private static final String MIGRATION_POOL_NAME = "mesh-migration";
+
 	protected Database db;
 
 	protected BinaryUploadHandler binaryFieldHandler;
@@ -43,11 +69,23 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 
 	protected final Provider<EventQueueBatch> batchProvider;
 
-	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
+	protected final MeshOptions options;
+
+	private final Counter processedCounter;
+
+	private final Timer batchTimer;
+
+	private WorkerExecutor migrationExecutor;
+
+	public AbstractMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options) {
 		this.db = db;
 		this.binaryFieldHandler = binaryFieldHandler;
 		this.metrics = metrics;
 		this.batchProvider = batchProvider;
+		this.options = options;
+		this.processedCounter = metrics.counter(MIGRATION_PROCESSED);
+		this.batchTimer = metrics.timer(MIGRATION_BATCH_TIME);
 	}
 
 	/**
@@ -110,33 +148,155 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 		newContainer.updateFieldsFromRest(ac, fields);
 	}
 
+	/**
+	 * Migrate the given elements without locking writes. See {@link #migrateLoop(List, EventCauseInfo, MigrationStatusHandler, Supplier, IntConsumer,
+	 * TriConsumer)}.
+	 *
+	 * @param containers
+	 *            Elements to be migrated
+	 * @param cause
+	 *            Cause which will be added to the events of the migration
+	 * @param status
+	 *            Status handler which tracks the number of migrated elements across all partitions
+	 * @param migrator
+	 *            Migrator which will be invoked for each element. It may be invoked concurrently by multiple workers.
+	 * @return Errors which were detected during the migration
+	 */
 	@ParametersAreNonnullByDefault
-	protected <T> List<Exception> migrateLoop(Iterable<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
+	protected <T> List<Exception> migrateLoop(List<T> containers, EventCauseInfo cause, MigrationStatusHandler status,
 		TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
-		// Iterate over all containers and invoke a migration for each one
-		long count = 0;
-		List<Exception> errorsDetected = new ArrayList<>();
+		return migrateLoop(containers, cause, status, null, null, migrator);
+	}
+
+	/**
+	 * Migrate the given elements. The elements are split into one partition per configured migration worker. The partitions are migrated concurrently and
+	 * the elements of a partition are migrated in batches. Each batch is migrated within a dedicated transaction.
+	 *
+	 * @param containers
+	 *            Elements to be migrated
+	 * @param cause
+	 *            Cause which will be added to the events of the migration
+	 * @param status
+	 *            Status handler which tracks the number of migrated elements across all partitions
+	 * @param batchLock
+	 *            Optional supplier for the lock which is held while a batch is migrated and committed. It is invoked by the worker thread of the batch.
+	 * @param onCommitted
+	 *            Optional consumer which is invoked with the number of migrated elements once a batch was committed
+	 * @param migrator
+	 *            Migrator which will be invoked for each element. It may be invoked concurrently by multiple workers and repeatedly when the transaction of
+	 *            the batch is retried.
+	 * @return Errors which were detected during the migration
+	 */
+	protected <T> List<Exception> migrateLoop(List<T> containers, EventCauseInfo cause, MigrationStatusHandler status, Supplier<WriteLock> batchLock,
+		IntConsumer onCommitted, TriConsumer<EventQueueBatch, T, List<Exception>> migrator) {
+		ContentConfig contentOptions = options.getContentOptions();
+		int batchSize = contentOptions.getMigrationBatchSize();
+		List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
+		AtomicLong count = new AtomicLong();
+		long start = System.currentTimeMillis();
+
+		int workers = contentOptions.getMigrationWorkers();
+		if (workers > 1 && batchLock != null && options.getStorageOptions().isSynchronizeWrites()) {
+			// The workers would only wait for each other since the write lock is held while a batch is migrated
+			log.warn("The migration is executed by a single worker since the parallel migration requires the storage.synchronizeWrites setting to be disabled.");
+			workers = 1;
+		}
+		int partitionSize = Math.max(1, (containers.size() + workers - 1) / workers);
+		List<List<T>> partitions = Lists.partition(containers, partitionSize);
+		if (partitions.size() <= 1) {
+			migratePartition(0, containers, batchSize, cause, status, batchLock, onCommitted, migrator, errorsDetected, count);
+		} else {
+			log.info("Migrating {" + containers.size() + "} elements using {" + partitions.size() + "} workers");
+			WorkerExecutor executor = migrationExecutor();
+			CountDownLatch latch = new CountDownLatch(partitions.size());
+			for (int i = 0; i < partitions.size(); i++) {
+				int partition = i;
+				// The latch is counted down by the worker since the result handler would be invoked on the context of the blocked caller
+				executor.<Void>executeBlocking(bh -> {
+					try {
+						migratePartition(partition, partitions.get(partition), batchSize, cause, status, batchLock, onCommitted, migrator, errorsDetected,
+							count);
+					} catch (Exception e) {
+						errorsDetected.add(e);
+					} finally {
+						latch.countDown();
+					}
+					bh.complete();
+				}, false, rh -> {
+				});
+			}
+			try {
+				latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				errorsDetected.add(e);
+			}
+		}
+
+		long duration = Math.max(1, System.currentTimeMillis() - start);
+		log.info("Migration of " + count.get() + " containers done in " + duration + " ms (" + (count.get() * 1000 / duration) + " containers/s)..");
+		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
+		return errorsDetected;
+	}
+
+	/**
+	 * Return the worker pool of the migrations. The pool is shared by all migration handlers and bounded by the configured number of migration workers.
+	 *
+	 * @return
+	 */
+	private synchronized WorkerExecutor migrationExecutor() {
+		if (migrationExecutor == null) {
+			// Migrating a partition may take a long time which must not be reported as blocked thread
+			migrationExecutor = db.vertx().createSharedWorkerExecutor(MIGRATION_POOL_NAME, options.getContentOptions().getMigrationWorkers(), Long.MAX_VALUE);
+		}
+		return migrationExecutor;
+	}
+
+	/**
+	 * Migrate the elements of a single partition in batches.
+	 *
+	 * @param partition
+	 *            Number of the partition
+	 * @param containers
+	 *            Elements of the partition
+	 * @param batchSize
+	 *            Number of elements which are migrated within a single transaction
+	 * @param cause
+	 * @param status
+	 * @param batchLock
+	 * @param onCommitted
+	 * @param migrator
+	 * @param errorsDetected
+	 *            Shared list of detected errors
+	 * @param count
+	 *            Shared counter of migrated elements
+	 */
+	private <T> void migratePartition(int partition, List<T> containers, int batchSize, EventCauseInfo cause, MigrationStatusHandler status,
+		Supplier<WriteLock> batchLock, IntConsumer onCommitted, TriConsumer<EventQueueBatch, T, List<Exception>> migrator, List<Exception> errorsDetected,
+		AtomicLong count) {
 		EventQueueBatch sqb = batchProvider.get();
 		sqb.setCause(cause);
-		for (T container : containers) {
-			try {
-				// Each container migration has its own search queue batch which is then combined with other batch entries.
-				// This prevents adding partial entries from failed migrations.
-				EventQueueBatch containerBatch = batchProvider.get();
-				db.tx(() -> {
-					migrator.accept(containerBatch, container, errorsDetected);
-				});
-				sqb.addAll(containerBatch);
+		long partitionCount = 0;
+		for (List<T> batch : Lists.partition(containers, batchSize)) {
+			Timer.Sample sample = Timer.start();
+			int migrated = migrateBatch(batch, batchLock, migrator, errorsDetected, sqb);
+			if (metrics.isEnabled()) {
+				sample.stop(batchTimer);
+				processedCounter.increment(batch.size());
+			}
+			if (onCommitted != null && migrated > 0) {
+				onCommitted.accept(migrated);
+			}
+			for (int i = 0; i < migrated; i++) {
 				status.incCompleted();
-				if (count % 50 == 0) {
-					log.info("Migrated containers: " + count);
-				}
-				count++;
-			} catch (Exception e) {
-				errorsDetected.add(e);
 			}
+			long total = count.addAndGet(migrated);
+			if (partitionCount / 50 != (partitionCount + migrated) / 50) {
+				log.info("Migrated containers: " + total + " (partition " + partition + ": " + (partitionCount + migrated) + "/" + containers.size() + ")");
+			}
+			partitionCount += migrated;
 
-			if (count % 500 == 0) {
+			if (sqb.size() >= EVENT_BATCH_SIZE) {
 				// Process the batch and reset it
 				log.info("Syncing batch with size: " + sqb.size());
 				db.tx(() -> {
@@ -151,10 +311,61 @@ public abstract class AbstractMigrationHandler extends AbstractHandler implement
 				sqb.dispatch();
 			});
 		}
+	}
 
-		log.info("Migration of " + count + " containers done..");
-		log.info("Encountered {" + errorsDetected.size() + "} errors during node migration.");
-		return errorsDetected;
+	/**
+	 * Migrate the given elements within a single transaction. The transaction will be retried if a conflict is detected. If the transaction fails for a batch
+	 * of multiple elements, the elements will be migrated one by one to isolate the failing element.
+	 *
+	 * @param batch
+	 *            Elements to be migrated
+	 * @param batchLock
+	 *            Optional supplier for the lock which is held until the transaction was committed
+	 * @param migrator
+	 * @param errorsDetected
+	 *            Shared list of detected errors
+	 * @param sqb
+	 *            Event batch to which the events of the successfully migrated elements will be added
+	 * @return Number of successfully migrated elements
+	 */
+	private <T> int migrateBatch(List<T> batch, Supplier<WriteLock> batchLock, TriConsumer<EventQueueBatch, T, List<Exception>> migrator,
+		List<Exception> errorsDetected, EventQueueBatch sqb) {
+		// Each batch has its own event batch which is then combined with other batch entries.
+		// This prevents adding partial entries from failed migrations.
+		EventQueueBatch containerBatch = batchProvider.get();
+		List<Exception> batchErrors = new ArrayList<>();
+		TxAction0 action = () -> {
+			// Discard the results of previous attempts since the transaction may be retried
+			containerBatch.clear();
+			batchErrors.clear();
+			for (T container : batch) {
+				migrator.accept(containerBatch, container, batchErrors);
+			}
+		};
+		try {
+			if (batchLock == null) {
+				db.tx(action);
+			} else {
+				// The lock must be held until the batch was committed
+				try (WriteLock lock = batchLock.get()) {
+					db.tx(action);
+				}
+			}
+		} catch (Exception e) {
+			if (batch.size() == 1) {
+				errorsDetected.add(e);
+				return 0;
+			}
+			log.warn("Migration of batch failed. Migrating the {" + batch.size() + "} elements of the batch one by one.", e);
+			int migrated = 0;
+			for (T container : batch) {
+				migrated += migrateBatch(Collections.singletonList(container), batchLock, migrator, errorsDetected, sqb);
+			}
+			return migrated;
+		}
+		errorsDetected.addAll(batchErrors);
+		sqb.addAll(containerBatch);
+		return batch.size();
 	}
 
 	/**
@@ -58,7 +58,7 @@ public interface MigrationStatusHandler {
 	void setCompletionCount(long completionCount);
 
 	/**
-	 * Increment the completion counter.
+	 * Increment the completion counter. The counter is shared by all workers of a partitioned migration and may thus be incremented concurrently.
 	 */
 	void incCompleted();
 
@@ -7,6 +7,7 @@ import static com.gentics.mesh.core.rest.common.ContainerType.PUBLISHED;
 import static com.gentics.mesh.core.rest.job.JobStatus.RUNNING;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -23,6 +24,7 @@ import com.gentics.mesh.core.endpoint.migration.AbstractMigrationHandler;
 import com.gentics.mesh.core.endpoint.migration.MigrationStatusHandler;
 import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.BranchMigrationCause;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.madl.traversal.TraversalResult;
@@ -39,8 +41,9 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 	private static final Logger log = LoggerFactory.getLogger(BranchMigrationHandler.class);
 
 	@Inject
-	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+	public BranchMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		MeshOptions options) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options);
 	}
 
 	/**
@@ -69,7 +72,7 @@ public class BranchMigrationHandler extends AbstractMigrationHandler {
 				return project.findNodes().list();
 			});
 
-			List<Exception> errorsDetected = new ArrayList<>();
+			List<Exception> errorsDetected = Collections.synchronizedList(new ArrayList<>());
 			// Iterate over all nodes of the project and migrate them to the new branch
 			migrateLoop(nodes, cause, status, (batch, node, errors) -> {
 				migrateNode(node, batch, oldBranch, newBranch, errorsDetected);
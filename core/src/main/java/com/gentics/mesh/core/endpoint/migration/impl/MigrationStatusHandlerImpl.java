@@ -4,6 +4,7 @@ import static com.gentics.mesh.core.rest.job.JobStatus.COMPLETED;
 import static com.gentics.mesh.core.rest.job.JobStatus.FAILED;
 
 import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.management.MBeanServer;
 import javax.management.MalformedObjectNameException;
@@ -35,7 +36,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	private Job job;
 
-	private long completionCount = 0;
+	private final AtomicLong completionCount = new AtomicLong();
 
 	private JobStatus status;
 
@@ -53,7 +54,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 		if (versionEdge != null) {
 			versionEdge.setMigrationStatus(status);
 		}
-		job.setCompletionCount(completionCount);
+		job.setCompletionCount(completionCount.get());
 		job.setStatus(status);
 
 		Tx.get().getGraph().commit();
@@ -123,7 +124,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void setCompletionCount(long completionCount) {
-		this.completionCount = completionCount;
+		this.completionCount.set(completionCount);
 	}
 
 	@Override
@@ -133,7 +134,7 @@ public class MigrationStatusHandlerImpl implements MigrationStatusHandler {
 
 	@Override
 	public void incCompleted() {
-		completionCount++;
+		completionCount.incrementAndGet();
 	}
 
 }
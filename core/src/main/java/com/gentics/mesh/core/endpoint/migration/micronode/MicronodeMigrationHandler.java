@@ -28,6 +28,7 @@ import com.gentics.mesh.core.endpoint.node.BinaryUploadHandler;
 import com.gentics.mesh.core.rest.event.node.MicroschemaMigrationCause;
 import com.gentics.mesh.core.rest.micronode.MicronodeResponse;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -46,8 +47,9 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 	private final WriteLock writeLock;
 
 	@Inject
-	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider, WriteLock writeLock) {
-		super(db, binaryFieldHandler, metrics, batchProvider);
+	public MicronodeMigrationHandler(Database db, BinaryUploadHandler binaryFieldHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
+		WriteLock writeLock, MeshOptions options) {
+		super(db, binaryFieldHandler, metrics, batchProvider, options);
 		this.writeLock = writeLock;
 	}
 
@@ -101,11 +103,11 @@ public class MicronodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status,
+			// Each migration worker uses a dedicated context since the context is modified during the migration of a container
+			ThreadLocal<NodeMigrationActionContextImpl> workerContext = ThreadLocal.withInitial(ac::fork);
+			List<Exception> errorsDetected = migrateLoop(fieldContainersResult, cause, status, () -> writeLock.lock(workerContext.get()), null,
 				(batch, container, errors) -> {
-					try (WriteLock lock = writeLock.lock(ac)) {
-						migrateMicronodeContainer(ac, batch, branch, fromVersion, toVersion, container, touchedFields, errors);
-					}
+					migrateMicronodeContainer(workerContext.get(), batch, branch, fromVersion, toVersion, container, touchedFields, errors);
 				});
 
 			Completable result = Completable.complete();
@@ -29,6 +29,7 @@ import com.gentics.mesh.core.rest.event.node.SchemaMigrationCause;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.schema.SchemaModel;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
+import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.metric.MetricsService;
@@ -53,8 +54,8 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 
 	@Inject
 	public NodeMigrationHandler(Database db, BinaryUploadHandler nodeFieldAPIHandler, MetricsService metrics, Provider<EventQueueBatch> batchProvider,
-		WriteLock writeLock) {
-		super(db, nodeFieldAPIHandler, metrics, batchProvider);
+		WriteLock writeLock, MeshOptions options) {
+		super(db, nodeFieldAPIHandler, metrics, batchProvider, options);
 		migrationGauge = metrics.longGauge(NODE_MIGRATION_PENDING);
 		this.writeLock = writeLock;
 	}
@@ -114,13 +115,14 @@ public class NodeMigrationHandler extends AbstractMigrationHandler {
 				return Completable.complete();
 			}
 
-			List<Exception> errorsDetected = migrateLoop(containers, cause, status, (batch, container, errors) -> {
-				try (WriteLock lock = writeLock.lock(context)) {
-					migrateContainer(context, batch, container, fromVersion, newSchema, errors, touchedFields);
-				}
+			// Each migration worker uses a dedicated context since the context is modified during the migration of a container
+			ThreadLocal<NodeMigrationActionContextImpl> workerContext = ThreadLocal.withInitial(context::fork);
+			List<Exception> errorsDetected = migrateLoop(containers, cause, status, () -> writeLock.lock(workerContext.get()), migrated -> {
 				if (metrics.isEnabled()) {
-					migrationGauge.decrementAndGet();
+					migrationGauge.addAndGet(-migrated);
 				}
+			}, (batch, container, errors) -> {
+				migrateContainer(workerContext.get(), batch, container, fromVersion, newSchema, errors, touchedFields);
 			});
 
 			// TODO prepare errors. They should be easy to understand and to grasp
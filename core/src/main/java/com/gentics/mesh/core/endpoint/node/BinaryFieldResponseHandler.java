@@ -106,17 +106,13 @@ public class BinaryFieldResponseHandler {
 		// Set to IDENTITY to avoid gzip compression
 		response.putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
 
-		String localPath = storage.getLocalPath(binary.getUuid());
+		String binaryUuid = binary.getUuid();
+		String localPath = storage.getLocalPath(binaryUuid);
 		if (localPath != null) {
 			rangeRequestHandler.handle(rc, localPath, contentType);
 		} else {
-			String contentLength = String.valueOf(binary.getSize());
-			if (contentType != null) {
-				response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
-			}
 			response.putHeader(HttpHeaders.CACHE_CONTROL, "must-revalidate");
-			response.putHeader(HttpHeaders.CONTENT_LENGTH, contentLength);
-			binary.getStream().subscribe(response::write, rc::fail, response::end);
+			rangeRequestHandler.handle(rc, binary.getSize(), contentType, (start, end) -> storage.read(binaryUuid, start, end));
 		}
 
 	}
@@ -131,8 +127,7 @@ public class BinaryFieldResponseHandler {
 			}
 		}
 		String fileName = binaryField.getFileName();
-		imageManipulator.handleResize(binaryField.getBinary(), imageParams)
-			.flatMap(cachedFilePath -> rxVertx.fileSystem().rxProps(cachedFilePath)
+		imageManipulator.handleResize(binaryField.getBinary(), imageParams, cachedFilePath -> rxVertx.fileSystem().rxProps(cachedFilePath)
 			.doOnSuccess(props -> {
 				response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(props.size()));
 				response.putHeader(HttpHeaders.CONTENT_TYPE, MimeTypeUtils.getMimeTypeForFilename(cachedFilePath).orElse(DEFAULT_BINARY_MIME_TYPE));
@@ -51,7 +51,6 @@ import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.reactivex.core.Vertx;
-import io.vertx.reactivex.core.file.FileProps;
 import io.vertx.reactivex.core.file.FileSystem;
 
 @Singleton
@@ -145,23 +144,21 @@ public class BinaryTransformHandler extends AbstractHandler {
 		parameters.validate();
 
 		// Read and resize the original image and store the result in the filesystem
-		Single<TransformationResult> obsTransformation = db.tx(() -> imageManipulator.handleResize(binaryField, parameters))
-		.flatMap(file -> {
-			// Hash the resized image data and store it using the computed fieldUuid + hash
-			Flowable<Buffer> stream = fs.rxOpen(file, new OpenOptions()).flatMapPublisher(RxUtil::toBufferFlow);
-			Single<String> hash = FileUtils.hash(stream);
-
-			// The image was stored and hashed. Now we need to load the stored file again and check the image properties
-			Single<ImageInfo> info = imageManipulator.readImageInfo(file);
-
-			Single<FileProps> fileProps = fs.rxProps(file);
-
-			return Single.zip(hash, info, fileProps, (hashV, infoV, props) -> {
-				// Return a POJO which hold all information that is needed to update the field
-				TransformationResult result = new TransformationResult(hashV, props.size(), infoV, file);
-				return Single.just(result);
-			}).flatMap(e -> e);
-		});
+		// The cache file is accessed first so that a removed cache file will be created again
+		Single<TransformationResult> obsTransformation = db.tx(() -> imageManipulator.handleResize(binaryField, parameters, file -> fs.rxProps(file)
+			.flatMap(props -> {
+				// Hash the resized image data and store it using the computed fieldUuid + hash
+				Flowable<Buffer> stream = fs.rxOpen(file, new OpenOptions()).flatMapPublisher(RxUtil::toBufferFlow);
+				Single<String> hash = FileUtils.hash(stream);
+
+				// The image was stored and hashed. Now we need to load the stored file again and check the image properties
+				Single<ImageInfo> info = imageManipulator.readImageInfo(file);
+
+				return Single.zip(hash, info, (hashV, infoV) -> {
+					// Return a POJO which hold all information that is needed to update the field
+					return new TransformationResult(hashV, props.size(), infoV, file);
+				});
+			})));
 
 		obsTransformation.flatMap(r -> {
 			db.tx(tx -> {
@@ -8,6 +8,7 @@ import static io.netty.handler.codec.http.HttpResponseStatus.CREATED;
 import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +21,7 @@ import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.binary.BinaryDataProcessor;
 import com.gentics.mesh.core.binary.BinaryProcessorRegistry;
+import com.gentics.mesh.core.binary.StreamingBinaryDataProcessor;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.Language;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
@@ -46,14 +48,16 @@ import com.gentics.mesh.storage.BinaryStorage;
 import com.gentics.mesh.util.FileUtils;
 import com.gentics.mesh.util.NodeUtil;
 import com.gentics.mesh.util.RxUtil;
-import com.gentics.mesh.util.Tuple;
 import com.gentics.mesh.util.UUIDUtil;
 
 import dagger.Lazy;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -172,15 +176,8 @@ public class BinaryUploadHandler extends AbstractHandler {
 		ctx.setUpload(ul);
 
 		// First process the upload data
-		hashUpload(ul).flatMap(hash -> {
-			Single<List<Consumer<BinaryGraphField>>> modifierOp = postProcessUpload(ul, hash).toList();
-			return modifierOp.map(list -> {
-				return Tuple.tuple(hash, list);
-			});
-		}).flatMap(modifierListAndHash -> {
-			String hash = modifierListAndHash.v1();
-			List<Consumer<BinaryGraphField>> modifierList = modifierListAndHash.v2();
-			ctx.setHash(hash);
+		processUpload(ctx, ul).flatMap(modifierList -> {
+			String hash = ctx.getHash();
 
 			// Check whether the binary with the given hashsum was already stored
 			Binary binary = binaries.findByHash(hash).runInNewTx();
@@ -191,10 +188,10 @@ public class BinaryUploadHandler extends AbstractHandler {
 				ctx.setInvokeStore();
 			}
 
-			return storeUploadInTemp(ctx, ul, hash)
+			return storeUploadInTemp(ctx, ul)
 				.andThen(Single.defer(() -> storeUploadInGraph(ac, modifierList, ctx, nodeUuid, languageTag, nodeVersion, fieldName)));
 		}).onErrorResumeNext(e -> {
-			if (ctx.isInvokeStore()) {
+			if (ctx.isInvokeStore() || ctx.isStoredInTemp()) {
 				String tmpId = ctx.getTemporaryId();
 				if (log.isDebugEnabled()) {
 					log.debug("Error detected. Purging previously stored upload for tempId {}", tmpId, e);
@@ -220,31 +217,85 @@ public class BinaryUploadHandler extends AbstractHandler {
 
 	}
 
-	private Completable storeUploadInTemp(UploadContext ctx, FileUpload ul, String hash) {
+	private Completable storeUploadInTemp(UploadContext ctx, FileUpload ul) {
 		String uploadFilePath = ul.uploadedFileName();
-		if (ctx.isInvokeStore()) {
+		if (ctx.isInvokeStore() && !ctx.isStoredInTemp()) {
 			return binaryStorage.storeInTemp(uploadFilePath, ctx.getTemporaryId());
-		} else {
-			// File has already been stored. Lets remove the upload from the vert.x tmpdir. We no longer need it.
-			return fs.rxDelete(uploadFilePath)
-				.doOnComplete(() -> {
-					if (log.isTraceEnabled()) {
-						log.trace("Removed temporary file {}", uploadFilePath);
-					}
-				})
+		}
+		// File has already been stored. Lets remove the upload from the vert.x tmpdir. We no longer need it.
+		Completable removeUpload = fs.rxDelete(uploadFilePath)
+			.doOnComplete(() -> {
+				if (log.isTraceEnabled()) {
+					log.trace("Removed temporary file {}", uploadFilePath);
+				}
+			})
+			.doOnError(e -> {
+				log.warn("Failed to remove upload from tmpDir {}", uploadFilePath, e);
+			}).onErrorComplete();
+		if (ctx.isStoredInTemp() && !ctx.isInvokeStore()) {
+			// The data was streamed to the storage but a binary with the same hash already exists
+			String tmpId = ctx.getTemporaryId();
+			return binaryStorage.purgeTemporaryUpload(tmpId)
 				.doOnError(e -> {
-					log.warn("Failed to remove upload from tmpDir {}", uploadFilePath, e);
-				}).onErrorComplete();
+					log.warn("Failed to purge temporary upload for tempId {}", tmpId, e);
+				}).onErrorComplete()
+				.andThen(removeUpload);
 		}
+		return removeUpload;
 	}
 
-	private Single<String> hashUpload(FileUpload ul) {
-		String uploadFilePath = ul.uploadedFileName();
-		return fs.rxOpen(uploadFilePath, new OpenOptions())
+	/**
+	 * Read the upload once and feed the data to the hash digest, the streaming processors and, if the binary storage does not prefer files, the binary
+	 * storage at the same time. Processors which need random access to the data are invoked with the uploaded file once the data has been read.
+	 * 
+	 * @param ctx
+	 * @param upload
+	 * @return Consumers which modify the graph field
+	 */
+	private Single<List<Consumer<BinaryGraphField>>> processUpload(UploadContext ctx, FileUpload upload) {
+		String uploadFilePath = upload.uploadedFileName();
+		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(upload.contentType());
+		List<StreamingBinaryDataProcessor> streamingProcessors = new ArrayList<>();
+		List<BinaryDataProcessor> fileProcessors = new ArrayList<>();
+		for (BinaryDataProcessor processor : processors) {
+			if (processor instanceof StreamingBinaryDataProcessor) {
+				streamingProcessors.add((StreamingBinaryDataProcessor) processor);
+			} else {
+				fileProcessors.add(processor);
+			}
+		}
+		boolean streamToStorage = !binaryStorage.prefersFileUploads();
+
+		// The file is only read once all consumers have subscribed
+		int consumers = 1 + streamingProcessors.size() + (streamToStorage ? 1 : 0);
+		Flowable<Buffer> data = fs.rxOpen(uploadFilePath, new OpenOptions())
 			.flatMapPublisher(RxUtil::toBufferFlow)
-			.to(FileUtils::hash).doOnError(e -> {
+			.publish()
+			.autoConnect(consumers);
+
+		Single<String> hash = FileUtils.hash(data)
+			.doOnSuccess(ctx::setHash)
+			.doOnError(e -> {
 				log.error("Error while hashing upload {}", uploadFilePath, e);
 			});
+		Single<List<Consumer<BinaryGraphField>>> streamed = Observable.fromIterable(streamingProcessors)
+			.flatMapMaybe(p -> logProcessing(upload, p, p.process(upload, data)))
+			.toList();
+		Completable store = Completable.complete();
+		if (streamToStorage) {
+			store = binaryStorage.storeInTemp(data, ctx.getTemporaryId())
+				.doOnSubscribe(ignore -> ctx.setStoredInTemp());
+		}
+
+		return Single.zip(hash, streamed, store.toSingleDefault(true), (hashSum, modifiers, stored) -> modifiers)
+			.flatMap(modifiers -> Observable.fromIterable(fileProcessors)
+				.flatMapMaybe(p -> logProcessing(upload, p, p.process(upload, ctx.getHash())))
+				.toList()
+				.map(fileModifiers -> {
+					List<Consumer<BinaryGraphField>> list = new ArrayList<>(modifiers);
+					list.addAll(fileModifiers);
+					return list;
+				}));
 	}
 
 	private Single<NodeResponse> storeUploadInGraph(InternalActionContext ac, List<Consumer<BinaryGraphField>> fieldModifier, UploadContext context,
@@ -372,20 +423,15 @@ public class BinaryUploadHandler extends AbstractHandler {
 	}
 
 	/**
-	 * Processes the upload and set the binary information (e.g.: image dimensions) within the provided field. The binary data will be stored in the
-	 * {@link BinaryStorage} if desired.
+	 * Log the result of the processor.
 	 * 
 	 * @param upload
-	 *            Upload to process
-	 * @param hash
-	 *            SHA512 sum of the upload
-	 * @return Consumers which modify the graph field
+	 * @param p
+	 * @param result
+	 * @return
 	 */
-	private Observable<Consumer<BinaryGraphField>> postProcessUpload(FileUpload upload, String hash) {
-		String contentType = upload.contentType();
-		List<BinaryDataProcessor> processors = binaryProcessorRegistry.getProcessors(contentType);
-
-		return Observable.fromIterable(processors).flatMapMaybe(p -> p.process(upload, hash)
+	private Maybe<Consumer<BinaryGraphField>> logProcessing(FileUpload upload, BinaryDataProcessor p, Maybe<Consumer<BinaryGraphField>> result) {
+		return result
 			.doOnSuccess(s -> {
 				log.info(
 					"Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + p.getClass()
@@ -395,7 +441,7 @@ public class BinaryUploadHandler extends AbstractHandler {
 				log.warn(
 					"Processing of upload {" + upload.fileName() + "/" + upload.uploadedFileName() + "} in handler {" + p.getClass()
 						+ "} completed.");
-			}));
+			});
 	}
 
 }
@@ -16,6 +16,8 @@ public class UploadContext {
 
 	private boolean invokeStore = false;
 
+	private boolean storedInTemp = false;
+
 	public UploadContext() {
 		this.temporaryId = UUIDUtil.randomUUID();
 	}
@@ -56,4 +58,15 @@ public class UploadContext {
 		return this.invokeStore;
 	}
 
+	/**
+	 * Mark that the upload data has been streamed to the temporary location of the binary storage while it was read.
+	 */
+	public void setStoredInTemp() {
+		this.storedInTemp = true;
+	}
+
+	public boolean isStoredInTemp() {
+		return storedInTemp;
+	}
+
 }
@@ -13,6 +13,7 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshVertex;
@@ -46,11 +47,15 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 
 	private MeshJWTAuthProvider authProvider;
 
+	private PrincipalCache principalCache;
+
 	@Inject
-	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock) {
+	public UserCrudHandler(Database db, BootstrapInitializer boot, HandlerUtilities utils, MeshJWTAuthProvider authProvider, WriteLock writeLock,
+		PrincipalCache principalCache) {
 		super(db, utils, writeLock);
 		this.boot = boot;
 		this.authProvider = authProvider;
+		this.principalCache = principalCache;
 	}
 
 	@Override
@@ -142,7 +147,7 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 			// 2. Generate the API key for the user
-			UserAPITokenResponse apiKeyRespose = db.tx(() -> {
+			UserAPITokenResponse apiKeyRespose = utils.eventAction(batch -> {
 				String tokenId = TokenUtil.randomToken();
 				String apiToken = authProvider.generateAPIToken(user, tokenId, null);
 				UserAPITokenResponse response = new UserAPITokenResponse();
@@ -152,10 +157,17 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 				user.setAPITokenId(tokenId);
 				user.setAPITokenIssueTimestamp();
 				response.setToken(apiToken);
+
+				// 4. Notify the cluster so that cached principals of the user are invalidated
+				batch.add(user.onUpdated());
 				return response;
 			});
 			return apiKeyRespose;
-		}, model -> ac.send(model, CREATED));
+		}, model -> {
+			// The old key must be rejected by this instance as soon as the response was sent
+			principalCache.invalidate(userUuid);
+			ac.send(model, CREATED);
+		});
 	}
 
 	/**
@@ -172,12 +184,17 @@ public class UserCrudHandler extends AbstractCrudHandler<User, UserResponse> {
 			User user = boot.userRoot().loadObjectByUuid(ac, userUuid, UPDATE_PERM);
 
 			// 2. Generate the API key for the user
-			GenericMessageResponse message = db.tx(() -> {
+			GenericMessageResponse message = utils.eventAction(batch -> {
 				user.resetAPIToken();
+				// Notify the cluster so that cached principals of the user are invalidated
+				batch.add(user.onUpdated());
 				return message(ac, "api_key_invalidated");
 			});
 			return message;
-		}, model -> ac.send(model, CREATED));
+		}, model -> {
+			principalCache.invalidate(userUuid);
+			ac.send(model, CREATED);
+		});
 	}
 
 }
@@ -82,7 +82,7 @@ public class UtilityHandler extends AbstractHandler {
 	 * @param ac
 	 */
 	public void validateSchema(InternalActionContext ac) {
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 			Schema schema = JsonUtil.readValue(ac.getBodyAsString(), SchemaModelImpl.class);
 			JsonObject fullSettings = nodeIndexHandler.createIndexSettings(schema);
 			SchemaValidationResponse response = new SchemaValidationResponse();
@@ -115,7 +115,7 @@ public class UtilityHandler extends AbstractHandler {
 	 * @param ac
 	 */
 	public void validateMicroschema(InternalActionContext ac) {
-		db.asyncTx(() -> {
+		db.asyncReadTx(() -> {
 			Microschema model = JsonUtil.readValue(ac.getBodyAsString(), MicroschemaModelImpl.class);
 			model.validate();
 			SchemaValidationResponse report = new SchemaValidationResponse();
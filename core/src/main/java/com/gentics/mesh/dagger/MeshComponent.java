@@ -8,9 +8,12 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import com.gentics.mesh.auth.handler.MeshJWTAuthHandler;
 import com.gentics.mesh.auth.provider.MeshJWTAuthProvider;
+import com.gentics.mesh.cache.BranchHierarchyCache;
 import com.gentics.mesh.cache.PermissionCache;
+import com.gentics.mesh.cache.PrincipalCache;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectNameCache;
+import com.gentics.mesh.cache.WebrootPathCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.context.BulkActionContext;
 import com.gentics.mesh.core.data.binary.Binaries;
@@ -144,6 +147,12 @@ public interface MeshComponent {
 
 	PermissionCache permissionCache();
 
+	PrincipalCache principalCache();
+
+	WebrootPathCache webrootPathCache();
+
+	BranchHierarchyCache branchHierarchyCache();
+
 	Vertx vertx();
 
 	Provider<EventQueueBatch> batchProvider();
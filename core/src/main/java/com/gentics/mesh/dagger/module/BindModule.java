@@ -2,12 +2,16 @@ package com.gentics.mesh.dagger.module;
 
 import com.gentics.mesh.auth.MeshOAuth2ServiceImpl;
 import com.gentics.mesh.auth.MeshOAuthService;
+import com.gentics.mesh.cache.BranchHierarchyCache;
+import com.gentics.mesh.cache.BranchHierarchyCacheImpl;
 import com.gentics.mesh.cache.CacheRegistry;
 import com.gentics.mesh.cache.CacheRegistryImpl;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cache.PermissionCacheImpl;
 import com.gentics.mesh.cache.ProjectBranchNameCache;
 import com.gentics.mesh.cache.ProjectBranchNameCacheImpl;
+import com.gentics.mesh.cache.PrincipalCache;
+import com.gentics.mesh.cache.PrincipalCacheImpl;
 import com.gentics.mesh.cache.ProjectNameCache;
 import com.gentics.mesh.cache.ProjectNameCacheImpl;
 import com.gentics.mesh.cache.WebrootPathCache;
@@ -20,8 +24,10 @@ import com.gentics.mesh.core.data.PersistenceClassMap;
 import com.gentics.mesh.core.data.PersistenceClassMapImpl;
 import com.gentics.mesh.core.data.binary.Binaries;
 import com.gentics.mesh.core.data.binary.impl.BinariesImpl;
+import com.gentics.mesh.core.data.service.ServerSchemaStorage;
 import com.gentics.mesh.core.data.service.WebRootService;
 import com.gentics.mesh.core.data.service.WebRootServiceImpl;
+import com.gentics.mesh.core.rest.schema.SchemaStorage;
 import com.gentics.mesh.core.verticle.handler.WriteLock;
 import com.gentics.mesh.core.verticle.handler.WriteLockImpl;
 import com.gentics.mesh.distributed.RequestDelegator;
@@ -30,6 +36,10 @@ import com.gentics.mesh.event.EventQueueBatch;
 import com.gentics.mesh.event.impl.EventQueueBatchImpl;
 import com.gentics.mesh.graphdb.OrientDBDatabase;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCacheImpl;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCacheImpl;
 import com.gentics.mesh.handler.RangeRequestHandler;
 import com.gentics.mesh.handler.impl.RangeRequestHandlerImpl;
 import com.gentics.mesh.metric.MetricsService;
@@ -85,6 +95,18 @@ public abstract class BindModule {
 	@Binds
 	abstract ProjectNameCache bindProjectNameCache(ProjectNameCacheImpl e);
 
+	@Binds
+	abstract PrincipalCache bindPrincipalCache(PrincipalCacheImpl e);
+
+	@Binds
+	abstract BranchHierarchyCache bindBranchHierarchyCache(BranchHierarchyCacheImpl e);
+
+	@Binds
+	abstract GraphQLSchemaCache bindGraphQLSchemaCache(GraphQLSchemaCacheImpl e);
+
+	@Binds
+	abstract GraphQLDocumentCache bindGraphQLDocumentCache(GraphQLDocumentCacheImpl e);
+
 	@Binds
 	abstract PluginEnvironment bindPluginEnv(PluginEnvironmentImpl e);
 
@@ -111,4 +133,7 @@ public abstract class BindModule {
 
 	@Binds
 	abstract WriteLock bindWriteLock(WriteLockImpl e);
+
+	@Binds
+	abstract SchemaStorage bindSchemaStorage(ServerSchemaStorage e);
 }
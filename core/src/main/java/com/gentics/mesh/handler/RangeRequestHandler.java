@@ -1,5 +1,7 @@
 package com.gentics.mesh.handler;
 
+import io.reactivex.Flowable;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.RoutingContext;
 
 /**
@@ -37,4 +39,35 @@ public interface RangeRequestHandler {
 	 */
 	void handle(RoutingContext rc, String localPath, String contentType);
 
+	/**
+	 * Process the request for binary data which is not available as a local file. Only the requested range is read via the reader. The data is written
+	 * to the response while the write queue of the response is not full.
+	 * 
+	 * @param rc
+	 * @param size
+	 *            Size of the binary data
+	 * @param contentType
+	 * @param reader
+	 *            Reader for the requested range
+	 */
+	void handle(RoutingContext rc, long size, String contentType, RangeReader reader);
+
+	/**
+	 * Reader for a byte range of binary data.
+	 */
+	@FunctionalInterface
+	interface RangeReader {
+
+		/**
+		 * Read the given byte range.
+		 * 
+		 * @param start
+		 *            Position of the first byte
+		 * @param end
+		 *            Position of the last byte (inclusive)
+		 * @return
+		 */
+		Flowable<Buffer> read(long start, long end);
+	}
+
 }
@@ -15,11 +15,13 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.handler.RangeRequestHandler;
+import com.gentics.mesh.util.RxUtil;
 
 import io.reactivex.Single;
-import io.vertx.core.MultiMap;
+import io.reactivex.disposables.Disposable;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.RoutingContext;
@@ -64,18 +66,99 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		}, context::fail);
 	}
 
+	@Override
+	public void handle(RoutingContext context, long size, String contentType, RangeReader reader) {
+		HttpServerRequest request = context.request();
+		HttpServerResponse response = context.response();
+		ByteRange range = parseRange(context, size);
+		if (range == null) {
+			return;
+		}
+		// The content length is always needed since the data is not sent in chunks
+		response.putHeader("Content-Length", Long.toString(range.length()));
+
+		if (request.method() == HttpMethod.HEAD) {
+			response.end();
+			return;
+		}
+
+		setContentType(context, contentType);
+		if (range.offset != null) {
+			response.putHeader("Content-Range", "bytes " + range.offset + "-" + range.end + "/" + size);
+			response.setStatusCode(PARTIAL_CONTENT.code());
+		}
+		if (range.length() == 0) {
+			response.end();
+			return;
+		}
+
+		Disposable subscription = RxUtil.pipe(reader.read(range.start(), range.end), response)
+			.subscribe(response::end, error -> {
+				if (response.headWritten()) {
+					// The status has already been sent. The only way to signal the error is to close the connection.
+					log.error("Error while sending binary data", error);
+					response.close();
+				} else {
+					context.fail(error);
+				}
+			});
+		// Stop reading the data once the client disconnected
+		response.closeHandler(v -> subscription.dispose());
+	}
+
 	private void sendFile(RoutingContext context, String file, String contentType, FileProps fileProps) {
 		HttpServerRequest request = context.request();
 
+		ByteRange range = parseRange(context, fileProps.size());
+		if (range == null) {
+			return;
+		}
+		if (request.getHeader("Range") != null) {
+			// send the content length even for HEAD requests
+			request.response().headers().set("Content-Length", Long.toString(range.length()));
+		}
+
+		if (request.method() == HttpMethod.HEAD) {
+			request.response().end();
+			return;
+		}
+
+		setContentType(context, contentType);
+		if (range.offset != null) {
+			// must return content range
+			request.response().headers().set("Content-Range", "bytes " + range.offset + "-" + range.end + "/" + fileProps.size());
+			// return a partial response
+			request.response().setStatusCode(PARTIAL_CONTENT.code());
+
+			request.response().sendFile(file, range.offset, range.length());
+		} else {
+			// Return the full file
+			request.response().sendFile(file, res2 -> {
+				if (res2.failed()) {
+					context.fail(res2.cause());
+				}
+			});
+		}
+
+	}
+
+	/**
+	 * Determine the range which was requested by the client. The request is failed if the range can't be satisfied.
+	 * 
+	 * @param context
+	 * @param size
+	 *            Size of the data
+	 * @return Requested range or null if the request has been failed
+	 */
+	private ByteRange parseRange(RoutingContext context, long size) {
+		HttpServerRequest request = context.request();
+
 		Long offset = null;
-		Long end = null;
-		MultiMap headers = null;
+		// end byte is length - 1
+		long end = size - 1;
 
 		// check if the client is making a range request
 		String range = request.getHeader("Range");
-		// end byte is length - 1
-		end = fileProps.size() - 1;
-
 		if (range != null) {
 			Matcher m = RANGE.matcher(range);
 			if (m.matches()) {
@@ -84,7 +167,7 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 					// offset cannot be empty
 					offset = Long.parseLong(part);
 					// offset must fall inside the limits of the file
-					if (offset < 0 || offset >= fileProps.size()) {
+					if (offset < 0 || offset >= size) {
 						throw new IndexOutOfBoundsException();
 					}
 					// length can be empty
@@ -98,50 +181,26 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 						}
 					}
 				} catch (NumberFormatException | IndexOutOfBoundsException e) {
-					context.response().putHeader("Content-Range", "bytes */" + fileProps.size());
+					context.response().putHeader("Content-Range", "bytes */" + size);
 					context.fail(REQUESTED_RANGE_NOT_SATISFIABLE.code());
-					return;
+					return null;
 				}
 			}
 
 			// notify client we support range requests
-			headers = request.response().headers();
-			headers.set("Accept-Ranges", "bytes");
-			// send the content length even for HEAD requests
-			headers.set("Content-Length", Long.toString(end + 1 - (offset == null ? 0 : offset)));
-		}
-
-		if (request.method() == HttpMethod.HEAD) {
-			request.response().end();
-			return;
+			request.response().headers().set("Accept-Ranges", "bytes");
 		}
+		return new ByteRange(offset, end);
+	}
 
+	private void setContentType(RoutingContext context, String contentType) {
 		if (contentType != null) {
 			if (contentType.startsWith("text")) {
-				request.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
+				context.response().putHeader("Content-Type", contentType + ";charset=" + defaultContentEncoding);
 			} else {
-				request.response().putHeader("Content-Type", contentType);
+				context.response().putHeader("Content-Type", contentType);
 			}
 		}
-		if (offset != null) {
-			// must return content range
-			headers.set("Content-Range", "bytes " + offset + "-" + end + "/" + fileProps.size());
-			// return a partial response
-			request.response().setStatusCode(PARTIAL_CONTENT.code());
-
-			final Long finalOffset = offset;
-			final Long finalLength = end + 1 - offset;
-
-			request.response().sendFile(file, finalOffset, finalLength);
-		} else {
-			// Return the full file
-			request.response().sendFile(file, res2 -> {
-				if (res2.failed()) {
-					context.fail(res2.cause());
-				}
-			});
-		}
-
 	}
 
 	private Single<FileProps> getFileProps(String file) {
@@ -161,4 +220,33 @@ public class RangeRequestHandlerImpl implements RangeRequestHandler {
 		return propsCache;
 	}
 
+	/**
+	 * Byte range of a response.
+	 */
+	private static class ByteRange {
+
+		/**
+		 * Position of the first byte or null if no range was requested.
+		 */
+		private final Long offset;
+
+		/**
+		 * Position of the last byte (inclusive).
+		 */
+		private final long end;
+
+		ByteRange(Long offset, long end) {
+			this.offset = offset;
+			this.end = end;
+		}
+
+		long start() {
+			return offset == null ? 0 : offset;
+		}
+
+		long length() {
+			return end + 1 - start();
+		}
+	}
+
 }
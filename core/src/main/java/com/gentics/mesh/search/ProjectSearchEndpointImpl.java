@@ -4,6 +4,8 @@ import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.POST;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -72,16 +74,16 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 * Add various search endpoints using the aggregation nodes.
 	 */
 	private void addSearchEndpoints() {
-		registerSearchHandler("nodes", (uuid) -> {
-			return db.index().findByUuid(NodeImpl.class, uuid);
+		registerSearchHandler("nodes", (uuids) -> {
+			return db.index().findByUuids(NodeImpl.class, uuids);
 		}, NodeListResponse.class, nodeSearchHandler, nodeExamples.getNodeListResponse(), true);
 
-		registerSearchHandler("tags", (uuid) -> {
-			return boot.meshRoot().getTagRoot().findByUuid(uuid);
+		registerSearchHandler("tags", (uuids) -> {
+			return boot.meshRoot().getTagRoot().findByUuids(uuids);
 		}, TagListResponse.class, tagSearchHandler, tagExamples.createTagListResponse(), false);
 
-		registerSearchHandler("tagFamilies", (uuid) -> {
-			return boot.meshRoot().getTagFamilyRoot().findByUuid(uuid);
+		registerSearchHandler("tagFamilies", (uuids) -> {
+			return boot.meshRoot().getTagFamilyRoot().findByUuids(uuids);
 		}, TagFamilyListResponse.class, tagFamilySearchHandler, tagFamilyExamples.getTagFamilyListResponse(), false);
 	}
 
@@ -91,7 +93,7 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 * @param typeName
 	 *            Name of the search endpoint
 	 * @param elementLoader
-	 *            Loader function which will load the element with the given uuid from the graph.
+	 *            Loader function which will load the elements with the given uuids from the graph.
 	 * @param classOfRL
 	 *            Class of matching list response
 	 * @param indexHandlerKey
@@ -102,7 +104,7 @@ public class ProjectSearchEndpointImpl extends AbstractProjectEndpoint implement
 	 *            Whether to append the language filter
 	 */
 	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> void registerSearchHandler(String typeName,
-		Function<String, T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
+		Function<Collection<String>, Map<String, T>> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleResponse, boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
 		endpoint.method(POST);
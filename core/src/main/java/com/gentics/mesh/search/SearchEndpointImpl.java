@@ -5,6 +5,8 @@ import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.vertx.core.http.HttpMethod.GET;
 import static io.vertx.core.http.HttpMethod.POST;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.function.Function;
 
 import javax.inject.Inject;
@@ -107,32 +109,32 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 	 * Add various search endpoints using the aggregation nodes.
 	 */
 	private void addSearchEndpoints() {
-		registerHandler("users", (uuid) -> boot.get().meshRoot().getUserRoot().findByUuid(uuid), UserListResponse.class, userSearchHandler,
+		registerHandler("users", (uuids) -> boot.get().meshRoot().getUserRoot().findByUuids(uuids), UserListResponse.class, userSearchHandler,
 			userExamples.getUserListResponse(), false);
-		registerHandler("groups", (uuid) -> boot.get().meshRoot().getGroupRoot().findByUuid(uuid), GroupListResponse.class, groupSearchHandler,
+		registerHandler("groups", (uuids) -> boot.get().meshRoot().getGroupRoot().findByUuids(uuids), GroupListResponse.class, groupSearchHandler,
 			groupExamples.getGroupListResponse(), false);
-		registerHandler("roles", (uuid) -> boot.get().meshRoot().getRoleRoot().findByUuid(uuid), RoleListResponse.class, roleSearchHandler,
+		registerHandler("roles", (uuids) -> boot.get().meshRoot().getRoleRoot().findByUuids(uuids), RoleListResponse.class, roleSearchHandler,
 			roleExamples.getRoleListResponse(), false);
 
-		registerHandler("nodes", (uuid) -> {
-			Node node = db.index().findByUuid(NodeImpl.class, uuid);
-			return node;
+		registerHandler("nodes", (uuids) -> {
+			Map<String, Node> nodes = db.index().findByUuids(NodeImpl.class, uuids);
+			return nodes;
 		}, NodeListResponse.class, nodeSearchHandler, nodeExamples.getNodeListResponse(), true);
 
-		registerHandler("tags", (uuid) -> boot.get().meshRoot().getTagRoot().findByUuid(uuid), TagListResponse.class, tagSearchHandler, tagExamples
+		registerHandler("tags", (uuids) -> boot.get().meshRoot().getTagRoot().findByUuids(uuids), TagListResponse.class, tagSearchHandler, tagExamples
 			.createTagListResponse(), false);
-		registerHandler("tagFamilies", (uuid) -> boot.get().meshRoot().getTagFamilyRoot().findByUuid(uuid), TagFamilyListResponse.class,
+		registerHandler("tagFamilies", (uuids) -> boot.get().meshRoot().getTagFamilyRoot().findByUuids(uuids), TagFamilyListResponse.class,
 			tagFamilySearchHandler,
 			tagFamilyExamples.getTagFamilyListResponse(), false);
 
-		registerHandler("projects", (uuid) -> boot.get().meshRoot().getProjectRoot().findByUuid(uuid), ProjectListResponse.class,
+		registerHandler("projects", (uuids) -> boot.get().meshRoot().getProjectRoot().findByUuids(uuids), ProjectListResponse.class,
 			projectSearchHandler, projectExamples
 				.getProjectListResponse(),
 			false);
-		registerHandler("schemas", (uuid) -> boot.get().meshRoot().getSchemaContainerRoot().findByUuid(uuid), SchemaListResponse.class,
+		registerHandler("schemas", (uuids) -> boot.get().meshRoot().getSchemaContainerRoot().findByUuids(uuids), SchemaListResponse.class,
 			schemaContainerSearchHandler,
 			schemaExamples.getSchemaListResponse(), false);
-		registerHandler("microschemas", (uuid) -> boot.get().meshRoot().getMicroschemaContainerRoot().findByUuid(uuid), MicroschemaListResponse.class,
+		registerHandler("microschemas", (uuids) -> boot.get().meshRoot().getMicroschemaContainerRoot().findByUuids(uuids), MicroschemaListResponse.class,
 			microschemaContainerSearchHandler, microschemaExamples.getMicroschemaListResponse(), false);
 		addAdminHandlers();
 	}
@@ -195,7 +197,7 @@ public class SearchEndpointImpl extends AbstractInternalEndpoint implements Sear
 	 *            Class of matching list response
 	 */
 	private <T extends MeshCoreVertex<TR, T>, TR extends RestModel, RL extends ListResponse<TR>> void registerHandler(String typeName,
-		Function<String, T> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse,
+		Function<Collection<String>, Map<String, T>> elementLoader, Class<RL> classOfRL, SearchHandler<T, TR> searchHandler, RL exampleListResponse,
 		boolean filterByLanguage) {
 		InternalEndpointRoute endpoint = createRoute();
 		endpoint.path("/" + typeName);
@@ -0,0 +1,85 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class BranchHierarchyCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testParentIsCached() {
+		try (Tx tx = db().readOnlyTx()) {
+			BranchHierarchyCache cache = meshDagger().branchHierarchyCache();
+			String branchUuid = project().getLatestBranch().getUuid();
+			Node node = folder("2015");
+			assertEquals(folder("news").getUuid(), node.getParentNode(branchUuid).getUuid());
+
+			CachedNodeReference parent = cache.getParent(branchUuid, node.getUuid(), () -> {
+				throw new AssertionError("The parent should have been cached.");
+			});
+			assertEquals(folder("news").getUuid(), parent.getUuid());
+		}
+	}
+
+	@Test
+	public void testMoveUpdatesHierarchy() {
+		try (Tx tx = tx()) {
+			String branchUuid = project().getLatestBranch().getUuid();
+			Node node = folder("2015");
+			Node news = folder("news");
+			Node deals = folder("deals");
+			assertEquals(news.getUuid(), node.getParentNode(branchUuid).getUuid());
+			assertTrue(childUuids(news, branchUuid).contains(node.getUuid()));
+			assertFalse(childUuids(deals, branchUuid).contains(node.getUuid()));
+
+			EventQueueBatch batch = createBatch();
+			node.moveTo(mockActionContext(), deals, batch);
+
+			assertEquals("The moved node should be visible within the transaction.", deals.getUuid(), node.getParentNode(branchUuid).getUuid());
+			assertFalse(childUuids(news, branchUuid).contains(node.getUuid()));
+			assertTrue(childUuids(deals, branchUuid).contains(node.getUuid()));
+		}
+	}
+
+	@Test
+	public void testWriteTransactionDoesNotFillCache() {
+		String branchUuid = tx(() -> project().getLatestBranch().getUuid());
+		String nodeUuid = tx(() -> folder("2015").getUuid());
+		try (Tx tx = tx()) {
+			Node node = folder("2015");
+			node.moveTo(mockActionContext(), folder("deals"), createBatch());
+			assertEquals(folder("deals").getUuid(), node.getParentNode(branchUuid).getUuid());
+			tx.failure();
+		}
+
+		BranchHierarchyCache cache = meshDagger().branchHierarchyCache();
+		try (Tx tx = db().readOnlyTx()) {
+			assertEquals("The rolled back move must not be cached.", folder("news").getUuid(), folder("2015").getParentNode(branchUuid).getUuid());
+			CachedNodeReference parent = cache.getParent(branchUuid, nodeUuid, () -> {
+				throw new AssertionError("The parent should have been cached.");
+			});
+			assertEquals(folder("news").getUuid(), parent.getUuid());
+		}
+	}
+
+	private List<String> childUuids(Node node, String branchUuid) {
+		return node.getChildren(user(), branchUuid, null, DRAFT)
+			.map(Node::getUuid)
+			.collect(Collectors.toList());
+	}
+
+}
@@ -1,23 +1,43 @@
 package com.gentics.mesh.cache;
 
+import static com.gentics.mesh.core.rest.MeshEvent.GROUP_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 import com.gentics.mesh.cache.impl.EventAwareCacheImpl;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
 import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.event.EventBatch;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.event.impl.EventBatchCodec;
+import com.gentics.mesh.event.impl.EventQueueBatchImpl;
 import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.UUIDUtil;
 
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+
 @MeshTestSetting(testSize = FULL, startServer = true)
 public class EventAwareCacheTest extends AbstractMeshTest {
 
@@ -58,4 +78,76 @@ public class EventAwareCacheTest extends AbstractMeshTest {
 		assertNull("The cache entry should have been invalidated.", USER_STATE_CACHE.get(userUuid()));
 		assertTrue("The other cache entry should be still in the cache.", USER_STATE_CACHE.get(uuid2));
 	}
+
+	@Test
+	public void testBatchedEvents() throws InterruptedException {
+		MeshOptions options = new MeshOptions();
+		options.getMonitoringOptions().setEnabled(false);
+		List<String> received = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch = new CountDownLatch(3);
+		EventAwareCache<String, Boolean> cache = new EventAwareCacheImpl.Builder<String, Boolean>()
+			.events(USER_UPDATED)
+			.action((event, c) -> {
+				received.add(event.body().getString("uuid"));
+				latch.countDown();
+			})
+			.setMetricsService(mock(MetricsService.class))
+			.meshOptions(options)
+			.name("testcache")
+			.vertx(vertx())
+			.build();
+		List<String> individual = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch individualLatch = new CountDownLatch(1);
+		MessageConsumer<JsonObject> consumer = vertx().eventBus().consumer(USER_UPDATED.address, message -> {
+			individual.add(message.body().getString("uuid"));
+			individualLatch.countDown();
+		});
+
+		// The batch will only be dispatched as envelope
+		String uuid1 = UUIDUtil.randomUUID();
+		String uuid2 = UUIDUtil.randomUUID();
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx());
+		batch.add(event(USER_UPDATED, uuid1));
+		batch.add(event(GROUP_UPDATED, UUIDUtil.randomUUID()));
+		batch.add(event(USER_UPDATED, uuid2));
+		batch.dispatch();
+
+		// A single event is dispatched without envelope
+		String uuid3 = UUIDUtil.randomUUID();
+		batch.add(event(USER_UPDATED, uuid3));
+		batch.dispatch();
+
+		assertTrue("The events were not received in time.", latch.await(10, TimeUnit.SECONDS));
+		assertTrue("The single event was not received in time.", individualLatch.await(10, TimeUnit.SECONDS));
+		consumer.unregister();
+		assertEquals("Each event should be handled exactly once.", 3, received.size());
+		assertTrue(received.containsAll(Arrays.asList(uuid1, uuid2, uuid3)));
+		assertEquals("Only the single event should have been published individually.", Arrays.asList(uuid3), individual);
+	}
+
+	@Test
+	public void testEventBatchCodec() {
+		String uuid = UUIDUtil.randomUUID();
+		EventBatch batch = new EventBatch(Arrays.<MeshEventModel>asList(event(USER_UPDATED, uuid), event(GROUP_UPDATED, uuid)));
+		EventBatchCodec codec = new EventBatchCodec();
+		Buffer buffer = Buffer.buffer("prefix");
+		codec.encodeToWire(buffer, batch);
+		EventBatch decoded = codec.decodeFromWire("prefix".length(), buffer);
+
+		assertEquals(2, decoded.getEntries().size());
+		MeshElementEventModelImpl first = (MeshElementEventModelImpl) decoded.getEntries().get(0);
+		assertEquals(USER_UPDATED, first.getEvent());
+		assertEquals(uuid, first.getUuid());
+		assertEquals("someone", first.getName());
+		assertEquals(GROUP_UPDATED, decoded.getEntries().get(1).getEvent());
+		assertSame("Local deliveries should not copy the batch.", batch, codec.transform(batch));
+	}
+
+	private MeshElementEventModelImpl event(MeshEvent event, String uuid) {
+		MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		model.setName("someone");
+		return model;
+	}
 }
@@ -0,0 +1,76 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.Role;
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = false)
+public class PermissionCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testRevokeInvalidatesOnlyElement() {
+		try (Tx tx = tx()) {
+			PermissionCache cache = meshDagger().permissionCache();
+			User user = user();
+			Node node = content();
+			Node other = folder("news");
+			assertTrue(user.hasPermission(node, READ_PERM));
+			assertTrue(user.hasPermission(other, READ_PERM));
+			assertTrue("The permission should have been cached.", cache.hasPermission(user.id(), READ_PERM, node.id()));
+
+			role().revokePermissions(other, READ_PERM);
+			assertFalse(cache.hasPermission(user.id(), READ_PERM, other.id()));
+			assertTrue("Revoking the permission of another element should not affect the entry.", cache.hasPermission(user.id(), READ_PERM, node.id()));
+
+			role().revokePermissions(node, READ_PERM);
+			assertFalse(cache.hasPermission(user.id(), READ_PERM, node.id()));
+			assertFalse(user.hasPermission(node, READ_PERM));
+		}
+	}
+
+	@Test
+	public void testRoleSetInvalidation() {
+		try (Tx tx = tx()) {
+			PermissionCache cache = meshDagger().permissionCache();
+			User user = user();
+			Node node = content();
+			assertTrue(user.hasPermission(node, READ_PERM));
+			RoleSet roles = cache.getRoleSet(user.id(), () -> {
+				throw new AssertionError("The role set should have been cached.");
+			});
+			assertTrue(roles.contains(role().getUuid()));
+
+			Role extraRole = boot().roleRoot().create("extra_role", user());
+			group().addRole(extraRole);
+			assertFalse("The role set of the user should have been invalidated.", cache.hasPermission(user.id(), READ_PERM, node.id()));
+			assertTrue(user.hasPermission(node, READ_PERM));
+			assertTrue(cache.getRoleSet(user.id(), () -> null).contains(extraRole.getUuid()));
+
+			group().removeRole(role());
+			assertFalse(user.hasPermission(node, READ_PERM));
+		}
+	}
+
+	@Test
+	public void testRoleSetInterning() {
+		RoleSet roles = RoleSet.of(Arrays.asList("b", "a", "a"));
+		assertSame(roles, RoleSet.of(Arrays.asList("a", "b")));
+		assertTrue(roles.containsAny(Arrays.asList("c", "b")));
+		assertFalse(roles.containsAny(null));
+		assertFalse(RoleSet.EMPTY.containsAny(Arrays.asList("a")));
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.UNAUTHORIZED;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.user.UserAPITokenResponse;
+import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class PrincipalCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testUserUpdateInvalidatesEntry() {
+		PrincipalCache cache = meshDagger().principalCache();
+		String uuid = userUuid();
+		call(() -> client().me());
+		assertNotNull("The principal should have been cached.", cache.get(uuid));
+
+		UserUpdateRequest request = new UserUpdateRequest();
+		request.setEmailAddress("updated@example.com");
+		call(() -> client().updateUser(uuid, request));
+		assertNull("The entry should have been invalidated by the update event.", cache.get(uuid));
+
+		assertEquals("updated@example.com", call(() -> client().me()).getEmailAddress());
+		assertNotNull(cache.get(uuid));
+	}
+
+	@Test
+	public void testDeletedUserIsRejected() {
+		PrincipalCache cache = meshDagger().principalCache();
+		String uuid = userUuid();
+		call(() -> client().me());
+		assertNotNull("The principal should have been cached.", cache.get(uuid));
+
+		// Remove the user without an event, so that the entry is still cached. The missing vertex is detected once the user is accessed.
+		tx(() -> {
+			user().getElement().remove();
+		});
+		call(() -> client().me(), UNAUTHORIZED, "error_not_authorized");
+		assertNull("The entry of the deleted user should have been invalidated.", cache.get(uuid));
+	}
+
+	@Test
+	public void testDeleteInvalidatesEntryOnCommit() {
+		PrincipalCache cache = meshDagger().principalCache();
+		String uuid = userUuid();
+		call(() -> client().me());
+		assertNotNull("The principal should have been cached.", cache.get(uuid));
+
+		tx(() -> {
+			user().delete(createBulkContext());
+		});
+		assertNull("The entry should have been invalidated once the deletion was committed.", cache.get(uuid));
+	}
+
+	@Test
+	public void testCachedAPIKeyIsRevoked() {
+		String uuid = userUuid();
+		UserAPITokenResponse response = call(() -> client().issueAPIToken(uuid));
+		client().setLogin(null, null);
+		client().setAPIKey(response.getToken());
+		call(() -> client().findUserByUuid(uuid));
+
+		call(() -> client().invalidateAPIToken(uuid));
+		call(() -> client().findUserByUuid(uuid), UNAUTHORIZED, "error_not_authorized");
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.gentics.mesh.cache;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.path.Path;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class WebrootPathCacheTest extends AbstractMeshTest {
+
+	@Test
+	public void testUpdateOnlyEvictsDependentPaths() {
+		String uuid = tx(() -> folder("2015").getUuid());
+		webroot("/News");
+		webroot("/News/2015");
+		webroot("/News/2015/News_2015.en.html");
+		assertNotNull(cachedPath("/News"));
+		assertNotNull(cachedPath("/News/2015"));
+
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = before.toRequest();
+		request.getFields().put("slug", FieldUtil.createStringField("2016"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		assertNotNull("The parent path does not depend on the updated node.", cachedPath("/News"));
+		assertNull("The path of the updated node should have been evicted.", cachedPath("/News/2015"));
+		assertNull("The paths below the updated node should have been evicted.", cachedPath("/News/2015/News_2015.en.html"));
+		webroot("/News/2016");
+	}
+
+	@Test
+	public void testNotFoundPathIsEvicted() {
+		String path = "/News/2016";
+		call(() -> client().webroot(PROJECT_NAME, path, new VersioningParametersImpl().draft()), NOT_FOUND, "node_not_found_for_path", path);
+		assertNotNull(cachedPath(path));
+
+		String uuid = tx(() -> folder("2015").getUuid());
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = before.toRequest();
+		request.getFields().put("slug", FieldUtil.createStringField("2016"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		assertNull("Paths which could not be resolved depend on all nodes.", cachedPath(path));
+		webroot(path);
+	}
+
+	@Test
+	public void testChangeWhileResolvingInvalidatesEntry() {
+		WebrootPathCache cache = meshDagger().webrootPathCache();
+		String uuid = tx(() -> folder("2015").getUuid());
+		webroot("/News/2015");
+		Path resolved = cachedPath("/News/2015");
+		assertNotNull(resolved);
+		long generation = cache.generation();
+
+		NodeResponse before = call(() -> client().findNodeByUuid(PROJECT_NAME, uuid));
+		NodeUpdateRequest request = before.toRequest();
+		request.getFields().put("slug", FieldUtil.createStringField("2016"));
+		call(() -> client().updateNode(PROJECT_NAME, uuid, request));
+
+		// Store the path as if it had been resolved before the update event was received
+		try (Tx tx = tx()) {
+			cache.store(project(), project().getLatestBranch(), ContainerType.DRAFT, "/News/2015", resolved, false, generation);
+		}
+		assertNull("The entry must be invalid since the node was changed after the generation was read.", cachedPath("/News/2015"));
+	}
+
+	private void webroot(String path) {
+		call(() -> client().webroot(PROJECT_NAME, path, new VersioningParametersImpl().draft()));
+	}
+
+	private Path cachedPath(String path) {
+		try (Tx tx = tx()) {
+			return meshDagger().webrootPathCache().getPath(project(), project().getLatestBranch(), ContainerType.DRAFT, path);
+		}
+	}
+
+}
@@ -21,7 +21,9 @@ import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 
 import dagger.Lazy;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.FileUpload;
 import io.vertx.reactivex.core.Vertx;
 
@@ -42,6 +44,24 @@ public class TikaBinaryProcessorTest extends AbstractMeshTest {
 		consumer.accept(field);
 	}
 
+	@Test
+	public void tikaStreamingTest() throws FileNotFoundException, IOException {
+		Lazy<Vertx> lazy = Mockito.mock(Lazy.class);
+		when(lazy.get()).thenReturn(Vertx.vertx());
+		TikaBinaryProcessor processor = new TikaBinaryProcessor(lazy, new MeshOptions());
+		FileUpload ul = mockUpload("test.pdf", "application/pdf");
+
+		byte[] bytes = IOUtils.toByteArray(getClass().getResourceAsStream("/testfiles/test.pdf"));
+		// Split the data into multiple buffers to simulate a streamed upload
+		Flowable<Buffer> data = Flowable.range(0, (bytes.length + 8191) / 8192)
+			.map(i -> Buffer.buffer().appendBytes(bytes, i * 8192, Math.min(8192, bytes.length - i * 8192)));
+
+		Consumer<BinaryGraphField> consumer = processor.process(ul, data).blockingGet();
+		BinaryGraphField field = Mockito.mock(BinaryGraphField.class);
+		consumer.accept(field);
+		Mockito.verify(field, Mockito.atLeastOnce()).setMetadata(Mockito.anyString(), Mockito.anyString());
+	}
+
 	private FileUpload mockUpload(String name, String contentType) throws FileNotFoundException, IOException {
 		FileUpload ul = mock(FileUpload.class);
 		File target = new File("target", "testupload.pdf");
@@ -4,15 +4,19 @@ package com.gentics.mesh.core.eventbus;
 import com.gentics.mesh.FieldUtil;
 import com.gentics.mesh.assertj.MeshAssertions;
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
 import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
 import com.gentics.mesh.core.rest.node.NodeResponse;
 import com.gentics.mesh.core.rest.node.NodeUpdateRequest;
+import com.gentics.mesh.event.EventQueueBatch;
+import com.gentics.mesh.event.impl.EventQueueBatchImpl;
 import com.gentics.mesh.json.JsonUtil;
 import com.gentics.mesh.rest.client.MeshRestClientUtil;
 import com.gentics.mesh.rest.client.MeshWebsocket;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.util.RxUtil;
+import com.gentics.mesh.util.UUIDUtil;
 import io.reactivex.Completable;
 import io.reactivex.subjects.CompletableSubject;
 import io.vertx.core.json.JsonObject;
@@ -29,6 +33,7 @@ import static com.gentics.mesh.core.rest.MeshEvent.NODE_CREATED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_DELETED;
 import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
 import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
 import static com.gentics.mesh.test.ClientHelper.call;
 import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
 import static com.gentics.mesh.test.TestSize.FULL;
@@ -76,6 +81,31 @@ public class EventbusEndpointTest extends AbstractMeshTest {
 		vertx().eventBus().publish(allowedAddress.address, new JsonObject().put("test", "someValue"));
 	}
 
+	@Test(timeout = 4_000)
+	public void testBatchedEvents(TestContext context) throws Exception {
+		Async async = context.async(2);
+
+		ws.registerEvents(USER_UPDATED);
+
+		ws.events().take(2).subscribe(event -> {
+			MeshElementEventModelImpl body = JsonUtil.readValue(event.getBodyAsJson().toString(), MeshElementEventModelImpl.class);
+			context.assertEquals("someone", body.getName());
+			async.countDown();
+		});
+
+		Thread.sleep(1000);
+		// The events of the batch are only published within the envelope
+		EventQueueBatch batch = new EventQueueBatchImpl(vertx());
+		for (int i = 0; i < 2; i++) {
+			MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+			model.setEvent(USER_UPDATED);
+			model.setUuid(UUIDUtil.randomUUID());
+			model.setName("someone");
+			batch.add(model);
+		}
+		batch.dispatch();
+	}
+
 	@Test(timeout = 4_000)
 	public void testNodeDeleteEvent(TestContext context) throws Exception {
 		Async async = context.async();
@@ -0,0 +1,76 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.gentics.madl.tx.Tx;
+import com.gentics.mesh.core.data.relationship.GraphPermission;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.core.rest.graphql.GraphQLError;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLDataLoaderTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ nodes(perPage: 1000) { elements { uuid parent { uuid } breadcrumb { uuid } editor { uuid } } } }";
+
+	@Test
+	public void testBatchedRelations() {
+		Map<String, NodeResponse> nodes = call(() -> client().findNodes(PROJECT_NAME, new PagingParametersImpl(1, 1000L))).getData().stream()
+			.collect(Collectors.toMap(NodeResponse::getUuid, Function.identity()));
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+		assertNull("The query should not yield errors.", response.getErrors());
+		JsonArray elements = response.getData().getJsonObject("nodes").getJsonArray("elements");
+		assertEquals(nodes.size(), elements.size());
+
+		for (int i = 0; i < elements.size(); i++) {
+			JsonObject element = elements.getJsonObject(i);
+			NodeResponse node = nodes.get(element.getString("uuid"));
+			JsonObject parent = element.getJsonObject("parent");
+			if (node.getParentNode() == null) {
+				assertNull("The base node should have no parent.", parent);
+			} else {
+				assertEquals("The parent of node {" + node.getUuid() + "} did not match.", node.getParentNode().getUuid(), parent.getString("uuid"));
+			}
+			assertEquals(node.getBreadcrumb().size(), element.getJsonArray("breadcrumb").size());
+			assertEquals(node.getEditor().getUuid(), element.getJsonObject("editor").getString("uuid"));
+		}
+	}
+
+	@Test
+	public void testBatchedParentWithoutPermission() {
+		try (Tx tx = tx()) {
+			role().revokePermissions(folder("news"), GraphPermission.READ_PERM, GraphPermission.READ_PUBLISHED_PERM);
+			tx.success();
+		}
+		String newsUuid = tx(() -> folder("news").getUuid());
+		String childUuid = tx(() -> folder("2015").getUuid());
+
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, "{ node(uuid: \"" + childUuid + "\") { uuid parent { uuid } } }"));
+		assertFalse("The missing permission on the parent {" + newsUuid + "} should be reported.", response.getErrors().isEmpty());
+		GraphQLError error = response.getErrors().get(0);
+		assertEquals("The permission error of the loader should not be wrapped.", PermissionException.TYPE, error.getType());
+		assertEquals(PermissionException.i18nKey, error.getMessage());
+		assertEquals(newsUuid, error.getElementId());
+		assertNull(response.getData().getJsonObject("node").getValue("parent"));
+	}
+
+}
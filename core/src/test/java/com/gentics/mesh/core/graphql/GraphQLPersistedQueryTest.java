@@ -0,0 +1,71 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import org.json.JSONException;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLRequest;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+import com.gentics.mesh.util.FileUtils;
+import com.gentics.mesh.util.MeshJSONAssert;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLPersistedQueryTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{me{firstname}}";
+
+	@Test
+	public void testPersistedQuery() throws Exception {
+		String hash = sha256(QUERY);
+
+		// The query is not yet known
+		GraphQLRequest hashOnly = new GraphQLRequest().setExtensions(persistedQuery(hash));
+		GraphQLResponse response = call(() -> client().graphql(PROJECT_NAME, hashOnly));
+		assertEquals(1, response.getErrors().stream().filter(error -> error.getType().equals("PersistedQueryNotFound")).count());
+
+		// Register the query by sending it along with the hash
+		GraphQLRequest withQuery = new GraphQLRequest().setQuery(QUERY).setExtensions(persistedQuery(hash));
+		response = call(() -> client().graphql(PROJECT_NAME, withQuery));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+
+		// Now the hash is sufficient
+		response = call(() -> client().graphql(PROJECT_NAME, hashOnly));
+		MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+	}
+
+	@Test
+	public void testHashMismatch() throws Exception {
+		String hash = sha256("{me{lastname}}");
+		GraphQLRequest request = new GraphQLRequest().setQuery(QUERY).setExtensions(persistedQuery(hash));
+		call(() -> client().graphql(PROJECT_NAME, request), BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+	}
+
+	@Test
+	public void testRepeatedQuery() throws JSONException {
+		for (int i = 0; i < 10; i++) {
+			GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, QUERY));
+			MeshJSONAssert.assertEquals("{'me':{'firstname':'Joe'}}", response.getData());
+		}
+	}
+
+	private JsonObject persistedQuery(String hash) {
+		return new JsonObject().put("persistedQuery", new JsonObject().put("version", 1).put("sha256Hash", hash));
+	}
+
+	private String sha256(String query) throws Exception {
+		MessageDigest md = MessageDigest.getInstance("SHA-256");
+		return FileUtils.bytesToHex(md.digest(query.getBytes(StandardCharsets.UTF_8)));
+	}
+}
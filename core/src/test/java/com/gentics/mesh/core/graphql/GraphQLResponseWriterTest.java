@@ -0,0 +1,62 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.handler.VersionHandler.CURRENT_API_BASE_PATH;
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.parameter.client.GraphQLParametersImpl;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+import io.vertx.core.json.JsonObject;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLResponseWriterTest extends AbstractMeshTest {
+
+	private static final String QUERY = "{ me { username } }";
+
+	@Test
+	public void testCompactResponse() throws IOException {
+		String body = httpPost(graphQLPath(), new JsonObject().put("query", QUERY)).execute().body().string();
+		assertFalse("The response should not contain line breaks by default.", body.contains("\n"));
+		assertEquals("anonymous", new JsonObject(body).getJsonObject("data").getJsonObject("me").getString("username"));
+	}
+
+	@Test
+	public void testPrettyResponse() throws IOException {
+		String body = httpPost(graphQLPath(), new JsonObject().put("query", QUERY), new GraphQLParametersImpl().setPretty(true)).execute().body()
+			.string();
+		assertTrue("The response should be pretty printed.", body.contains("\n"));
+		assertEquals("anonymous", new JsonObject(body).getJsonObject("data").getJsonObject("me").getString("username"));
+	}
+
+	@Test
+	public void testLargeResponse() {
+		// The response exceeds the chunk size of the writer and will thus be sent using chunked transfer encoding
+		StringBuilder query = new StringBuilder("{");
+		for (int i = 0; i < 500; i++) {
+			query.append("n" + i + ": nodes { elements { uuid } } ");
+		}
+		query.append("}");
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, query.toString()));
+		assertNull(response.getErrors());
+		for (int i = 0; i < 500; i++) {
+			assertFalse(response.getData().getJsonObject("n" + i).getJsonArray("elements").isEmpty());
+		}
+	}
+
+	private String graphQLPath() {
+		return CURRENT_API_BASE_PATH + "/" + PROJECT_NAME + "/graphql";
+	}
+
+}
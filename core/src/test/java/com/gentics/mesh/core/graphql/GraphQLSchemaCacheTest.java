@@ -0,0 +1,41 @@
+package com.gentics.mesh.core.graphql;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+import com.gentics.mesh.FieldUtil;
+import com.gentics.mesh.core.rest.graphql.GraphQLResponse;
+import com.gentics.mesh.core.rest.schema.impl.SchemaCreateRequest;
+import com.gentics.mesh.core.rest.schema.impl.SchemaResponse;
+import com.gentics.mesh.test.TestSize;
+import com.gentics.mesh.test.context.AbstractMeshTest;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@MeshTestSetting(testSize = TestSize.FULL, startServer = true)
+public class GraphQLSchemaCacheTest extends AbstractMeshTest {
+
+	private static final String TYPE_QUERY = "{ __type(name: \"dummy\") { name } }";
+
+	@Test
+	public void testSchemaAssignmentUpdatesCachedSchema() {
+		// Warm up the cache
+		GraphQLResponse response = call(() -> client().graphqlQuery(PROJECT_NAME, TYPE_QUERY));
+		assertNull("The type should not yet be part of the schema.", response.getData().getValue("__type"));
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, TYPE_QUERY));
+		assertNull("The type should not yet be part of the cached schema.", response.getData().getValue("__type"));
+
+		SchemaCreateRequest request = new SchemaCreateRequest();
+		request.setName("dummy");
+		request.addField(FieldUtil.createStringFieldSchema("text"));
+		SchemaResponse schema = call(() -> client().createSchema(request));
+		call(() -> client().assignSchemaToProject(PROJECT_NAME, schema.getUuid()));
+
+		response = call(() -> client().graphqlQuery(PROJECT_NAME, TYPE_QUERY));
+		assertEquals("The cached schema should have been replaced.", "dummy", response.getData().getJsonObject("__type").getString("name"));
+	}
+
+}
@@ -17,6 +17,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -463,6 +464,57 @@ public class NodeMigrationEndpointTest extends AbstractMeshTest {
 		assertThat(status).listsAll(COMPLETED).hasInfos(1).containsJobs(jobUuid);
 	}
 
+	@Test
+	public void testPartitionedSchemaMigration() throws Throwable {
+		final int nodeCount = 11;
+		String oldFieldName = "oldname";
+		String newFieldName = "changedfield";
+		options().getContentOptions().setMigrationWorkers(3).setMigrationBatchSize(2);
+		// The workers are only used when the writes are not synchronized
+		boolean synchronizeWrites = options().getStorageOptions().isSynchronizeWrites();
+		options().getStorageOptions().setSynchronizeWrites(false);
+		try {
+			SchemaContainer container = tx(() -> createDummySchemaWithChanges(oldFieldName, newFieldName, false));
+			List<Node> nodes = new ArrayList<>();
+			String jobUuid;
+			try (Tx tx = tx()) {
+				SchemaContainerVersion versionB = container.getLatestVersion();
+				SchemaContainerVersion versionA = versionB.getPreviousVersion();
+				User user = user();
+				EventQueueBatch batch = createBatch();
+				project().getLatestBranch().assignSchemaVersion(user, versionA, batch);
+				batch.dispatch();
+
+				Node parentNode = folder("2015");
+				for (int i = 0; i < nodeCount; i++) {
+					Node node = parentNode.create(user, versionA, project());
+					node.createGraphFieldContainer(english(), project().getLatestBranch(), user).createString(oldFieldName).setString("content " + i);
+					nodes.add(node);
+				}
+				jobUuid = project().getLatestBranch().assignSchemaVersion(user, versionB, batch).getUuid();
+				tx.success();
+			}
+
+			triggerAndWaitForJob(jobUuid);
+			try (Tx tx = tx()) {
+				SchemaContainerVersion versionB = container.getLatestVersion();
+				for (int i = 0; i < nodeCount; i++) {
+					Node node = nodes.get(i);
+					assertThat(node.getGraphFieldContainer("en")).as("Migrated field container").isOf(versionB).hasVersion("0.2");
+					assertEquals("content " + i, node.getGraphFieldContainer("en").getString(newFieldName).getString());
+				}
+			}
+
+			JobListResponse status = call(() -> client().findJobs());
+			assertThat(status).listsAll(COMPLETED).containsJobs(jobUuid);
+			assertEquals("The progress of all partitions should have been tracked.", nodeCount, status.getData().stream()
+				.filter(job -> job.getUuid().equals(jobUuid)).findFirst().get().getCompletionCount());
+		} finally {
+			options().getContentOptions().setMigrationWorkers(1).setMigrationBatchSize(1);
+			options().getStorageOptions().setSynchronizeWrites(synchronizeWrites);
+		}
+	}
+
 	@Test
 	public void testMigrateAddRawField() throws Throwable {
 
@@ -20,6 +20,9 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import org.junit.Test;
 
 import com.gentics.madl.tx.Tx;
@@ -45,6 +48,7 @@ import com.gentics.mesh.parameter.impl.PagingParametersImpl;
 import com.gentics.mesh.test.context.AbstractMeshTest;
 import com.gentics.mesh.test.context.MeshTestSetting;
 import com.gentics.mesh.test.util.TestUtils;
+import com.gentics.mesh.util.UUIDUtil;
 import com.google.common.collect.Iterables;
 
 import io.vertx.core.json.JsonArray;
@@ -254,6 +258,17 @@ public class UserTest extends AbstractMeshTest implements BasicObjectTestcases {
 		}
 	}
 
+	@Test
+	public void testFindByUuids() throws Exception {
+		try (Tx tx = tx()) {
+			String uuid = user().getUuid();
+			String groupUuid = group().getUuid();
+			Map<String, User> users = boot().userRoot().findByUuids(Arrays.asList(uuid, groupUuid, UUIDUtil.randomUUID()));
+			assertEquals("Only the user should be found since the group is not part of the user root.", 1, users.size());
+			assertEquals(uuid, users.get(uuid).getUuid());
+		}
+	}
+
 	@Test
 	@Override
 	public void testTransformation() throws Exception {
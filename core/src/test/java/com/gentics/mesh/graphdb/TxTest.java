@@ -4,6 +4,7 @@ import static com.gentics.mesh.test.TestSize.FULL;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -144,6 +145,87 @@ public class TxTest extends AbstractMeshTest {
 		assertEquals("OK", result);
 	}
 
+	@Test
+	public void testReadOnlyTx() {
+		UserRoot root = db().tx(() -> meshRoot().getUserRoot());
+		try (Tx tx = db().readOnlyTx()) {
+			assertNotNull(boot().userRoot().findByUsername(user().getUsername()));
+			assertNotNull(root.create("readonly", user()));
+			assertNotNull(boot().userRoot().findByUsername("readonly"));
+			tx.success();
+		}
+		try (Tx tx = tx()) {
+			assertNull("Changes of a read-only tx must not be committed.", boot().userRoot().findByUsername("readonly"));
+		}
+
+		// Explicit write transactions which are nested within a read-only tx must still be committed
+		db().readTx(() -> {
+			db().tx(() -> {
+				root.create("nested", user());
+			});
+			return null;
+		});
+		try (Tx tx = tx()) {
+			assertNotNull(boot().userRoot().findByUsername("nested"));
+		}
+	}
+
+	@Test
+	public void testAfterCommit() {
+		List<String> actions = new ArrayList<>();
+		try (Tx tx = tx()) {
+			tx.afterCommit(() -> actions.add("outer"));
+			try (Tx tx2 = tx()) {
+				tx2.afterCommit(() -> actions.add("nested"));
+				assertEquals("Actions must not run before the commit.", 0, actions.size());
+				tx2.success();
+			}
+			tx.success();
+		}
+		assertEquals(2, actions.size());
+
+		actions.clear();
+		try (Tx tx = tx()) {
+			tx.afterCommit(() -> actions.add("rolledBack"));
+			tx.failure();
+		}
+		try (Tx tx = tx()) {
+			tx.success();
+		}
+		assertEquals("Actions of a rolled back tx must be discarded.", 0, actions.size());
+	}
+
+	@Test
+	public void testFailingNestedAsyncWrite() {
+		String result = db().maybeTx(tx -> {
+			boot().userRoot().create("outer", user());
+			try {
+				db().maybeTx(nestedTx -> {
+					boot().userRoot().create("nested", user());
+					throw new RuntimeException("nested failure");
+				}).blockingGet();
+				fail("The nested write should have failed");
+			} catch (RuntimeException e) {
+				assertEquals("nested failure", e.getMessage());
+			}
+			return "OK";
+		}).blockingGet();
+		assertEquals("OK", result);
+
+		try (Tx tx = tx()) {
+			assertNotNull("The outer write should have been committed", boot().userRoot().findByUsername("outer"));
+			assertNull("The nested write should have been rolled back", boot().userRoot().findByUsername("nested"));
+		}
+	}
+
+	@Test
+	public void testAsyncReadTx() {
+		String username = db().asyncReadTx(() -> {
+			return Single.just(user().getUsername());
+		}).blockingGet();
+		assertEquals(db().tx(() -> user().getUsername()), username);
+	}
+
 	@Test
 	@Ignore
 	public void testUpdateMultithreaded() throws InterruptedException, BrokenBarrierException, TimeoutException {
@@ -0,0 +1,74 @@
+package com.gentics.mesh.search;
+
+import static com.gentics.mesh.test.ClientHelper.call;
+import static com.gentics.mesh.test.TestDataProvider.PROJECT_NAME;
+import static com.gentics.mesh.test.TestSize.FULL;
+import static com.gentics.mesh.test.context.MeshTestHelper.getSimpleQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import com.gentics.mesh.core.rest.node.NodeListResponse;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
+import com.gentics.mesh.parameter.impl.VersioningParametersImpl;
+import com.gentics.mesh.test.context.ElasticsearchTestMode;
+import com.gentics.mesh.test.context.MeshTestSetting;
+
+@RunWith(Parameterized.class)
+@MeshTestSetting(testSize = FULL, startServer = true)
+public class NodeSourceSearchEndpointTest extends AbstractNodeSearchEndpointTest {
+
+	public NodeSourceSearchEndpointTest(ElasticsearchTestMode elasticsearch) throws Exception {
+		super(elasticsearch);
+	}
+
+	@Test
+	public void testSearchWithSource() throws Exception {
+		recreateIndices();
+		String query = getSimpleQuery("fields.content", "supersonic");
+
+		NodeListResponse expected = call(() -> client().searchNodes(PROJECT_NAME, query, new VersioningParametersImpl().draft()));
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, query, new VersioningParametersImpl().draft(),
+			new SearchParametersImpl().setSource(true)));
+
+		assertThat(expected.getData()).hasSize(1);
+		assertThat(response.getData()).hasSize(1);
+		assertEquals(expected.getMetainfo().getTotalCount(), response.getMetainfo().getTotalCount());
+
+		NodeResponse expectedNode = expected.getData().get(0);
+		NodeResponse node = response.getData().get(0);
+		assertEquals(expectedNode.getUuid(), node.getUuid());
+		assertEquals(expectedNode.getLanguage(), node.getLanguage());
+		assertEquals(expectedNode.getSchema().getName(), node.getSchema().getName());
+		assertEquals(expectedNode.getParentNode().getUuid(), node.getParentNode().getUuid());
+		assertEquals(expectedNode.getDisplayName(), node.getDisplayName());
+		assertEquals(expectedNode.getFields().getStringField("slug").getString(), node.getFields().getStringField("slug").getString());
+		// Html fields are not stored unaltered in the index and must be loaded from the graph
+		assertEquals(expectedNode.getFields().getHtmlField("content").getHTML(), node.getFields().getHtmlField("content").getHTML());
+		// The information which is not stored in the index is omitted
+		assertNull(node.getVersion());
+		assertNull(node.getBreadcrumb());
+		assertNull(node.getChildrenInfo());
+	}
+
+	@Test
+	public void testSearchWithSourceFields() throws Exception {
+		recreateIndices();
+		String query = getSimpleQuery("fields.content", "supersonic");
+
+		NodeListResponse response = call(() -> client().searchNodes(PROJECT_NAME, query, new VersioningParametersImpl().draft(),
+			new SearchParametersImpl().setSource(true).setSourceFields("slug")));
+
+		assertThat(response.getData()).hasSize(1);
+		NodeResponse node = response.getData().get(0);
+		assertEquals("Concorde.en.html", node.getFields().getStringField("slug").getString());
+		assertNull("Only the requested fields should be included", node.getFields().getStringField("teaser"));
+		assertNull("Only the requested fields should be included", node.getFields().getHtmlField("content"));
+	}
+
+}
@@ -11,6 +11,8 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.codehaus.jettison.json.JSONException;
 import org.junit.Test;
@@ -22,7 +24,9 @@ import com.gentics.mesh.core.rest.user.UserCreateRequest;
 import com.gentics.mesh.core.rest.user.UserListResponse;
 import com.gentics.mesh.core.rest.user.UserResponse;
 import com.gentics.mesh.core.rest.user.UserUpdateRequest;
+import com.gentics.mesh.parameter.SearchParameters;
 import com.gentics.mesh.parameter.impl.PagingParametersImpl;
+import com.gentics.mesh.parameter.impl.SearchParametersImpl;
 import com.gentics.mesh.test.TestSize;
 import com.gentics.mesh.test.context.ElasticsearchTestMode;
 import com.gentics.mesh.test.context.MeshTestSetting;
@@ -104,6 +108,37 @@ public class UserSearchEndpointTest extends AbstractMultiESTest implements Basic
 		assertEquals("The total count did not match.", 20, list.getMetainfo().getTotalCount());
 	}
 
+	@Test
+	public void testCursorPaging() throws IOException {
+		String username = "testuser";
+		for (int i = 0; i < 25; i++) {
+			createUser(username + i);
+		}
+
+		waitForSearchIdleEvent();
+
+		String json = getESText("userWildcard.es");
+
+		Set<String> usernames = new HashSet<>();
+		String cursor = SearchParameters.FIRST_CURSOR;
+		int pages = 0;
+		while (cursor != null) {
+			String currentCursor = cursor;
+			UserListResponse list = call(() -> client().searchUsers(json, new PagingParametersImpl().setPerPage(10L),
+				new SearchParametersImpl().setCursor(currentCursor)));
+			assertEquals("The total count did not match.", 25, list.getMetainfo().getTotalCount());
+			for (UserResponse user : list.getData()) {
+				assertTrue("The user {" + user.getUsername() + "} was already part of a previous page.", usernames.add(user.getUsername()));
+			}
+			cursor = list.getMetainfo().getCursor();
+			pages++;
+		}
+		assertEquals("The last page should not return a cursor.", 3, pages);
+		assertEquals(25, usernames.size());
+
+		call(() -> client().searchUsers(json, new SearchParametersImpl().setCursor("bogus")), BAD_REQUEST, "search_error_cursor_invalid", "bogus");
+	}
+
 	@Test
 	public void testBogusQuery() throws IOException {
 		String username = "testuser42a";
@@ -10,6 +10,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.search.verticle.eventhandler.Util;
 import com.gentics.mesh.test.context.MeshTestContext;
 
@@ -91,13 +92,14 @@ public class EventAsserter {
 		if (!isRegistered) {
 			CompletableFuture<Void> fut = new CompletableFuture<>();
 			List<JsonObject> list = events.computeIfAbsent(event, e -> new ArrayList<>());
-			testContext.getVertx().eventBus().consumer(event.getAddress(), (Message<JsonObject> mh) -> {
+			// Events which were dispatched within a batch are unwrapped from the envelope
+			EventBatch.consumer(testContext.getVertx().eventBus(), (Message<JsonObject> mh) -> {
 				// Add the event to the list of events
 				JsonObject body = mh.body();
 				list.add(body);
 				eventSubject.onNext(Util.dummyObject);
 				fut.complete(null);
-			});
+			}, event);
 			futures.put(fut, event);
 		}
 
@@ -15,6 +15,7 @@ import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.job.JobListResponse;
 import com.gentics.mesh.core.rest.job.JobResponse;
 import com.gentics.mesh.core.rest.job.JobStatus;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.parameter.client.PagingParametersImpl;
 import com.gentics.mesh.search.verticle.ElasticsearchProcessVerticle;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
@@ -113,7 +114,17 @@ public interface EventHelper extends BaseHelper {
 	 * @throws TimeoutException
 	 */
 	default void waitForEvent(MeshEvent event, Action code) {
-		waitForEvent(event.address, code);
+		CountDownLatch latch = new CountDownLatch(1);
+		// Events which were dispatched within a batch are unwrapped from the envelope
+		List<MessageConsumer<?>> consumers = EventBatch.consumer(vertx().eventBus(), msg -> latch.countDown(), event);
+		try {
+			code.run();
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (Exception e) {
+			throw new RuntimeException(e);
+		} finally {
+			consumers.forEach(MessageConsumer::unregister);
+		}
 	}
 
 	/**
@@ -123,7 +134,7 @@ public interface EventHelper extends BaseHelper {
 	 * @throws TimeoutException
 	 */
 	default void waitForEvent(MeshEvent event) {
-		waitForEvent(event.address, () -> {
+		waitForEvent(event, () -> {
 		});
 	}
 
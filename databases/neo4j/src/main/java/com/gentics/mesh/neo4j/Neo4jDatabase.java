@@ -49,7 +49,7 @@ public class Neo4jDatabase extends AbstractDatabase {
 	@Inject
 	public Neo4jDatabase(Lazy<Vertx> vertx, MetricsService metrics, Neo4jTypeHandler typeHandler, Neo4jIndexHandler indexHandler,
 		Neo4jClusterManager clusterManager) {
-		super(vertx);
+		super(vertx, metrics);
 		this.metrics = metrics;
 		this.typeHandler = typeHandler;
 		this.indexHandler = indexHandler;
@@ -152,6 +152,7 @@ public class Neo4jDatabase extends AbstractDatabase {
 			txProvider.close();
 		}
 		clusterManager.stop();
+		closeTxExecutors();
 		Tx.setActive(null);
 	}
 
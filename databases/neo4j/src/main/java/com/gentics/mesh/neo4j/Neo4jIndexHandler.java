@@ -1,6 +1,9 @@
 package com.gentics.mesh.neo4j;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -72,4 +75,9 @@ public class Neo4jIndexHandler implements IndexHandler {
 		return null;
 	}
 
+	@Override
+	public <T extends VertexFrame> Map<String, T> findByUuids(Class<? extends T> classOfT, Collection<String> uuids) {
+		return Collections.emptyMap();
+	}
+
 }
@@ -116,7 +116,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 		OrientDBIndexHandler indexHandler,
 		OrientDBClusterManager clusterManager,
 		TxCleanupTask txCleanupTask) {
-		super(vertx);
+		super(vertx, metrics);
 		this.boot = boot;
 		this.metrics = metrics;
 		if (metrics != null) {
@@ -152,6 +152,7 @@ public class OrientDBDatabase extends AbstractDatabase {
 			txCleanupThread.interrupt();
 		}
 
+		closeTxExecutors();
 		Tx.setActive(null);
 	}
 
@@ -357,6 +358,11 @@ public class OrientDBDatabase extends AbstractDatabase {
 		return new OrientDBTx(this, boot.get(), txProvider, resolver);
 	}
 
+	@Override
+	public Tx readOnlyTx() {
+		return new OrientDBTx(this, boot.get(), txProvider, resolver, true);
+	}
+
 	@Override
 	public void blockingTopologyLockCheck() {
 		ClusterOptions clusterOptions = options.getClusterOptions();
@@ -4,7 +4,10 @@ import static com.gentics.mesh.graphdb.FieldTypeMapper.toSubType;
 import static com.gentics.mesh.graphdb.FieldTypeMapper.toType;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
 import javax.inject.Inject;
@@ -411,4 +414,37 @@ public class OrientDBIndexHandler implements IndexHandler {
 		}
 		return null;
 	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends VertexFrame> Map<String, T> findByUuids(Class<? extends T> classOfT, Collection<String> uuids) {
+		Class<?> foundImpl = persistenceClassMap.get(classOfT);
+		// Use the found impl when one was found.
+		if (foundImpl != null) {
+			classOfT = (Class<? extends T>) foundImpl;
+		}
+
+		Map<String, T> elements = new HashMap<>();
+		if (uuids.isEmpty()) {
+			return elements;
+		}
+		FramedGraph graph = Tx.get().getGraph();
+		Graph baseGraph = ((DelegatingFramedOrientGraph) graph).getBaseGraph();
+		OrientBaseGraph orientBaseGraph = ((OrientBaseGraph) baseGraph);
+		String type = "MeshVertexImpl";
+
+		OrientVertexType vertexType = orientBaseGraph.getVertexType(type);
+		if (vertexType != null) {
+			OIndex<?> index = vertexType.getClassIndex(type);
+			if (index != null) {
+				// Fetch all entries with a single cursor instead of one index lookup per uuid
+				OIndexCursor cursor = index.iterateEntries(uuids, false);
+				Entry<Object, OIdentifiable> entry;
+				while ((entry = cursor.nextEntry()) != null) {
+					elements.put((String) entry.getKey(), graph.getFramedVertexExplicit(classOfT, entry.getValue().getIdentity()));
+				}
+			}
+		}
+		return elements;
+	}
 }
@@ -32,12 +32,15 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	boolean isWrapped = false;
 
+	private final boolean readOnly;
+
 	private final TypeResolver typeResolver;
 	private final Database db;
 	private final BootstrapInitializer boot;
 
 	public OrientDBTx(Database db, BootstrapInitializer boot, OrientGraphFactory factory, TypeResolver typeResolver) {
 		this.db = db;
+		this.readOnly = false;
 		this.boot = boot;
 		this.typeResolver = typeResolver;
 		// Check if an active transaction already exists.
@@ -52,7 +55,21 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 	}
 
 	public OrientDBTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver) {
+		this(db, boot, provider, typeResolver, false);
+	}
+
+	/**
+	 * Create a new transaction. Read-only transactions will never be committed. Closing them will just discard the changes and release the graph.
+	 * 
+	 * @param db
+	 * @param boot
+	 * @param provider
+	 * @param typeResolver
+	 * @param readOnly
+	 */
+	public OrientDBTx(Database db, BootstrapInitializer boot, OrientStorage provider, TypeResolver typeResolver, boolean readOnly) {
 		this.db = db;
+		this.readOnly = readOnly;
 		this.boot = boot;
 		this.typeResolver = typeResolver;
 		// Check if an active transaction already exists.
@@ -68,6 +85,10 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 
 	@Override
 	public void close() {
+		if (readOnly) {
+			closeReadOnly();
+			return;
+		}
 		try {
 			if (isSuccess()) {
 				try {
@@ -98,6 +119,23 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 		}
 	}
 
+	/**
+	 * Close the read-only transaction. Wrapped transactions are left untouched since the outer transaction controls the commit. Otherwise the
+	 * transaction is rolled back which avoids the topology lock check, the commit and the version checks of the optimistic transaction.
+	 */
+	private void closeReadOnly() {
+		if (isWrapped) {
+			return;
+		}
+		try {
+			rollback();
+		} finally {
+			// Restore the old graph that was previously swapped with the current graph
+			getGraph().shutdown();
+			Tx.setActive(null);
+		}
+	}
+
 	@Override
 	public <T extends RawTraversalResult<?>> T traversal(Function<GraphTraversalSource, GraphTraversal<?, ?>> traverser) {
 		return (T) new RawTraversalResultImpl(traverser.apply(rawTraverse()), typeResolver);
@@ -136,5 +174,11 @@ public class OrientDBTx extends AbstractTx<FramedTransactionalGraph> {
 			log.error("Could not set mesh component attribute. Followup errors may happen.");
 		}
 		super.init(transactionalGraph);
+		if (!isWrapped) {
+			setReadOnly(readOnly);
+		} else if (!readOnly) {
+			// The changes of the wrapped write transaction end up in the graph of the outer transaction
+			setReadOnly(false);
+		}
 	}
 }
@@ -1,6 +1,5 @@
 package com.gentics.mesh.distributed;
 
-import static com.gentics.mesh.core.rest.MeshEvent.CLEAR_PERMISSION_STORE;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_DATABASE_CHANGE_STATUS;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_JOINED;
 import static com.gentics.mesh.core.rest.MeshEvent.CLUSTER_NODE_LEFT;
@@ -16,6 +15,7 @@ import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.cache.PermissionCache;
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.router.RouterStorage;
 import com.gentics.mesh.router.RouterStorageRegistry;
@@ -63,30 +63,26 @@ public class DistributedEventManager {
 		// Register for events which indicate that the cluster topology changes
 		eb.consumer(CLUSTER_NODE_JOINED.address, handler -> {
 			log.info("Received node joined event. Updating content structure information");
-			handleClusterTopologyUpdate(handler);
+			handleClusterTopologyUpdate(handler, true);
 		});
 		eb.consumer(CLUSTER_NODE_LEFT.address, handler -> {
 			log.info("Received node left event. Updating content structure information");
-			handleClusterTopologyUpdate(handler);
+			handleClusterTopologyUpdate(handler, true);
 		});
 
-		// Register for events which are send whenever the permission store must be invalidated.
-		eb.consumer(CLEAR_PERMISSION_STORE.address, handler -> {
-			log.debug("Received permissionstore clear event");
-			permCache.get().clear(false);
-		});
+		// Events which invalidate the permission store are handled by the permission cache itself.
 
 		// React on project creates
-		eb.consumer(Project.TYPE_INFO.getOnCreated().getAddress(), (Message<JsonObject> handler) -> {
+		EventBatch.consumer(eb, (Message<JsonObject> handler) -> {
 			log.info("Received project create event");
-			handleClusterTopologyUpdate(handler);
-		});
+			handleClusterTopologyUpdate(handler, false);
+		}, Project.TYPE_INFO.getOnCreated());
 
 		// React on project updates
-		eb.consumer(Project.TYPE_INFO.getOnUpdated().getAddress(), (Message<JsonObject> handler) -> {
+		EventBatch.consumer(eb, (Message<JsonObject> handler) -> {
 			log.info("Received project update event.");
-			handleClusterTopologyUpdate(handler);
-		});
+			handleClusterTopologyUpdate(handler, false);
+		}, Project.TYPE_INFO.getOnUpdated());
 
 		eb.consumer(CLUSTER_DATABASE_CHANGE_STATUS.address, (Message<JsonObject> handler) -> {
 			JsonObject info = handler.body();
@@ -95,12 +91,20 @@ public class DistributedEventManager {
 			DB_STATUS status = DB_STATUS.valueOf(info.getString("status"));
 			log.info("Received status update from node {" + node + ":" + db + "} - " + status.name());
 			if (ONLINE == status) {
-				handleClusterTopologyUpdate(handler);
+				handleClusterTopologyUpdate(handler, true);
 			}
 		});
 	}
 
-	private void handleClusterTopologyUpdate(Message<?> handler) {
+	/**
+	 * Synchronize the project routers and optionally invalidate the permission store.
+	 *
+	 * @param handler
+	 * @param clearPermissions
+	 *            Whether the permission store should be invalidated. Project changes don't affect the stored permissions since permission changes are
+	 *            distributed individually.
+	 */
+	private void handleClusterTopologyUpdate(Message<?> handler, boolean clearPermissions) {
 		if (log.isDebugEnabled()) {
 			log.debug("Synchronizing the project routers");
 		}
@@ -111,7 +115,9 @@ public class DistributedEventManager {
 			handler.fail(400, "Could not initialize projects.");
 		}
 		// Invalidate permission store since the permissions may have changed
-		permCache.get().clear();
+		if (clearPermissions) {
+			permCache.get().clear();
+		}
 	}
 
 	private void synchronizeProjectRoutes() throws InvalidNameException {
@@ -1,5 +1,7 @@
 package com.gentics.mesh.search;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
@@ -46,7 +48,8 @@ public interface SearchHandler<T extends MeshCoreVertex<RM, T>, RM extends RestM
 	 *
 	 * @param ac
 	 * @param elementLoader
-	 *            Loader function which can return graph elements for uuids
+	 *            Loader function which returns the graph elements for the uuids of a page of search hits. Uuids of elements which could not be found
+	 *            must be omitted in the returned map.
 	 * @param classOfRL
 	 *            Class of the rest model list that should be used when creating the response
 	 * @param indices
@@ -59,7 +62,7 @@ public interface SearchHandler<T extends MeshCoreVertex<RM, T>, RM extends RestM
 	 * @throws MeshJsonException
 	 * @throws MeshConfigurationException
 	 */
-	<RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<String, T> elementLoader, Class<RL> classOfRL,
+	<RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<Collection<String>, Map<String, T>> elementLoader, Class<RL> classOfRL,
 		boolean filterByLanguage)
 		throws InstantiationException, IllegalAccessException, InvalidArgumentException, MeshJsonException, MeshConfigurationException;
 
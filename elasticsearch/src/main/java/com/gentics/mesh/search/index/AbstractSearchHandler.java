@@ -7,9 +7,15 @@ import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 import static io.netty.handler.codec.http.HttpResponseStatus.SERVICE_UNAVAILABLE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -40,9 +46,11 @@ import com.gentics.mesh.error.InvalidArgumentException;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.etc.config.search.SearchType;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.json.MeshJsonException;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.SearchParameters;
 import com.gentics.mesh.search.DevNullSearchProvider;
 import com.gentics.mesh.search.SearchHandler;
 import com.gentics.mesh.search.SearchProvider;
@@ -51,7 +59,6 @@ import com.gentics.mesh.util.SearchWaitUtil;
 import com.gentics.mesh.util.Tuple;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
-import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -72,6 +79,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 	protected final MeshOptions options;
 	protected final IndexHandler<T> indexHandler;
 	protected final ComplianceMode complianceMode;
+	protected final SearchType searchType;
 
 	@Inject
 	public SearchWaitUtil waitUtil;
@@ -92,6 +100,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		this.options = options;
 		this.indexHandler = indexHandler;
 		this.complianceMode = options.getSearchOptions().getComplianceMode();
+		this.searchType = options.getSearchOptions().getSearchType();
 	}
 
 	/**
@@ -162,7 +171,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject queryOption = new JsonObject();
 			queryOption.put("index",
 				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
+			queryOption.put("search_type", searchType.getValue());
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
@@ -193,8 +202,8 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 	}
 
 	@Override
-	public <RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<String, T> elementLoader, Class<RL> classOfRL,
-		boolean filterLanguage)
+	public <RL extends ListResponse<RM>> void query(InternalActionContext ac, Function<Collection<String>, Map<String, T>> elementLoader,
+		Class<RL> classOfRL, boolean filterLanguage)
 		throws InstantiationException, IllegalAccessException, InvalidArgumentException, MeshJsonException, MeshConfigurationException {
 		if (searchProvider instanceof DevNullSearchProvider || searchProvider instanceof TrackingSearchProvider) {
 			ac.fail(error(SERVICE_UNAVAILABLE, "search_error_no_elasticsearch_configured"));
@@ -209,6 +218,8 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		if (perPage != null && perPage < 0) {
 			throw new InvalidArgumentException("The pageSize must always be zero or greater than zero");
 		}
+		String cursor = ac.getSearchParameters().getCursor();
+		JsonArray searchAfter = cursor == null ? null : decodeCursor(cursor);
 
 		RL listResponse = classOfRL.newInstance();
 
@@ -225,7 +236,12 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject request = prepareSearchQuery(ac, searchQuery, filterLanguage);
 
 			// Add paging to query. Internally we start with page 0
-			applyPagingParams(request, pagingInfo);
+			if (cursor == null) {
+				applyPagingParams(request, pagingInfo);
+			} else {
+				applyCursorParams(request, pagingInfo, searchAfter);
+			}
+			applySourceFilter(ac, request);
 
 			if (log.isDebugEnabled()) {
 				log.debug("Using parsed query {" + request.encodePrettily() + "}");
@@ -234,71 +250,34 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 			JsonObject queryOption = new JsonObject();
 			queryOption.put("index",
 				StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-			queryOption.put("search_type", "dfs_query_then_fetch");
+			queryOption.put("search_type", searchType.getValue());
 			log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 			RequestBuilder<JsonObject> requestBuilder = client.multiSearch(queryOption, request);
 			return requestBuilder.async();
-		})).flatMapObservable(response -> {
+		})).map(response -> {
 			JsonArray responses = response.getJsonArray("responses");
 			JsonObject firstResponse = responses.getJsonObject(0);
 
 			// Process the nested error
 			JsonObject errorInfo = firstResponse.getJsonObject("error");
 			if (errorInfo != null) {
-				return Observable.error(mapError(errorInfo));
+				throw mapError(errorInfo);
 			}
 
 			JsonObject hitsInfo = firstResponse.getJsonObject("hits");
-			JsonArray hits = hitsInfo.getJsonArray("hits");
-
-			List<Tuple<T, String>> list = new ArrayList<>();
-			db.tx(() -> {
-				for (int i = 0; i < hits.size(); i++) {
-					JsonObject hit = hits.getJsonObject(i);
-					String id = hit.getString("_id");
-					int pos = id.indexOf("-");
-
-					String language = pos > 0 ? id.substring(pos + 1) : null;
-					String uuid = pos > 0 ? id.substring(0, pos) : id;
-
-					// Locate the node
-					T element = elementLoader.apply(uuid);
-					if (element == null) {
-						log.warn("Object could not be found for uuid {" + uuid + "}. The element will be omitted.");
-						// Reduce the total count
-						long total = extractTotalCount(hitsInfo);
-						switch (complianceMode) {
-						case ES_6:
-							hitsInfo.put("total", total - 1);
-							break;
-						case ES_7:
-							hitsInfo.put("total", new JsonObject().put("value", total - 1));
-							break;
-						default:
-							throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
-						}
-					} else {
-						// TODO maybe it would be better to directly transform the element here.
-						list.add(Tuple.tuple(element, language));
-					}
-				}
-			});
+			List<RM> items = transformHits(ac, hitsInfo, elementLoader);
 
 			// Set meta information to the rest response
-			listResponse.setMetainfo(extractMetaInfo(hitsInfo, pagingInfo));
-
-			return Observable.fromIterable(list);
+			PagingMetaInfo metaInfo = extractMetaInfo(hitsInfo, pagingInfo);
+			if (cursor != null) {
+				metaInfo.setCursor(nextCursor(hitsInfo, metaInfo.getPerPage()));
+			}
+			listResponse.setMetainfo(metaInfo);
+			listResponse.getData().addAll(items);
+			return listResponse;
 		}).onErrorResumeNext(error -> {
-			return Observable.error(mapToMeshError(error));
-		}).flatMapSingle(element -> {
-			// TODO add resume next to omit the item if it can't be transformed for some reason.
-			// This would be better than to just fail the whole request
-			// TODO maybe add extra permission filtering? This would not be very costly for smaller pages and ensure perm consistency?
-			// TODO it would be good to batch the transformation of the elements to save the overhead of creating transactions and use the L1 cache.
-			return db.tx(() -> Single.just(element.v1().transformToRestSync(ac, 0, element.v2())));
-		}).collect(() -> listResponse.getData(), (x, y) -> {
-			x.add(y);
+			return Single.error(mapToMeshError(error));
 		}).subscribe(list -> {
 			ac.send(listResponse.toJson(), OK);
 		}, error -> {
@@ -307,6 +286,88 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		});
 	}
 
+	/**
+	 * Transform the hits of a search result page into rest models. The elements of the hits are loaded and transformed within a single transaction. Hits
+	 * for which no element could be found will be omitted and the total count of the hits info will be reduced accordingly.
+	 * 
+	 * @param ac
+	 * @param hitsInfo
+	 *            Hits info of the search response
+	 * @param elementLoader
+	 *            Loader for the elements of the hits
+	 * @return
+	 */
+	protected List<RM> transformHits(InternalActionContext ac, JsonObject hitsInfo, Function<Collection<String>, Map<String, T>> elementLoader) {
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+
+		// Extract the uuid and language of each hit
+		List<Tuple<String, String>> ids = new ArrayList<>(hits.size());
+		Set<String> uuids = new HashSet<>();
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject hit = hits.getJsonObject(i);
+			String id = hit.getString("_id");
+			int pos = id.indexOf("-");
+
+			String language = pos > 0 ? id.substring(pos + 1) : null;
+			String uuid = pos > 0 ? id.substring(0, pos) : id;
+			ids.add(Tuple.tuple(uuid, language));
+			uuids.add(uuid);
+		}
+
+		// Load and transform all elements of the page within a single transaction
+		return db.tx(() -> {
+			Map<String, T> elements = elementLoader.apply(uuids);
+			List<RM> list = new ArrayList<>(ids.size());
+			int missing = 0;
+			for (Tuple<String, String> id : ids) {
+				T element = elements.get(id.v1());
+				if (element == null) {
+					log.warn("Object could not be found for uuid {" + id.v1() + "}. The element will be omitted.");
+					missing++;
+				} else {
+					// TODO add resume next to omit the item if it can't be transformed for some reason.
+					// This would be better than to just fail the whole request
+					list.add(element.transformToRestSync(ac, 0, id.v2()));
+				}
+			}
+			if (missing > 0) {
+				// Reduce the total count
+				reduceTotalCount(hitsInfo, missing);
+			}
+			return list;
+		});
+	}
+
+	/**
+	 * Apply the source filter to the search request. By default only the ids of the documents will be loaded since the elements are loaded from the graph.
+	 * 
+	 * @param ac
+	 * @param request
+	 */
+	protected void applySourceFilter(InternalActionContext ac, JsonObject request) {
+		request.put("_source", false);
+	}
+
+	/**
+	 * Reduce the total count of the hits info by the given amount.
+	 * 
+	 * @param info
+	 * @param amount
+	 */
+	protected void reduceTotalCount(JsonObject info, long amount) {
+		long total = extractTotalCount(info);
+		switch (complianceMode) {
+		case ES_6:
+			info.put("total", total - amount);
+			break;
+		case ES_7:
+			info.put("total", new JsonObject().put("value", total - amount));
+			break;
+		default:
+			throw new RuntimeException("Unknown compliance mode {" + complianceMode + "}");
+		}
+	}
+
 	/**
 	 * Add the paging parameters to the request.
 	 * 
@@ -321,6 +382,84 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 		request.put("size", perPage);
 	}
 
+	/**
+	 * Add the cursor based paging parameters to the request. The sort of the request will be extended by the tiebreaker fields in order to get a stable
+	 * order of the hits which is needed to continue the search after the last hit of the previous page.
+	 * 
+	 * @param request
+	 * @param pagingInfo
+	 * @param searchAfter
+	 *            Sort values of the last hit of the previous page or null for the first page
+	 */
+	protected void applyCursorParams(JsonObject request, PagingParameters pagingInfo, JsonArray searchAfter) {
+		Long perPage = Optional.ofNullable(pagingInfo.getPerPage()).orElse(DEFAULT_SEARCH_PER_PAGE);
+		request.remove("from");
+		request.put("size", perPage);
+
+		JsonArray sort = new JsonArray();
+		Object userSort = request.getValue("sort");
+		if (userSort instanceof JsonArray) {
+			sort.addAll((JsonArray) userSort);
+		} else if (userSort != null) {
+			sort.add(userSort);
+		} else {
+			sort.add("_score");
+		}
+		for (String field : tiebreakerFields()) {
+			sort.add(new JsonObject().put(field, "asc"));
+		}
+		request.put("sort", sort);
+
+		if (searchAfter != null) {
+			request.put("search_after", searchAfter);
+		}
+	}
+
+	/**
+	 * Return the fields which uniquely identify a document within the searched indices. The fields are used as tiebreaker for cursor based paging.
+	 * 
+	 * @return
+	 */
+	protected List<String> tiebreakerFields() {
+		return Arrays.asList(MappingHelper.UUID_KEY);
+	}
+
+	/**
+	 * Return the cursor for the page which follows the given page of hits.
+	 * 
+	 * @param hitsInfo
+	 * @param perPage
+	 * @return Cursor or null if the page is the last page
+	 */
+	protected String nextCursor(JsonObject hitsInfo, long perPage) {
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+		if (perPage == 0 || hits.size() < perPage) {
+			return null;
+		}
+		JsonArray sortValues = hits.getJsonObject(hits.size() - 1).getJsonArray("sort");
+		if (sortValues == null) {
+			return null;
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sortValues.encode().getBytes(UTF_8));
+	}
+
+	/**
+	 * Decode the sort values of the given cursor.
+	 * 
+	 * @param cursor
+	 * @return Sort values or null if the cursor requests the first page
+	 */
+	protected JsonArray decodeCursor(String cursor) {
+		if (SearchParameters.FIRST_CURSOR.equals(cursor)) {
+			return null;
+		}
+		try {
+			return new JsonArray(new String(Base64.getUrlDecoder().decode(cursor), UTF_8));
+		} catch (Exception e) {
+			throw error(BAD_REQUEST, "search_error_cursor_invalid", cursor);
+		}
+	}
+
 	/**
 	 * Extract the total count and hit count from the info object and return the populated paging object. < *
 	 * 
@@ -380,7 +519,7 @@ public abstract class AbstractSearchHandler<T extends MeshCoreVertex<RM, T>, RM
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", searchType.getValue());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		// Prepare the request
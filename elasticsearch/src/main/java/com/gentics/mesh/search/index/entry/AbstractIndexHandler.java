@@ -4,9 +4,14 @@ import static com.gentics.mesh.core.rest.error.Errors.error;
 import static io.netty.handler.codec.http.HttpResponseStatus.INTERNAL_SERVER_ERROR;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.gentics.elasticsearch.client.ElasticsearchClient;
 import com.gentics.elasticsearch.client.HttpErrorException;
@@ -21,7 +26,6 @@ import com.gentics.mesh.core.data.search.bulk.DeleteBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.IndexBulkEntry;
 import com.gentics.mesh.core.data.search.bulk.UpdateBulkEntry;
 import com.gentics.mesh.core.data.search.index.IndexInfo;
-import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.search.EntityMetrics;
 import com.gentics.mesh.etc.config.MeshOptions;
@@ -35,15 +39,16 @@ import com.gentics.mesh.search.index.Transformer;
 import com.gentics.mesh.search.index.metric.SyncMeters;
 import com.gentics.mesh.search.index.metric.SyncMetersFactory;
 import com.gentics.mesh.search.verticle.eventhandler.MeshHelper;
-import com.google.common.collect.MapDifference;
-import com.google.common.collect.Maps;
+import com.syncleus.ferma.ElementFrame;
+import com.syncleus.ferma.FramedGraph;
+import com.tinkerpop.blueprints.Vertex;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
 import io.reactivex.functions.Action;
-import io.reactivex.functions.Function;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
@@ -62,6 +67,11 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 
 	public static final int ES_SYNC_FETCH_BATCH_SIZE = 1000;
 
+	/**
+	 * Maximum number of documents which are loaded at once when diffing the buckets of an index during the sync.
+	 */
+	public static final int ES_SYNC_BUCKET_GROUP_SIZE = 50_000;
+
 	protected final SearchProvider searchProvider;
 
 	protected final Database db;
@@ -195,127 +205,249 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 	 * @return
 	 */
 	protected Flowable<SearchRequest> diffAndSync(String indexName, String projectUuid) {
+		return this.<T>diffAndSync(indexName, this::loadAllElements, MeshElement::getUuid, this::generateVersion, element -> getTransformer().toDocument(element));
+	}
+
+	/**
+	 * Diff the source (graph) with the sink (ES index) and create requests which add, delete or update the documents. At first only the
+	 * {@link VersionDigest} of both sides is computed. Once differences are detected, the differing buckets are diffed in groups. The source is streamed
+	 * once per group and only the ids of the differing elements of the group are kept. This way the memory usage is bounded by the group size regardless of
+	 * how much the index drifted from the graph.
+	 * 
+	 * @param indexName
+	 *            Name of the index
+	 * @param source
+	 *            Supplier for the stream of source elements. The supplier is invoked within a transaction. It is invoked once for the digest and once more
+	 *            for each group of differing buckets.
+	 * @param idOf
+	 *            Function which returns the document id of an element
+	 * @param versionOf
+	 *            Function which returns the document version of an element
+	 * @param toDocument
+	 *            Function which transforms an element into a document
+	 * @return
+	 */
+	protected <E extends ElementFrame> Flowable<SearchRequest> diffAndSync(String indexName, Supplier<Stream<? extends E>> source,
+		Function<E, String> idOf, Function<E, String> versionOf, Function<E, JsonObject> toDocument) {
 		return Single.zip(
-			loadVersionsFromIndex(indexName),
-			Single.fromCallable(this::loadVersionsFromGraph),
-			(sinkVersions, sourceVersions) -> {
+			loadDigestFromIndex(indexName),
+			Single.fromCallable(() -> db.tx(() -> {
+				VersionDigest digest = new VersionDigest();
+				source.get().forEach(element -> digest.add(idOf.apply(element), versionOf.apply(element)));
+				return digest;
+			})),
+			(sinkDigest, sourceDigest) -> {
 				log.info("Handling index sync on handler {" + getClass().getName() + "}");
 
-				MapDifference<String, String> diff = Maps.difference(sourceVersions, sinkVersions);
-				if (diff.areEqual()) {
+				List<Set<Integer>> groups = sourceDigest.groupDifferingBuckets(sinkDigest, ES_SYNC_BUCKET_GROUP_SIZE);
+				if (groups.isEmpty()) {
 					log.info("No diff detected. Index {" + indexName + "} is in sync.");
 					return Flowable.<SearchRequest>empty();
 				}
+				log.info("Detected differences on {" + indexName + "} which will be synced in {" + groups.size() + "} groups");
 
-				Set<String> needInsertionInES = diff.entriesOnlyOnLeft().keySet();
-				Set<String> needUpdateInEs = diff.entriesDiffering().keySet();
-				Set<String> needRemovalInES = diff.entriesOnlyOnRight().keySet();
+				return Flowable.fromIterable(groups)
+					.concatMap(buckets -> diffAndSyncBuckets(indexName, buckets, source, idOf, versionOf, toDocument));
+			}).flatMapPublisher(x -> x);
+	}
+
+	/**
+	 * Diff the documents of the given buckets. The source elements are compared with the versions of the index within a single pass. The documents of the
+	 * differing elements are created later on by reloading the elements within the transaction which transforms them.
+	 * 
+	 * @param indexName
+	 * @param buckets
+	 * @param source
+	 * @param idOf
+	 * @param versionOf
+	 * @param toDocument
+	 * @return
+	 */
+	private <E extends ElementFrame> Flowable<SearchRequest> diffAndSyncBuckets(String indexName, Set<Integer> buckets,
+		Supplier<Stream<? extends E>> source, Function<E, String> idOf, Function<E, String> versionOf, Function<E, JsonObject> toDocument) {
+		return loadVersionsFromIndex(indexName, buckets).flatMapPublisher(sinkVersions -> {
+			Map<String, ElementReference<E>> needInsertionInES = new HashMap<>();
+			Map<String, ElementReference<E>> needUpdateInEs = new HashMap<>();
+			db.tx(() -> {
+				source.get().forEach(element -> {
+					String id = idOf.apply(element);
+					if (!buckets.contains(VersionDigest.bucketOf(id))) {
+						return;
+					}
+					// The remaining sink versions are the documents which no longer exist in the graph
+					String sinkVersion = sinkVersions.remove(id);
+					if (sinkVersion == null) {
+						needInsertionInES.put(id, new ElementReference<>(element));
+					} else if (!sinkVersion.equals(versionOf.apply(element))) {
+						needUpdateInEs.put(id, new ElementReference<>(element));
+					}
+				});
+			});
+			Set<String> needRemovalInES = sinkVersions.keySet();
+			if (needInsertionInES.isEmpty() && needUpdateInEs.isEmpty() && needRemovalInES.isEmpty()) {
+				return Flowable.<SearchRequest>empty();
+			}
 
-				log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
-				log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+			log.info("Pending insertions on {" + indexName + "}:" + needInsertionInES.size());
+			log.info("Pending removals on {" + indexName + "}:" + needRemovalInES.size());
+			log.info("Pending updates on {" + indexName + "}:" + needUpdateInEs.size());
 
-				meters.getInsertMeter().addPending(needInsertionInES.size());
-				meters.getUpdateMeter().addPending((needUpdateInEs.size()));
-				meters.getDeleteMeter().addPending((needRemovalInES.size()));
+			meters.getInsertMeter().addPending(needInsertionInES.size());
+			meters.getUpdateMeter().addPending((needUpdateInEs.size()));
+			meters.getDeleteMeter().addPending((needRemovalInES.size()));
 
-				Function<Action, Function<String, CreateDocumentRequest>> toCreateRequest = action -> uuid -> {
-					JsonObject doc = db.tx(() -> getTransformer().toDocument(getElement(uuid)));
-					return helper.createDocumentRequest(indexName, uuid, doc, complianceMode, action);
-				};
+			Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES.entrySet())
+				.concatMapMaybe(entry -> createDocumentRequest(indexName, entry.getKey(), entry.getValue(), toDocument, meters.getInsertMeter()::synced));
 
-				Flowable<SearchRequest> toInsert = Flowable.fromIterable(needInsertionInES)
-					.map(toCreateRequest.apply(meters.getInsertMeter()::synced));
+			Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs.entrySet())
+				.concatMapMaybe(entry -> createDocumentRequest(indexName, entry.getKey(), entry.getValue(), toDocument, meters.getUpdateMeter()::synced));
 
-				Flowable<SearchRequest> toUpdate = Flowable.fromIterable(needUpdateInEs)
-					.map(toCreateRequest.apply(meters.getUpdateMeter()::synced));
+			Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
+				.map(id -> helper.deleteDocumentRequest(indexName, id, complianceMode, meters.getDeleteMeter()::synced));
 
-				Flowable<SearchRequest> toDelete = Flowable.fromIterable(needRemovalInES)
-					.map(uuid -> helper.deleteDocumentRequest(indexName, uuid, complianceMode, meters.getDeleteMeter()::synced));
+			return Flowable.merge(toInsert, toUpdate, toDelete);
+		});
+	}
 
-				return Flowable.merge(toInsert, toUpdate, toDelete);
-			}).flatMapPublisher(x -> x);
+	/**
+	 * Reload the referenced element and create the request which stores its document. Elements which were deleted in the meantime are skipped since the
+	 * deletion will be handled by the corresponding event.
+	 * 
+	 * @param indexName
+	 * @param id
+	 *            Document id
+	 * @param reference
+	 * @param toDocument
+	 * @param action
+	 *            Action which is invoked once the request was processed
+	 * @return
+	 */
+	private <E extends ElementFrame> Maybe<SearchRequest> createDocumentRequest(String indexName, String id, ElementReference<E> reference,
+		Function<E, JsonObject> toDocument, Action action) {
+		return Maybe.fromCallable(() -> {
+			JsonObject doc = db.tx(() -> {
+				E element = reference.load();
+				return element == null ? null : toDocument.apply(element);
+			});
+			if (doc == null) {
+				log.debug("Element for document {" + id + "} of index {" + indexName + "} no longer exists");
+				action.run();
+				return null;
+			}
+			return helper.createDocumentRequest(indexName, id, doc, complianceMode, action);
+		});
 	}
 
 	protected T getElement(String elementUuid) {
 		return elementLoader().apply(elementUuid);
 	}
 
-	private Map<String, String> loadVersionsFromGraph() {
-		return db.tx(() -> loadAllElements()
-			.collect(Collectors.toMap(
-				MeshElement::getUuid,
-				this::generateVersion)));
+	/**
+	 * Load the digest of the document versions of the given index.
+	 * 
+	 * @param indexName
+	 * @return
+	 */
+	public Single<VersionDigest> loadDigestFromIndex(String indexName) {
+		return Single.fromCallable(() -> {
+			VersionDigest digest = new VersionDigest();
+			scrollVersions(indexName, new JsonObject().put("match_all", new JsonObject()), digest::add);
+			return digest;
+		});
 	}
 
-	// TODO Async
-	public Single<Map<String, String>> loadVersionsFromIndex(String indexName) {
+	/**
+	 * Load the document versions of the given buckets from the index.
+	 * 
+	 * @param indexName
+	 * @param buckets
+	 * @return
+	 */
+	public Single<Map<String, String>> loadVersionsFromIndex(String indexName, Set<Integer> buckets) {
 		return Single.fromCallable(() -> {
-			String fullIndexName = searchProvider.installationPrefix() + indexName;
+			JsonArray prefixes = new JsonArray();
+			for (int bucket : buckets) {
+				prefixes.add(new JsonObject().put("prefix", new JsonObject().put("uuid", VersionDigest.prefixOf(bucket))));
+			}
+			JsonObject query = new JsonObject().put("bool", new JsonObject()
+				.put("should", prefixes)
+				.put("minimum_should_match", 1));
 			Map<String, String> versions = new HashMap<>();
-			log.debug("Loading document info from index {" + fullIndexName + "}");
-			ElasticsearchClient<JsonObject> client = searchProvider.getClient();
-			JsonObject query = new JsonObject();
-			query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
-			query.put("_source", new JsonArray().add("uuid").add("version"));
-			query.put("query", new JsonObject().put("match_all", new JsonObject()));
-			query.put("sort", new JsonArray().add("_doc"));
-
-			RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
-			JsonObject result = new JsonObject();
-			try {
-				result = builder.sync();
-				if (log.isTraceEnabled()) {
-					log.trace("Got response {" + result.encodePrettily() + "}");
-				}
-				JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
-				processHits(hits, versions);
-
-				// Check whether we need to process more scrolls
-				if (hits.size() != 0) {
-					String nextScrollId = result.getString("_scroll_id");
-					try {
-						while (true) {
-							final String currentScroll = nextScrollId;
-							log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
-							JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
-							JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
-							if (log.isTraceEnabled()) {
-								log.trace("Got response {" + scrollHits.encodePrettily() + "}");
-							}
-							if (scrollHits.size() != 0) {
-								processHits(scrollHits, versions);
-								// Update the scrollId for the next fetch
-								nextScrollId = scrollResult.getString("_scroll_id");
-								if (log.isDebugEnabled()) {
-									log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
-								}
-							} else {
-								// The scroll yields no more data. We are done
-								break;
+			scrollVersions(indexName, query, versions::put);
+			return versions;
+		});
+	}
+
+	// TODO Async
+	private void scrollVersions(String indexName, JsonObject filter, BiConsumer<String, String> consumer) throws HttpErrorException {
+		String fullIndexName = searchProvider.installationPrefix() + indexName;
+		log.debug("Loading document info from index {" + fullIndexName + "}");
+		ElasticsearchClient<JsonObject> client = searchProvider.getClient();
+		JsonObject query = new JsonObject();
+		query.put("size", ES_SYNC_FETCH_BATCH_SIZE);
+		query.put("_source", new JsonArray().add("uuid").add("version"));
+		query.put("query", filter);
+		query.put("sort", new JsonArray().add("_doc"));
+
+		RequestBuilder<JsonObject> builder = client.searchScroll(query, "1m", fullIndexName);
+		JsonObject result = new JsonObject();
+		try {
+			result = builder.sync();
+			if (log.isTraceEnabled()) {
+				log.trace("Got response {" + result.encodePrettily() + "}");
+			}
+			JsonArray hits = result.getJsonObject("hits").getJsonArray("hits");
+			processHits(hits, consumer);
+
+			// Check whether we need to process more scrolls
+			if (hits.size() != 0) {
+				String nextScrollId = result.getString("_scroll_id");
+				try {
+					while (true) {
+						final String currentScroll = nextScrollId;
+						log.debug("Fetching scroll result using scrollId {" + currentScroll + "}");
+						JsonObject scrollResult = client.scroll("1m", currentScroll).sync();
+						JsonArray scrollHits = scrollResult.getJsonObject("hits").getJsonArray("hits");
+						if (log.isTraceEnabled()) {
+							log.trace("Got response {" + scrollHits.encodePrettily() + "}");
+						}
+						if (scrollHits.size() != 0) {
+							processHits(scrollHits, consumer);
+							// Update the scrollId for the next fetch
+							nextScrollId = scrollResult.getString("_scroll_id");
+							if (log.isDebugEnabled()) {
+								log.debug("Using scrollId {" + nextScrollId + "} for next fetch.");
 							}
+						} else {
+							// The scroll yields no more data. We are done
+							break;
 						}
-					} finally {
-						// Clearing used scroll in order to free memory in ES
-						client.clearScroll(nextScrollId).sync();
 					}
+				} finally {
+					// Clearing used scroll in order to free memory in ES
+					client.clearScroll(nextScrollId).sync();
 				}
-			} catch (HttpErrorException e) {
-				log.error("Error while loading version information from index {" + indexName + "}", e.toString());
-				log.error(e);
-				throw e;
 			}
-
-			return versions;
-		});
+		} catch (HttpErrorException e) {
+			log.error("Error while loading version information from index {" + indexName + "}", e.toString());
+			log.error(e);
+			throw e;
+		}
 	}
 
-	protected void processHits(JsonArray hits, Map<String, String> versions) {
+	/**
+	 * Pass the document id and version of the given hits to the consumer.
+	 * 
+	 * @param hits
+	 * @param consumer
+	 */
+	protected void processHits(JsonArray hits, BiConsumer<String, String> consumer) {
 		for (int i = 0; i < hits.size(); i++) {
 			JsonObject hit = hits.getJsonObject(i);
 			JsonObject source = hit.getJsonObject("_source");
 			String uuid = source.getString("uuid");
 			String version = source.getString("version");
-			versions.put(uuid, version);
+			consumer.accept(uuid, version);
 		}
 	}
 
@@ -388,4 +520,33 @@ public abstract class AbstractIndexHandler<T extends MeshCoreVertex<?, T>> imple
 			.collect(Collectors.toSet());
 	}
 
+	/**
+	 * Reference to a graph element which only keeps the id and the frame type, so that the element can be reloaded within another transaction.
+	 *
+	 * @param <E>
+	 */
+	private static class ElementReference<E extends ElementFrame> {
+
+		private final Object id;
+
+		private final Class<? extends E> type;
+
+		@SuppressWarnings("unchecked")
+		ElementReference(E element) {
+			this.id = element.getId();
+			this.type = (Class<? extends E>) element.getClass();
+		}
+
+		/**
+		 * Load the element within the active transaction.
+		 *
+		 * @return Element or null if the element no longer exists
+		 */
+		E load() {
+			FramedGraph graph = Tx.get().getGraph();
+			Vertex vertex = graph.getVertex(id);
+			return vertex == null ? null : graph.frameElementExplicit(vertex, type);
+		}
+	}
+
 }
@@ -0,0 +1,135 @@
+package com.gentics.mesh.search.index.entry;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Digest of the document versions of an index or of the corresponding graph elements. The documents are distributed into {@value #BUCKET_COUNT} buckets by
+ * the first two hex characters of their id. For each bucket the number of documents and an order independent hash over the ids and versions is kept.
+ *
+ * Comparing the digests of the source (graph) and the sink (index) reveals the buckets which contain differences without keeping the ids in memory. Only
+ * these buckets need to be loaded and diffed in detail.
+ */
+public class VersionDigest {
+
+	public static final int BUCKET_COUNT = 256;
+
+	private static final HashFunction HASH = Hashing.murmur3_128();
+
+	private final long[] hashes = new long[BUCKET_COUNT];
+
+	private final int[] counts = new int[BUCKET_COUNT];
+
+	/**
+	 * Return the bucket of the document with the given id. Document ids are expected to start with a hex encoded uuid.
+	 *
+	 * @param id
+	 * @return
+	 */
+	public static int bucketOf(String id) {
+		int high = Character.digit(id.charAt(0), 16);
+		int low = Character.digit(id.charAt(1), 16);
+		if (high < 0 || low < 0) {
+			throw new IllegalArgumentException("The document id {" + id + "} does not start with a hex encoded uuid");
+		}
+		return high << 4 | low;
+	}
+
+	/**
+	 * Return the id prefix which is shared by all documents of the given bucket.
+	 *
+	 * @param bucket
+	 * @return
+	 */
+	public static String prefixOf(int bucket) {
+		return String.format("%02x", bucket);
+	}
+
+	/**
+	 * Add the document with the given id and version to the digest.
+	 *
+	 * @param id
+	 * @param version
+	 */
+	public void add(String id, String version) {
+		int bucket = bucketOf(id);
+		// Adding the hashes makes the result independent of the order in which the documents are added
+		hashes[bucket] += HASH.hashString(id + ":" + version, UTF_8).asLong();
+		counts[bucket]++;
+	}
+
+	/**
+	 * Return the number of documents in the given bucket.
+	 *
+	 * @param bucket
+	 * @return
+	 */
+	public int getCount(int bucket) {
+		return counts[bucket];
+	}
+
+	/**
+	 * Return the total number of documents.
+	 *
+	 * @return
+	 */
+	public long getTotalCount() {
+		long total = 0;
+		for (int count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Return the buckets which differ between this and the given digest.
+	 *
+	 * @param other
+	 * @return
+	 */
+	public List<Integer> differingBuckets(VersionDigest other) {
+		List<Integer> buckets = new ArrayList<>();
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			if (hashes[i] != other.hashes[i] || counts[i] != other.counts[i]) {
+				buckets.add(i);
+			}
+		}
+		return buckets;
+	}
+
+	/**
+	 * Split the differing buckets of this and the given digest into groups. The buckets of a group contain at most the given number of documents on either
+	 * side unless a single bucket already exceeds the limit.
+	 *
+	 * @param other
+	 * @param maxGroupSize
+	 * @return
+	 */
+	public List<Set<Integer>> groupDifferingBuckets(VersionDigest other, int maxGroupSize) {
+		List<Set<Integer>> groups = new ArrayList<>();
+		Set<Integer> group = new HashSet<>();
+		long groupSize = 0;
+		for (int bucket : differingBuckets(other)) {
+			int size = Math.max(counts[bucket], other.counts[bucket]);
+			if (!group.isEmpty() && groupSize + size > maxGroupSize) {
+				groups.add(group);
+				group = new HashSet<>();
+				groupSize = 0;
+			}
+			group.add(bucket);
+			groupSize += size;
+		}
+		if (!group.isEmpty()) {
+			groups.add(group);
+		}
+		return groups;
+	}
+
+}
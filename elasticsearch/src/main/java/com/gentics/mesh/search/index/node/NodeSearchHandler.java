@@ -3,13 +3,18 @@ package com.gentics.mesh.search.index.node;
 import static com.gentics.mesh.core.rest.error.Errors.error;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapError;
 import static com.gentics.mesh.search.impl.ElasticsearchErrorHelper.mapToMeshError;
+import static com.gentics.mesh.search.index.MappingHelper.UUID_KEY;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -31,10 +36,15 @@ import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.common.ContainerType;
 import com.gentics.mesh.core.rest.common.PagingMetaInfo;
 import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.SchemaStorage;
 import com.gentics.mesh.error.MeshConfigurationException;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Database;
 import com.gentics.mesh.parameter.PagingParameters;
+import com.gentics.mesh.parameter.SearchParameters;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.index.AbstractSearchHandler;
 
@@ -54,11 +64,113 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	private BootstrapInitializer boot;
 
+	private final NodeSourceTransformer sourceTransformer;
+
+	private final SchemaStorage schemaStorage;
+
 	@Inject
 	public NodeSearchHandler(SearchProvider searchProvider, Database db, NodeIndexHandler nodeIndexHandler,
-		MeshOptions options, BootstrapInitializer boot) {
+		MeshOptions options, BootstrapInitializer boot, NodeSourceTransformer sourceTransformer, SchemaStorage schemaStorage) {
 		super(db, searchProvider, options, nodeIndexHandler);
 		this.boot = boot;
+		this.sourceTransformer = sourceTransformer;
+		this.schemaStorage = schemaStorage;
+	}
+
+	@Override
+	protected void applySourceFilter(InternalActionContext ac, JsonObject request) {
+		SearchParameters parameters = ac.getSearchParameters();
+		if (parameters.isSource()) {
+			request.put("_source", sourceTransformer.sourceIncludes(parameters.getSourceFields()));
+		} else {
+			super.applySourceFilter(ac, request);
+		}
+	}
+
+	/**
+	 * Each node is indexed once per language within the same index.
+	 */
+	@Override
+	protected List<String> tiebreakerFields() {
+		return Arrays.asList(UUID_KEY, "language");
+	}
+
+	/**
+	 * Build the node responses from the document sources if the source parameter has been set. Otherwise the nodes will be loaded from the graph. The
+	 * permissions are not checked again since the search query already filters the documents by the roles of the user.
+	 */
+	@Override
+	protected List<NodeResponse> transformHits(InternalActionContext ac, JsonObject hitsInfo,
+		Function<Collection<String>, Map<String, Node>> elementLoader) {
+		SearchParameters parameters = ac.getSearchParameters();
+		if (!parameters.isSource()) {
+			return super.transformHits(ac, hitsInfo, elementLoader);
+		}
+		Set<String> fieldNames = parameters.getSourceFields();
+		JsonArray hits = hitsInfo.getJsonArray("hits");
+		List<SourceHit> sourceHits = new ArrayList<>(hits.size());
+		for (int i = 0; i < hits.size(); i++) {
+			JsonObject rawHit = hits.getJsonObject(i);
+			JsonObject source = rawHit.getJsonObject("_source");
+			if (source == null) {
+				// The whole node must be loaded from the graph if the hit contains no source
+				String id = rawHit.getString("_id");
+				int pos = id.indexOf("-");
+				sourceHits.add(new SourceHit(pos > 0 ? id.substring(0, pos) : id, pos > 0 ? id.substring(pos + 1) : null));
+				continue;
+			}
+			SourceHit hit = new SourceHit(source.getString("uuid"), source.getString("language"));
+			JsonObject schemaInfo = source.getJsonObject("schema");
+			SchemaModel schema = schemaInfo == null ? null : schemaStorage.getSchema(schemaInfo.getString("name"), schemaInfo.getString("version"));
+			// The whole node must be loaded from the graph if the schema is not known
+			if (schema != null) {
+				hit.response = sourceTransformer.toResponse(ac, source, schema, fieldNames, hit.missingFields);
+			}
+			sourceHits.add(hit);
+		}
+
+		List<SourceHit> incompleteHits = sourceHits.stream()
+			.filter(hit -> hit.response == null || !hit.missingFields.isEmpty())
+			.collect(Collectors.toList());
+		if (!incompleteHits.isEmpty()) {
+			// Load the fields which could not be restored from the source within a single transaction
+			db.tx(() -> {
+				Set<String> uuids = incompleteHits.stream().map(hit -> hit.uuid).collect(Collectors.toSet());
+				Map<String, Node> nodes = elementLoader.apply(uuids);
+				ContainerType type = ContainerType.forVersion(ac.getVersioningParameters().getVersion());
+				List<String> languageTags = ac.getNodeParameters().getLanguageList(options);
+				for (SourceHit hit : incompleteHits) {
+					Node node = nodes.get(hit.uuid);
+					if (node == null) {
+						log.warn("Object could not be found for uuid {" + hit.uuid + "}. The element will be omitted.");
+						hit.response = null;
+						hit.missingFields.clear();
+					} else if (hit.response == null) {
+						hit.response = node.transformToRestSync(ac, 0, hit.language);
+					} else {
+						NodeGraphFieldContainer container = node.getGraphFieldContainer(hit.language, ac.getBranch(node.getProject()).getUuid(), type);
+						for (FieldSchema fieldSchema : hit.missingFields) {
+							Field field = container == null ? null
+								: container.getRestFieldFromGraph(ac, fieldSchema.getName(), fieldSchema, languageTags, 0);
+							if (field != null) {
+								hit.response.getFields().put(fieldSchema.getName(), field);
+							}
+						}
+					}
+				}
+			});
+		}
+
+		List<NodeResponse> responses = new ArrayList<>(sourceHits.size());
+		for (SourceHit hit : sourceHits) {
+			if (hit.response != null) {
+				responses.add(hit.response);
+			}
+		}
+		if (responses.size() < sourceHits.size()) {
+			reduceTotalCount(hitsInfo, sourceHits.size() - responses.size());
+		}
+		return responses;
 	}
 
 	/**
@@ -100,7 +212,7 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 		JsonObject queryOption = new JsonObject();
 		queryOption.put("index", StringUtils.join(indices.stream().map(i -> searchProvider.installationPrefix() + i).toArray(String[]::new), ","));
-		queryOption.put("search_type", "dfs_query_then_fetch");
+		queryOption.put("search_type", searchType.getValue());
 		log.debug("Using options {" + queryOption.encodePrettily() + "}");
 
 		try {
@@ -181,4 +293,23 @@ public class NodeSearchHandler extends AbstractSearchHandler<Node, NodeResponse>
 
 	}
 
+	/**
+	 * Search hit for which the node response is built from the document source.
+	 */
+	private static class SourceHit {
+
+		private final String uuid;
+
+		private final String language;
+
+		private final List<FieldSchema> missingFields = new ArrayList<>();
+
+		private NodeResponse response;
+
+		SourceHit(String uuid, String language) {
+			this.uuid = uuid;
+			this.language = language;
+		}
+	}
+
 }
@@ -0,0 +1,266 @@
+package com.gentics.mesh.search.index.node;
+
+import static com.gentics.mesh.search.index.MappingHelper.NAME_KEY;
+import static com.gentics.mesh.search.index.MappingHelper.UUID_KEY;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.context.InternalActionContext;
+import com.gentics.mesh.core.rest.common.FieldTypes;
+import com.gentics.mesh.core.rest.node.FieldMap;
+import com.gentics.mesh.core.rest.node.FieldMapImpl;
+import com.gentics.mesh.core.rest.node.NodeResponse;
+import com.gentics.mesh.core.rest.node.field.Field;
+import com.gentics.mesh.core.rest.node.field.impl.BooleanFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.DateFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.NodeFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.NumberFieldImpl;
+import com.gentics.mesh.core.rest.node.field.impl.StringFieldImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.BooleanFieldListImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.DateFieldListImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.NodeFieldListItemImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.NumberFieldListImpl;
+import com.gentics.mesh.core.rest.node.field.list.impl.StringFieldListImpl;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.core.rest.schema.FieldSchema;
+import com.gentics.mesh.core.rest.schema.ListFieldSchema;
+import com.gentics.mesh.core.rest.schema.SchemaModel;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.core.rest.tag.TagReference;
+import com.gentics.mesh.core.rest.user.NodeReference;
+import com.gentics.mesh.core.rest.user.UserReference;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.parameter.LinkType;
+import com.gentics.mesh.parameter.NodeParameters;
+import com.gentics.mesh.util.DateUtils;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Transformer which builds node responses from the source of node documents which were returned by Elasticsearch. The documents are created by the
+ * {@link NodeContainerTransformer}. Fields which are not stored unaltered within the document (e.g. html, binary and micronode fields) can't be restored from
+ * the source and must be loaded from the graph instead. Information which is not part of the document (e.g. version, permissions, languages, paths,
+ * breadcrumb and children info) is omitted.
+ */
+@Singleton
+public class NodeSourceTransformer {
+
+	/**
+	 * Keys of the document properties which are needed to populate the node response.
+	 */
+	private static final List<String> SOURCE_KEYS = Arrays.asList("uuid", "language", "creator", "created", "editor", "edited", "project", "tagFamilies",
+		"parentNode", "schema", "displayField");
+
+	private final MeshOptions options;
+
+	@Inject
+	public NodeSourceTransformer(MeshOptions options) {
+		this.options = options;
+	}
+
+	/**
+	 * Return the source filter which only includes the needed document properties and the fields of the projection.
+	 *
+	 * @param fieldNames
+	 *            Names of the fields which should be included. All fields will be included when the set is empty.
+	 * @return
+	 */
+	public JsonArray sourceIncludes(Set<String> fieldNames) {
+		JsonArray includes = new JsonArray(new ArrayList<>(SOURCE_KEYS));
+		if (fieldNames.isEmpty()) {
+			includes.add("fields");
+		} else {
+			for (String fieldName : fieldNames) {
+				includes.add("fields." + fieldName);
+			}
+		}
+		return includes;
+	}
+
+	/**
+	 * Transform the source of the document into a node response.
+	 *
+	 * @param ac
+	 * @param source
+	 *            Source of the node document
+	 * @param schema
+	 *            Schema of the indexed node
+	 * @param fieldNames
+	 *            Names of the fields which should be included. All fields will be included when the set is empty.
+	 * @param missingFields
+	 *            List to which the schemas of all fields will be added which could not be restored from the source
+	 * @return
+	 */
+	public NodeResponse toResponse(InternalActionContext ac, JsonObject source, SchemaModel schema, Set<String> fieldNames,
+		List<FieldSchema> missingFields) {
+		NodeResponse response = new NodeResponse();
+		response.setUuid(source.getString("uuid"));
+		response.setLanguage(source.getString("language"));
+		response.setCreator(toUserReference(source.getJsonObject("creator")));
+		response.setCreated(source.getString("created"));
+		response.setEditor(toUserReference(source.getJsonObject("editor")));
+		response.setEdited(source.getString("edited"));
+
+		JsonObject project = source.getJsonObject("project");
+		if (project != null) {
+			ProjectReference reference = new ProjectReference();
+			reference.setName(project.getString(NAME_KEY));
+			reference.setUuid(project.getString(UUID_KEY));
+			response.setProject(reference);
+		}
+
+		List<TagReference> tags = new ArrayList<>();
+		JsonObject tagFamilies = source.getJsonObject("tagFamilies", new JsonObject());
+		for (String familyName : tagFamilies.fieldNames()) {
+			JsonArray familyTags = tagFamilies.getJsonObject(familyName).getJsonArray("tags", new JsonArray());
+			for (int i = 0; i < familyTags.size(); i++) {
+				JsonObject tag = familyTags.getJsonObject(i);
+				TagReference reference = new TagReference();
+				reference.setName(tag.getString(NAME_KEY));
+				reference.setUuid(tag.getString(UUID_KEY));
+				reference.setTagFamily(familyName);
+				tags.add(reference);
+			}
+		}
+		response.setTags(tags);
+
+		JsonObject parentNode = source.getJsonObject("parentNode");
+		if (parentNode != null) {
+			response.setParentNode(new NodeReference().setUuid(parentNode.getString(UUID_KEY)));
+		}
+
+		JsonObject schemaInfo = source.getJsonObject("schema");
+		if (schemaInfo != null) {
+			SchemaReferenceImpl reference = new SchemaReferenceImpl();
+			reference.setName(schemaInfo.getString(NAME_KEY));
+			reference.setUuid(schemaInfo.getString(UUID_KEY));
+			reference.setVersion(schemaInfo.getString("version"));
+			response.setSchema(reference);
+		}
+
+		JsonObject displayField = source.getJsonObject("displayField");
+		if (displayField != null) {
+			response.setDisplayField(displayField.getString("key"));
+			response.setDisplayName(displayField.getString("value"));
+		}
+
+		FieldMap fields = new FieldMapImpl();
+		JsonObject indexedFields = source.getJsonObject("fields", new JsonObject());
+		for (FieldSchema fieldSchema : schema.getFields()) {
+			String name = fieldSchema.getName();
+			if (!fieldNames.isEmpty() && !fieldNames.contains(name)) {
+				continue;
+			}
+			if (!isRestorable(ac, fieldSchema)) {
+				missingFields.add(fieldSchema);
+				continue;
+			}
+			Object value = indexedFields.getValue(name);
+			if (value != null) {
+				fields.put(name, toField(fieldSchema, value));
+			}
+		}
+		response.setFields(fields);
+		return response;
+	}
+
+	/**
+	 * Check whether the value of the field can be restored from the document source. Html values are stored as plain text, strings may have been
+	 * truncated and binary and micronode fields only contain parts of the information. Resolved links and expanded nodes always require the graph.
+	 *
+	 * @param ac
+	 * @param fieldSchema
+	 * @return
+	 */
+	private boolean isRestorable(InternalActionContext ac, FieldSchema fieldSchema) {
+		if (!fieldSchema.isMappingRequired(options.getSearchOptions())) {
+			return false;
+		}
+		NodeParameters nodeParameters = ac.getNodeParameters();
+		boolean resolveLinks = nodeParameters.getResolveLinks() != LinkType.OFF;
+		boolean expand = nodeParameters.getExpandAll() || nodeParameters.getExpandedFieldnameList().contains(fieldSchema.getName());
+		JsonObject indexOptions = fieldSchema.getElasticsearch();
+		boolean raw = indexOptions != null && indexOptions.containsKey("raw");
+
+		String type = fieldSchema.getType();
+		if (FieldTypes.LIST.toString().equals(type)) {
+			type = ((ListFieldSchema) fieldSchema).getListType();
+		}
+		switch (FieldTypes.valueByName(type)) {
+		case STRING:
+			return !resolveLinks && !raw;
+		case NODE:
+			return !resolveLinks && !expand;
+		case NUMBER:
+		case BOOLEAN:
+		case DATE:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private Field toField(FieldSchema fieldSchema, Object value) {
+		FieldTypes type = FieldTypes.valueByName(fieldSchema.getType());
+		switch (type) {
+		case STRING:
+			return new StringFieldImpl().setString((String) value);
+		case NUMBER:
+			return new NumberFieldImpl().setNumber((Number) value);
+		case BOOLEAN:
+			return new BooleanFieldImpl().setValue((Boolean) value);
+		case DATE:
+			return new DateFieldImpl().setDate(DateUtils.toISO8601(((Number) value).longValue()));
+		case NODE:
+			return new NodeFieldImpl().setUuid((String) value);
+		case LIST:
+			return toListField(((ListFieldSchema) fieldSchema).getListType(), (JsonArray) value);
+		default:
+			throw new IllegalArgumentException("The field type {" + type + "} can't be restored from the source");
+		}
+	}
+
+	private Field toListField(String listType, JsonArray values) {
+		switch (FieldTypes.valueByName(listType)) {
+		case STRING:
+			StringFieldListImpl stringList = new StringFieldListImpl();
+			values.forEach(value -> stringList.add((String) value));
+			return stringList;
+		case NUMBER:
+			NumberFieldListImpl numberList = new NumberFieldListImpl();
+			values.forEach(value -> numberList.add((Number) value));
+			return numberList;
+		case BOOLEAN:
+			// Boolean list items are stored as strings
+			BooleanFieldListImpl booleanList = new BooleanFieldListImpl();
+			values.forEach(value -> booleanList.add(Boolean.valueOf(String.valueOf(value))));
+			return booleanList;
+		case DATE:
+			DateFieldListImpl dateList = new DateFieldListImpl();
+			values.forEach(value -> dateList.add(DateUtils.toISO8601(((Number) value).longValue())));
+			return dateList;
+		case NODE:
+			NodeFieldListImpl nodeList = new NodeFieldListImpl();
+			values.forEach(value -> nodeList.add(new NodeFieldListItemImpl((String) value)));
+			return nodeList;
+		default:
+			throw new IllegalArgumentException("The list type {" + listType + "} can't be restored from the source");
+		}
+	}
+
+	private UserReference toUserReference(JsonObject user) {
+		if (user == null) {
+			return null;
+		}
+		return new UserReference().setUuid(user.getString(UUID_KEY));
+	}
+
+}
@@ -1,5 +1,6 @@
 package com.gentics.mesh.search.verticle;
 
+import static com.gentics.mesh.core.rest.MeshEvent.EVENT_BATCH;
 import static com.gentics.mesh.core.rest.MeshEvent.INDEX_SYNC_REQUEST;
 import static com.gentics.mesh.core.rest.MeshEvent.IS_SEARCH_IDLE;
 import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_FLUSH_REQUEST;
@@ -7,26 +8,39 @@ import static com.gentics.mesh.core.rest.MeshEvent.SEARCH_REFRESH_REQUEST;
 import static com.gentics.mesh.search.verticle.eventhandler.RxUtil.retryWithDelay;
 import static com.gentics.mesh.search.verticle.eventhandler.Util.logElasticSearchError;
 
+import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
 import com.gentics.mesh.core.data.search.request.SearchRequest;
 import com.gentics.mesh.core.rest.MeshEvent;
 import com.gentics.mesh.core.rest.event.MeshEventModel;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.etc.config.search.ElasticSearchOptions;
+import com.gentics.mesh.event.EventBatch;
 import com.gentics.mesh.search.SearchProvider;
 import com.gentics.mesh.search.impl.ElasticsearchResponseErrorStreamable;
 import com.gentics.mesh.search.verticle.bulk.BulkOperator;
+import com.gentics.mesh.search.verticle.bulk.EventCoalescer;
+import com.gentics.mesh.search.verticle.bulk.RequestSequencer;
 import com.gentics.mesh.search.verticle.eventhandler.MainEventHandler;
 import com.gentics.mesh.search.verticle.eventhandler.SyncEventHandler;
+import com.gentics.mesh.search.verticle.queue.OverflowBufferOperator;
+import com.gentics.mesh.search.verticle.queue.SegmentLog;
 
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
@@ -38,10 +52,10 @@ import io.reactivex.processors.PublishProcessor;
 import io.reactivex.subjects.BehaviorSubject;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Promise;
-import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.reactivex.RxHelper;
 import io.vertx.reactivex.core.Vertx;
 import io.vertx.reactivex.core.eventbus.MessageConsumer;
 
@@ -50,14 +64,17 @@ import io.vertx.reactivex.core.eventbus.MessageConsumer;
  * <p>The basic flow of events can be found in the {@link #assemble()} method. It looks like this:</p>
  * <ol>
  *     <li>Event received</li>
+ *     <li>Drop the event if an event for the same document is still waiting to be transformed</li>
  *     <li>Generate necessary requests out of the event</li>
  *     <li>Bulk bulkable requests together</li>
- *     <li>Send request to elasticsearch</li>
+ *     <li>Send request to elasticsearch. Requests which affect different documents may be sent in parallel.</li>
  * </ol>
  */
 public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private static final Logger log = LoggerFactory.getLogger(ElasticsearchProcessVerticle.class);
 
+	private static final long OVERFLOW_SEGMENT_SIZE = 16 * 1024 * 1024;
+
 	private final MainEventHandler mainEventhandler;
 	private final SearchProvider searchProvider;
 	private final IdleChecker idleChecker;
@@ -66,10 +83,19 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 
 	private FlowableProcessor<MessageEvent> requests = PublishProcessor.create();
 
-	private List<MessageConsumer<JsonObject>> vertxHandlers;
+	private List<MessageConsumer<?>> vertxHandlers;
 	private final AtomicBoolean stopped = new AtomicBoolean(false);
 	private final BehaviorSubject<Boolean> elasticsearchAvailable = BehaviorSubject.createDefault(true);
 	private final AtomicBoolean waitForSync = new AtomicBoolean(false);
+	private final EventCoalescer coalescer = new EventCoalescer();
+	private SegmentLog overflowLog;
+	private OverflowBufferOperator overflowBuffer;
+
+	/**
+	 * Events which need to be acknowledged once they have been processed, keyed by the requests which were generated for them and have not yet
+	 * completed.
+	 */
+	private final Map<SearchRequest, PendingEvent> pendingRequests = Collections.synchronizedMap(new IdentityHashMap<>());
 
 	@Inject
 	public ElasticsearchProcessVerticle(MainEventHandler mainEventhandler,
@@ -87,6 +113,11 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	@Override
 	public void start() {
 		log.trace("Initializing Elasticsearch process verticle");
+		if (options.getEventOverflowPath() != null) {
+			overflowLog = new SegmentLog(Paths.get(options.getEventOverflowPath()), OVERFLOW_SEGMENT_SIZE);
+			// Events which were stored before the last shutdown will be processed first
+			idleChecker.addAndGetTransformations((int) overflowLog.size());
+		}
 		assemble();
 		idleChecker.idling()
 			.subscribe(ignore -> {
@@ -94,24 +125,23 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				vertx.eventBus().publish(MeshEvent.SEARCH_IDLE.address, null);
 			});
 
-		vertxHandlers = mainEventhandler.handledEvents()
+		Collection<MeshEvent> handledEvents = mainEventhandler.handledEvents();
+		vertxHandlers = handledEvents
 			.stream()
 			.map(event -> vertx.eventBus().<JsonObject>localConsumer(event.address, message -> {
-				if (!stopped.get() && !isDroppedEvent(message)) {
-					idleChecker.incrementAndGetTransformations();
-					// Only continue processing the event if elasticsearch is available.
-					elasticsearchAvailable.filter(available -> available)
-						.firstOrError()
-						.subscribe(ignore -> {
-							waitForSync.set(false);
-							log.trace(String.format("Received event message on address {%s}:\n%s", message.address(), message.body()));
-							requests.onNext(new MessageEvent(event, MeshEventModel.fromMessage(message)));
-						});
-				}
+				handleEvent(event, () -> MeshEventModel.fromMessage(message));
 			}))
 			.map((Function<io.vertx.core.eventbus.MessageConsumer<JsonObject>, MessageConsumer<JsonObject>>) MessageConsumer::new)
-			.collect(Collectors.toList());
+			.collect(Collectors.<MessageConsumer<?>>toList());
 
+		// Events which were dispatched as part of a batch are only published within the batch envelope
+		vertxHandlers.add(new MessageConsumer<>(vertx.eventBus().<EventBatch>localConsumer(EVENT_BATCH.address, message -> {
+			for (MeshEventModel entry : message.body().getEntries()) {
+				if (handledEvents.contains(entry.getEvent())) {
+					handleEvent(entry.getEvent(), () -> entry);
+				}
+			}
+		})));
 		vertxHandlers.add(replyingEventHandler(IS_SEARCH_IDLE, Single.fromCallable(idleChecker::isIdle)));
 		vertxHandlers.add(replyingEventHandler(SEARCH_REFRESH_REQUEST, refresh().andThen(Single.just(true))));
 
@@ -125,15 +155,39 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	}
 
 	/**
-	 * Tests if an event in a message should be ignore for further processing.
+	 * Queue the given event for processing once elasticsearch is available.
+	 *
+	 * @param event
+	 * @param model
+	 *            Supplier for the body of the event. The body will only be loaded once the event is processed.
+	 */
+	private void handleEvent(MeshEvent event, Supplier<MeshEventModel> model) {
+		if (!stopped.get() && !isDroppedEvent(event)) {
+			idleChecker.incrementAndGetTransformations();
+			// Only continue processing the event if elasticsearch is available.
+			elasticsearchAvailable.filter(available -> available)
+				.firstOrError()
+				.subscribe(ignore -> {
+					waitForSync.set(false);
+					MeshEventModel body = model.get();
+					if (log.isTraceEnabled()) {
+						log.trace(String.format("Received event on address {%s}:\n%s", event.address, body == null ? null : body.toJson()));
+					}
+					requests.onNext(new MessageEvent(event, body));
+				});
+		}
+	}
+
+	/**
+	 * Tests if an event should be ignored for further processing.
 	 * Events will be ignored when an index sync has been requested but not yet started.
 	 * Effectively this will ignore all events that occurred before the index sync request.
 	 *
-	 * @param message
+	 * @param event
 	 * @return
 	 */
-	private boolean isDroppedEvent(Message<JsonObject> message) {
-		return waitForSync.get() && !message.address().equals(INDEX_SYNC_REQUEST.address);
+	private boolean isDroppedEvent(MeshEvent event) {
+		return waitForSync.get() && event != INDEX_SYNC_REQUEST;
 	}
 
 	@Override
@@ -143,8 +197,11 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		Observable.fromIterable(vertxHandlers)
 			.flatMapCompletable(MessageConsumer::rxUnregister)
 			.andThen(flush())
-			.subscribe(() -> {
+			.andThen(Completable.defer(() -> {
 				requests.onComplete();
+				return overflowBuffer != null ? overflowBuffer.close() : Completable.complete();
+			}))
+			.subscribe(() -> {
 				idleChecker.close();
 				log.trace("Done stopping Elasticsearch process verticle");
 				promise.complete();
@@ -177,29 +234,98 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			options.getBulkLengthLimit()
 		);
 		requests
+			.filter(this::coalesce)
 			.compose(this::bufferEvents)
-			.concatMap(this::generateRequests, 1)
+			.doOnNext(coalescer::release)
+			.compose(this::transformEvents)
 			.lift(bulker)
-			.concatMap(request ->
-				this.sendRequest(request)
-				// To make sure the subscription stays alive
-				.onErrorResumeNext(Flowable.empty())
-			, 1)
+			.compose(this::sendRequests)
 			// To make sure the subscription stays alive
-			.doOnError(err -> log.info("Error at end of ES process chain", err))
+			.doOnError(err -> {
+				log.info("Error at end of ES process chain", err);
+				coalescer.clear();
+			})
 			.retry()
 			.subscribe();
 	}
 
+	/**
+	 * Drops events for documents which will already be updated by a waiting event.
+	 *
+	 * @see EventCoalescer
+	 * @param event
+	 * @return
+	 */
+	private boolean coalesce(MessageEvent event) {
+		if (coalescer.offer(event)) {
+			return true;
+		}
+		idleChecker.decrementAndGetTransformations();
+		return false;
+	}
+
+	/**
+	 * Transforms the events to requests. If a transformation concurrency greater than one was configured, multiple events will be transformed in parallel
+	 * on worker threads. The generated requests are still emitted in the order of the events.
+	 *
+	 * @see ElasticSearchOptions#getTransformationConcurrency()
+	 * @param events
+	 * @return
+	 */
+	private Flowable<SearchRequest> transformEvents(Flowable<MessageEvent> events) {
+		int concurrency = options.getTransformationConcurrency();
+		if (concurrency <= 1) {
+			return events.concatMap(this::generateRequests, 1);
+		}
+		return events.concatMapEager(event -> this.generateRequests(event)
+			.subscribeOn(RxHelper.blockingScheduler(vertx, false)), concurrency, Flowable.bufferSize());
+	}
+
+	/**
+	 * Sends the requests to elasticsearch. If a request concurrency greater than one was configured, multiple requests will be sent in parallel. Requests
+	 * which affect the same documents are sequenced so that they are still applied in order.
+	 *
+	 * @see ElasticSearchOptions#getRequestConcurrency()
+	 * @param requests
+	 * @return
+	 */
+	private Flowable<SearchRequest> sendRequests(Flowable<SearchRequest> requests) {
+		int concurrency = options.getRequestConcurrency();
+		if (concurrency <= 1) {
+			return requests.concatMap(request -> this.sendRequest(request)
+				// To make sure the subscription stays alive
+				.onErrorResumeNext(Flowable.empty()), 1);
+		}
+		RequestSequencer sequencer = new RequestSequencer();
+		return requests.flatMap(request -> sequencer.sequence(request, this::sendRequest)
+			// To make sure the subscription stays alive
+			.onErrorResumeNext(Flowable.empty()), concurrency);
+	}
+
 	/**
 	 * Buffers requests to elasticsearch when the requests to elasticsearch are slower than the flow of incoming events.
 	 * If too many events are queued, the queue is cleared and an index sync will be requested.
+	 * If an event overflow path has been configured, the events which exceed the buffer size are stored on disk instead.
+	 * The queue will only be cleared once the overflow limit has been reached.
 	 *
 	 * @see ElasticSearchOptions#getEventBufferSize()
+	 * @see ElasticSearchOptions#getEventOverflowPath()
 	 * @param upstream
 	 * @return
 	 */
-	private <T> Flowable<T> bufferEvents(Flowable<T> upstream) {
+	private Flowable<MessageEvent> bufferEvents(Flowable<MessageEvent> upstream) {
+		if (overflowLog != null) {
+			overflowBuffer = new OverflowBufferOperator(
+				overflowLog,
+				options.getEventBufferSize(),
+				options.getEventOverflowLimit(),
+				() -> {
+					coalescer.clear();
+					idleChecker.resetTransformations();
+					startSync();
+				});
+			return upstream.lift(overflowBuffer);
+		}
 		AtomicInteger bufferedEvents = new AtomicInteger(0);
 		return upstream
 			.doOnNext(request -> {
@@ -210,6 +336,7 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 				() -> {
 					log.info("Event buffer size of {} was reached. Dropping all pending events and scheduling index sync.", options.getEventBufferSize());
 					bufferedEvents.set(0);
+					coalescer.clear();
 					idleChecker.resetTransformations();
 					startSync();
 				}
@@ -241,7 +368,9 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	 * Sync indices before any other event is processed.
 	 *
 	 * <h2>Connection errors</h2>
-	 * The request will be retried indefinitely in a configurable interval.
+	 * The request will be retried in a configurable interval until the retry limit has been reached.
+	 * If an event overflow path has been configured, the request is retried until Elasticsearch is reachable again.
+	 * The events which are received in the meantime are stored on disk.
 	 *
 	 * <h2>Errors inside elasticsearch</h2>
 	 * These errors will not affect this verticle and will be loggend and then ignored.
@@ -252,7 +381,8 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 	private Flowable<SearchRequest> sendRequest(SearchRequest request) {
 		return stopped.get()
 			? Flowable.empty()
-			: request.execute(searchProvider)
+			// Retries are skipped once the verticle has been stopped
+			: Completable.defer(() -> stopped.get() ? Completable.complete() : request.execute(searchProvider))
 			.doOnSubscribe(ignore -> {
 				log.trace("Sending request to Elasticsearch: {}", request);
 			})
@@ -267,14 +397,41 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 			.onErrorResumeNext(ignoreElasticsearchErrors(request))
 			.retryWhen(retryWithDelay(
 				Duration.ofMillis(options.getRetryInterval()),
-				options.getRetryLimit()
+				overflowLog != null ? Integer.MAX_VALUE : options.getRetryLimit()
 			))
+			// Requests which were skipped due to the shutdown have not been completed
+			.doOnComplete(() -> releasePendingRequests(request, !stopped.get()))
 			.doFinally(() -> {
 				log.trace("Request-{}", request);
 				idleChecker.addAndGetRequests(-request.requestCount());
+				releasePendingRequests(request, false);
 			});
 	}
 
+	/**
+	 * Remove the given request and the requests contained in it from the pending requests.
+	 *
+	 * @param request
+	 * @param completed
+	 *            Whether the request has been completed. The events of the requests are only marked as processed once all of their requests have been
+	 *            completed.
+	 */
+	private void releasePendingRequests(SearchRequest request, boolean completed) {
+		if (pendingRequests.isEmpty()) {
+			return;
+		}
+		PendingEvent pending = pendingRequests.remove(request);
+		if (pending != null) {
+			if (completed) {
+				pending.release();
+			}
+		} else if (request instanceof BulkRequest) {
+			for (Bulkable bulkable : ((BulkRequest) request).getRequests()) {
+				releasePendingRequests(bulkable, completed);
+			}
+		}
+	}
+
 	/**
 	 * Ignores the error if there are only deletes on missing indices.
 	 * @param request
@@ -348,6 +505,8 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		if (stopped.get()) {
 			return Flowable.empty();
 		}
+		// Events which were spilled to disk are only removed from the overflow log once all of their requests have been completed
+		PendingEvent pending = messageEvent.hasProcessedAction() ? new PendingEvent(messageEvent) : null;
 		try {
 			return this.mainEventhandler.handle(messageEvent)
 				.doOnNext(request -> {
@@ -355,13 +514,21 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 						log.trace("Request+{}", request);
 					}
 					idleChecker.addAndGetRequests(request.requestCount());
+					if (pending != null) {
+						pending.add(request);
+					}
 				})
 				.retryWhen(retryWithDelay(
 					Duration.ofMillis(options.getRetryInterval()),
 					options.getRetryLimit()
 				))
 				.doOnComplete(() -> log.trace("Done transforming event {}. Transformations pending: {}", messageEvent.event, idleChecker.getTransformations()))
-				.doOnTerminate(idleChecker::decrementAndGetTransformations);
+				.doOnTerminate(idleChecker::decrementAndGetTransformations)
+				.doOnTerminate(() -> {
+					if (pending != null) {
+						pending.release();
+					}
+				});
 		} catch (Exception e) {
 			// For safety to keep the verticle always running
 			e.printStackTrace();
@@ -369,6 +536,43 @@ public class ElasticsearchProcessVerticle extends AbstractVerticle {
 		}
 	}
 
+	/**
+	 * Event which waits for the completion of its requests. The event is marked as processed once it has been transformed and all of its requests have
+	 * been completed.
+	 */
+	private class PendingEvent {
+
+		private final MessageEvent event;
+
+		/**
+		 * Amount of requests which have not yet been completed. The transformation itself counts as one request.
+		 */
+		private final AtomicInteger pending = new AtomicInteger(1);
+
+		PendingEvent(MessageEvent event) {
+			this.event = event;
+		}
+
+		/**
+		 * Add a request which has been generated for the event.
+		 *
+		 * @param request
+		 */
+		void add(SearchRequest request) {
+			pending.incrementAndGet();
+			pendingRequests.put(request, this);
+		}
+
+		/**
+		 * Release a completed request or the transformation.
+		 */
+		void release() {
+			if (pending.decrementAndGet() == 0) {
+				event.processed();
+			}
+		}
+	}
+
 	/**
 	 * Returns the idle checker for this verticle.
 	 * @return
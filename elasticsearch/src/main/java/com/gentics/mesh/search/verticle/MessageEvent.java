@@ -6,9 +6,41 @@ import com.gentics.mesh.core.rest.event.MeshEventModel;
 public class MessageEvent {
 	public final MeshEventModel message;
 	public final MeshEvent event;
+	private final Runnable onProcessed;
 
 	public MessageEvent(MeshEvent event, MeshEventModel message) {
+		this(event, message, null);
+	}
+
+	/**
+	 * Create a new event.
+	 *
+	 * @param event
+	 * @param message
+	 * @param onProcessed
+	 *            Action which is invoked once the event has been processed
+	 */
+	public MessageEvent(MeshEvent event, MeshEventModel message, Runnable onProcessed) {
 		this.event = event;
 		this.message = message;
+		this.onProcessed = onProcessed;
+	}
+
+	/**
+	 * Check whether an action needs to be invoked once the event has been processed.
+	 *
+	 * @return
+	 */
+	public boolean hasProcessedAction() {
+		return onProcessed != null;
+	}
+
+	/**
+	 * Signal that all requests for the event have been completed.
+	 */
+	public void processed() {
+		if (onProcessed != null) {
+			onProcessed.run();
+		}
 	}
 }
@@ -0,0 +1,127 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_PUBLISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.ROLE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.search.verticle.MessageEvent;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Coalesces events which are waiting to be transformed into search requests.
+ *
+ * The requests for create and update events are generated from the current state of the element. If such an event arrives while an event for the same
+ * index and document id is still waiting to be transformed, the new event is dropped since the waiting event will load the same state. All other events
+ * reset the coalescer, so that events are never reordered with deletions, migrations or index operations.
+ *
+ * Call {@link #offer(MessageEvent)} before the events are buffered and {@link #release(MessageEvent)} once the event is about to be transformed.
+ */
+public class EventCoalescer {
+	private static final Logger log = LoggerFactory.getLogger(EventCoalescer.class);
+
+	/**
+	 * Prefixes of the document keys of the events which create or update a single document. Create and update events of the same element share the prefix.
+	 */
+	private static final Map<MeshEvent, String> UPSERT_EVENTS = new EnumMap<>(MeshEvent.class);
+
+	static {
+		UPSERT_EVENTS.put(USER_CREATED, "user");
+		UPSERT_EVENTS.put(USER_UPDATED, "user");
+		UPSERT_EVENTS.put(ROLE_CREATED, "role");
+		UPSERT_EVENTS.put(ROLE_UPDATED, "role");
+		UPSERT_EVENTS.put(SCHEMA_CREATED, "schema");
+		UPSERT_EVENTS.put(SCHEMA_UPDATED, "schema");
+		UPSERT_EVENTS.put(MICROSCHEMA_CREATED, "microschema");
+		UPSERT_EVENTS.put(MICROSCHEMA_UPDATED, "microschema");
+		UPSERT_EVENTS.put(NODE_CONTENT_CREATED, "node");
+		UPSERT_EVENTS.put(NODE_UPDATED, "node");
+		UPSERT_EVENTS.put(NODE_PUBLISHED, "node");
+	}
+
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Offer the event before it is buffered.
+	 *
+	 * @param event
+	 * @return false if the event is covered by a waiting event and must be dropped
+	 */
+	public boolean offer(MessageEvent event) {
+		String key = documentKey(event);
+		if (key == null) {
+			pending.clear();
+			return true;
+		}
+		if (pending.add(key)) {
+			return true;
+		}
+		log.trace("Coalesced event {} for document {}", event.event, key);
+		return false;
+	}
+
+	/**
+	 * Release the event once its transformation is about to start. Later events for the same document will no longer be dropped.
+	 *
+	 * @param event
+	 */
+	public void release(MessageEvent event) {
+		String key = documentKey(event);
+		if (key != null) {
+			pending.remove(key);
+		}
+	}
+
+	/**
+	 * Forget all waiting events. This has to be called when waiting events are dropped.
+	 */
+	public void clear() {
+		pending.clear();
+	}
+
+	/**
+	 * Return the key of the document which is created or updated by the event.
+	 *
+	 * @param event
+	 * @return Key which identifies the index and the document id or null if the event can't be coalesced
+	 */
+	static String documentKey(MessageEvent event) {
+		String prefix = UPSERT_EVENTS.get(event.event);
+		MeshEventModel model = event.message;
+		if (prefix == null || model == null || model.getCause() != null || !(model instanceof MeshElementEventModel)) {
+			return null;
+		}
+		String uuid = ((MeshElementEventModel) model).getUuid();
+		if (uuid == null) {
+			return null;
+		}
+		if (!(model instanceof NodeMeshEventModel)) {
+			return prefix + "/" + uuid;
+		}
+		NodeMeshEventModel node = (NodeMeshEventModel) model;
+		if (node.getProject() == null || node.getBranchUuid() == null || node.getSchema() == null || node.getType() == null
+			|| node.getLanguageTag() == null) {
+			return null;
+		}
+		return String.join("/", prefix, node.getProject().getUuid(), node.getBranchUuid(), node.getSchema().getUuid(), node.getType().name(), uuid,
+			node.getLanguageTag());
+	}
+}
@@ -0,0 +1,144 @@
+package com.gentics.mesh.search.verticle.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.Bulkable;
+import com.gentics.mesh.core.data.search.request.CreateDocumentRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.core.data.search.request.UpdateDocumentRequest;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.subjects.CompletableSubject;
+
+/**
+ * <p>Orders requests which are sent to Elasticsearch concurrently.</p>
+ *
+ * <p>A request will only be sent once all previously sequenced requests which affect the same documents have been completed. Requests which do not
+ * target specific documents (e.g. index creation or deletion) act as a barrier: They wait for all previous requests and all following requests wait for
+ * them. Requests which affect different documents can be sent in parallel.</p>
+ *
+ * <p>Requests must be sequenced in the order in which they were generated and the returned flowables must be subscribed.</p>
+ */
+public class RequestSequencer {
+
+	/**
+	 * Completion of the last sequenced request per document key.
+	 */
+	private final Map<String, CompletableSubject> pending = new HashMap<>();
+
+	/**
+	 * Completions of all requests which have not yet been completed.
+	 */
+	private final Set<CompletableSubject> inFlight = new HashSet<>();
+
+	/**
+	 * Completion of the last sequenced barrier request. Null if there is no pending barrier.
+	 */
+	private CompletableSubject barrier;
+
+	/**
+	 * Sequence the request. The returned flowable will invoke the sender once all requests on which the given request depends have been completed.
+	 *
+	 * @param request
+	 * @param sender
+	 *            Function which actually sends the request
+	 * @return
+	 */
+	public Flowable<SearchRequest> sequence(SearchRequest request, Function<SearchRequest, Flowable<SearchRequest>> sender) {
+		CompletableSubject done = CompletableSubject.create();
+		Set<String> keys = documentKeys(request);
+		List<Completable> dependencies = new ArrayList<>();
+		synchronized (this) {
+			if (barrier != null) {
+				dependencies.add(barrier);
+			}
+			if (keys == null) {
+				dependencies.addAll(inFlight);
+				barrier = done;
+			} else {
+				for (String key : keys) {
+					CompletableSubject previous = pending.put(key, done);
+					if (previous != null) {
+						dependencies.add(previous);
+					}
+				}
+			}
+			inFlight.add(done);
+		}
+
+		return Completable.merge(dependencies)
+			.andThen(Flowable.defer(() -> sender.apply(request)))
+			.doFinally(() -> complete(done, keys));
+	}
+
+	/**
+	 * Return the amount of requests which have been sequenced but not yet completed.
+	 *
+	 * @return
+	 */
+	public synchronized int pendingRequests() {
+		return inFlight.size();
+	}
+
+	private void complete(CompletableSubject done, Set<String> keys) {
+		synchronized (this) {
+			inFlight.remove(done);
+			if (barrier == done) {
+				barrier = null;
+			}
+			if (keys != null) {
+				for (String key : keys) {
+					pending.remove(key, done);
+				}
+			}
+		}
+		// Release the dependent requests outside of the lock
+		done.onComplete();
+	}
+
+	/**
+	 * Return the keys of the documents which are affected by the request.
+	 *
+	 * @param request
+	 * @return Keys of the documents or null if the request does not target specific documents
+	 */
+	private static Set<String> documentKeys(SearchRequest request) {
+		if (request instanceof BulkRequest) {
+			Set<String> keys = new HashSet<>();
+			for (Bulkable bulkable : ((BulkRequest) request).getRequests()) {
+				String key = documentKey(bulkable);
+				if (key == null) {
+					return null;
+				}
+				keys.add(key);
+			}
+			return keys;
+		}
+		String key = documentKey(request);
+		return key == null ? null : Collections.singleton(key);
+	}
+
+	private static String documentKey(SearchRequest request) {
+		if (request instanceof CreateDocumentRequest) {
+			CreateDocumentRequest create = (CreateDocumentRequest) request;
+			return create.getIndex() + "/" + create.getId();
+		} else if (request instanceof UpdateDocumentRequest) {
+			UpdateDocumentRequest update = (UpdateDocumentRequest) request;
+			return update.getIndex() + "/" + update.getId();
+		} else if (request instanceof DeleteDocumentRequest) {
+			DeleteDocumentRequest delete = (DeleteDocumentRequest) request;
+			return delete.getIndex() + "/" + delete.getId();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,372 @@
+package com.gentics.mesh.search.verticle.queue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.event.MeshEventModel;
+import com.gentics.mesh.json.JsonUtil;
+import com.gentics.mesh.search.verticle.MessageEvent;
+
+import io.reactivex.Completable;
+import io.reactivex.FlowableOperator;
+import io.reactivex.internal.util.BackpressureHelper;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * <p>An operator which buffers events that can't be processed by the downstream yet.</p>
+ *
+ * <p>Up to the configured amount of events is buffered in memory. Further events are spilled to a {@link SegmentLog} on disk. Once events have been
+ * spilled, all following events are also appended to the log until it has been drained. This way the events are always emitted in the order in which
+ * they were received.</p>
+ *
+ * <p>When the log exceeds its size limit, all buffered events are dropped and the overflow handler is invoked. Events which are still stored in the log when
+ * the upstream completes are not emitted. They remain in the log and will be recovered once the log is opened again.</p>
+ *
+ * <p>The log is only accessed by a dedicated thread of the operator, so that the file operations never block the calling thread. Events which were loaded
+ * from the log are acknowledged once {@link MessageEvent#processed()} has been invoked. Unacknowledged events are recovered after a restart.</p>
+ */
+public class OverflowBufferOperator implements FlowableOperator<MessageEvent, MessageEvent> {
+
+	private static final Logger log = LoggerFactory.getLogger(OverflowBufferOperator.class);
+
+	private static final String ADDRESS_KEY = "address";
+
+	private static final String BODY_KEY = "body";
+
+	private final SegmentLog segmentLog;
+	private final int memoryLimit;
+	private final long diskLimit;
+	private final Runnable overflowHandler;
+	private final ExecutorService logExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "mesh-search-overflow-log");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Create a new operator.
+	 *
+	 * @param segmentLog
+	 *            Log to which the events are spilled
+	 * @param memoryLimit
+	 *            Amount of events which are buffered in memory
+	 * @param diskLimit
+	 *            Maximum size in bytes of the log
+	 * @param overflowHandler
+	 *            Handler which is invoked after the buffered events have been dropped
+	 */
+	public OverflowBufferOperator(SegmentLog segmentLog, int memoryLimit, long diskLimit, Runnable overflowHandler) {
+		this.segmentLog = segmentLog;
+		this.memoryLimit = memoryLimit;
+		this.diskLimit = diskLimit;
+		this.overflowHandler = overflowHandler;
+	}
+
+	@Override
+	public Subscriber<? super MessageEvent> apply(Subscriber<? super MessageEvent> subscriber) {
+		return new OverflowBufferSubscriber(subscriber);
+	}
+
+	/**
+	 * Close the log once the pending file operations have been completed and stop the thread of the operator.
+	 *
+	 * @return Completes once the log has been closed
+	 */
+	public Completable close() {
+		return Completable.fromAction(segmentLog::close)
+			.subscribeOn(Schedulers.from(logExecutor))
+			.doFinally(logExecutor::shutdown);
+	}
+
+	/**
+	 * Run the file operation on the thread of the operator. Operations are executed in the order in which they were submitted.
+	 *
+	 * @param operation
+	 */
+	private void onLogThread(Runnable operation) {
+		if (logExecutor.isShutdown()) {
+			log.debug("The segment log has already been closed. Skipping operation.");
+			return;
+		}
+		logExecutor.execute(() -> {
+			try {
+				operation.run();
+			} catch (Exception e) {
+				log.error("Error while accessing the segment log", e);
+			}
+		});
+	}
+
+	/**
+	 * Encode the event into a record of the log.
+	 *
+	 * @param event
+	 * @return
+	 */
+	static byte[] encode(MessageEvent event) {
+		JsonObject record = new JsonObject()
+			.put(ADDRESS_KEY, event.event.getAddress());
+		if (event.message != null) {
+			record.put(BODY_KEY, new JsonObject(event.message.toJson()));
+		}
+		return record.encode().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Decode the event from a record of the log.
+	 *
+	 * @param record
+	 * @return
+	 */
+	static MessageEvent decode(byte[] record) {
+		return decode(record, null);
+	}
+
+	/**
+	 * Decode the event from a record of the log.
+	 *
+	 * @param record
+	 * @param onProcessed
+	 *            Action which is invoked once the event has been processed
+	 * @return
+	 */
+	static MessageEvent decode(byte[] record, Runnable onProcessed) {
+		JsonObject json = new JsonObject(new String(record, StandardCharsets.UTF_8));
+		String address = json.getString(ADDRESS_KEY);
+		MeshEvent event = MeshEvent.fromAddress(address)
+			.orElseThrow(() -> new RuntimeException(String.format("No event found for address %s", address)));
+		JsonObject body = json.getJsonObject(BODY_KEY);
+		MeshEventModel model = null;
+		if (body != null) {
+			model = JsonUtil.readValue(body.encode(), event.bodyModel);
+			model.setEvent(event);
+		}
+		return new MessageEvent(event, model, onProcessed);
+	}
+
+	private class OverflowBufferSubscriber implements Subscriber<MessageEvent>, Subscription {
+
+		private final Subscriber<? super MessageEvent> downstream;
+		private final Queue<MessageEvent> memory = new ArrayDeque<>();
+		private final AtomicLong requested = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private final AtomicBoolean canceled = new AtomicBoolean(false);
+		private Subscription upstream;
+		private volatile boolean upstreamCompleted = false;
+
+		/**
+		 * Amount of events which were handed to the log but have not yet been loaded back into memory.
+		 */
+		private long spilled = segmentLog.size();
+
+		/**
+		 * Size of the records in the log which have not yet been acknowledged.
+		 */
+		private long spilledBytes = segmentLog.sizeInBytes();
+
+		private boolean loading = false;
+
+		/**
+		 * Incremented whenever the buffered events are dropped. Pending operations of the previous generation are ignored.
+		 */
+		private int generation = 0;
+
+		OverflowBufferSubscriber(Subscriber<? super MessageEvent> downstream) {
+			this.downstream = downstream;
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			upstream = s;
+			downstream.onSubscribe(this);
+			// All events are buffered by this operator
+			s.request(Long.MAX_VALUE);
+		}
+
+		@Override
+		public void onNext(MessageEvent event) {
+			if (canceled.get()) {
+				return;
+			}
+			boolean overflow = false;
+			synchronized (this) {
+				if (spilled == 0 && memory.size() < memoryLimit) {
+					memory.add(event);
+				} else if (spilledBytes < diskLimit) {
+					spill(event);
+				} else {
+					log.info("Event overflow limit of {} bytes was reached. Dropping all pending events.", diskLimit);
+					memory.clear();
+					spilled = 0;
+					spilledBytes = 0;
+					generation++;
+					onLogThread(segmentLog::clear);
+					overflow = true;
+				}
+			}
+			if (overflow) {
+				overflowHandler.run();
+			} else {
+				drain();
+			}
+		}
+
+		private void spill(MessageEvent event) {
+			if (spilled == 0) {
+				log.info("Event buffer size of {} was reached. Spilling events to disk.", memoryLimit);
+			}
+			byte[] record = encode(event);
+			int spilledGeneration = generation;
+			spilled++;
+			spilledBytes += record.length;
+			onLogThread(() -> {
+				try {
+					segmentLog.append(record);
+				} catch (Exception e) {
+					log.error("Could not spill event. The event will be skipped.", e);
+					synchronized (this) {
+						if (spilledGeneration == generation) {
+							spilled--;
+							spilledBytes -= record.length;
+						}
+					}
+				}
+			});
+		}
+
+		/**
+		 * Load the next spilled events on the thread of the operator. The events are added to the memory buffer once they have been loaded.
+		 */
+		private void load() {
+			loading = true;
+			int loadGeneration = generation;
+			onLogThread(() -> {
+				List<MessageEvent> loaded = new ArrayList<>();
+				int polled = 0;
+				try {
+					byte[] record;
+					while (loaded.size() < memoryLimit && (record = segmentLog.poll()) != null) {
+						polled++;
+						try {
+							loaded.add(decode(record, acknowledgement(loadGeneration, record.length)));
+						} catch (Exception e) {
+							log.error("Could not decode spilled event. The event will be skipped.", e);
+							acknowledgement(loadGeneration, record.length).run();
+						}
+					}
+				} finally {
+					synchronized (this) {
+						loading = false;
+						if (loadGeneration == generation) {
+							spilled -= polled;
+							memory.addAll(loaded);
+							if (spilled == 0) {
+								log.info("All spilled events have been loaded from disk.");
+							}
+						}
+					}
+					drain();
+				}
+			});
+		}
+
+		/**
+		 * Create the action which acknowledges a loaded record once the event has been processed.
+		 *
+		 * @param recordGeneration
+		 * @param length
+		 * @return
+		 */
+		private Runnable acknowledgement(int recordGeneration, int length) {
+			return () -> onLogThread(() -> {
+				synchronized (this) {
+					if (recordGeneration != generation) {
+						// The record has already been removed by clearing the log
+						return;
+					}
+					spilledBytes -= length;
+				}
+				segmentLog.acknowledge();
+			});
+		}
+
+		/**
+		 * Return the next buffered event. Spilled events are loaded back into memory once the memory buffer is empty.
+		 *
+		 * @return Event or null if no event is buffered in memory
+		 */
+		private synchronized MessageEvent poll() {
+			// Spilled events are kept on disk after the upstream completed so that they can be recovered on the next start
+			if (memory.isEmpty() && spilled > 0 && !loading && !upstreamCompleted) {
+				load();
+			}
+			return memory.poll();
+		}
+
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				while (!canceled.get() && requested.get() > 0) {
+					MessageEvent event = poll();
+					if (event == null) {
+						break;
+					}
+					downstream.onNext(event);
+					BackpressureHelper.produced(requested, 1);
+				}
+				if (!canceled.get() && upstreamCompleted && isMemoryEmpty()) {
+					canceled.set(true);
+					downstream.onComplete();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private synchronized boolean isMemoryEmpty() {
+			return memory.isEmpty();
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			if (canceled.compareAndSet(false, true)) {
+				downstream.onError(t);
+			}
+		}
+
+		@Override
+		public void onComplete() {
+			upstreamCompleted = true;
+			drain();
+		}
+
+		@Override
+		public void request(long n) {
+			BackpressureHelper.add(requested, n);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			canceled.set(true);
+			upstream.cancel();
+		}
+	}
+}
@@ -0,0 +1,334 @@
+package com.gentics.mesh.search.verticle.queue;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * <p>Append-only FIFO log of binary records which is stored in segment files within a directory.</p>
+ *
+ * <p>Records are appended to the newest segment. Once a segment exceeds the configured segment size a new segment is started. Records are read from the
+ * oldest segment. Read records have to be acknowledged once they have been processed. A segment is deleted once all of its records have been
+ * acknowledged. Each record is stored as a 4 byte length followed by the record data.</p>
+ *
+ * <p>Segments which already exist when the log is opened are recovered, so that records which were not acknowledged before a restart are returned again.
+ * A partially written record at the end of the newest segment is discarded.</p>
+ *
+ * <p>The log is not thread-safe.</p>
+ */
+public class SegmentLog implements AutoCloseable {
+
+	private static final Logger log = LoggerFactory.getLogger(SegmentLog.class);
+
+	private static final String SEGMENT_PREFIX = "segment-";
+
+	private static final String SEGMENT_SUFFIX = ".log";
+
+	private static final int HEADER_LENGTH = Integer.BYTES;
+
+	private final Path directory;
+
+	private final long segmentSize;
+
+	/**
+	 * All stored segments. The last one is written.
+	 */
+	private final Deque<Segment> segments = new ArrayDeque<>();
+
+	/**
+	 * Lengths of the records which have been read but not yet acknowledged.
+	 */
+	private final Deque<Integer> unacknowledged = new ArrayDeque<>();
+
+	private FileChannel writer;
+
+	private FileChannel reader;
+
+	/**
+	 * Segment which is currently read. Null if the reading starts at the oldest segment.
+	 */
+	private Segment readSegment;
+
+	private long records;
+
+	private long sizeInBytes;
+
+	/**
+	 * Open the log in the given directory. The directory will be created if it does not exist.
+	 *
+	 * @param directory
+	 * @param segmentSize
+	 *            Size in bytes after which a new segment will be started
+	 */
+	public SegmentLog(Path directory, long segmentSize) {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		try {
+			Files.createDirectories(directory);
+			for (long segment : listSegments()) {
+				recover(segment);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not open the segment log in {" + directory + "}", e);
+		}
+		if (records > 0) {
+			log.info("Recovered {} records from the segment log in {}", records, directory);
+		}
+	}
+
+	/**
+	 * Append the record to the end of the log.
+	 *
+	 * @param record
+	 */
+	public void append(byte[] record) {
+		try {
+			if (writer == null || writer.size() >= segmentSize) {
+				startSegment();
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + record.length);
+			buffer.putInt(record.length).put(record).flip();
+			while (buffer.hasRemaining()) {
+				writer.write(buffer);
+			}
+			segments.getLast().records++;
+			records++;
+			sizeInBytes += HEADER_LENGTH + record.length;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not append record to the segment log in {" + directory + "}", e);
+		}
+	}
+
+	/**
+	 * Return the oldest record which has not yet been read. The record is kept in the log until it has been acknowledged.
+	 *
+	 * @see #acknowledge()
+	 * @return Record or null if all records have been read
+	 */
+	public byte[] poll() {
+		if (records == 0) {
+			return null;
+		}
+		try {
+			while (true) {
+				if (reader == null) {
+					if (readSegment == null) {
+						readSegment = segments.getFirst();
+					}
+					reader = FileChannel.open(segmentPath(readSegment.sequence), READ);
+					reader.position(readSegment.readPosition);
+				}
+				if (reader.position() < reader.size()) {
+					ByteBuffer header = read(reader, HEADER_LENGTH);
+					ByteBuffer record = read(reader, header.getInt());
+					readSegment.readPosition = reader.position();
+					records--;
+					unacknowledged.add(record.capacity());
+					return record.array();
+				}
+				// The segment was read completely. It will be deleted once its records have been acknowledged.
+				closeChannel(reader);
+				reader = null;
+				readSegment = nextSegment(readSegment);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read record from the segment log in {" + directory + "}", e);
+		}
+	}
+
+	/**
+	 * Acknowledge the oldest record which was read but not yet acknowledged. The segment of the record is deleted once all of its records have been
+	 * acknowledged.
+	 */
+	public void acknowledge() {
+		Integer length = unacknowledged.poll();
+		if (length == null) {
+			throw new IllegalStateException("No record has been read which could be acknowledged");
+		}
+		sizeInBytes -= HEADER_LENGTH + length;
+		Segment head = segments.getFirst();
+		head.acknowledged++;
+		if (head.acknowledged >= head.records) {
+			try {
+				deleteHeadSegment();
+			} catch (IOException e) {
+				throw new UncheckedIOException("Could not delete segment of the segment log in {" + directory + "}", e);
+			}
+		}
+	}
+
+	/**
+	 * Return the amount of records which have not yet been read.
+	 *
+	 * @return
+	 */
+	public long size() {
+		return records;
+	}
+
+	/**
+	 * Return the total size of the records which have not yet been acknowledged.
+	 *
+	 * @return
+	 */
+	public long sizeInBytes() {
+		return sizeInBytes;
+	}
+
+	public boolean isEmpty() {
+		return records == 0;
+	}
+
+	/**
+	 * Remove all records and delete the segments.
+	 */
+	public void clear() {
+		try {
+			while (!segments.isEmpty()) {
+				deleteHeadSegment();
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not clear the segment log in {" + directory + "}", e);
+		}
+		unacknowledged.clear();
+		records = 0;
+		sizeInBytes = 0;
+	}
+
+	@Override
+	public void close() {
+		try {
+			closeChannel(reader);
+			closeChannel(writer);
+		} catch (IOException e) {
+			log.error("Error while closing the segment log in {" + directory + "}", e);
+		}
+		reader = null;
+		writer = null;
+	}
+
+	private void startSegment() throws IOException {
+		long sequence = segments.isEmpty() ? 0 : segments.getLast().sequence + 1;
+		// The previous segment is no longer written. It is read via a separate channel.
+		closeChannel(writer);
+		writer = FileChannel.open(segmentPath(sequence), CREATE, WRITE, APPEND);
+		segments.addLast(new Segment(sequence));
+	}
+
+	private void deleteHeadSegment() throws IOException {
+		Segment head = segments.removeFirst();
+		if (head == readSegment) {
+			closeChannel(reader);
+			reader = null;
+			readSegment = null;
+		}
+		if (segments.isEmpty()) {
+			closeChannel(writer);
+			writer = null;
+		}
+		Files.deleteIfExists(segmentPath(head.sequence));
+	}
+
+	private Segment nextSegment(Segment segment) {
+		boolean found = false;
+		for (Segment next : segments) {
+			if (found) {
+				return next;
+			}
+			found = next == segment;
+		}
+		throw new IllegalStateException("No segment found after segment " + segment.sequence);
+	}
+
+	/**
+	 * Count the complete records of the existing segment and truncate a partially written record.
+	 *
+	 * @param sequence
+	 * @throws IOException
+	 */
+	private void recover(long sequence) throws IOException {
+		Segment segment = new Segment(sequence);
+		try (FileChannel channel = FileChannel.open(segmentPath(sequence), READ, WRITE)) {
+			long size = channel.size();
+			long position = 0;
+			ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+			while (position + HEADER_LENGTH <= size) {
+				header.clear();
+				channel.read(header, position);
+				header.flip();
+				long end = position + HEADER_LENGTH + header.getInt();
+				if (end > size) {
+					break;
+				}
+				segment.records++;
+				records++;
+				sizeInBytes += end - position;
+				position = end;
+			}
+			if (position < size) {
+				log.warn("Discarding partially written record in segment {}", sequence);
+				channel.truncate(position);
+			}
+		}
+		segments.addLast(segment);
+	}
+
+	private List<Long> listSegments() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files
+				.map(file -> file.getFileName().toString())
+				.filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+				.map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+				.sorted()
+				.collect(Collectors.toList());
+		}
+	}
+
+	private Path segmentPath(long sequence) {
+		return directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+	}
+
+	private static ByteBuffer read(FileChannel channel, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new IOException("Unexpected end of segment");
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private static void closeChannel(FileChannel channel) throws IOException {
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	private static class Segment {
+		private final long sequence;
+		private long records;
+		private long acknowledged;
+		private long readPosition;
+
+		Segment(long sequence) {
+			this.sequence = sequence;
+		}
+	}
+}
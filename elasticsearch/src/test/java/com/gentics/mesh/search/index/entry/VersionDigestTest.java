@@ -0,0 +1,67 @@
+package com.gentics.mesh.search.index.entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class VersionDigestTest {
+
+	private static final String UUID_A = "0a1b2c3d4e5f40718293a4b5c6d7e8f9";
+	private static final String UUID_B = "ff1b2c3d4e5f40718293a4b5c6d7e8f9";
+	private static final String UUID_C = "0a9b2c3d4e5f40718293a4b5c6d7e8f9";
+
+	@Test
+	public void testBucketOf() {
+		assertEquals(0x0a, VersionDigest.bucketOf(UUID_A));
+		assertEquals(0xff, VersionDigest.bucketOf(UUID_B));
+		assertEquals(0xff, VersionDigest.bucketOf(UUID_B + "-en"));
+		assertEquals("0a", VersionDigest.prefixOf(0x0a));
+	}
+
+	@Test
+	public void testOrderIndependence() {
+		VersionDigest source = digest(UUID_A, "1", UUID_B, "2", UUID_C, "3");
+		VersionDigest sink = digest(UUID_C, "3", UUID_B, "2", UUID_A, "1");
+		assertTrue(source.differingBuckets(sink).isEmpty());
+		assertEquals(3, sink.getTotalCount());
+	}
+
+	@Test
+	public void testDifferingBuckets() {
+		VersionDigest source = digest(UUID_A, "1", UUID_B, "2");
+		// Changed version
+		assertEquals(Arrays.asList(0xff), source.differingBuckets(digest(UUID_A, "1", UUID_B, "3")));
+		// Missing document
+		assertEquals(Arrays.asList(0x0a), source.differingBuckets(digest(UUID_B, "2")));
+		// Additional document
+		assertEquals(Arrays.asList(0x0a), source.differingBuckets(digest(UUID_A, "1", UUID_C, "1", UUID_B, "2")));
+	}
+
+	@Test
+	public void testGroupDifferingBuckets() {
+		VersionDigest source = digest(UUID_A, "1", UUID_C, "1", UUID_B, "1");
+		VersionDigest sink = new VersionDigest();
+		List<Set<Integer>> groups = source.groupDifferingBuckets(sink, 2);
+		assertEquals(2, groups.size());
+		assertEquals(1, groups.get(0).size());
+		assertTrue(groups.get(0).contains(0x0a));
+		assertTrue(groups.get(1).contains(0xff));
+
+		assertEquals(1, source.groupDifferingBuckets(sink, 3).size());
+		assertTrue(source.groupDifferingBuckets(source, 1).isEmpty());
+	}
+
+	private VersionDigest digest(String... idsAndVersions) {
+		VersionDigest digest = new VersionDigest();
+		for (int i = 0; i < idsAndVersions.length; i += 2) {
+			digest.add(idsAndVersions[i], idsAndVersions[i + 1]);
+		}
+		return digest;
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.gentics.mesh.search.verticle;
+
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_CONTENT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.NODE_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_CREATED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.core.rest.common.ContainerType;
+import com.gentics.mesh.core.rest.event.EventCauseInfoImpl;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.core.rest.event.node.NodeMeshEventModel;
+import com.gentics.mesh.core.rest.project.ProjectReference;
+import com.gentics.mesh.core.rest.schema.impl.SchemaReferenceImpl;
+import com.gentics.mesh.search.verticle.bulk.EventCoalescer;
+
+public class EventCoalescerTest {
+
+	private EventCoalescer coalescer;
+
+	@Before
+	public void setUp() {
+		coalescer = new EventCoalescer();
+	}
+
+	@Test
+	public void testUpdatesOfWaitingDocumentAreDropped() {
+		assertTrue(coalescer.offer(user(USER_CREATED, "a")));
+		assertTrue(coalescer.offer(user(USER_UPDATED, "b")));
+		assertFalse(coalescer.offer(user(USER_UPDATED, "a")));
+		assertFalse(coalescer.offer(node(NODE_UPDATED, "n", "en")));
+		assertTrue(coalescer.offer(node(NODE_UPDATED, "n", "de")));
+	}
+
+	@Test
+	public void testReleasedDocumentIsNotDropped() {
+		MessageEvent create = user(USER_CREATED, "a");
+		assertTrue(coalescer.offer(create));
+		coalescer.release(create);
+		assertTrue(coalescer.offer(user(USER_UPDATED, "a")));
+	}
+
+	@Test
+	public void testOtherEventsAreNotReordered() {
+		assertTrue(coalescer.offer(user(USER_CREATED, "a")));
+		assertTrue(coalescer.offer(user(USER_DELETED, "a")));
+		assertTrue(coalescer.offer(user(USER_CREATED, "a")));
+		assertTrue(coalescer.offer(user(USER_DELETED, "a")));
+
+		assertTrue(coalescer.offer(node(NODE_UPDATED, "n", "en")));
+		assertTrue(coalescer.offer(node(NODE_CONTENT_DELETED, "n", "en")));
+		assertTrue(coalescer.offer(node(NODE_UPDATED, "n", "en")));
+	}
+
+	@Test
+	public void testEventsWithCauseAreNotDropped() {
+		assertTrue(coalescer.offer(node(NODE_UPDATED, "n", "en")));
+		MessageEvent migrated = node(NODE_UPDATED, "n", "en");
+		migrated.message.setCause(new EventCauseInfoImpl());
+		assertTrue(coalescer.offer(migrated));
+		assertTrue(coalescer.offer(migrated));
+	}
+
+	@Test
+	public void testClear() {
+		assertTrue(coalescer.offer(user(USER_CREATED, "a")));
+		coalescer.clear();
+		assertTrue(coalescer.offer(user(USER_UPDATED, "a")));
+	}
+
+	private MessageEvent user(MeshEvent event, String uuid) {
+		MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		return new MessageEvent(event, model);
+	}
+
+	private MessageEvent node(MeshEvent event, String uuid, String language) {
+		NodeMeshEventModel model = new NodeMeshEventModel();
+		model.setEvent(event);
+		model.setUuid(uuid);
+		model.setProject(new ProjectReference().setUuid("project"));
+		model.setBranchUuid("branch");
+		model.setSchema(new SchemaReferenceImpl().setUuid("schema"));
+		model.setType(ContainerType.DRAFT);
+		model.setLanguageTag(language);
+		return new MessageEvent(event, model);
+	}
+}
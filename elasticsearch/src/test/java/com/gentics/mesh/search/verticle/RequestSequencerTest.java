@@ -0,0 +1,107 @@
+package com.gentics.mesh.search.verticle;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gentics.mesh.core.data.search.request.BulkRequest;
+import com.gentics.mesh.core.data.search.request.DeleteDocumentRequest;
+import com.gentics.mesh.core.data.search.request.SearchRequest;
+import com.gentics.mesh.etc.config.search.ComplianceMode;
+import com.gentics.mesh.search.verticle.bulk.RequestSequencer;
+
+import io.reactivex.Flowable;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class RequestSequencerTest {
+
+	private RequestSequencer sequencer;
+
+	private List<SearchRequest> sent;
+
+	private List<PublishProcessor<SearchRequest>> responses;
+
+	@Before
+	public void setUp() {
+		sequencer = new RequestSequencer();
+		sent = new ArrayList<>();
+		responses = new ArrayList<>();
+	}
+
+	/**
+	 * Sender which records the sent requests. The requests complete once the matching response processor completes.
+	 *
+	 * @param request
+	 * @return
+	 */
+	private Flowable<SearchRequest> send(SearchRequest request) {
+		PublishProcessor<SearchRequest> response = PublishProcessor.create();
+		sent.add(request);
+		responses.add(response);
+		return response;
+	}
+
+	private Flowable<SearchRequest> sequence(SearchRequest request) {
+		return sequencer.sequence(request, this::send);
+	}
+
+	private DeleteDocumentRequest delete(String index, String id) {
+		return new DeleteDocumentRequest(index, index, id, ComplianceMode.ES_6);
+	}
+
+	@Test
+	public void testIndependentDocumentsAreSentInParallel() {
+		sequence(delete("index", "a")).test();
+		sequence(delete("index", "b")).test();
+		sequence(delete("other", "a")).test();
+		assertEquals(3, sent.size());
+	}
+
+	@Test
+	public void testSameDocumentIsSentInOrder() {
+		SearchRequest first = delete("index", "a");
+		SearchRequest second = new BulkRequest(delete("index", "b"), delete("index", "a"));
+		TestSubscriber<SearchRequest> firstSubscriber = sequence(first).test();
+		TestSubscriber<SearchRequest> secondSubscriber = sequence(second).test();
+		assertEquals("The second request must wait for the first one.", 1, sent.size());
+
+		responses.get(0).onComplete();
+		firstSubscriber.assertComplete();
+		assertEquals(2, sent.size());
+		assertEquals(second, sent.get(1));
+
+		responses.get(1).onComplete();
+		secondSubscriber.assertComplete();
+		assertEquals(0, sequencer.pendingRequests());
+	}
+
+	@Test
+	public void testRequestWithoutDocumentIsBarrier() {
+		sequence(delete("index", "a")).test();
+		sequence(mock(SearchRequest.class)).test();
+		sequence(delete("index", "b")).test();
+		assertEquals("The index request must wait for all previous requests.", 1, sent.size());
+
+		responses.get(0).onComplete();
+		assertEquals("The following requests must wait for the index request.", 2, sent.size());
+
+		responses.get(1).onComplete();
+		assertEquals(3, sent.size());
+	}
+
+	@Test
+	public void testFailedRequestReleasesDependents() {
+		TestSubscriber<SearchRequest> firstSubscriber = sequence(delete("index", "a")).test();
+		sequence(delete("index", "a")).test();
+		responses.get(0).onError(new RuntimeException("Expected"));
+		firstSubscriber.assertError(RuntimeException.class);
+		assertEquals(2, sent.size());
+	}
+
+}
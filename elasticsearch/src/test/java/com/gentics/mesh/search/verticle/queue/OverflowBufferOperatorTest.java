@@ -0,0 +1,124 @@
+package com.gentics.mesh.search.verticle.queue;
+
+import static com.gentics.mesh.core.rest.MeshEvent.USER_UPDATED;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.gentics.mesh.core.rest.event.MeshElementEventModel;
+import com.gentics.mesh.core.rest.event.impl.MeshElementEventModelImpl;
+import com.gentics.mesh.search.verticle.MessageEvent;
+
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+
+public class OverflowBufferOperatorTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path directory;
+
+	private AtomicInteger overflows;
+
+	@Before
+	public void setUp() {
+		directory = folder.getRoot().toPath();
+		overflows = new AtomicInteger();
+	}
+
+	@Test
+	public void testOrderOfSpilledEvents() {
+		OverflowBufferOperator operator = operator(new SegmentLog(directory, 64), Long.MAX_VALUE);
+		PublishProcessor<MessageEvent> upstream = PublishProcessor.create();
+		TestSubscriber<MessageEvent> subscriber = upstream.lift(operator).test(0);
+
+		for (int i = 0; i < 5; i++) {
+			upstream.onNext(event(i));
+		}
+		subscriber.request(3);
+		subscriber.awaitCount(3);
+		for (int i = 5; i < 10; i++) {
+			upstream.onNext(event(i));
+		}
+		subscriber.request(Long.MAX_VALUE);
+		subscriber.awaitCount(10);
+
+		assertEquals(IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList()), uuids(subscriber.values()));
+		assertEquals(0, overflows.get());
+		operator.close().blockingAwait();
+	}
+
+	@Test
+	public void testOverflow() {
+		OverflowBufferOperator operator = operator(new SegmentLog(directory, 64), 1);
+		PublishProcessor<MessageEvent> upstream = PublishProcessor.create();
+		TestSubscriber<MessageEvent> subscriber = upstream.lift(operator).test(0);
+
+		// The first two events are buffered in memory, the third one is spilled and the fourth one exceeds the limit
+		for (int i = 0; i < 4; i++) {
+			upstream.onNext(event(i));
+		}
+		assertEquals(1, overflows.get());
+
+		upstream.onNext(event(4));
+		subscriber.request(Long.MAX_VALUE);
+		subscriber.awaitCount(1);
+		assertEquals("All events before the overflow should have been dropped", Arrays.asList("4"), uuids(subscriber.values()));
+		operator.close().blockingAwait();
+	}
+
+	@Test
+	public void testRecovery() {
+		OverflowBufferOperator operator = operator(new SegmentLog(directory, 1), Long.MAX_VALUE);
+		PublishProcessor<MessageEvent> upstream = PublishProcessor.create();
+		upstream.lift(operator).test(0);
+		// Two events are kept in memory and three events are spilled
+		for (int i = 0; i < 5; i++) {
+			upstream.onNext(event(i));
+		}
+		operator.close().blockingAwait();
+
+		SegmentLog log = new SegmentLog(directory, 1);
+		assertEquals(3, log.size());
+		operator = operator(log, Long.MAX_VALUE);
+		upstream = PublishProcessor.create();
+		TestSubscriber<MessageEvent> subscriber = upstream.lift(operator).test();
+		subscriber.awaitCount(3);
+		assertEquals(Arrays.asList("2", "3", "4"), uuids(subscriber.values()));
+
+		// Only the processed events are removed from the log
+		subscriber.values().get(0).processed();
+		operator.close().blockingAwait();
+		try (SegmentLog recovered = new SegmentLog(directory, 1)) {
+			assertEquals(2, recovered.size());
+		}
+	}
+
+	private OverflowBufferOperator operator(SegmentLog log, long diskLimit) {
+		return new OverflowBufferOperator(log, 2, diskLimit, overflows::incrementAndGet);
+	}
+
+	private MessageEvent event(int i) {
+		MeshElementEventModelImpl model = new MeshElementEventModelImpl();
+		model.setEvent(USER_UPDATED);
+		model.setUuid(String.valueOf(i));
+		return new MessageEvent(USER_UPDATED, model);
+	}
+
+	private List<String> uuids(List<MessageEvent> events) {
+		return events.stream()
+			.map(event -> ((MeshElementEventModel) event.message).getUuid())
+			.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,135 @@
+package com.gentics.mesh.search.verticle.queue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SegmentLogTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testOrderAcrossSegments() throws IOException {
+		Path directory = folder.getRoot().toPath();
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			for (int i = 0; i < 100; i++) {
+				log.append(record(i));
+			}
+			assertEquals(100, log.size());
+			assertTrue("The records should have been split into multiple segments", countSegments(directory) > 1);
+
+			for (int i = 0; i < 50; i++) {
+				assertEquals("record-" + i, text(log.poll()));
+			}
+			log.append(record(100));
+			for (int i = 50; i <= 100; i++) {
+				assertEquals("record-" + i, text(log.poll()));
+			}
+			assertNull(log.poll());
+			assertTrue(log.isEmpty());
+			assertTrue("The records have not been acknowledged yet", log.sizeInBytes() > 0);
+
+			for (int i = 0; i <= 100; i++) {
+				log.acknowledge();
+			}
+			assertEquals(0, log.sizeInBytes());
+			assertEquals(0, countSegments(directory));
+		}
+	}
+
+	@Test
+	public void testUnacknowledgedRecordsAreRecovered() throws IOException {
+		Path directory = folder.getRoot().toPath();
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			for (int i = 0; i < 20; i++) {
+				log.append(record(i));
+			}
+			long segments = countSegments(directory);
+			for (int i = 0; i < 20; i++) {
+				log.poll();
+			}
+			assertEquals("Segments must only be deleted once the records have been acknowledged", segments, countSegments(directory));
+
+			// The first segment contains six records
+			for (int i = 0; i < 6; i++) {
+				log.acknowledge();
+			}
+			assertEquals(segments - 1, countSegments(directory));
+		}
+
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			assertEquals(14, log.size());
+			for (int i = 6; i < 20; i++) {
+				assertEquals("record-" + i, text(log.poll()));
+			}
+		}
+	}
+
+	@Test
+	public void testRecovery() throws IOException {
+		Path directory = folder.getRoot().toPath();
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			for (int i = 0; i < 10; i++) {
+				log.append(record(i));
+			}
+			log.poll();
+		}
+
+		// Simulate a record which was only partially written
+		try (Stream<Path> files = Files.list(directory)) {
+			Path last = files.sorted().reduce((first, second) -> second).get();
+			Files.write(last, new byte[] { 0, 0, 0, 42, 1 }, StandardOpenOption.APPEND);
+		}
+
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			// Segments are only deleted once they have been read completely. The records of a partially read segment are returned again.
+			assertEquals(10, log.size());
+			for (int i = 0; i < 10; i++) {
+				assertEquals("record-" + i, text(log.poll()));
+			}
+			assertNull(log.poll());
+		}
+	}
+
+	@Test
+	public void testClear() throws IOException {
+		Path directory = folder.getRoot().toPath();
+		try (SegmentLog log = new SegmentLog(directory, 64)) {
+			for (int i = 0; i < 10; i++) {
+				log.append(record(i));
+			}
+			log.clear();
+			assertTrue(log.isEmpty());
+			assertEquals(0, countSegments(directory));
+
+			log.append(record(1));
+			assertEquals("record-1", text(log.poll()));
+		}
+	}
+
+	private static byte[] record(int i) {
+		return ("record-" + i).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(byte[] record) {
+		return new String(record, StandardCharsets.UTF_8);
+	}
+
+	private static long countSegments(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package com.gentics.madl.tx;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.syncleus.ferma.FramedTransactionalGraph;
 
 /**
@@ -22,6 +25,16 @@ import com.syncleus.ferma.FramedTransactionalGraph;
  */
 public abstract class AbstractTx<T extends FramedTransactionalGraph> implements Tx {
 
+	/**
+	 * Graph attribute which contains the actions that will be invoked after the next commit.
+	 */
+	private static final String AFTER_COMMIT_ACTIONS = "afterCommitActions";
+
+	/**
+	 * Graph attribute which marks graphs that are only used by read-only transactions.
+	 */
+	private static final String READ_ONLY = "readOnly";
+
 	/**
 	 * Graph that is active within the scope of the autoclosable.
 	 */
@@ -75,21 +88,75 @@ public abstract class AbstractTx<T extends FramedTransactionalGraph> implements
 	}
 
 	/**
-	 * Invoke a commit on the database of this transaction.
+	 * Invoke a commit on the database of this transaction. The registered after commit actions will be invoked once the commit succeeded.
 	 */
 	public void commit() {
 		if (getGraph() instanceof FramedTransactionalGraph) {
 			((FramedTransactionalGraph) getGraph()).commit();
 		}
+		runAfterCommitActions();
 	}
 
 	/**
-	 * Invoke a rollback on the database of this transaction.
+	 * Invoke a rollback on the database of this transaction. The registered after commit actions will be discarded.
 	 */
 	public void rollback() {
 		if (getGraph() instanceof FramedTransactionalGraph) {
 			((FramedTransactionalGraph) getGraph()).rollback();
 		}
+		getGraph().setAttribute(AFTER_COMMIT_ACTIONS, null);
+	}
+
+	@Override
+	public void afterCommit(Runnable action) {
+		// The actions are stored in the graph since wrapped transactions share the graph of the outer transaction
+		List<Runnable> actions = getGraph().getAttribute(AFTER_COMMIT_ACTIONS);
+		if (actions == null) {
+			actions = new ArrayList<>();
+			getGraph().setAttribute(AFTER_COMMIT_ACTIONS, actions);
+		}
+		actions.add(action);
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		// The flag is stored in the graph since wrapped write transactions may modify the graph of the outer transaction
+		return Boolean.TRUE.equals(getGraph().getAttribute(READ_ONLY));
+	}
+
+	/**
+	 * Set the read-only flag of the graph of the transaction.
+	 *
+	 * @param readOnly
+	 */
+	protected void setReadOnly(boolean readOnly) {
+		getGraph().setAttribute(READ_ONLY, readOnly);
+	}
+
+	/**
+	 * Invoke and remove the registered after commit actions. All actions will be invoked even if one of them fails.
+	 */
+	private void runAfterCommitActions() {
+		List<Runnable> actions = getGraph().getAttribute(AFTER_COMMIT_ACTIONS);
+		if (actions == null) {
+			return;
+		}
+		getGraph().setAttribute(AFTER_COMMIT_ACTIONS, null);
+		RuntimeException error = null;
+		for (Runnable action : actions) {
+			try {
+				action.run();
+			} catch (RuntimeException e) {
+				if (error == null) {
+					error = e;
+				} else {
+					error.addSuppressed(e);
+				}
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
 	}
 
 	/**
@@ -63,6 +63,23 @@ public interface Tx extends BaseTransaction {
 	// @Override
 	// void close();
 
+	/**
+	 * Register an action which will be invoked once the changes of the transaction have been committed. Actions which are registered within a wrapped
+	 * transaction are bound to the graph of the outer transaction. The actions will be discarded if the transaction is rolled back. Use this to invalidate
+	 * caches which must not be refilled with uncommitted data.
+	 * 
+	 * @param action
+	 */
+	void afterCommit(Runnable action);
+
+	/**
+	 * Check whether the graph of the transaction only contains committed data. This is the case for read-only transactions as long as no write
+	 * transaction has been wrapped around their graph. Caches must only be filled with data which was loaded by read-only transactions.
+	 *
+	 * @return
+	 */
+	boolean isReadOnly();
+
 	/**
 	 * Add new isolated vertex to the graph.
 	 * 
@@ -36,6 +36,25 @@ public interface TxFactory {
      * @return Created transaction
      */
     Tx tx();
+
+    /**
+     * Return a new autoclosable read-only transaction. The transaction will never be committed. Changes which were made within the transaction will be
+     * discarded when the transaction gets closed. Implementations may use this to skip the commit overhead for transactions which only read data.
+     * 
+     * <pre>
+     * {
+     * 	&#64;code
+     * 	try(Tx tx = db.readOnlyTx()) {
+     * 	  // read from graph db here
+     *  }
+     * }
+     * </pre>
+     * 
+     * @return Created transaction
+     */
+    default Tx readOnlyTx() {
+        return tx();
+    }
     
     /**
      * Execute the txHandler within the scope of a transaction and call 
@@ -47,6 +66,37 @@ public interface TxFactory {
      */
     <T> T tx(TxAction<T> txHandler);
 
+    /**
+     * Execute the txHandler within the scope of a read-only transaction. Unlike {@link #tx(TxAction)} the handler will not be retried since read-only
+     * transactions are never committed and thus can't fail due to conflicts.
+     * 
+     * @param txHandler
+     *            Handler that will be executed within the scope of the transaction.
+     * @return Object which was returned by the handler
+     */
+    default <T> T readTx(TxAction<T> txHandler) {
+        try (Tx tx = readOnlyTx()) {
+            return txHandler.handle(tx);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Transaction error", e);
+        }
+    }
+
+    /**
+     * Execute the txHandler within the scope of a read-only transaction.
+     * 
+     * @param txHandler
+     *            Handler that will be executed within the scope of the transaction.
+     * @return Result of the handler
+     */
+    default <T> T readTx(TxAction1<T> txHandler) {
+        return readTx((tx) -> {
+            return txHandler.handle();
+        });
+    }
+
     /**
      * Execute the txHandler within the scope of a transaction.
      * 
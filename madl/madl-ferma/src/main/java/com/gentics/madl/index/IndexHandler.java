@@ -1,6 +1,8 @@
 package com.gentics.madl.index;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.gentics.mesh.madl.field.FieldMap;
 import com.gentics.mesh.madl.index.ElementIndexDefinition;
@@ -109,4 +111,13 @@ public interface IndexHandler {
 	 */
 	<T extends VertexFrame> T findByUuid(Class<? extends T> classOfT, String uuid);
 
+	/**
+	 * Find the framed vertices with the given uuids via a single index lookup.
+	 * 
+	 * @param classOfT Class of the elements
+	 * @param uuids Uuids of the elements
+	 * @return Map of the found elements per uuid. Uuids which could not be found will be omitted.
+	 */
+	<T extends VertexFrame> Map<String, T> findByUuids(Class<? extends T> classOfT, Collection<String> uuids);
+
 }
@@ -0,0 +1,7 @@
+package com.gentics.mesh.parameter.client;
+
+import com.gentics.mesh.parameter.GraphQLParameters;
+
+public class GraphQLParametersImpl extends AbstractParameters implements GraphQLParameters {
+
+}
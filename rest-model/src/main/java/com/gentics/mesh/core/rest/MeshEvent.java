@@ -186,7 +186,7 @@ public enum MeshEvent {
 	 */
 	CLEAR_PERMISSION_STORE("mesh.clear-permission-store",
 		null,
-		"Event which will clear the permission stores."),
+		"Event which will invalidate the permission stores. The body describes the affected entries. Events without a body will clear the whole stores."),
 
 	/**
 	 * Event which is send to update the webroot path stores.
@@ -588,7 +588,14 @@ public enum MeshEvent {
 
 	PLUGIN_UNDEPLOYED("mesh.plugin.undeployed",
 		null,
-		"Emitted once a plugin has been undeployed.");
+		"Emitted once a plugin has been undeployed."),
+
+	/**
+	 * Envelope event which contains multiple events which were dispatched together.
+	 */
+	EVENT_BATCH("mesh.event.batch",
+		null,
+		"Internal event which contains multiple events which were dispatched together. The contained events are not emitted individually. The eventbus bridge forwards the contained events to the clients which registered for their addresses.");
 
 	public final String address;
 	public final Class<? extends MeshEventModel> bodyModel;
@@ -626,7 +633,8 @@ public enum MeshEvent {
 	}
 
 	/**
-	 * Invoke the given runnable and wait for the event.
+	 * Invoke the given runnable and wait for the event. Only events which are emitted individually can be awaited. Events which are dispatched together with
+	 * other events are only contained in the {@link #EVENT_BATCH} envelope.
 	 * 
 	 * @param mesh
 	 * @param event
@@ -675,6 +683,7 @@ public enum MeshEvent {
 	public static List<MeshEvent> publicEvents() {
 		List<MeshEvent> events = new ArrayList<>();
 		events.addAll(Arrays.asList(MeshEvent.values()));
+		events.remove(EVENT_BATCH);
 		return events;
 	}
 
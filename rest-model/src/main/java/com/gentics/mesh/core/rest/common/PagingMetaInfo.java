@@ -24,6 +24,10 @@ public class PagingMetaInfo {
 	@JsonPropertyDescription("Number of all elements which could be found.")
 	private long totalCount;
 
+	@JsonProperty(required = false)
+	@JsonPropertyDescription("Cursor which can be used to load the next page of a search result. The cursor is only set for searches which use cursor based paging and will be omitted once the last page has been reached.")
+	private String cursor;
+
 	public PagingMetaInfo() {
 	}
 
@@ -111,4 +115,25 @@ public class PagingMetaInfo {
 		return this;
 	}
 
+	/**
+	 * Return the cursor which can be used to load the next page of the search result.
+	 * 
+	 * @return Cursor or null if no further page exists
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+	/**
+	 * Set the cursor for the next page.
+	 * 
+	 * @param cursor
+	 *            Cursor for the next page
+	 * @return Fluent API
+	 */
+	public PagingMetaInfo setCursor(String cursor) {
+		this.cursor = cursor;
+		return this;
+	}
+
 }
@@ -1,11 +1,26 @@
 package com.gentics.mesh.parameter;
 
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface SearchParameters extends ParameterProvider {
 
 	String WAIT_PARAMETER_KEY = "wait";
 
+	String SOURCE_PARAMETER_KEY = "source";
+
+	String SOURCE_FIELDS_PARAMETER_KEY = "sourceFields";
+
+	String CURSOR_PARAMETER_KEY = "cursor";
+
+	/**
+	 * Cursor value which is used to request the first page of a cursor based search.
+	 */
+	String FIRST_CURSOR = "*";
+
 	/**
 	 * Set the recursive flag. When enabled the deletion will also effect subelements.
 	 * 
@@ -34,4 +49,75 @@ public interface SearchParameters extends ParameterProvider {
 				}
 			});
 	}
+
+	/**
+	 * Set the source flag. When enabled the node search results will be built from the documents which are stored in the search index instead of loading
+	 * them from the graph. The responses only contain the uuid, language, creator, editor, dates, project, tags, parent node, schema, display field and the
+	 * fields of the node. The version, permissions, available languages, language paths, path, breadcrumb, children info and container flag are omitted.
+	 * 
+	 * @param flag
+	 * @return Fluent API
+	 */
+	default SearchParameters setSource(boolean flag) {
+		setParameter(SOURCE_PARAMETER_KEY, String.valueOf(flag));
+		return this;
+	}
+
+	/**
+	 * Check whether the search results should be built from the documents of the search index.
+	 * 
+	 * @return
+	 */
+	default boolean isSource() {
+		return Boolean.parseBoolean(getParameter(SOURCE_PARAMETER_KEY));
+	}
+
+	/**
+	 * Set the names of the fields which should be included in the search results when the source flag is enabled.
+	 * 
+	 * @param fieldNames
+	 * @return Fluent API
+	 */
+	default SearchParameters setSourceFields(String... fieldNames) {
+		setParameter(SOURCE_FIELDS_PARAMETER_KEY, String.join(",", fieldNames));
+		return this;
+	}
+
+	/**
+	 * Return the names of the fields which should be included in the search results when the source flag is enabled. An empty set indicates that all fields
+	 * should be included.
+	 * 
+	 * @return
+	 */
+	default Set<String> getSourceFields() {
+		String value = getParameter(SOURCE_FIELDS_PARAMETER_KEY);
+		if (value == null || value.trim().isEmpty()) {
+			return Collections.emptySet();
+		}
+		return Stream.of(value.split(","))
+			.map(String::trim)
+			.filter(name -> !name.isEmpty())
+			.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Set the cursor which was returned by the previous page of a search. Use {@link #FIRST_CURSOR} to request the first page. When a cursor is set the page
+	 * parameter will be ignored and the results will be paged using the sort values of the last hit of the previous page.
+	 * 
+	 * @param cursor
+	 * @return Fluent API
+	 */
+	default SearchParameters setCursor(String cursor) {
+		setParameter(CURSOR_PARAMETER_KEY, cursor);
+		return this;
+	}
+
+	/**
+	 * Return the cursor for cursor based paging.
+	 * 
+	 * @return Cursor or null if offset based paging should be used
+	 */
+	default String getCursor() {
+		return getParameter(CURSOR_PARAMETER_KEY);
+	}
 }
@@ -4,18 +4,26 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
 import com.gentics.mesh.storage.AbstractBinaryStorage;
+import com.gentics.mesh.util.FlowableInputStream;
 import com.gentics.mesh.util.RxUtil;
 
+import io.netty.buffer.Unpooled;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
+import io.reactivex.Single;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.file.OpenOptions;
 import io.vertx.core.logging.Logger;
@@ -25,23 +33,50 @@ import io.vertx.reactivex.core.file.FileSystem;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
 import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
-import software.amazon.awssdk.services.s3.model.CreateBucketResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartCopyRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * Binary storage which stores the binaries in an S3 bucket. Binaries are stored using the binary uuid as key. Temporary uploads are stored using the
+ * {@link #TEMP_PREFIX} prefix and moved into place via a server-side copy.
+ *
+ * Uploads are streamed to S3 in parts of the configured part size. The memory which is used by a single upload is thus bounded by the part size and the
+ * upload concurrency, regardless of the size of the binary.
+ */
 @Singleton
 public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private static final Logger log = LoggerFactory.getLogger(S3BinaryStorage.class);
 
+	public static final String TEMP_PREFIX = "temp/";
+
+	/**
+	 * Maximum amount of parts of a multipart upload which is accepted by S3.
+	 */
+	private static final int MAX_PART_COUNT = 10000;
+
 	private S3AsyncClient client;
 
 	private S3StorageOptions options;
@@ -60,116 +95,76 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	private void init() {
 		AwsCredentials credentials = AwsBasicCredentials.create(options.getAccessId(), options.getAccessKey());
-		// ClientConfiguration clientConfiguration = new ClientConfiguration();
-		// clientConfiguration.setSignerOverride("AWSS3V4SignerType");
-
-		// ClientAsyncHttpConfiguration asyncHttpConfiguration = ClientAsyncHttpConfiguration.builder().build();
-		// S3AdvancedConfiguration advancedConfiguration = S3AdvancedConfiguration.builder().build();
-
-		// DefaultCredentialsProvider.create();
-		System.setProperty("aws.accessKeyId", options.getAccessId());
-		System.setProperty("aws.secretAccessKey", options.getAccessKey());
-
 		client = S3AsyncClient.builder()
-			// .advancedConfiguration(advancedConfiguration)
-			// .asyncHttpConfiguration(asyncHttpConfiguration)
 			.region(Region.of(options.getRegion()))
 			.endpointOverride(URI.create(options.getUrl()))
+			.serviceConfiguration(S3Configuration.builder()
+				.pathStyleAccessEnabled(options.isPathStyleAccess())
+				.build())
 			.credentialsProvider(StaticCredentialsProvider.create(credentials))
 			.build();
 
 		String bucketName = options.getBucketName();
-		// try {
-		// HeadBucketResponse response = client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).get();
-		// } catch (InterruptedException | ExecutionException e) {
-		// TODO Auto-generated catch block
-		// e.printStackTrace();
-		// } catch (NoSuchKeyException e) {
 		try {
-			CreateBucketResponse response2 = client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).get();
+			client.headBucket(HeadBucketRequest.builder().bucket(bucketName).build()).get();
 		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			if (!isNotFound(e.getCause())) {
+				throw new RuntimeException("Could not check bucket {" + bucketName + "}", e);
+			}
+			log.info("Did not find bucket {" + bucketName + "}. Creating it...");
+			try {
+				client.createBucket(CreateBucketRequest.builder().bucket(bucketName).build()).get();
+			} catch (InterruptedException | ExecutionException e2) {
+				throw new RuntimeException("Could not create bucket {" + bucketName + "}", e2);
+			}
 		}
-		// }
-
-		// s3Client = AmazonS3ClientBuilder
-		// .standard()
-		// .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(options.getUrl(), options.getRegion()))
-		// .withPathStyleAccessEnabled(true)
-		// .withClientConfiguration(clientConfiguration)
-		// .withCredentials(new AWSStaticCredentialsProvider(credentials))
-		// .build();
-		//
-		// String bucketName = options.getBucketName();
-		// if (!s3Client.doesBucketExist(bucketName)) {
-		// log.info("Did not find bucket {" + bucketName + "}. Creating it...");
-		// s3Client.createBucket(new CreateBucketRequest(bucketName));
-		// }
-
 	}
 
 	@Override
 	public boolean exists(BinaryGraphField field) {
-		String id = field.getBinary().getSHA512Sum();
-		// NoSuchKeyException
+		String uuid = field.getBinary().getUuid();
 		try {
-			HeadObjectResponse headResponse = client.headObject(HeadObjectRequest.builder()
+			client.headObject(HeadObjectRequest.builder()
 				.bucket(options.getBucketName())
-				.key(id)
+				.key(uuid)
 				.build()).get();
-		} catch (InterruptedException | ExecutionException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			return true;
+		} catch (ExecutionException e) {
+			if (isNotFound(e.getCause())) {
+				return false;
+			}
+			throw new RuntimeException("Could not check binary {" + uuid + "}", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while checking binary {" + uuid + "}", e);
 		}
-		return false;
+	}
 
+	@Override
+	public Flowable<Buffer> read(String uuid) {
+		return getObject(uuid, null);
 	}
 
+	/**
+	 * Only the requested range is transferred from S3.
+	 */
 	@Override
-	public Flowable<Buffer> read(String hashsum) {
-		return Flowable.generate(sub -> {
+	public Flowable<Buffer> read(String uuid, long start, long end) {
+		return getObject(uuid, "bytes=" + start + "-" + end);
+	}
+
+	private Flowable<Buffer> getObject(String key, String range) {
+		return Single.defer(() -> {
 			if (log.isDebugEnabled()) {
-				log.debug("Loading data for hash {" + hashsum + "}");
+				log.debug("Loading data for key {" + key + "} and range {" + range + "}");
 			}
-			// GetObjectRequest rangeObjectRequest = new GetObjectRequest(options.getBucketName(), hashsum);
-			GetObjectRequest request = GetObjectRequest.builder().bucket(options.getBucketName()).build();
-			client.getObject(request, new AsyncResponseTransformer<GetObjectResponse, String>() {
-
-				@Override
-				public CompletableFuture<String> prepare() {
-					// TODO Auto-generated method stub
-					return null;
-				}
-
-				@Override
-				public void onResponse(GetObjectResponse response) {
-					// TODO Auto-generated method stub
-
-				}
-
-				@Override
-				public void onStream(SdkPublisher<ByteBuffer> publisher) {
-					// TODO Auto-generated method stub
-
-				}
-
-				@Override
-				public void exceptionOccurred(Throwable error) {
-					// TODO Auto-generated method stub
-
-				}
-			});
-
-			// try (InputStream stream = objectPortion.getObjectContent()) {
-			//
-			// if (log.isDebugEnabled()) {
-			// log.debug("Printing bytes retrieved:");
-			// displayTextInputStream(stream);
-			// }
-			// }
-			// sub.onComplete();
-		});
+			GetObjectRequest request = GetObjectRequest.builder()
+				.bucket(options.getBucketName())
+				.key(key)
+				.range(range)
+				.build();
+			return fromFuture(() -> client.getObject(request, new FlowableResponseTransformer()));
+		}).flatMapPublisher(stream -> stream);
 	}
 
 	@Override
@@ -184,71 +179,339 @@ public class S3BinaryStorage extends AbstractBinaryStorage {
 
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
-		return Completable.create(sub -> {
-			PutObjectRequest request = PutObjectRequest.builder()
-				.bucket(options.getBucketName())
-				.key(temporaryId)
-				.build();
-
-			/*
-			 * client.putObject(request, new AsyncRequestBody() {
-			 * 
-			 * @Override public void subscribe(Subscriber<? super ByteBuffer> s) { stream.map(Buffer::getByteBuf).map(ByteBuf::nioBuffer).subscribe(s); }
-			 * 
-			 * @Override public Optional<Long> contentLength() { // return Optional.from(10L); return null; } });
-			 */
+		String key = getTemporaryKey(temporaryId);
+		return Completable.defer(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Uploading data for temporaryId {" + temporaryId + "} to S3");
+			}
+			MultipartUpload upload = new MultipartUpload(key);
+			return toParts(stream, options.getPartSize())
+				.concatMapEager(part -> {
+					// Binaries which fit into a single part don't need a multipart upload
+					if (part.number == 1 && part.last) {
+						return putObject(key, part.data).<CompletedPart>toFlowable();
+					}
+					return upload.uploadPart(part).toFlowable();
+				}, options.getUploadConcurrency(), 1)
+				.toList()
+				.flatMapCompletable(parts -> parts.isEmpty() ? Completable.complete() : upload.complete(parts))
+				.onErrorResumeNext(e -> upload.abort().andThen(Completable.error(e)));
 		});
+	}
 
-		// try {
-		// if (log.isDebugEnabled()) {
-		// log.debug("Uploading {" + hashsum + "} to S3.");
-		// }
-		// try (InputStream ins = RxUtil.toInputStream(stream, new io.vertx.reactivex.core.Vertx(vertx))) {
-		// ObjectMetadata metaData = new ObjectMetadata();
-		// metaData.setContentLength(90);
-		// s3Client.putObject(new PutObjectRequest(options.getBucketName(), hashsum, ins, metaData));
-		// sub.onComplete();
-		// }
-		// } catch (AmazonServiceException ase) {
-		// log.debug(
-		// "Caught an AmazonServiceException, which means your request made it to Amazon S3, but was rejected with an error response for some reason.");
-		// log.debug("Error Message: " + ase.getMessage());
-		// log.debug("HTTP Status Code: " + ase.getStatusCode());
-		// log.debug("AWS Error Code: " + ase.getErrorCode());
-		// log.debug("Error Type: " + ase.getErrorType());
-		// log.debug("Request ID: " + ase.getRequestId());
-		// sub.onError(ase);
-		// } catch (AmazonClientException ace) {
-		// log.debug("Caught an AmazonClientException, which " + "means the client encountered " + "an internal error while trying to "
-		// + "communicate with S3, " + "such as not being able to access the network.");
-		// log.debug("Error Message: " + ace.getMessage());
-		// sub.onError(ace);
-		// }
+	private Completable putObject(String key, Buffer data) {
+		return fromFuture(() -> client.putObject(PutObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.contentLength((long) data.length())
+			.build(), AsyncRequestBody.fromByteBuffer(data.getByteBuf().nioBuffer()))).ignoreElement();
 	}
 
+	/**
+	 * Move the temporary upload into place by copying it within the bucket. Objects which exceed the multipart copy threshold are copied in multiple
+	 * parts.
+	 */
 	@Override
-	public Completable delete(String uuid) {
-		return Completable.complete();
+	public Completable moveInPlace(String uuid, String temporaryId) {
+		String source = getTemporaryKey(temporaryId);
+		return Completable.defer(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Move temporary upload for uuid '{}' into place using temporaryId '{}'", uuid, temporaryId);
+			}
+			return headObject(source)
+				.flatMapCompletable(head -> {
+					long size = head.contentLength();
+					if (size <= options.getMultipartCopyThreshold()) {
+						return copyObject(source, uuid);
+					}
+					return multipartCopy(source, uuid, size);
+				})
+				.andThen(deleteObject(source))
+				.doOnError(e -> {
+					log.error("Error while moving binary from temp key {} to final key {}", source, uuid, e);
+				});
+		});
+	}
+
+	private Completable copyObject(String source, String target) {
+		return fromFuture(() -> client.copyObject(CopyObjectRequest.builder()
+			.copySource(options.getBucketName() + "/" + source)
+			.bucket(options.getBucketName())
+			.key(target)
+			.build())).ignoreElement();
+	}
+
+	private Completable multipartCopy(String source, String target, long size) {
+		// The part size is increased for very large objects to stay within the part limit
+		long partSize = Math.max(options.getPartSize(), (size + MAX_PART_COUNT - 1) / MAX_PART_COUNT);
+		int partCount = (int) ((size + partSize - 1) / partSize);
+		MultipartUpload upload = new MultipartUpload(target);
+		return Flowable.range(1, partCount)
+			.concatMapEager(number -> {
+				long start = (number - 1) * partSize;
+				long end = Math.min(start + partSize, size) - 1;
+				return upload.uploadPartCopy(source, number, start, end).toFlowable();
+			}, options.getUploadConcurrency(), 1)
+			.toList()
+			.flatMapCompletable(upload::complete)
+			.onErrorResumeNext(e -> upload.abort().andThen(Completable.error(e)));
+	}
+
+	private Single<HeadObjectResponse> headObject(String key) {
+		return fromFuture(() -> client.headObject(HeadObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build()));
+	}
+
+	private Completable deleteObject(String key) {
+		return fromFuture(() -> client.deleteObject(DeleteObjectRequest.builder()
+			.bucket(options.getBucketName())
+			.key(key)
+			.build())).ignoreElement();
 	}
 
 	@Override
-	public Buffer readAllSync(String uuid) {
-		// TODO implement
-		return null;
+	public Completable delete(String uuid) {
+		return deleteObject(uuid);
 	}
 
 	@Override
-	public Completable moveInPlace(String uuid, String temporaryId) {
-		return Completable.complete();
+	public Buffer readAllSync(String uuid) {
+		return read(uuid).reduce(Buffer.buffer(), Buffer::appendBuffer).blockingGet();
 	}
 
 	@Override
 	public Completable purgeTemporaryUpload(String temporaryId) {
-		return Completable.complete();
+		return Completable.defer(() -> {
+			if (log.isDebugEnabled()) {
+				log.debug("Purging temporary upload for tempId '{}'", temporaryId);
+			}
+			return deleteObject(getTemporaryKey(temporaryId));
+		});
 	}
 
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
-		return null;
+		return new FlowableInputStream(read(uuid));
+	}
+
+	/**
+	 * Return the key of the temporary upload.
+	 *
+	 * @param temporaryId
+	 * @return
+	 */
+	public static String getTemporaryKey(String temporaryId) {
+		return TEMP_PREFIX + temporaryId;
+	}
+
+	/**
+	 * Split the stream into parts of the given size. A part is only emitted once it is known whether it is the last part. Apart from the last part, all
+	 * parts have exactly the given size. An empty stream results in a single empty part.
+	 *
+	 * @param stream
+	 * @param partSize
+	 * @return
+	 */
+	static Flowable<Part> toParts(Flowable<Buffer> stream, int partSize) {
+		return Flowable.defer(() -> {
+			PartCollector collector = new PartCollector(partSize);
+			return stream
+				.concatMapIterable(collector::add)
+				.concatWith(Flowable.fromCallable(collector::finish));
+		});
+	}
+
+	private static boolean isNotFound(Throwable e) {
+		return e instanceof S3Exception && ((S3Exception) e).statusCode() == 404;
+	}
+
+	/**
+	 * Invoke the asynchronous S3 call once the single is subscribed.
+	 *
+	 * @param call
+	 * @return
+	 */
+	private static <T> Single<T> fromFuture(Supplier<CompletableFuture<T>> call) {
+		return Single.create(sub -> {
+			call.get().whenComplete((result, error) -> {
+				if (error != null) {
+					sub.tryOnError(error instanceof CompletionException && error.getCause() != null ? error.getCause() : error);
+				} else {
+					sub.onSuccess(result);
+				}
+			});
+		});
+	}
+
+	/**
+	 * Part of a multipart upload.
+	 */
+	static class Part {
+
+		final int number;
+
+		final Buffer data;
+
+		final boolean last;
+
+		Part(int number, Buffer data, boolean last) {
+			this.number = number;
+			this.data = data;
+			this.last = last;
+		}
+	}
+
+	/**
+	 * Collects the buffers of a stream into parts. The last full part is held back until more data arrives so that the last part can be flagged.
+	 */
+	private static class PartCollector {
+
+		private final int partSize;
+
+		private Buffer current = Buffer.buffer();
+
+		private Buffer full;
+
+		private int number = 0;
+
+		PartCollector(int partSize) {
+			this.partSize = partSize;
+		}
+
+		List<Part> add(Buffer buffer) {
+			List<Part> parts = new ArrayList<>(1);
+			int position = 0;
+			while (position < buffer.length()) {
+				if (full != null) {
+					parts.add(new Part(++number, full, false));
+					full = null;
+				}
+				int count = Math.min(partSize - current.length(), buffer.length() - position);
+				current.appendBuffer(buffer, position, count);
+				position += count;
+				if (current.length() == partSize) {
+					full = current;
+					current = Buffer.buffer();
+				}
+			}
+			return parts;
+		}
+
+		Part finish() {
+			if (full != null) {
+				return new Part(++number, full, true);
+			}
+			return new Part(++number, current, true);
+		}
+	}
+
+	/**
+	 * State of a single multipart upload. The upload is only created in S3 once the first part is uploaded.
+	 */
+	private class MultipartUpload {
+
+		private final String key;
+
+		private final Single<String> uploadId;
+
+		private final AtomicBoolean created = new AtomicBoolean(false);
+
+		MultipartUpload(String key) {
+			this.key = key;
+			this.uploadId = fromFuture(() -> client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(options.getBucketName())
+				.key(key)
+				.build()))
+				.map(CreateMultipartUploadResponse::uploadId)
+				.doOnSubscribe(ignore -> created.set(true))
+				.cache();
+		}
+
+		Single<CompletedPart> uploadPart(Part part) {
+			return uploadId.flatMap(id -> fromFuture(() -> client.uploadPart(UploadPartRequest.builder()
+				.bucket(options.getBucketName())
+				.key(key)
+				.uploadId(id)
+				.partNumber(part.number)
+				.contentLength((long) part.data.length())
+				.build(), AsyncRequestBody.fromByteBuffer(part.data.getByteBuf().nioBuffer()))))
+				.map(response -> CompletedPart.builder()
+					.partNumber(part.number)
+					.eTag(response.eTag())
+					.build());
+		}
+
+		Single<CompletedPart> uploadPartCopy(String source, int number, long start, long end) {
+			return uploadId.flatMap(id -> fromFuture(() -> client.uploadPartCopy(UploadPartCopyRequest.builder()
+				.copySource(options.getBucketName() + "/" + source)
+				.copySourceRange("bytes=" + start + "-" + end)
+				.bucket(options.getBucketName())
+				.key(key)
+				.uploadId(id)
+				.partNumber(number)
+				.build())))
+				.map(response -> CompletedPart.builder()
+					.partNumber(number)
+					.eTag(response.copyPartResult().eTag())
+					.build());
+		}
+
+		Completable complete(List<CompletedPart> parts) {
+			return uploadId.flatMap(id -> fromFuture(() -> client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(options.getBucketName())
+				.key(key)
+				.uploadId(id)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+				.build()))).ignoreElement();
+		}
+
+		/**
+		 * Abort the upload so that the already uploaded parts are removed. An upload which is still being created is aborted once it has been created.
+		 *
+		 * @return
+		 */
+		Completable abort() {
+			if (!created.get()) {
+				return Completable.complete();
+			}
+			return uploadId.flatMapCompletable(id -> fromFuture(() -> client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+				.bucket(options.getBucketName())
+				.key(key)
+				.uploadId(id)
+				.build())).ignoreElement())
+				.doOnError(e -> {
+					log.warn("Failed to abort multipart upload for key {}", key, e);
+				}).onErrorComplete();
+		}
+	}
+
+	/**
+	 * Response transformer which provides the response body as a flowable. The body is only read from the connection as it is requested by the
+	 * subscriber of the flowable.
+	 */
+	private static class FlowableResponseTransformer implements AsyncResponseTransformer<GetObjectResponse, Flowable<Buffer>> {
+
+		private final CompletableFuture<Flowable<Buffer>> future = new CompletableFuture<>();
+
+		@Override
+		public CompletableFuture<Flowable<Buffer>> prepare() {
+			return future;
+		}
+
+		@Override
+		public void onResponse(GetObjectResponse response) {
+		}
+
+		@Override
+		public void onStream(SdkPublisher<ByteBuffer> publisher) {
+			future.complete(Flowable.fromPublisher(publisher).map(data -> Buffer.buffer(Unpooled.wrappedBuffer(data))));
+		}
+
+		@Override
+		public void exceptionOccurred(Throwable error) {
+			future.completeExceptionally(error);
+		}
 	}
 }
@@ -6,6 +6,20 @@ public class S3StorageOptions {
 
 	public static final String DEFAULT_BUCKET_NAME = "mesh";
 
+	/**
+	 * Minimum size of a part of a multipart upload which is accepted by S3. Only the last part may be smaller.
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	/**
+	 * Maximum size of an object which can be copied with a single copy request.
+	 */
+	public static final long MAX_COPY_OBJECT_SIZE = 5L * 1024 * 1024 * 1024;
+
+	public static final int DEFAULT_PART_SIZE = 8 * 1024 * 1024;
+
+	public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
+
 	private String url;
 
 	private String accessId;
@@ -16,6 +30,14 @@ public class S3StorageOptions {
 
 	private String region;
 
+	private boolean pathStyleAccess = true;
+
+	private int partSize = DEFAULT_PART_SIZE;
+
+	private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+
+	private long multipartCopyThreshold = MAX_COPY_OBJECT_SIZE;
+
 	public String getUrl() {
 		return url;
 	}
@@ -61,11 +83,82 @@ public class S3StorageOptions {
 		return this;
 	}
 
+	public boolean isPathStyleAccess() {
+		return pathStyleAccess;
+	}
+
+	/**
+	 * Set whether the bucket name should be part of the path instead of the host name. Path style access is usually required for S3 compatible
+	 * services.
+	 * 
+	 * @param pathStyleAccess
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPathStyleAccess(boolean pathStyleAccess) {
+		this.pathStyleAccess = pathStyleAccess;
+		return this;
+	}
+
+	public int getPartSize() {
+		return partSize;
+	}
+
+	/**
+	 * Set the size in bytes of the parts which are used to upload binaries. The memory used by an upload is bounded by the part size and the upload
+	 * concurrency.
+	 * 
+	 * @param partSize
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setPartSize(int partSize) {
+		this.partSize = partSize;
+		return this;
+	}
+
+	public int getUploadConcurrency() {
+		return uploadConcurrency;
+	}
+
+	/**
+	 * Set the amount of parts of a single binary which are uploaded or copied in parallel.
+	 * 
+	 * @param uploadConcurrency
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setUploadConcurrency(int uploadConcurrency) {
+		this.uploadConcurrency = uploadConcurrency;
+		return this;
+	}
+
+	public long getMultipartCopyThreshold() {
+		return multipartCopyThreshold;
+	}
+
+	/**
+	 * Set the size in bytes above which objects are copied in multiple parts.
+	 * 
+	 * @param multipartCopyThreshold
+	 * @return Fluent API
+	 */
+	public S3StorageOptions setMultipartCopyThreshold(long multipartCopyThreshold) {
+		this.multipartCopyThreshold = multipartCopyThreshold;
+		return this;
+	}
+
 	public void validate() {
 		Objects.requireNonNull(url, "No S3 URL has been specified");
 		Objects.requireNonNull(accessId, "No accessId has been specified");
 		Objects.requireNonNull(accessKey, "No accessKey has been specified");
 		Objects.requireNonNull(region, "No region has been specified");
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("The partSize setting must be at least " + MIN_PART_SIZE + ".");
+		}
+		if (uploadConcurrency < 1) {
+			throw new IllegalArgumentException("The uploadConcurrency setting must be at least 1.");
+		}
+		if (multipartCopyThreshold < 1 || multipartCopyThreshold > MAX_COPY_OBJECT_SIZE) {
+			throw new IllegalArgumentException("The multipartCopyThreshold setting must be between 1 and " + MAX_COPY_OBJECT_SIZE + ".");
+		}
 	}
 
 }
@@ -1,63 +1,200 @@
 package com.gentics.mesh.storage.s3;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.AfterClass;
 import org.junit.Before;
-import org.junit.ClassRule;
-import org.junit.Ignore;
+import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.containers.wait.Wait;
 
 import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.data.node.field.BinaryGraphField;
+import com.gentics.mesh.storage.s3.S3BinaryStorage.Part;
 
 import io.reactivex.Flowable;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.reactivex.core.Vertx;
 
-@Ignore
 public class S3BinaryStorageTest {
 
-	public static final String VERSION = "RELEASE.2018-01-18T20-33-21Z";
 	public static final String ACCESS_KEY = "myKey";
 	public static final String SECRET_KEY = "mySecret";
 	public static final String BUCKET_NAME = "mesh-test";
 
-	private static Vertx vertx = Vertx.vertx();
+	private static final int PART_SIZE = S3StorageOptions.MIN_PART_SIZE;
+
+	private static Vertx vertx;
+
+	private static S3StubServer stub;
 
-	@ClassRule
-	public static GenericContainer<?> minio = new GenericContainer<>("minio/minio:" + VERSION)
-		.withCommand("server /data")
-		.withEnv("MINIO_ACCESS_KEY", ACCESS_KEY)
-		.withEnv("MINIO_SECRET_KEY", SECRET_KEY)
-		.withExposedPorts(9000)
-		.waitingFor(Wait.forHttp("/").forStatusCode(403));
+	private static int port;
+
+	private S3StorageOptions options;
 
 	private S3BinaryStorage storage;
 
+	@BeforeClass
+	public static void startStub() throws Exception {
+		vertx = Vertx.vertx();
+		stub = new S3StubServer(vertx.getDelegate());
+		port = stub.start();
+	}
+
+	@AfterClass
+	public static void stopStub() {
+		stub.close();
+		vertx.close();
+	}
+
 	@Before
 	public void setup() {
-		S3StorageOptions options = new S3StorageOptions();
+		options = new S3StorageOptions();
 		options.setAccessId(ACCESS_KEY);
 		options.setAccessKey(SECRET_KEY);
-		options.setRegion("US_EAST_1");
+		options.setRegion("us-east-1");
 		options.setBucketName(BUCKET_NAME);
-		options.setUrl("http://localhost:" + minio.getMappedPort(9000));
+		options.setUrl("http://localhost:" + port);
+		options.setPartSize(PART_SIZE);
+		options.validate();
 		storage = new S3BinaryStorage(options, vertx);
 	}
 
+	@After
+	public void cleanup() {
+		for (String key : stub.getKeys(BUCKET_NAME)) {
+			storage.delete(key).blockingAwait();
+		}
+	}
+
 	@Test
 	public void testStore() {
-		BinaryGraphField mockField = Mockito.mock(BinaryGraphField.class);
+		int before = stub.getCompletedUploads();
+		byte[] data = randomData(1000);
+		storage.storeInTemp(toStream(data), "temp1").blockingAwait();
+		assertEquals("Small binaries should not use a multipart upload", before, stub.getCompletedUploads());
+		assertTrue(stub.getKeys(BUCKET_NAME).contains(S3BinaryStorage.getTemporaryKey("temp1")));
+
+		storage.moveInPlace("binary1", "temp1").blockingAwait();
+		assertTrue(storage.exists(mockField("binary1")));
+		assertFalse(storage.exists(mockField("binary2")));
+		assertEquals("The temporary upload should have been removed", "[binary1]", stub.getKeys(BUCKET_NAME).toString());
+		assertArrayEquals(data, storage.readAllSync("binary1").getBytes());
+	}
+
+	@Test
+	public void testMultipartUpload() {
+		int before = stub.getCompletedUploads();
+		byte[] data = randomData(2 * PART_SIZE + 1234);
+		storage.storeInTemp(toStream(data), "temp2").blockingAwait();
+		storage.moveInPlace("binary2", "temp2").blockingAwait();
+
+		assertEquals(before + 1, stub.getCompletedUploads());
+		assertEquals(0, stub.getPendingUploads());
+		assertArrayEquals(data, storage.readAllSync("binary2").getBytes());
+	}
+
+	@Test
+	public void testMultipartCopy() {
+		options.setMultipartCopyThreshold(PART_SIZE);
+		int before = stub.getCopiedParts();
+		byte[] data = randomData(2 * PART_SIZE + 10);
+		storage.storeInTemp(toStream(data), "temp3").blockingAwait();
+		storage.moveInPlace("binary3", "temp3").blockingAwait();
+
+		assertEquals(before + 3, stub.getCopiedParts());
+		assertArrayEquals(data, storage.readAllSync("binary3").getBytes());
+	}
+
+	@Test
+	public void testAbortUpload() {
+		byte[] data = randomData(PART_SIZE * 2);
+		Flowable<Buffer> failingStream = toStream(data).concatWith(Flowable.error(new RuntimeException("Upload failed")));
+		try {
+			storage.storeInTemp(failingStream, "temp4").blockingAwait();
+			fail("The upload should have failed");
+		} catch (RuntimeException e) {
+			assertEquals("Upload failed", e.getMessage());
+		}
+		assertEquals("The multipart upload should have been aborted", 0, stub.getPendingUploads());
+		assertFalse(stub.getKeys(BUCKET_NAME).contains(S3BinaryStorage.getTemporaryKey("temp4")));
+	}
+
+	@Test
+	public void testRangedRead() {
+		byte[] data = randomData(10000);
+		storage.storeInTemp(toStream(data), "temp5").blockingAwait();
+		storage.moveInPlace("binary5", "temp5").blockingAwait();
+
+		Buffer range = storage.read("binary5", 100, 1099).reduce(Buffer.buffer(), Buffer::appendBuffer).blockingGet();
+		assertArrayEquals(Arrays.copyOfRange(data, 100, 1100), range.getBytes());
+	}
+
+	@Test
+	public void testDeleteAndPurge() {
+		storage.storeInTemp(toStream(randomData(10)), "temp6").blockingAwait();
+		storage.storeInTemp(toStream(randomData(10)), "temp7").blockingAwait();
+		storage.moveInPlace("binary6", "temp6").blockingAwait();
+
+		storage.delete("binary6").blockingAwait();
+		storage.purgeTemporaryUpload("temp7").blockingAwait();
+		assertFalse(storage.exists(mockField("binary6")));
+		assertTrue(stub.getKeys(BUCKET_NAME).isEmpty());
+	}
+
+	@Test
+	public void testToParts() {
+		List<Part> parts = S3BinaryStorage.toParts(Flowable.just(Buffer.buffer("abc"), Buffer.buffer("defgh"), Buffer.buffer("ij")), 4)
+			.toList().blockingGet();
+		assertEquals(3, parts.size());
+		assertPart(parts.get(0), 1, "abcd", false);
+		assertPart(parts.get(1), 2, "efgh", false);
+		assertPart(parts.get(2), 3, "ij", true);
+
+		parts = S3BinaryStorage.toParts(Flowable.just(Buffer.buffer("abcd")), 4).toList().blockingGet();
+		assertEquals("A full part should be the last part if no more data follows", 1, parts.size());
+		assertPart(parts.get(0), 1, "abcd", true);
+
+		parts = S3BinaryStorage.toParts(Flowable.empty(), 4).toList().blockingGet();
+		assertEquals(1, parts.size());
+		assertPart(parts.get(0), 1, "", true);
+	}
+
+	private void assertPart(Part part, int number, String data, boolean last) {
+		assertEquals(number, part.number);
+		assertEquals(data, part.data.toString());
+		assertEquals(last, part.last);
+	}
+
+	private BinaryGraphField mockField(String uuid) {
+		BinaryGraphField field = Mockito.mock(BinaryGraphField.class);
 		Binary binary = Mockito.mock(Binary.class);
-		Mockito.when(mockField.getBinary()).thenReturn(binary);
-		Mockito.when(binary.getSHA512Sum()).thenReturn("test");
-//		assertFalse(storage.exists(mockField));
-		storage.store(Flowable.just(Buffer.buffer("test")), "test").blockingAwait();
-		assertTrue(storage.exists(mockField));
-		storage.read("test").ignoreElements().blockingAwait();
+		Mockito.when(field.getBinary()).thenReturn(binary);
+		Mockito.when(binary.getUuid()).thenReturn(uuid);
+		return field;
 	}
 
+	private static byte[] randomData(int size) {
+		byte[] data = new byte[size];
+		new Random(size).nextBytes(data);
+		return data;
+	}
+
+	/**
+	 * Split the data into buffers like they are emitted when reading a file.
+	 */
+	private static Flowable<Buffer> toStream(byte[] data) {
+		int chunkSize = 64 * 1024;
+		return Flowable.range(0, (data.length + chunkSize - 1) / chunkSize)
+			.map(i -> Buffer.buffer().appendBytes(data, i * chunkSize, Math.min(chunkSize, data.length - i * chunkSize)));
+	}
 }
@@ -0,0 +1,294 @@
+package com.gentics.mesh.storage.s3;
+
+import java.math.BigInteger;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Minimal in-process S3 compatible server which keeps all data in memory. Only the operations which are used by the {@link S3BinaryStorage} are
+ * supported and requests are not authenticated.
+ */
+public class S3StubServer implements AutoCloseable {
+
+	private static final Pattern RANGE = Pattern.compile("bytes=(\\d+)-(\\d+)");
+
+	private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+
+	private final Set<String> buckets = ConcurrentHashMap.newKeySet();
+
+	private final Map<String, Buffer> objects = new ConcurrentHashMap<>();
+
+	private final Map<String, Map<Integer, Buffer>> uploads = new ConcurrentHashMap<>();
+
+	private final AtomicInteger completedUploads = new AtomicInteger();
+
+	private final AtomicInteger copiedParts = new AtomicInteger();
+
+	private final HttpServer server;
+
+	public S3StubServer(Vertx vertx) {
+		this.server = vertx.createHttpServer(new HttpServerOptions().setHandle100ContinueAutomatically(true))
+			.requestHandler(this::handle);
+	}
+
+	/**
+	 * Start the server on a random port.
+	 *
+	 * @return Port of the server
+	 * @throws Exception
+	 */
+	public int start() throws Exception {
+		CompletableFuture<Integer> port = new CompletableFuture<>();
+		server.listen(0, "localhost", rh -> {
+			if (rh.succeeded()) {
+				port.complete(rh.result().actualPort());
+			} else {
+				port.completeExceptionally(rh.cause());
+			}
+		});
+		return port.get();
+	}
+
+	/**
+	 * Return the keys of all objects within the bucket.
+	 *
+	 * @param bucket
+	 * @return
+	 */
+	public Set<String> getKeys(String bucket) {
+		String prefix = bucket + "/";
+		Set<String> keys = new TreeSet<>();
+		for (String path : objects.keySet()) {
+			if (path.startsWith(prefix)) {
+				keys.add(path.substring(prefix.length()));
+			}
+		}
+		return keys;
+	}
+
+	public int getPendingUploads() {
+		return uploads.size();
+	}
+
+	public int getCompletedUploads() {
+		return completedUploads.get();
+	}
+
+	public int getCopiedParts() {
+		return copiedParts.get();
+	}
+
+	@Override
+	public void close() {
+		server.close();
+	}
+
+	private void handle(HttpServerRequest request) {
+		request.bodyHandler(body -> {
+			try {
+				dispatch(request, body);
+			} catch (Exception e) {
+				request.response().setStatusCode(500).end(e.toString());
+			}
+		});
+	}
+
+	private void dispatch(HttpServerRequest request, Buffer body) throws Exception {
+		String path = URLDecoder.decode(request.path().substring(1), "UTF-8");
+		int separator = path.indexOf('/');
+		if (separator < 0 || separator == path.length() - 1) {
+			handleBucket(request, separator < 0 ? path : path.substring(0, separator));
+			return;
+		}
+		String bucket = path.substring(0, separator);
+		if (!buckets.contains(bucket)) {
+			error(request, 404, "NoSuchBucket");
+			return;
+		}
+		String uploadId = request.getParam("uploadId");
+		switch (request.method()) {
+		case HEAD:
+		case GET:
+			getObject(request, path);
+			break;
+		case PUT:
+			String copySource = request.getHeader("x-amz-copy-source");
+			if (copySource != null) {
+				copyObject(request, path, URLDecoder.decode(copySource, "UTF-8").replaceFirst("^/", ""), uploadId);
+			} else if (uploadId != null) {
+				Map<Integer, Buffer> parts = uploads.get(uploadId);
+				if (parts == null) {
+					error(request, 404, "NoSuchUpload");
+					return;
+				}
+				parts.put(Integer.valueOf(request.getParam("partNumber")), body);
+				request.response().putHeader("ETag", etag(body)).end();
+			} else {
+				objects.put(path, body);
+				request.response().putHeader("ETag", etag(body)).end();
+			}
+			break;
+		case POST:
+			if (request.params().contains("uploads")) {
+				String id = UUID.randomUUID().toString();
+				uploads.put(id, new ConcurrentHashMap<>());
+				xml(request, "<InitiateMultipartUploadResult><Bucket>" + bucket + "</Bucket><Key>" + path.substring(separator + 1)
+					+ "</Key><UploadId>" + id + "</UploadId></InitiateMultipartUploadResult>");
+			} else {
+				completeUpload(request, path, uploadId, body);
+			}
+			break;
+		case DELETE:
+			if (uploadId != null) {
+				uploads.remove(uploadId);
+			} else {
+				objects.remove(path);
+			}
+			request.response().setStatusCode(204).end();
+			break;
+		default:
+			error(request, 405, "MethodNotAllowed");
+		}
+	}
+
+	private void handleBucket(HttpServerRequest request, String bucket) {
+		switch (request.method()) {
+		case PUT:
+			buckets.add(bucket);
+			request.response().end();
+			break;
+		case HEAD:
+			request.response().setStatusCode(buckets.contains(bucket) ? 200 : 404).end();
+			break;
+		default:
+			error(request, 405, "MethodNotAllowed");
+		}
+	}
+
+	private void getObject(HttpServerRequest request, String path) {
+		Buffer data = objects.get(path);
+		if (data == null) {
+			error(request, 404, "NoSuchKey");
+			return;
+		}
+		int start = 0;
+		int end = data.length() - 1;
+		String range = request.getHeader("Range");
+		if (range != null) {
+			Matcher matcher = RANGE.matcher(range);
+			if (!matcher.matches()) {
+				error(request, 416, "InvalidRange");
+				return;
+			}
+			start = Integer.parseInt(matcher.group(1));
+			end = Math.min(Integer.parseInt(matcher.group(2)), data.length() - 1);
+			request.response()
+				.setStatusCode(206)
+				.putHeader("Content-Range", "bytes " + start + "-" + end + "/" + data.length());
+		}
+		Buffer content = data.getBuffer(start, end + 1);
+		request.response()
+			.putHeader("ETag", etag(data))
+			.putHeader("Content-Length", String.valueOf(content.length()));
+		if (request.method() == HttpMethod.HEAD) {
+			request.response().end();
+		} else {
+			request.response().end(content);
+		}
+	}
+
+	private void copyObject(HttpServerRequest request, String path, String source, String uploadId) {
+		Buffer data = objects.get(source);
+		if (data == null) {
+			error(request, 404, "NoSuchKey");
+			return;
+		}
+		if (uploadId == null) {
+			objects.put(path, data.copy());
+			xml(request, "<CopyObjectResult><LastModified>2020-01-01T00:00:00.000Z</LastModified><ETag>" + etag(data)
+				+ "</ETag></CopyObjectResult>");
+			return;
+		}
+		Map<Integer, Buffer> parts = uploads.get(uploadId);
+		if (parts == null) {
+			error(request, 404, "NoSuchUpload");
+			return;
+		}
+		Matcher matcher = RANGE.matcher(request.getHeader("x-amz-copy-source-range"));
+		if (!matcher.matches()) {
+			error(request, 416, "InvalidRange");
+			return;
+		}
+		Buffer part = data.getBuffer(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)) + 1);
+		parts.put(Integer.valueOf(request.getParam("partNumber")), part);
+		copiedParts.incrementAndGet();
+		xml(request, "<CopyPartResult><LastModified>2020-01-01T00:00:00.000Z</LastModified><ETag>" + etag(part) + "</ETag></CopyPartResult>");
+	}
+
+	private void completeUpload(HttpServerRequest request, String path, String uploadId, Buffer body) {
+		Map<Integer, Buffer> parts = uploadId == null ? null : uploads.remove(uploadId);
+		if (parts == null) {
+			error(request, 404, "NoSuchUpload");
+			return;
+		}
+		Map<Integer, Buffer> sorted = new TreeMap<>();
+		Matcher matcher = PART_NUMBER.matcher(body.toString(StandardCharsets.UTF_8));
+		while (matcher.find()) {
+			Integer number = Integer.valueOf(matcher.group(1));
+			Buffer part = parts.get(number);
+			if (part == null) {
+				error(request, 400, "InvalidPart");
+				return;
+			}
+			sorted.put(number, part);
+		}
+		Buffer data = Buffer.buffer();
+		sorted.values().forEach(data::appendBuffer);
+		objects.put(path, data);
+		completedUploads.incrementAndGet();
+		xml(request, "<CompleteMultipartUploadResult><Key>" + path + "</Key><ETag>" + etag(data) + "</ETag></CompleteMultipartUploadResult>");
+	}
+
+	private static void xml(HttpServerRequest request, String content) {
+		request.response()
+			.putHeader("Content-Type", "application/xml")
+			.end("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + content);
+	}
+
+	private static void error(HttpServerRequest request, int status, String code) {
+		request.response().setStatusCode(status);
+		if (request.method() == HttpMethod.HEAD) {
+			request.response().end();
+		} else {
+			xml(request, "<Error><Code>" + code + "</Code><Message>" + code + "</Message></Error>");
+		}
+	}
+
+	private static String etag(Buffer data) {
+		try {
+			byte[] digest = MessageDigest.getInstance("MD5").digest(data.getBytes());
+			return "\"" + String.format("%032x", new BigInteger(1, digest)) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
@@ -11,6 +11,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
@@ -37,6 +38,7 @@ import com.gentics.mesh.etc.config.ImageManipulatorOptions;
 import com.gentics.mesh.etc.config.MeshOptions;
 import com.gentics.mesh.graphdb.spi.Supplier;
 import com.gentics.mesh.image.focalpoint.FocalPointModifier;
+import com.gentics.mesh.metric.MetricsService;
 import com.gentics.mesh.parameter.ImageManipulationParameters;
 import com.gentics.mesh.parameter.image.CropMode;
 import com.gentics.mesh.parameter.image.ImageRect;
@@ -60,12 +62,21 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 
 	private WorkerExecutor workerPool;
 
-	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options) {
-		this(vertx, options.getImageOptions());
+	/**
+	 * Resize operations which are currently in progress. Concurrent requests for the same image variant will share the operation.
+	 */
+	private final Map<String, Single<String>> inflightResizes = new ConcurrentHashMap<>();
+
+	public ImgscalrImageManipulator(Vertx vertx, MeshOptions options, MetricsService metrics) {
+		this(vertx, options.getImageOptions(), metrics);
 	}
 
 	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options) {
-		super(vertx, options);
+		this(vertx, options, null);
+	}
+
+	ImgscalrImageManipulator(Vertx vertx, ImageManipulatorOptions options, MetricsService metrics) {
+		super(vertx, options, metrics);
 		focalPointModifier = new FocalPointModifier(options);
 		// 10 seconds
 		workerPool = vertx.createSharedWorkerExecutor("resizeWorker", 5, Duration.ofSeconds(10).toNanos());
@@ -292,13 +303,31 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 		parameters.validate();
 		parameters.validateLimits(options);
 
+		// Concurrent requests for the same variant will wait for the first resize operation instead of resizing the image again.
+		// The operation is only registered on subscription. Once registered, it is subscribed and will thus always remove itself when done.
+		String key = binary.getSHA512Sum() + "-" + parameters.getCacheKey();
+		return Single.defer(() -> inflightResizes.computeIfAbsent(key, k -> resize(binary, parameters)
+			.doFinally(() -> inflightResizes.remove(k))
+			.cache()));
+	}
+
+	/**
+	 * Return the path to the cache file of the requested variant. The variant will be created if it can't be found in the cache.
+	 *
+	 * @param binary
+	 * @param parameters
+	 * @return
+	 */
+	private Single<String> resize(Binary binary, ImageManipulationParameters parameters) {
 		Supplier<InputStream> stream = binary.openBlockingStream();
 
 		return getCacheFilePath(binary.getSHA512Sum(), parameters)
 			.flatMap(cacheFileInfo -> {
 				if (cacheFileInfo.exists) {
+					cacheIndex.recordHit();
 					return Single.just(cacheFileInfo.path);
 				} else {
+					cacheIndex.recordMiss();
 					// TODO handle execution timeout
 					// Make sure to run that code in the dedicated thread pool it may be CPU intensive for larger images and we don't want to exhaust the
 					// regular worker
@@ -328,6 +357,8 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 							String extension = ArrayUtils.isEmpty(extensions) ? "" : extensions[0];
 							String cacheFilePath = cacheFileInfo.path + "." + extension;
 							File outCacheFile = new File(cacheFilePath);
+							// The folder is only created when needed since cache lookups don't access the filesystem
+							outCacheFile.getParentFile().mkdirs();
 
 							// Write image
 							try (ImageOutputStream out = new FileImageOutputStream(outCacheFile)) {
@@ -339,6 +370,8 @@ public class ImgscalrImageManipulator extends AbstractImageManipulator {
 								throw error(BAD_REQUEST, "image_error_writing_failed");
 							}
 
+							cacheIndex.recordWrite(cacheFileInfo.path, cacheFilePath);
+
 							// Return buffer to written cache file
 							bh.complete(cacheFilePath);
 						} catch (Exception e) {
@@ -6,6 +6,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
@@ -14,7 +17,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -31,6 +38,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.xml.sax.SAXException;
 
+import com.gentics.mesh.core.data.binary.Binary;
 import com.gentics.mesh.core.image.spi.ImageInfo;
 import com.gentics.mesh.core.rest.error.GenericRestException;
 import com.gentics.mesh.etc.config.ImageManipulatorOptions;
@@ -104,6 +112,62 @@ public class ImgscalrImageManipulatorTest extends AbstractImageTest {
 
 	}
 
+	@Test
+	public void testConcurrentResizeIsCoalesced() throws IOException {
+		Binary binary = createMockedBinary("/pictures/blume.jpg");
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(150).setHeight(180);
+
+		List<Single<String>> resizes = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			resizes.add(manipulator.handleResize(binary, parameters));
+		}
+		List<String> paths = Single.merge(resizes).toList().blockingGet();
+
+		assertEquals("All requests should be served by the same cache file.", 1, new HashSet<>(paths).size());
+		assertTrue(new File(paths.get(0)).exists());
+		// The stream supplier should only have been requested once
+		verify(binary, times(1)).openBlockingStream();
+
+		// Subsequent requests are served from the cache
+		String cachedPath = manipulator.handleResize(binary, parameters).blockingGet();
+		assertEquals(new File(paths.get(0)).getCanonicalPath(), new File(cachedPath).getCanonicalPath());
+	}
+
+	@Test
+	public void testUnsubscribedResizeIsNotRegistered() throws IOException {
+		Binary binary = createMockedBinary("/pictures/blume.jpg");
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(160).setHeight(190);
+
+		// The operation must only be registered once it gets subscribed
+		manipulator.handleResize(binary, parameters);
+		verify(binary, never()).openBlockingStream();
+
+		String path = manipulator.handleResize(binary, parameters).blockingGet();
+		assertTrue(new File(path).exists());
+		verify(binary, times(1)).openBlockingStream();
+	}
+
+	@Test
+	public void testRemovedCacheFileIsRegenerated() throws IOException {
+		Binary binary = createMockedBinary("/pictures/blume.jpg");
+		ImageManipulationParametersImpl parameters = new ImageManipulationParametersImpl().setWidth(170).setHeight(200);
+
+		File cacheFile = new File(manipulator.handleResize(binary, parameters).blockingGet());
+		assertTrue(cacheFile.exists());
+
+		// Another instance which shares the cache directory removed the file
+		assertTrue(cacheFile.delete());
+		// The file is created again once it can't be accessed
+		File regenerated = manipulator.handleResize(binary, parameters, path -> Single.fromCallable(() -> {
+			File file = new File(path);
+			if (!file.exists()) {
+				throw new NoSuchFileException(path);
+			}
+			return file;
+		})).blockingGet();
+		assertTrue("The removed cache file should have been regenerated.", regenerated.exists());
+	}
+
 	@Test
 	public void testExtractImageInfo() throws IOException, JSONException {
 		checkImages((imageName, width, height, color, refImage, origPath, stream) -> {
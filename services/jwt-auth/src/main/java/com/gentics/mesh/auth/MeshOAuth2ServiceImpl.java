@@ -200,8 +200,8 @@ public class MeshOAuth2ServiceImpl implements MeshOAuthService {
 		String cachingId = currentTokenId;
 
 		EventQueueBatch batch = batchProvider.get();
-		return db.maybeTx(tx -> boot.userRoot().findMeshAuthUserByUsername(username))
-		.flatMapSingleElement(user -> db.singleTx(user::getUuid).flatMap(uuid -> {
+		return db.maybeReadTx(tx -> boot.userRoot().findMeshAuthUserByUsername(username))
+		.flatMapSingleElement(user -> db.singleReadTx(user::getUuid).flatMap(uuid -> {
 			// Compare the stored and current token id to see whether the current token is different.
 			// In that case a sync must be invoked.
 			String lastSeenTokenId = TOKEN_ID_LOG.getIfPresent(user.getUuid());
@@ -99,6 +99,14 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		});
 	}
 
+	/**
+	 * Uploads are moved into the temp folder which is cheaper than copying the data.
+	 */
+	@Override
+	public boolean prefersFileUploads() {
+		return true;
+	}
+
 	@Override
 	public Completable storeInTemp(Flowable<Buffer> stream, String temporaryId) {
 		Objects.requireNonNull(temporaryId, "The temporary id was not specified.");
@@ -178,6 +186,17 @@ public class LocalBinaryStorage extends AbstractBinaryStorage {
 		return obs;
 	}
 
+	@Override
+	public Flowable<Buffer> read(String binaryUuid, long start, long end) {
+		String path = getFilePath(binaryUuid);
+		return fileSystem
+			.rxOpen(path, new OpenOptions())
+			.toFlowable()
+			.flatMap(file -> RxUtil.toBufferFlow(file
+				.setReadPos(start)
+				.setReadLength(end + 1 - start)));
+	}
+
 	@Override
 	public InputStream openBlockingStream(String uuid) throws IOException {
 		return Files.newInputStream(Paths.get(getFilePath(uuid)));
@@ -1,19 +1,27 @@
 package com.gentics.mesh.graphql;
 
+import static com.gentics.mesh.core.rest.error.Errors.error;
 import static graphql.GraphQL.newGraphQL;
+import static io.netty.handler.codec.http.HttpResponseStatus.BAD_REQUEST;
 import static io.netty.handler.codec.http.HttpResponseStatus.OK;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.apache.commons.lang3.tuple.Pair;
+
 import com.gentics.madl.tx.Tx;
 import com.gentics.mesh.core.rest.error.AbstractUnavailableException;
 import com.gentics.mesh.graphdb.spi.Database;
+import com.gentics.mesh.graphql.cache.GraphQLDocumentCache;
+import com.gentics.mesh.graphql.cache.GraphQLSchemaCache;
 import com.gentics.mesh.graphql.context.GraphQLContext;
 import com.gentics.mesh.graphql.type.QueryTypeProvider;
 import com.gentics.mesh.util.SearchWaitUtil;
@@ -23,6 +31,7 @@ import graphql.ExecutionInput;
 import graphql.ExecutionResult;
 import graphql.GraphQL;
 import graphql.GraphQLError;
+import graphql.execution.instrumentation.dataloader.DataLoaderDispatcherInstrumentation;
 import graphql.language.SourceLocation;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
@@ -35,9 +44,25 @@ public class GraphQLHandler {
 
 	private static final Logger log = LoggerFactory.getLogger(GraphQLHandler.class);
 
+	/**
+	 * Name of the request extension which contains the hash of an automatic persisted query.
+	 */
+	public static final String PERSISTED_QUERY_EXTENSION = "persistedQuery";
+
+	/**
+	 * Error which is returned when only the hash of an unknown persisted query was sent.
+	 */
+	public static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+
 	@Inject
 	public QueryTypeProvider typeProvider;
 
+	@Inject
+	public GraphQLSchemaCache schemaCache;
+
+	@Inject
+	public GraphQLDocumentCache documentCache;
+
 	@Inject
 	public Database db;
 
@@ -60,11 +85,19 @@ public class GraphQLHandler {
 	 * 		GraphQL query
 	 */
 	public void handleQuery(GraphQLContext gc, String body) {
-		waitUtil.awaitSync(gc).andThen(vertx.rxExecuteBlocking(promise -> {
-			try (Tx tx = db.tx()) {
+		waitUtil.awaitSync(gc).andThen(vertx.<Pair<JsonArray, Object>>rxExecuteBlocking(promise -> {
+			try (Tx tx = db.readOnlyTx()) {
 				JsonObject queryJson = new JsonObject(body);
-				String query = queryJson.getString("query");
-				GraphQL graphQL = newGraphQL(typeProvider.getRootSchema(gc)).build();
+				String query = extractQuery(queryJson);
+				if (query == null) {
+					promise.complete(Pair.of(createPersistedQueryNotFoundErrors(), null));
+					return;
+				}
+				String schemaKey = schemaCache.createCacheKey(gc);
+				GraphQL graphQL = newGraphQL(schemaCache.getSchema(schemaKey, gc, typeProvider::getRootSchema))
+					.preparsedDocumentProvider(documentCache.createProvider(schemaKey))
+					.instrumentation(new DataLoaderDispatcherInstrumentation(gc.getDataLoaderRegistry()))
+					.build();
 				ExecutionInput executionInput = ExecutionInput
 						.newExecutionInput()
 						.query(query)
@@ -73,9 +106,9 @@ public class GraphQLHandler {
 						.build();
 				ExecutionResult result = graphQL.execute(executionInput);
 				List<GraphQLError> errors = result.getErrors();
-				JsonObject response = new JsonObject();
+				JsonArray jsonErrors = null;
 				if (!errors.isEmpty()) {
-					addErrors(errors, response);
+					jsonErrors = createErrors(errors);
 					if (log.isDebugEnabled()) {
 						log.debug("Encountered {" + errors.size() + "} errors while executing query {" + query + "}");
 						for (GraphQLError error : errors) {
@@ -87,18 +120,72 @@ public class GraphQLHandler {
 						}
 					}
 				}
-				if (result.getData() != null) {
-					Map<String, Object> data = result.getData();
-					response.put("data", new JsonObject(data));
-				}
-				gc.send(response.encodePrettily(), OK);
+				promise.complete(Pair.of(jsonErrors, result.getData()));
+			} catch (Exception e) {
+				promise.fail(e);
+			}
+		}, false))
+		// The result is serialized after the tx was closed so that slow clients don't keep the graph instance
+		.flatMapCompletable(result -> vertx.rxExecuteBlocking(promise -> {
+			try {
+				// The result is serialized directly to the response to avoid building the whole JSON in memory
+				GraphQLResponseWriter.write(gc.getResponse(), OK, result.getLeft(), result.getRight(), gc.getGraphQLParameters().isPretty());
 				promise.complete();
 			} catch (Exception e) {
 				promise.fail(e);
 			}
-		}))
-		.doOnError(gc::fail)
-		.subscribe();
+		}, false).ignoreElement())
+		.subscribe(() -> {
+		}, error -> {
+			if (gc.getResponse().headWritten()) {
+				// The response was already reset by the writer
+				log.error("Error while writing the GraphQL response.", error);
+			} else {
+				gc.fail(error);
+			}
+		});
+	}
+
+	/**
+	 * Extracts the query from the request. Automatic persisted queries will be resolved via the hash which is provided by the
+	 * {@value #PERSISTED_QUERY_EXTENSION} extension. Returns null if only the hash was provided and the query is not known.
+	 *
+	 * @param request
+	 * 		The request body
+	 *
+	 * @return GraphQL query
+	 */
+	private String extractQuery(JsonObject request) {
+		String query = request.getString("query");
+		JsonObject extensions = request.getJsonObject("extensions");
+		if (extensions == null || extensions.getJsonObject(PERSISTED_QUERY_EXTENSION) == null) {
+			return query;
+		}
+		String hash = extensions.getJsonObject(PERSISTED_QUERY_EXTENSION).getString("sha256Hash");
+		if (hash == null) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_missing");
+		}
+		hash = hash.toLowerCase();
+		if (query == null) {
+			return documentCache.getPersistedQuery(hash);
+		}
+		if (!hash.equals(documentCache.hashQuery(query))) {
+			throw error(BAD_REQUEST, "graphql_error_persisted_query_hash_mismatch", hash);
+		}
+		documentCache.storePersistedQuery(hash, query);
+		return query;
+	}
+
+	/**
+	 * Create the errors which inform the client that the persisted query is not known and needs to be sent along with the hash.
+	 *
+	 * @return
+	 */
+	private JsonArray createPersistedQueryNotFoundErrors() {
+		JsonObject error = new JsonObject();
+		error.put("message", PERSISTED_QUERY_NOT_FOUND);
+		error.put("type", PERSISTED_QUERY_NOT_FOUND);
+		return new JsonArray().add(error);
 	}
 
 	/**
@@ -119,20 +206,20 @@ public class GraphQLHandler {
 	}
 
 	/**
-	 * Add the listed errors to the response.
+	 * Transform the listed errors into the JSON representation of the response.
 	 *
 	 * @param errors
-	 * @param response
+	 * @return
 	 */
-	private void addErrors(List<GraphQLError> errors, JsonObject response) {
+	private JsonArray createErrors(List<GraphQLError> errors) {
 		JsonArray jsonErrors = new JsonArray();
-		response.put("errors", jsonErrors);
 		for (GraphQLError error : errors) {
 			JsonObject jsonError = new JsonObject();
 			if (error instanceof ExceptionWhileDataFetching) {
 				ExceptionWhileDataFetching dataError = (ExceptionWhileDataFetching) error;
-				if (dataError.getException() instanceof AbstractUnavailableException) {
-					AbstractUnavailableException restException = (AbstractUnavailableException) dataError.getException();
+				Throwable cause = unwrap(dataError.getException());
+				if (cause instanceof AbstractUnavailableException) {
+					AbstractUnavailableException restException = (AbstractUnavailableException) cause;
 					// TODO translate error
 					// TODO add i18n parameters
 					jsonError.put("message", restException.getI18nKey());
@@ -140,7 +227,7 @@ public class GraphQLHandler {
 					jsonError.put("elementId", restException.getElementId());
 					jsonError.put("elementType", restException.getElementType());
 				} else {
-					log.error("Error while fetching data.", dataError.getException());
+					log.error("Error while fetching data.", cause);
 					jsonError.put("message", dataError.getMessage());
 					jsonError.put("type", dataError.getErrorType());
 				}
@@ -160,5 +247,19 @@ public class GraphQLHandler {
 			}
 			jsonErrors.add(jsonError);
 		}
+		return jsonErrors;
+	}
+
+	/**
+	 * Unwrap the cause of exceptions which were thrown by futures (e.g. the futures of the data loaders).
+	 *
+	 * @param error
+	 * @return
+	 */
+	private Throwable unwrap(Throwable error) {
+		while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+			error = error.getCause();
+		}
+		return error;
 	}
 }
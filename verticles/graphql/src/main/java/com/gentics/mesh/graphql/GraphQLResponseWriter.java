@@ -0,0 +1,180 @@
+package com.gentics.mesh.graphql;
+
+import static com.gentics.mesh.http.HttpConstants.APPLICATION_JSON_UTF8;
+import static io.vertx.core.http.HttpHeaders.CACHE_CONTROL;
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+
+/**
+ * Writer which serializes the result of a GraphQL query directly to the HTTP response. The JSON is generated while the result is traversed and written to
+ * the response in chunks. This way neither an intermediate JSON object nor the full string representation of the response needs to be kept in memory.
+ *
+ * Responses which fit into a single chunk are sent with a content length. Larger responses are sent using chunked transfer encoding.
+ */
+public class GraphQLResponseWriter extends OutputStream {
+
+	/**
+	 * Size of the chunks which are written to the response.
+	 */
+	public static final int CHUNK_SIZE = 16 * 1024;
+
+	private final HttpServerResponse response;
+
+	private Buffer buffer = Buffer.buffer(CHUNK_SIZE);
+
+	private boolean chunked = false;
+
+	private GraphQLResponseWriter(HttpServerResponse response) {
+		this.response = response;
+	}
+
+	/**
+	 * Write the GraphQL response to the HTTP response and end it.
+	 *
+	 * @param response
+	 *            HTTP response to write to
+	 * @param status
+	 *            Status of the response
+	 * @param errors
+	 *            Errors of the query or null if no errors occurred
+	 * @param data
+	 *            Data of the query or null if no data was returned
+	 * @param pretty
+	 *            Whether the JSON should be pretty printed
+	 * @throws IOException
+	 */
+	public static void write(HttpServerResponse response, HttpResponseStatus status, JsonArray errors, Object data, boolean pretty) throws IOException {
+		response.setStatusCode(status.code());
+		response.putHeader(CONTENT_TYPE, APPLICATION_JSON_UTF8);
+		if (!response.headers().contains(CACHE_CONTROL)) {
+			response.putHeader(CACHE_CONTROL, "no-cache");
+		}
+		GraphQLResponseWriter writer = new GraphQLResponseWriter(response);
+		// Closing the generator will also close the writer and thus end the response
+		JsonGenerator generator = Json.mapper.getFactory().createGenerator(writer, JsonEncoding.UTF8);
+		try {
+			if (pretty) {
+				generator.useDefaultPrettyPrinter();
+			}
+			generator.writeStartObject();
+			if (errors != null) {
+				generator.writeObjectField("errors", errors);
+			}
+			if (data != null) {
+				generator.writeObjectField("data", data);
+			}
+			generator.writeEndObject();
+			generator.close();
+		} catch (IOException | RuntimeException e) {
+			writer.abort();
+			try {
+				generator.close();
+			} catch (IOException e2) {
+				e.addSuppressed(e2);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Abort the writer. Pending bytes will be discarded and any further output will be ignored. The response will be reset if parts of it have already been
+	 * sent since the status can't be changed anymore. Otherwise the response is left untouched so that an error response can be sent.
+	 */
+	private void abort() {
+		if (buffer == null) {
+			return;
+		}
+		buffer = null;
+		if (response.headWritten() && !response.closed()) {
+			response.reset();
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		if (buffer == null) {
+			return;
+		}
+		buffer.appendByte((byte) b);
+		if (buffer.length() >= CHUNK_SIZE) {
+			writeChunk();
+		}
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (buffer == null) {
+			return;
+		}
+		buffer.appendBytes(b, off, len);
+		if (buffer.length() >= CHUNK_SIZE) {
+			writeChunk();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (buffer == null) {
+			return;
+		}
+		if (chunked) {
+			if (buffer.length() > 0) {
+				response.write(buffer);
+			}
+			response.end();
+		} else {
+			// The whole response fits into a single chunk
+			response.end(buffer);
+		}
+		buffer = null;
+	}
+
+	/**
+	 * Write the buffered bytes to the response. The current thread will wait if the write queue of the response is full.
+	 *
+	 * @throws IOException
+	 */
+	private void writeChunk() throws IOException {
+		if (!chunked) {
+			response.setChunked(true);
+			chunked = true;
+		}
+		awaitDrain();
+		response.write(buffer);
+		buffer = Buffer.buffer(CHUNK_SIZE);
+	}
+
+	private void awaitDrain() throws IOException {
+		if (!response.writeQueueFull()) {
+			return;
+		}
+		CountDownLatch latch = new CountDownLatch(1);
+		response.drainHandler(v -> latch.countDown());
+		try {
+			while (response.writeQueueFull()) {
+				if (response.closed()) {
+					throw new IOException("The connection was closed while writing the GraphQL response.");
+				}
+				latch.await(100, MILLISECONDS);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while writing the GraphQL response.");
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.gentics.mesh.graphql.cache;
+
+import com.gentics.mesh.cache.MeshCache;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+
+/**
+ * Cache for parsed and validated GraphQL documents. The cache also stores the query strings of automatic persisted queries which are identified by the
+ * SHA-256 hash of the query.
+ */
+public interface GraphQLDocumentCache extends MeshCache<String, PreparsedDocumentEntry> {
+
+	/**
+	 * Create a document provider which uses the cache to lookup documents that have been validated against the schema with the given key.
+	 * 
+	 * @param schemaKey
+	 *            Key of the schema which is used to validate the documents
+	 * @return
+	 */
+	PreparsedDocumentProvider createProvider(String schemaKey);
+
+	/**
+	 * Return the query for the given persisted query hash.
+	 * 
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @return Found query or null if the query is not known
+	 */
+	String getPersistedQuery(String hash);
+
+	/**
+	 * Store the query of a persisted query.
+	 * 
+	 * @param hash
+	 *            SHA-256 hash of the query
+	 * @param query
+	 */
+	void storePersistedQuery(String hash, String query);
+
+	/**
+	 * Return the hex encoded SHA-256 hash of the query.
+	 * 
+	 * @param query
+	 * @return
+	 */
+	String hashQuery(String query);
+
+}
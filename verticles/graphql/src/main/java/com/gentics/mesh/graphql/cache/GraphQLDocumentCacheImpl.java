@@ -0,0 +1,109 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.graphql.cache.GraphQLSchemaCacheImpl.EVENTS;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.util.FileUtils;
+
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for parsed and validated GraphQL documents.
+ * 
+ * The validation result depends on the schema. Documents are thus stored using the key of the schema and the hash of the query.
+ */
+@Singleton
+public class GraphQLDocumentCacheImpl extends AbstractMeshCache<String, PreparsedDocumentEntry> implements GraphQLDocumentCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLDocumentCacheImpl.class);
+
+	private final EventAwareCache<String, String> persistedQueries;
+
+	@Inject
+	public GraphQLDocumentCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLDocumentCacheSize());
+		this.persistedQueries = createPersistedQueryCache(factory, options.getCacheConfig());
+		registry.register(persistedQueries);
+	}
+
+	private static EventAwareCache<String, PreparsedDocumentEntry> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, PreparsedDocumentEntry>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL document cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqldocument")
+			.maxSize(config.getGraphQLDocumentCacheSize())
+			.build();
+	}
+
+	private static EventAwareCache<String, String> createPersistedQueryCache(EventAwareCacheFactory factory, CacheConfig config) {
+		// Persisted queries do not depend on the schema and thus never need to be invalidated by events.
+		return factory.<String, String>builder()
+			.events()
+			.name("graphqlpersistedquery")
+			.maxSize(config.getGraphQLDocumentCacheSize())
+			.build();
+	}
+
+	@Override
+	public PreparsedDocumentProvider createProvider(String schemaKey) {
+		return (query, computeFunction) -> {
+			if (query == null) {
+				return computeFunction.apply(query);
+			}
+			return get(schemaKey + "-" + hashQuery(query), key -> computeFunction.apply(query));
+		};
+	}
+
+	@Override
+	public String getPersistedQuery(String hash) {
+		if (isDisabled()) {
+			return null;
+		}
+		return persistedQueries.get(hash);
+	}
+
+	@Override
+	public void storePersistedQuery(String hash, String query) {
+		if (isDisabled()) {
+			return;
+		}
+		persistedQueries.put(hash, query);
+	}
+
+	@Override
+	public String hashQuery(String query) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-256");
+			return FileUtils.bytesToHex(md.digest(query.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("Could not hash query", e);
+		}
+	}
+
+	@Override
+	public void clear() {
+		super.clear();
+		persistedQueries.invalidate();
+	}
+
+}
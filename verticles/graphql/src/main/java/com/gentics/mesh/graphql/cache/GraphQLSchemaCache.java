@@ -0,0 +1,37 @@
+package com.gentics.mesh.graphql.cache;
+
+import java.util.function.Function;
+
+import com.gentics.mesh.cache.MeshCache;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+import graphql.schema.GraphQLSchema;
+
+/**
+ * Cache for generated GraphQL schemas. The generated schema only depends on the project, branch, API version, the assigned schema and microschema versions
+ * and the deployed GraphQL plugins. It can thus be shared across requests.
+ */
+public interface GraphQLSchemaCache extends MeshCache<String, GraphQLSchema> {
+
+	/**
+	 * Return the schema for the given context. The schema will be created using the given function if it can't be found in the cache.
+	 * 
+	 * @param key
+	 *            Cache key which was created via {@link #createCacheKey(GraphQLContext)}
+	 * @param gc
+	 *            Context of the query
+	 * @param schemaCreator
+	 *            Function which generates the schema
+	 * @return Cached or created schema
+	 */
+	GraphQLSchema getSchema(String key, GraphQLContext gc, Function<GraphQLContext, GraphQLSchema> schemaCreator);
+
+	/**
+	 * Create the cache key for the schema which is used by the given context.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	String createCacheKey(GraphQLContext gc);
+
+}
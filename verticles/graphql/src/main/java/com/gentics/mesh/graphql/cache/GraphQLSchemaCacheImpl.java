@@ -0,0 +1,126 @@
+package com.gentics.mesh.graphql.cache;
+
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.BRANCH_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.MICROSCHEMA_UPDATED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_DEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PLUGIN_UNDEPLOYED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_MICROSCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_ASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.PROJECT_SCHEMA_UNASSIGNED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_ASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_BRANCH_UNASSIGN;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_DELETED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_MIGRATION_FINISHED;
+import static com.gentics.mesh.core.rest.MeshEvent.SCHEMA_UPDATED;
+
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import com.gentics.mesh.cache.AbstractMeshCache;
+import com.gentics.mesh.cache.CacheRegistry;
+import com.gentics.mesh.cache.EventAwareCache;
+import com.gentics.mesh.cache.impl.EventAwareCacheFactory;
+import com.gentics.mesh.core.data.Project;
+import com.gentics.mesh.core.rest.MeshEvent;
+import com.gentics.mesh.etc.config.CacheConfig;
+import com.gentics.mesh.etc.config.MeshOptions;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.plugin.GraphQLPluginRegistry;
+import com.gentics.mesh.plugin.graphql.GraphQLPlugin;
+
+import graphql.schema.GraphQLSchema;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Central LRU cache for generated GraphQL schemas.
+ * 
+ * The cache key contains the uuids of the latest schema and microschema versions of the project. Changes which happen without an event (e.g. direct graph
+ * modifications) will thus never lead to a stale schema. The events are only used to free entries which can no longer be used.
+ */
+@Singleton
+public class GraphQLSchemaCacheImpl extends AbstractMeshCache<String, GraphQLSchema> implements GraphQLSchemaCache {
+
+	private static final Logger log = LoggerFactory.getLogger(GraphQLSchemaCacheImpl.class);
+
+	static final MeshEvent EVENTS[] = {
+		SCHEMA_UPDATED,
+		SCHEMA_DELETED,
+		SCHEMA_MIGRATION_FINISHED,
+		SCHEMA_BRANCH_ASSIGN,
+		SCHEMA_BRANCH_UNASSIGN,
+		MICROSCHEMA_UPDATED,
+		MICROSCHEMA_DELETED,
+		MICROSCHEMA_MIGRATION_FINISHED,
+		MICROSCHEMA_BRANCH_ASSIGN,
+		MICROSCHEMA_BRANCH_UNASSIGN,
+		PROJECT_SCHEMA_ASSIGNED,
+		PROJECT_SCHEMA_UNASSIGNED,
+		PROJECT_MICROSCHEMA_ASSIGNED,
+		PROJECT_MICROSCHEMA_UNASSIGNED,
+		PROJECT_DELETED,
+		BRANCH_UPDATED,
+		BRANCH_DELETED,
+		PLUGIN_DEPLOYED,
+		PLUGIN_UNDEPLOYED };
+
+	private final GraphQLPluginRegistry pluginRegistry;
+
+	@Inject
+	public GraphQLSchemaCacheImpl(EventAwareCacheFactory factory, CacheRegistry registry, MeshOptions options, GraphQLPluginRegistry pluginRegistry) {
+		super(createCache(factory, options.getCacheConfig()), registry, options.getCacheConfig().getGraphQLSchemaCacheSize());
+		this.pluginRegistry = pluginRegistry;
+	}
+
+	private static EventAwareCache<String, GraphQLSchema> createCache(EventAwareCacheFactory factory, CacheConfig config) {
+		return factory.<String, GraphQLSchema>builder()
+			.events(EVENTS)
+			.action((event, cache) -> {
+				if (log.isDebugEnabled()) {
+					log.debug("Clearing GraphQL schema cache due to received event from {" + event.address() + "}");
+				}
+				cache.invalidate();
+			})
+			.name("graphqlschema")
+			.maxSize(config.getGraphQLSchemaCacheSize())
+			.build();
+	}
+
+	@Override
+	public GraphQLSchema getSchema(String key, GraphQLContext gc, Function<GraphQLContext, GraphQLSchema> schemaCreator) {
+		if (isDisabled()) {
+			return schemaCreator.apply(gc);
+		}
+		return cache.get(key, k -> schemaCreator.apply(gc));
+	}
+
+	@Override
+	public String createCacheKey(GraphQLContext gc) {
+		Project project = gc.getProject();
+		String schemaVersions = project.getSchemaContainerRoot().findAll().stream()
+			.map(schema -> schema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String microschemaVersions = project.getMicroschemaContainerRoot().findAll().stream()
+			.map(microschema -> microschema.getLatestVersion().getUuid())
+			.sorted()
+			.collect(Collectors.joining(","));
+		String plugins = pluginRegistry.getPlugins().stream()
+			.map(GraphQLPlugin::id)
+			.sorted()
+			.collect(Collectors.joining(","));
+		return project.getUuid() + "-" + gc.getBranch().getUuid() + "-" + gc.getApiVersion() + "-" + schemaVersions + "-" + microschemaVersions + "-"
+			+ plugins;
+	}
+
+}
@@ -2,12 +2,17 @@ package com.gentics.mesh.graphql.context;
 
 import java.util.function.Supplier;
 
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.InternalActionContext;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.core.rest.error.PermissionException;
 import com.gentics.mesh.plugin.graphql.GraphQLPluginContext;
 
+import io.vertx.core.http.HttpServerResponse;
+
 /**
  * Extended context for GraphQL handling.
  */
@@ -39,4 +44,29 @@ public interface GraphQLContext extends InternalActionContext, GraphQLPluginCont
 		}
 		return value;
 	}
+
+	/**
+	 * Return the registry which contains the data loaders of the query. The registry will be created on first access.
+	 * 
+	 * @return
+	 */
+	DataLoaderRegistry getDataLoaderRegistry();
+
+	/**
+	 * Return the data loader with the given key.
+	 * 
+	 * @param key
+	 *            Key of the loader
+	 * @return Found loader
+	 */
+	default <K, V> DataLoader<K, V> getDataLoader(String key) {
+		return getDataLoaderRegistry().getDataLoader(key);
+	}
+
+	/**
+	 * Return the HTTP response to which the result of the query will be written.
+	 * 
+	 * @return
+	 */
+	HttpServerResponse getResponse();
 }
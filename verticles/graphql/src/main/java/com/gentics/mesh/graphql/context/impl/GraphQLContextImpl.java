@@ -2,11 +2,16 @@ package com.gentics.mesh.graphql.context.impl;
 
 import static com.gentics.mesh.core.rest.error.Errors.missingPerm;
 
+import org.dataloader.DataLoaderRegistry;
+
 import com.gentics.mesh.context.impl.InternalRoutingActionContextImpl;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.relationship.GraphPermission;
 import com.gentics.mesh.graphql.context.GraphQLContext;
+import com.gentics.mesh.graphql.dataloader.NodeDataLoader;
+import com.gentics.mesh.graphql.dataloader.UserDataLoader;
 
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
@@ -15,8 +20,13 @@ import io.vertx.ext.web.RoutingContext;
  */
 public class GraphQLContextImpl extends InternalRoutingActionContextImpl implements GraphQLContext {
 
+	private final RoutingContext rc;
+
+	private DataLoaderRegistry dataLoaderRegistry;
+
 	public GraphQLContextImpl(RoutingContext rc) {
 		super(rc);
+		this.rc = rc;
 	}
 
 	@Override
@@ -54,4 +64,21 @@ public class GraphQLContextImpl extends InternalRoutingActionContextImpl impleme
 		return getUser().principal();
 	}
 
+	@Override
+	public DataLoaderRegistry getDataLoaderRegistry() {
+		if (dataLoaderRegistry == null) {
+			dataLoaderRegistry = new DataLoaderRegistry()
+				.register(NodeDataLoader.CONTENT_LOADER_KEY, NodeDataLoader.contentLoader(this))
+				.register(NodeDataLoader.PERMITTED_CONTENT_LOADER_KEY, NodeDataLoader.permittedContentLoader(this))
+				.register(NodeDataLoader.PARENT_LOADER_KEY, NodeDataLoader.parentLoader(this))
+				.register(UserDataLoader.USER_LOADER_KEY, UserDataLoader.userLoader(this));
+		}
+		return dataLoaderRegistry;
+	}
+
+	@Override
+	public HttpServerResponse getResponse() {
+		return rc.response();
+	}
+
 }
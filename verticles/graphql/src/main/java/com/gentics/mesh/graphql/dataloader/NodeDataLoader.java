@@ -0,0 +1,134 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.dataloader.DataLoader;
+
+import com.gentics.mesh.core.data.NodeGraphFieldContainer;
+import com.gentics.mesh.core.data.node.Node;
+import com.gentics.mesh.core.data.node.NodeContent;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Batch loaders which resolve node relations of a GraphQL query. The loaders are created once per query. All keys which are requested by sibling fields are
+ * resolved in a single batch in which each distinct node is only loaded and permission checked once. Nodes which are referenced multiple times (e.g. the
+ * common parent of the listed nodes or the shared part of their breadcrumbs) thus don't lead to repeated lookups.
+ * 
+ * The keys of the loaders are pairs of the node and the requested language tags.
+ */
+public final class NodeDataLoader {
+
+	/**
+	 * Key of the loader which loads the content of nodes without checking permissions.
+	 */
+	public static final String CONTENT_LOADER_KEY = "nodeContentLoader";
+
+	/**
+	 * Key of the loader which loads the content of nodes for which the user has read or read published permission.
+	 */
+	public static final String PERMITTED_CONTENT_LOADER_KEY = "nodePermittedContentLoader";
+
+	/**
+	 * Key of the loader which loads the content of the parent node in the branch of the query.
+	 */
+	public static final String PARENT_LOADER_KEY = "nodeParentLoader";
+
+	private NodeDataLoader() {
+	}
+
+	/**
+	 * Create a loader which loads the contents of nodes without checking permissions.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoader<Pair<Node, List<String>>, NodeContent> contentLoader(GraphQLContext gc) {
+		return new DataLoader<>(keys -> load(gc, keys, false));
+	}
+
+	/**
+	 * Create a loader which loads the contents of nodes. The user needs read or read published permission on the nodes.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoader<Pair<Node, List<String>>, NodeContent> permittedContentLoader(GraphQLContext gc) {
+		return new DataLoader<>(keys -> load(gc, keys, true));
+	}
+
+	/**
+	 * Create a loader which loads the content of the parent node of the nodes. The user needs read or read published permission on the parent node. The
+	 * loaded value is null for nodes which have no parent.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	public static DataLoader<Pair<Node, List<String>>, NodeContent> parentLoader(GraphQLContext gc) {
+		return new DataLoader<>(keys -> {
+			String branchUuid = gc.getBranch().getUuid();
+			Map<Node, Optional<Node>> parents = new HashMap<>();
+			List<Pair<Node, List<String>>> parentKeys = new ArrayList<>(keys.size());
+			for (Pair<Node, List<String>> key : keys) {
+				Optional<Node> parent = parents.computeIfAbsent(key.getKey(), node -> Optional.ofNullable(node.getParentNode(branchUuid)));
+				parentKeys.add(parent.map(node -> Pair.of(node, key.getValue())).orElse(null));
+			}
+			return load(gc, parentKeys, true);
+		});
+	}
+
+	/**
+	 * Load the contents for the given keys. Null keys will result in null values. Permission errors are returned as values which will fail the
+	 * corresponding futures of the loader.
+	 * 
+	 * @param gc
+	 * @param keys
+	 * @param checkPerm
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static CompletionStage<List<NodeContent>> load(GraphQLContext gc, List<Pair<Node, List<String>>> keys, boolean checkPerm) {
+		Map<Node, Optional<PermissionException>> permissionErrors = new HashMap<>();
+		Map<Pair<Node, List<String>>, NodeContent> contents = new HashMap<>();
+		List<Object> results = new ArrayList<>(keys.size());
+		for (Pair<Node, List<String>> key : keys) {
+			if (key == null) {
+				results.add(null);
+				continue;
+			}
+			if (checkPerm) {
+				Optional<PermissionException> error = permissionErrors.computeIfAbsent(key.getKey(), node -> checkPermission(gc, node));
+				if (error.isPresent()) {
+					results.add(error.get());
+					continue;
+				}
+			}
+			results.add(contents.computeIfAbsent(key, k -> {
+				Node node = k.getKey();
+				NodeGraphFieldContainer container = node.findVersion(gc, k.getValue());
+				return new NodeContent(node, container, k.getValue());
+			}));
+		}
+		return CompletableFuture.completedFuture((List) results);
+	}
+
+	private static Optional<PermissionException> checkPermission(GraphQLContext gc, Node node) {
+		try {
+			gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
+			return Optional.empty();
+		} catch (PermissionException e) {
+			return Optional.of(e);
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.gentics.mesh.graphql.dataloader;
+
+import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.dataloader.DataLoader;
+
+import com.gentics.mesh.core.data.User;
+import com.gentics.mesh.core.rest.error.PermissionException;
+import com.gentics.mesh.graphql.context.GraphQLContext;
+
+/**
+ * Batch loader for users which are referenced as creator or editor. Users which are referenced by many elements of a query are only permission checked once.
+ */
+public final class UserDataLoader {
+
+	/**
+	 * Key of the loader which loads users for which the user of the query has read permission.
+	 */
+	public static final String USER_LOADER_KEY = "userLoader";
+
+	private UserDataLoader() {
+	}
+
+	/**
+	 * Create a loader which checks the read permission for the given users.
+	 * 
+	 * @param gc
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static DataLoader<User, User> userLoader(GraphQLContext gc) {
+		return new DataLoader<>(keys -> {
+			List<Object> results = new ArrayList<>(keys.size());
+			for (User user : keys) {
+				try {
+					results.add(gc.requiresPerm(user, READ_PERM));
+				} catch (PermissionException e) {
+					results.add(e);
+				}
+			}
+			return CompletableFuture.completedFuture((List) results);
+		});
+	}
+
+}
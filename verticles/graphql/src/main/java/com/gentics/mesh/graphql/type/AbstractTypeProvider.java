@@ -2,6 +2,7 @@ package com.gentics.mesh.graphql.type;
 
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
+import static com.gentics.mesh.graphql.dataloader.UserDataLoader.USER_LOADER_KEY;
 import static graphql.Scalars.GraphQLLong;
 import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLArgument.newArgument;
@@ -18,11 +19,14 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.dataloader.DataLoader;
+
 import com.gentics.graphqlfilter.filter.StartFilter;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.GraphFieldContainer;
 import com.gentics.mesh.core.data.MeshCoreVertex;
 import com.gentics.mesh.core.data.MeshVertex;
+import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
 import com.gentics.mesh.core.data.page.impl.DynamicStreamPageImpl;
@@ -510,4 +514,19 @@ public abstract class AbstractTypeProvider {
 			return new DynamicStreamPageImpl<>(stream, pagingInfo);
 		}
 	}
+
+	/**
+	 * Load the user via the batched user loader of the query. The loader checks the read permission on the user.
+	 * 
+	 * @param gc
+	 * @param user
+	 * @return Future of the loaded user or null if no user was given
+	 */
+	protected Object loadUser(GraphQLContext gc, User user) {
+		if (user == null) {
+			return null;
+		}
+		DataLoader<User, User> userLoader = gc.getDataLoader(USER_LOADER_KEY);
+		return userLoader.load(user);
+	}
 }
@@ -20,7 +20,6 @@ import javax.inject.Inject;
 import javax.inject.Singleton;
 import java.util.function.Consumer;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static graphql.Scalars.GraphQLBoolean;
 import static graphql.Scalars.GraphQLString;
 import static graphql.schema.GraphQLFieldDefinition.newFieldDefinition;
@@ -214,7 +213,7 @@ public class InterfaceTypeProvider extends AbstractTypeProvider {
 					} else {
 						vertex = env.getSource();
 					}
-					return gc.requiresPerm(vertex.getCreator(), READ_PERM);
+					return loadUser(gc, vertex.getCreator());
 				}));
 		if (!isNode) {
 			// .edited
@@ -240,7 +239,7 @@ public class InterfaceTypeProvider extends AbstractTypeProvider {
 						if (source instanceof EditorTrackingVertex) {
 							GraphQLContext gc = env.getContext();
 							EditorTrackingVertex vertex = (EditorTrackingVertex) source;
-							return gc.requiresPerm(vertex.getEditor(), READ_PERM);
+							return loadUser(gc, vertex.getEditor());
 						}
 						return null;
 					}));
@@ -3,6 +3,8 @@ package com.gentics.mesh.graphql.type;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
 import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.common.ContainerType.DRAFT;
+import static com.gentics.mesh.graphql.dataloader.NodeDataLoader.CONTENT_LOADER_KEY;
+import static com.gentics.mesh.graphql.dataloader.NodeDataLoader.PARENT_LOADER_KEY;
 import static com.gentics.mesh.graphql.filter.NodeReferenceFilter.nodeReferenceFilter;
 import static com.gentics.mesh.graphql.type.NodeReferenceTypeProvider.NODE_REFERENCE_PAGE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.SchemaTypeProvider.SCHEMA_TYPE_NAME;
@@ -31,11 +33,13 @@ import java.util.stream.StreamSupport;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.dataloader.DataLoader;
+
 import com.gentics.mesh.cli.BootstrapInitializer;
 import com.gentics.mesh.core.data.Branch;
 import com.gentics.mesh.core.data.NodeGraphFieldContainer;
 import com.gentics.mesh.core.data.Project;
-import com.gentics.mesh.core.data.User;
 import com.gentics.mesh.core.data.node.Node;
 import com.gentics.mesh.core.data.node.NodeContent;
 import com.gentics.mesh.core.data.page.Page;
@@ -116,16 +120,11 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 		GraphQLContext gc = env.getContext();
-		String uuid = gc.getBranch().getUuid();
-		Node parentNode = content.getNode().getParentNode(uuid);
-		// The project root node can have no parent. Lets check this and exit early.
-		if (parentNode == null) {
-			return null;
-		}
-		gc.requiresPerm(parentNode, READ_PERM, READ_PUBLISHED_PERM);
-
 		List<String> languageTags = getLanguageArgument(env, content);
-		return new NodeContent(parentNode, parentNode.findVersion(gc, languageTags), languageTags);
+		// The parents of all nodes of the query level will be loaded and permission checked in one batch.
+		// Note that the project root node has no parent. The loader will return null in this case.
+		DataLoader<Pair<Node, List<String>>, NodeContent> parentLoader = gc.getDataLoader(PARENT_LOADER_KEY);
+		return parentLoader.load(Pair.of(content.getNode(), languageTags));
 	}
 
 	public Object nodeLanguageFetcher(DataFetchingEnvironment env) {
@@ -162,10 +161,11 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			return null;
 		}
 
-		return content.getNode().getBreadcrumbNodes(gc).stream().map(node -> {
-			List<String> languageTags = getLanguageArgument(env, content);
-			return new NodeContent(node, node.findVersion(gc, languageTags), languageTags);
-		}).collect(Collectors.toList());
+		List<String> languageTags = getLanguageArgument(env, content);
+		DataLoader<Pair<Node, List<String>>, NodeContent> contentLoader = gc.getDataLoader(CONTENT_LOADER_KEY);
+		return contentLoader.loadMany(content.getNode().getBreadcrumbNodes(gc).stream()
+			.map(node -> Pair.of(node, languageTags))
+			.collect(Collectors.toList()));
 	}
 
 	public Object languagesFetcher(DataFetchingEnvironment env) {
@@ -348,12 +348,13 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 				.argument(nodeReferenceFilter(context).createFilterArgument())
 				.type(new GraphQLTypeReference(NODE_REFERENCE_PAGE_TYPE_NAME))
 				.dataFetcher(env -> {
+					GraphQLContext gc = env.getContext();
 					NodeContent content = env.getSource();
 
-					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(context, content);
+					Stream<NodeReferenceIn> stream = NodeReferenceIn.fromContent(gc, content);
 					Map<String, ?> filterInput = env.getArgument("filter");
 					if (filterInput != null) {
-						stream = stream.filter(nodeReferenceFilter(context).createPredicate(filterInput));
+						stream = stream.filter(nodeReferenceFilter(gc).createPredicate(filterInput));
 					}
 
 					return new DynamicStreamPageImpl<>(stream, getPagingInfo(env));
@@ -563,7 +564,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 			newFieldDefinition().name("creator").description("Creator of the version").type(new GraphQLTypeReference("User")).dataFetcher(env -> {
 				GraphQLContext gc = env.getContext();
 				NodeGraphFieldContainer source = env.getSource();
-				return gc.requiresPerm(source.getEditor(), READ_PERM);
+				return loadUser(gc, source.getEditor());
 			}));
 
 		return builder.build();
@@ -575,8 +576,7 @@ public class NodeTypeProvider extends AbstractTypeProvider {
 		if (content == null) {
 			return null;
 		}
-		User user = content.getContainer().getEditor();
-		return gc.requiresPerm(user, READ_PERM);
+		return loadUser(gc, content.getContainer().getEditor());
 	}
 
 	/**
@@ -39,6 +39,8 @@ import graphql.schema.GraphQLObjectType.Builder;
 import graphql.schema.GraphQLType;
 import graphql.schema.GraphQLTypeReference;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import org.apache.commons.lang3.tuple.Pair;
+import org.dataloader.DataLoader;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -48,9 +50,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PERM;
-import static com.gentics.mesh.core.data.relationship.GraphPermission.READ_PUBLISHED_PERM;
 import static com.gentics.mesh.core.rest.error.Errors.error;
+import static com.gentics.mesh.graphql.dataloader.NodeDataLoader.PERMITTED_CONTENT_LOADER_KEY;
 import static com.gentics.mesh.graphql.type.NodeTypeProvider.NODE_TYPE_NAME;
 import static com.gentics.mesh.graphql.type.field.MicronodeFieldTypeProvider.MICRONODE_TYPE_NAME;
 import static graphql.Scalars.GraphQLBigDecimal;
@@ -246,7 +247,6 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 		GraphQLType type = getElementTypeOfList(schema);
 		graphql.schema.GraphQLFieldDefinition.Builder fieldType = newFieldDefinition().name(schema.getName()).description(schema.getLabel())
 			.type(new GraphQLList(type)).argument(createPagingArgs());
-		NodeFilter nodeFilter = NodeFilter.filter(context);
 
 		// Add link resolving arg to html and string lists
 		switch (schema.getListType()) {
@@ -255,7 +255,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 			fieldType.argument(createLinkTypeArg());
 			break;
 		case "node":
-			fieldType.argument(nodeFilter.createFilterArgument());
+			fieldType.argument(NodeFilter.filter(context).createFilterArgument());
 			break;
 		}
 
@@ -324,7 +324,7 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					return new NodeContent(node, itemContainer, languageTags);
 				});
 				if (filterArgument != null) {
-					nodes = nodes.filter(nodeFilter.createPredicate(filterArgument));
+					nodes = nodes.filter(NodeFilter.filter(gc).createPredicate(filterArgument));
 				}
 				return nodes.collect(Collectors.toList());
 			case "micronode":
@@ -397,10 +397,9 @@ public class FieldDefinitionProvider extends AbstractTypeProvider {
 					if (node != null) {
 						//Note that we would need to check for micronodes which are not language specific!
 						List<String> languageTags = getLanguageArgument(env, source);
-						// Check permissions for the linked node
-						gc.requiresPerm(node, READ_PERM, READ_PUBLISHED_PERM);
-						NodeGraphFieldContainer container = node.findVersion(gc, languageTags);
-						return new NodeContent(node, container, languageTags);
+						// The loader checks the permissions for the linked node
+						DataLoader<Pair<Node, List<String>>, NodeContent> contentLoader = gc.getDataLoader(PERMITTED_CONTENT_LOADER_KEY);
+						return contentLoader.load(Pair.of(node, languageTags));
 					}
 				}
 				return null;